@@ -4,16 +4,25 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.ext.Provider;
@@ -21,16 +30,20 @@ import jakarta.ws.rs.ext.Provider;
 import org.jboss.resteasy.annotations.providers.jackson.Formatted;
 import org.jboss.resteasy.core.interception.jaxrs.DecoratorMatcher;
 import org.jboss.resteasy.core.messagebody.AsyncBufferedMessageBodyWriter;
+import org.jboss.resteasy.plugins.providers.ProviderHelper;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
+import org.jboss.resteasy.spi.AsyncOutputStream;
 import org.jboss.resteasy.util.DelegatingOutputStream;
 
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
@@ -42,27 +55,49 @@ import com.fasterxml.jackson.jakarta.rs.json.JsonEndpointConfig;
 
 /**
  * Only different from Jackson one is *+json in @Produces/@Consumes
+ * <p>
+ * A {@link Stream} entity is written element by element, as a JSON array or, for {@value #APPLICATION_NDJSON},
+ * as newline delimited JSON, without collecting the elements first. Likewise a {@link Stream} or {@link Iterator}
+ * entity is read lazily from a JSON array or a sequence of JSON values, one element at a time as it is consumed.
+ * </p>
  *
  * @author <a href="mailto:bill@burkecentral.com">Bill Burke</a>
  * @version $Revision: 1 $
  */
 @Provider
-@Consumes({ "application/json", "application/*+json", "text/json" })
-@Produces({ "application/json", "application/*+json", "text/json" })
+@Consumes({ "application/json", "application/*+json", "text/json", ResteasyJackson2Provider.APPLICATION_NDJSON })
+@Produces({ "application/json", "application/*+json", "text/json", ResteasyJackson2Provider.APPLICATION_NDJSON })
 public class ResteasyJackson2Provider extends JacksonJsonProvider implements AsyncBufferedMessageBodyWriter<Object> {
 
+    /**
+     * Newline delimited JSON: a sequence of JSON values, each followed by a line feed.
+     */
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     DecoratorMatcher decoratorMatcher = new DecoratorMatcher();
 
     @Override
     public boolean isReadable(Class<?> aClass, Type type, Annotation[] annotations, MediaType mediaType) {
+        if (isNdjson(mediaType)) {
+            return super.isReadable(aClass, type, annotations, MediaType.APPLICATION_JSON_TYPE);
+        }
         return super.isReadable(aClass, type, annotations, mediaType);
     }
 
     @Override
     public boolean isWriteable(Class<?> aClass, Type type, Annotation[] annotations, MediaType mediaType) {
+        if (isNdjson(mediaType)) {
+            // same rules as for plain JSON, each value just goes on its own line
+            return super.isWriteable(aClass, type, annotations, MediaType.APPLICATION_JSON_TYPE);
+        }
         return super.isWriteable(aClass, type, annotations, mediaType);
     }
 
+    private static boolean isNdjson(MediaType mediaType) {
+        return mediaType != null && "application".equals(mediaType.getType())
+                && "x-ndjson".equals(mediaType.getSubtype());
+    }
+
     // Currently we need to override readFrom and writeTo because Jackson 2.2.1 does not cache correctly
     // It does not allow to have a ContextResolver that chooses different mappers per Java type.
 
@@ -164,6 +199,9 @@ public class ResteasyJackson2Provider extends JacksonJsonProvider implements Asy
             _readers.put(key, endpoint);
         }
         final ObjectReader reader = endpoint.getReader();
+        if (((Class<?>) type) == Stream.class || ((Class<?>) type) == Iterator.class) {
+            return readValues(reader, type, genericType, entityStream);
+        }
         final JsonParser jp = _createParser(reader, entityStream);
         // If null is returned, considered to be empty stream
         if (jp == null) {
@@ -203,6 +241,34 @@ public class ResteasyJackson2Provider extends JacksonJsonProvider implements Asy
         return result;
     }
 
+    /**
+     * Reads a top-level JSON array, or a sequence of root-level values such as newline delimited JSON, lazily as
+     * the returned {@link Stream} or {@link Iterator} is consumed. The entity stream is left open, as required of a
+     * {@link jakarta.ws.rs.ext.MessageBodyReader}.
+     */
+    private Object readValues(final ObjectReader reader, final Class<?> type, final Type genericType,
+            final InputStream entityStream) throws IOException {
+        JavaType elementType = reader.getTypeFactory().constructType(Object.class);
+        if (genericType instanceof ParameterizedType) {
+            elementType = reader.getTypeFactory()
+                    .constructType(((ParameterizedType) genericType).getActualTypeArguments()[0]);
+        }
+        final MappingIterator<Object> values = reader.forType(elementType)
+                .without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+                .readValues(entityStream);
+        if (type == Iterator.class) {
+            return values;
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(values, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        values.close();
+                    } catch (IOException e) {
+                        LogMessages.LOGGER.debugf(e, "Failed to close the parser for %s", type.getName());
+                    }
+                });
+    }
+
     protected final ConcurrentHashMap<ClassAnnotationKey, JsonEndpointConfig> _writers = new ConcurrentHashMap<ClassAnnotationKey, JsonEndpointConfig>();
 
     @Override
@@ -265,7 +331,10 @@ public class ResteasyJackson2Provider extends JacksonJsonProvider implements Asy
             // 04-Mar-2010, tatu: How about type we were given? (if any)
             JavaType rootType = null;
 
-            if (genericType != null && value != null) {
+            if (genericType != null && value instanceof Stream) {
+                // the elements are written one at a time, so the root type is the element type
+                rootType = streamElementType(writer, genericType);
+            } else if (genericType != null && value != null) {
                 /*
                  * 10-Jan-2011, tatu: as per [JACKSON-456], it's not safe to just force root
                  * type since it prevents polymorphic type serialization. Since we really
@@ -333,8 +402,9 @@ public class ResteasyJackson2Provider extends JacksonJsonProvider implements Asy
                                     mediaType);
                 }
             }
+            final boolean ndjson = isNdjson(mediaType);
             if (System.getSecurityManager() == null) {
-                writer.writeValue(jg, value);
+                writeValue(writer, jg, value, ndjson);
             } else {
                 final ObjectWriter smWriter = writer;
                 final Object smValue = value;
@@ -342,7 +412,7 @@ public class ResteasyJackson2Provider extends JacksonJsonProvider implements Asy
                     @Override
                     public Object run() throws Exception {
 
-                        smWriter.writeValue(jg, smValue);
+                        writeValue(smWriter, jg, smValue, ndjson);
                         return null;
                     }
                 });
@@ -358,4 +428,70 @@ public class ResteasyJackson2Provider extends JacksonJsonProvider implements Asy
             jg.close();
         }
     }
+
+    /**
+     * Writes the value on the asynchronous stream. Other values are serialized into a buffer first and written
+     * asynchronously. A {@link Stream} is pulled one element at a time, so it is written with the blocking writes of
+     * the {@link AsyncOutputStream}: the calling thread may block while the client is slower than the stream, but
+     * only the elements not yet written by the generator are held in memory.
+     */
+    @Override
+    public CompletionStage<Void> asyncWriteTo(Object t, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, AsyncOutputStream entityStream) {
+        if (t instanceof Stream) {
+            // buffering the whole stream before writing it would defeat the point of returning one
+            try {
+                writeTo(t, type, genericType, annotations, mediaType, httpHeaders, entityStream);
+                return CompletableFuture.completedFuture(null);
+            } catch (WebApplicationException | IOException e) {
+                return ProviderHelper.completedException(e);
+            }
+        }
+        return AsyncBufferedMessageBodyWriter.super.asyncWriteTo(t, type, genericType, annotations, mediaType,
+                httpHeaders, entityStream);
+    }
+
+    private static void writeValue(ObjectWriter writer, JsonGenerator jg, Object value, boolean ndjson)
+            throws IOException {
+        if (value instanceof Stream) {
+            writeStream(writer, jg, (Stream<?>) value, ndjson);
+        } else {
+            writer.writeValue(jg, value);
+            if (ndjson) {
+                jg.writeRaw('\n');
+            }
+        }
+    }
+
+    private static void writeStream(ObjectWriter writer, JsonGenerator jg, Stream<?> stream, boolean ndjson)
+            throws IOException {
+        boolean empty = true;
+        // let the generator fill its buffer instead of flushing after every element
+        writer = writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (stream;
+                SequenceWriter sequence = ndjson ? writer.withRootValueSeparator("\n").writeValues(jg)
+                        : writer.writeValuesAsArray(jg)) {
+            Iterator<?> elements = stream.iterator();
+            while (elements.hasNext()) {
+                sequence.write(elements.next());
+                empty = false;
+            }
+        }
+        if (ndjson && !empty) {
+            jg.writeRaw('\n');
+        }
+    }
+
+    private static JavaType streamElementType(ObjectWriter writer, Type genericType) {
+        if (!(genericType instanceof ParameterizedType)) {
+            return null;
+        }
+        Type elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+        // as for single values, only force the type when it is truly generic so polymorphic types still work
+        if (elementType.getClass() == Class.class) {
+            return null;
+        }
+        JavaType javaType = writer.getTypeFactory().constructType(elementType);
+        return javaType.getRawClass() == Object.class ? null : javaType;
+    }
 }
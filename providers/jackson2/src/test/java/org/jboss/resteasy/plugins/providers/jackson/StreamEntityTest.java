@@ -0,0 +1,144 @@
+package org.jboss.resteasy.plugins.providers.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+
+import org.jboss.resteasy.spi.BlockingAsyncOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests writing and reading {@link Stream} entities as a JSON array and as newline delimited JSON.
+ */
+public class StreamEntityTest {
+    private static final Type STREAM_TYPE = new GenericType<Stream<Item>>() {
+    }.getType();
+    private static final Type ITERATOR_TYPE = new GenericType<Iterator<Item>>() {
+    }.getType();
+    private static final MediaType NDJSON = MediaType.valueOf(ResteasyJackson2Provider.APPLICATION_NDJSON);
+
+    private final ResteasyJackson2Provider provider = new ResteasyJackson2Provider();
+
+    @Test
+    public void testJsonArray() throws Exception {
+        Assertions.assertEquals("[{\"name\":\"a\",\"value\":1},{\"name\":\"b\",\"value\":2}]",
+                write(items(), MediaType.APPLICATION_JSON_TYPE));
+    }
+
+    @Test
+    public void testNdjson() throws Exception {
+        Assertions.assertEquals("{\"name\":\"a\",\"value\":1}\n{\"name\":\"b\",\"value\":2}\n", write(items(), NDJSON));
+    }
+
+    @Test
+    public void testEmptyStream() throws Exception {
+        Assertions.assertEquals("[]", write(Stream.empty(), MediaType.APPLICATION_JSON_TYPE));
+        Assertions.assertEquals("", write(Stream.empty(), NDJSON));
+    }
+
+    @Test
+    public void testStreamClosed() throws Exception {
+        final AtomicBoolean closed = new AtomicBoolean();
+        write(items().onClose(() -> closed.set(true)), NDJSON);
+        Assertions.assertTrue(closed.get(), "The stream was not closed once written");
+    }
+
+    @Test
+    public void testAsyncWrite() throws Exception {
+        for (MediaType mediaType : List.of(MediaType.APPLICATION_JSON_TYPE, NDJSON)) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            provider.asyncWriteTo(items(), Stream.class, STREAM_TYPE, new Annotation[0], mediaType,
+                    new MultivaluedHashMap<>(), new BlockingAsyncOutputStream(out))
+                    .toCompletableFuture().get(10, TimeUnit.SECONDS);
+            Assertions.assertEquals(write(items(), mediaType), out.toString(StandardCharsets.UTF_8));
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        provider.asyncWriteTo(Stream.empty(), Stream.class, STREAM_TYPE, new Annotation[0], MediaType.APPLICATION_JSON_TYPE,
+                new MultivaluedHashMap<>(), new BlockingAsyncOutputStream(out))
+                .toCompletableFuture().get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReadJsonArray() throws Exception {
+        try (Stream<Item> items = (Stream<Item>) read(Stream.class, STREAM_TYPE, MediaType.APPLICATION_JSON_TYPE,
+                " [{\"name\":\"a,]\",\"value\":1}, {\"name\":\"b\",\"value\":2}] ")) {
+            Assertions.assertEquals("a,]:1 b:2", items.map(i -> i.getName() + ":" + i.getValue())
+                    .collect(Collectors.joining(" ")));
+        }
+        try (Stream<Item> items = (Stream<Item>) read(Stream.class, STREAM_TYPE, MediaType.APPLICATION_JSON_TYPE, "[]")) {
+            Assertions.assertEquals(0, items.count());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReadNdjson() throws Exception {
+        final Iterator<Item> items = (Iterator<Item>) read(Iterator.class, ITERATOR_TYPE, NDJSON,
+                "{\"name\":\"a\",\"value\":1}\n{\"name\":\"b\",\"value\":2}\n");
+        final List<String> names = new ArrayList<>();
+        items.forEachRemaining(i -> names.add(i.getName()));
+        Assertions.assertEquals(List.of("a", "b"), names);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object read(final Class type, final Type genericType, final MediaType mediaType, final String entity)
+            throws Exception {
+        return provider.readFrom(type, genericType, new Annotation[0], mediaType, new MultivaluedHashMap<>(),
+                new ByteArrayInputStream(entity.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String write(final Stream<Item> items, final MediaType mediaType) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        provider.writeTo(items, Stream.class, STREAM_TYPE, new Annotation[0], mediaType, new MultivaluedHashMap<>(), out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Stream<Item> items() {
+        return Stream.of(new Item("a", 1), new Item("b", 2));
+    }
+
+    public static class Item {
+        private String name;
+        private int value;
+
+        public Item() {
+        }
+
+        public Item(final String name, final int value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+        public void setValue(final int value) {
+            this.value = value;
+        }
+    }
+}
@@ -14,8 +14,14 @@ import jakarta.ws.rs.ext.Providers;
  */
 public class AbstractJsonBindingProvider {
 
+    /**
+     * Newline delimited JSON: a sequence of JSON values, each followed by a line feed.
+     */
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     private static final String JSON = "json";
     private static final String PLUS_JSON = "+json";
+    private static final String NDJSON = "x-ndjson";
 
     @Context
     private Providers providers;
@@ -36,4 +42,8 @@ public class AbstractJsonBindingProvider {
     public static boolean isSupportedMediaType(final MediaType mediaType) {
         return mediaType.getSubtype().equals(JSON) || mediaType.getSubtype().endsWith(PLUS_JSON);
     }
+
+    public static boolean isNdjsonMediaType(final MediaType mediaType) {
+        return mediaType.getSubtype().equals(NDJSON);
+    }
 }
@@ -1,15 +1,28 @@
 package org.jboss.resteasy.plugins.providers.jsonb;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.Reader;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.annotation.Priority;
 import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbException;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.ProcessingException;
@@ -30,10 +43,16 @@ import org.jboss.resteasy.util.DelegatingOutputStream;
 
 /**
  * Created by rsearls on 6/26/17.
+ * <p>
+ * A {@link Stream} entity is written element by element, as a JSON array or, for
+ * {@value AbstractJsonBindingProvider#APPLICATION_NDJSON}, as newline delimited JSON, without collecting the
+ * elements first. Likewise a {@link Stream} or {@link Iterator} entity is read lazily from either format, one
+ * element at a time as it is consumed.
+ * </p>
  */
 @Provider
-@Produces({ "application/json", "application/*+json", "text/json" })
-@Consumes({ "application/json", "application/*+json", "text/json" })
+@Produces({ "application/json", "application/*+json", "text/json", AbstractJsonBindingProvider.APPLICATION_NDJSON })
+@Consumes({ "application/json", "application/*+json", "text/json", AbstractJsonBindingProvider.APPLICATION_NDJSON })
 @Priority(Priorities.USER - 100)
 public class JsonBindingProvider extends AbstractJsonBindingProvider
         implements MessageBodyReader<Object>, AsyncMessageBodyWriter<Object> {
@@ -57,7 +76,7 @@ public class JsonBindingProvider extends AbstractJsonBindingProvider
         if (disabled) {
             return false;
         }
-        return isSupportedMediaType(mediaType);
+        return isSupportedMediaType(mediaType) || isNdjsonMediaType(mediaType);
     }
 
     @Override
@@ -67,6 +86,16 @@ public class JsonBindingProvider extends AbstractJsonBindingProvider
             InputStream entityStream) throws java.io.IOException, jakarta.ws.rs.WebApplicationException {
         final EmptyCheckInputStream is = new EmptyCheckInputStream(entityStream);
 
+        final Class<?> rawType = type;
+        if (rawType == Stream.class || rawType == Iterator.class) {
+            final Type elementType = elementType(genericType);
+            final ElementIterator elements = readValues(getJsonb(rawClass(elementType)), elementType, mediaType, is);
+            // an iterator cannot be closed, it closes the Jsonb instance once it is exhausted
+            return rawType == Stream.class
+                    ? StreamSupport.stream(Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED), false)
+                            .onClose(elements::close)
+                    : elements;
+        }
         try (Jsonb jsonb = getJsonb(type)) {
             return jsonb.fromJson(is, genericType);
             // If null is returned, considered to be empty stream
@@ -79,6 +108,241 @@ public class JsonBindingProvider extends AbstractJsonBindingProvider
         }
     }
 
+    /**
+     * Reads the elements of a JSON array, or the lines of newline delimited JSON, as the returned iterator is
+     * consumed. Each element is bound on its own, so only one of them is held in memory at a time. The
+     * {@link Jsonb} instance is closed once the elements are exhausted, reading them fails or the iterator is closed.
+     */
+    private static ElementIterator readValues(final Jsonb jsonb, final Type elementType, final MediaType mediaType,
+            final InputStream entityStream) {
+        return new ElementIterator(jsonb, elementType,
+                new BufferedReader(new InputStreamReader(entityStream, getCharset(mediaType))),
+                !isNdjsonMediaType(mediaType));
+    }
+
+    private static Type elementType(final Type genericType) {
+        if (genericType instanceof ParameterizedType) {
+            return ((ParameterizedType) genericType).getActualTypeArguments()[0];
+        }
+        return Object.class;
+    }
+
+    private static Class<?> rawClass(final Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return rawClass(((ParameterizedType) type).getRawType());
+        }
+        return Object.class;
+    }
+
+    /**
+     * Binds the elements of a JSON array, or of newline delimited JSON, one at a time. Each element is handed to
+     * {@link Jsonb#fromJson(Reader, Type)} through a reader which ends where the element ends, so the characters of
+     * an element are only parsed once, by JSON-B.
+     */
+    private static class ElementIterator implements Iterator<Object> {
+        private static final int NONE = -2;
+        private final Jsonb jsonb;
+        private final Type elementType;
+        private final Reader in;
+        private final boolean array;
+        private int lookahead = NONE;
+        private boolean started;
+        private boolean ready;
+        private boolean ended;
+        private boolean closed;
+
+        ElementIterator(final Jsonb jsonb, final Type elementType, final Reader in, final boolean array) {
+            this.jsonb = jsonb;
+            this.elementType = elementType;
+            this.in = in;
+            this.array = array;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (ready || ended) {
+                return ready;
+            }
+            try {
+                return findNext();
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        private boolean findNext() {
+            try {
+                int c = skipWhitespace();
+                if (array) {
+                    if (!started) {
+                        if (c == -1) {
+                            // an empty entity is an empty sequence
+                            return end();
+                        }
+                        expect(c, '[');
+                        c = skipWhitespace();
+                        started = true;
+                        if (c == ']') {
+                            read();
+                            return end();
+                        }
+                    } else if (c == ']') {
+                        read();
+                        return end();
+                    } else {
+                        expect(c, ',');
+                        c = skipWhitespace();
+                    }
+                    if (c == -1) {
+                        throw error("unterminated JSON array");
+                    }
+                } else if (c == -1) {
+                    return end();
+                }
+                ready = true;
+                return true;
+            } catch (IOException e) {
+                throw new ProcessingException(e);
+            }
+        }
+
+        private boolean end() {
+            ended = true;
+            close();
+            return false;
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                jsonb.close();
+            } catch (Exception e) {
+                LogMessages.LOGGER.debug("Failed to close the JSONB context.", e);
+            }
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            final ElementReader element = new ElementReader();
+            try {
+                final Object value = jsonb.fromJson(element, elementType);
+                element.skipRemaining();
+                return value;
+            } catch (IOException e) {
+                close();
+                throw new ProcessingException(e);
+            } catch (JsonbException e) {
+                close();
+                throw new ProcessingException(Messages.MESSAGES.jsonBDeserializationError(e.toString()), e);
+            }
+        }
+
+        private int peek() throws IOException {
+            if (lookahead == NONE) {
+                lookahead = in.read();
+            }
+            return lookahead;
+        }
+
+        private int read() throws IOException {
+            final int c = peek();
+            lookahead = NONE;
+            return c;
+        }
+
+        private int skipWhitespace() throws IOException {
+            int c = peek();
+            while (isWhitespace(c)) {
+                read();
+                c = peek();
+            }
+            return c;
+        }
+
+        private void expect(final int c, final char expected) throws IOException {
+            if (c != expected) {
+                throw error("expected a JSON array for " + elementType.getTypeName());
+            }
+            read();
+        }
+
+        private ProcessingException error(final String detail) {
+            return new ProcessingException(Messages.MESSAGES.jsonBDeserializationError(detail));
+        }
+
+        private static boolean isWhitespace(final int c) {
+            return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+        }
+
+        /**
+         * The characters of the current element: a string or container ends with its closing character, any other
+         * value with the first delimiter, which is left for the iterator.
+         */
+        private class ElementReader extends Reader {
+            private int depth;
+            private boolean inString;
+            private boolean escape;
+            private boolean started;
+            private boolean done;
+
+            @Override
+            public int read(final char[] cbuf, final int off, final int len) throws IOException {
+                int n = 0;
+                while (n < len && !done) {
+                    final int c = peek();
+                    if (c == -1 || (started && !inString && depth == 0
+                            && (isWhitespace(c) || c == ',' || c == ']' || c == '}'))) {
+                        done = true;
+                        break;
+                    }
+                    ElementIterator.this.read();
+                    cbuf[off + n++] = (char) c;
+                    started = true;
+                    if (inString) {
+                        if (escape) {
+                            escape = false;
+                        } else if (c == '\\') {
+                            escape = true;
+                        } else if (c == '"') {
+                            inString = false;
+                            done = depth == 0;
+                        }
+                    } else if (c == '"') {
+                        inString = true;
+                    } else if (c == '{' || c == '[') {
+                        depth++;
+                    } else if (c == '}' || c == ']') {
+                        done = --depth <= 0;
+                    }
+                }
+                return n == 0 && done ? -1 : n;
+            }
+
+            void skipRemaining() throws IOException {
+                final char[] buffer = new char[256];
+                while (read(buffer, 0, buffer.length) != -1) {
+                    // the parser may stop before the end of the element
+                }
+            }
+
+            @Override
+            public void close() {
+                // the entity stream is left open
+            }
+        }
+    }
+
     private static class EmptyCheckInputStream extends InputStream {
         private final InputStream delegate;
         boolean read = false;
@@ -178,7 +442,7 @@ public class JsonBindingProvider extends AbstractJsonBindingProvider
         if (disabled) {
             return false;
         }
-        return isSupportedMediaType(mediaType);
+        return isSupportedMediaType(mediaType) || isNdjsonMediaType(mediaType);
     }
 
     @Override
@@ -193,7 +457,8 @@ public class JsonBindingProvider extends AbstractJsonBindingProvider
             MultivaluedMap<String, Object> httpHeaders,
             OutputStream entityStream)
             throws java.io.IOException, jakarta.ws.rs.WebApplicationException {
-        try (Jsonb jsonb = getJsonb(type)) {
+        // the elements of a stream are bound with the Jsonb instance resolved for their type
+        try (Jsonb jsonb = getJsonb(t instanceof Stream ? rawClass(elementType(genericType)) : type)) {
             entityStream = new DelegatingOutputStream(entityStream) {
                 @Override
                 public void flush() throws IOException {
@@ -201,20 +466,63 @@ public class JsonBindingProvider extends AbstractJsonBindingProvider
                     // and causes chunked encoding to happen.
                 }
             };
-            entityStream.write(jsonb.toJson(t).getBytes(getCharset(mediaType)));
+            if (t instanceof Stream) {
+                writeStream(jsonb, (Stream<?>) t, isNdjsonMediaType(mediaType), getCharset(mediaType), entityStream);
+            } else {
+                entityStream.write(jsonb.toJson(t).getBytes(getCharset(mediaType)));
+                if (isNdjsonMediaType(mediaType)) {
+                    entityStream.write('\n');
+                }
+            }
             entityStream.flush();
         } catch (Throwable e) {
             throw new ProcessingException(Messages.MESSAGES.jsonBSerializationError(e.toString()), e);
         }
     }
 
+    private static void writeStream(final Jsonb jsonb, final Stream<?> stream, final boolean ndjson,
+            final Charset charset, final OutputStream entityStream) throws IOException {
+        // elements are usually small, so coalesce them rather than writing each one to the container
+        final OutputStream out = new BufferedOutputStream(entityStream);
+        try (stream) {
+            if (!ndjson) {
+                out.write('[');
+            }
+            final Iterator<?> elements = stream.iterator();
+            while (elements.hasNext()) {
+                out.write(jsonb.toJson(elements.next()).getBytes(charset));
+                if (ndjson) {
+                    out.write('\n');
+                } else if (elements.hasNext()) {
+                    out.write(',');
+                }
+            }
+            if (!ndjson) {
+                out.write(']');
+            }
+        }
+        out.flush();
+    }
+
     @Override
     public CompletionStage<Void> asyncWriteTo(Object t, Class<?> type, Type genericType, Annotation[] annotations,
             MediaType mediaType,
             MultivaluedMap<String, Object> httpHeaders, AsyncOutputStream entityStream) {
+        if (t instanceof Stream) {
+            // serializing the whole stream into a single buffer would defeat the point of returning one
+            try {
+                writeTo(t, type, genericType, annotations, mediaType, httpHeaders, entityStream);
+                return CompletableFuture.completedFuture(null);
+            } catch (Throwable e) {
+                CompletableFuture<Void> ret = new CompletableFuture<>();
+                ret.completeExceptionally(e);
+                return ret;
+            }
+        }
         Jsonb jsonb = getJsonb(type);
         try {
-            return entityStream.asyncWrite(jsonb.toJson(t).getBytes(getCharset(mediaType)))
+            final String json = isNdjsonMediaType(mediaType) ? jsonb.toJson(t) + '\n' : jsonb.toJson(t);
+            return entityStream.asyncWrite(json.getBytes(getCharset(mediaType)))
                     .whenComplete((unused, throwable) -> {
                         try {
                             jsonb.close();
@@ -0,0 +1,220 @@
+package org.jboss.resteasy.plugins.providers.jsonb;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.SeBootstrap;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ContextResolver;
+import jakarta.ws.rs.ext.Provider;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests writing and reading {@link Stream} entities as a JSON array and as newline delimited JSON.
+ */
+public class StreamEntityTest {
+
+    private static SeBootstrap.Instance INSTANCE;
+
+    @BeforeAll
+    public static void start() throws Exception {
+        INSTANCE = SeBootstrap.start(TestApplication.class)
+                .toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @AfterAll
+    public static void stop() throws Exception {
+        final SeBootstrap.Instance instance = INSTANCE;
+        if (instance != null) {
+            instance.stop()
+                    .toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testJsonArray() {
+        try (Client client = ClientBuilder.newClient()) {
+            try (
+                    Response response = client.target(INSTANCE.configuration().baseUriBuilder().path("stream"))
+                            .request(MediaType.APPLICATION_JSON_TYPE)
+                            .get()) {
+                Assertions.assertEquals(Response.Status.OK, response.getStatusInfo());
+                final List<EntityTest.TestEntity> entities = response
+                        .readEntity(new GenericType<List<EntityTest.TestEntity>>() {
+                        });
+                Assertions.assertEquals(3, entities.size());
+                Assertions.assertEquals("entity-2", entities.get(2).getName());
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyJsonArray() {
+        try (Client client = ClientBuilder.newClient()) {
+            try (
+                    Response response = client.target(INSTANCE.configuration().baseUriBuilder().path("stream/empty"))
+                            .request(MediaType.APPLICATION_JSON_TYPE)
+                            .get()) {
+                Assertions.assertEquals(Response.Status.OK, response.getStatusInfo());
+                Assertions.assertEquals("[]", response.readEntity(String.class));
+            }
+        }
+    }
+
+    @Test
+    public void testNdjson() {
+        try (Client client = ClientBuilder.newClient()) {
+            try (
+                    Response response = client.target(INSTANCE.configuration().baseUriBuilder().path("stream"))
+                            .request(AbstractJsonBindingProvider.APPLICATION_NDJSON)
+                            .get()) {
+                Assertions.assertEquals(Response.Status.OK, response.getStatusInfo());
+                Assertions.assertEquals("{\"name\":\"entity-0\"}\n{\"name\":\"entity-1\"}\n{\"name\":\"entity-2\"}\n",
+                        response.readEntity(String.class));
+            }
+        }
+    }
+
+    @Test
+    public void testReadJsonArray() {
+        try (Client client = ClientBuilder.newClient()) {
+            final String names = client.target(INSTANCE.configuration().baseUriBuilder().path("stream"))
+                    .request(MediaType.TEXT_PLAIN_TYPE)
+                    .post(Entity.json("[{\"name\":\"a\"},{\"name\":\"b\"},{\"name\":\"c\"}]"), String.class);
+            Assertions.assertEquals("a,b,c", names);
+        }
+    }
+
+    @Test
+    public void testReadJsonArrayElements() {
+        try (Client client = ClientBuilder.newClient()) {
+            final String names = client.target(INSTANCE.configuration().baseUriBuilder().path("stream"))
+                    .request(MediaType.TEXT_PLAIN_TYPE)
+                    .post(Entity.json(" [ {\"name\" : \"a,]}\\\"\", \"tags\": [[1], {}]},\n{\"name\":\"b\"} ] "),
+                            String.class);
+            Assertions.assertEquals("a,]}\",b", names);
+        }
+    }
+
+    @Test
+    public void testReadEmptyJsonArray() {
+        try (Client client = ClientBuilder.newClient()) {
+            final String names = client.target(INSTANCE.configuration().baseUriBuilder().path("stream"))
+                    .request(MediaType.TEXT_PLAIN_TYPE)
+                    .post(Entity.json("[]"), String.class);
+            Assertions.assertEquals("", names);
+        }
+    }
+
+    @Test
+    public void testReadNdjson() {
+        try (Client client = ClientBuilder.newClient()) {
+            final String names = client.target(INSTANCE.configuration().baseUriBuilder().path("stream/iterator"))
+                    .request(MediaType.TEXT_PLAIN_TYPE)
+                    .post(Entity.entity("{\"name\":\"a\"}\n{\"name\":\"b\"}\n",
+                            AbstractJsonBindingProvider.APPLICATION_NDJSON), String.class);
+            Assertions.assertEquals("a,b", names);
+        }
+    }
+
+    @Test
+    public void testJsonbResolvedForElementType() {
+        try (Client client = ClientBuilder.newClient()) {
+            client.target(INSTANCE.configuration().baseUriBuilder().path("stream/iterator"))
+                    .request(MediaType.TEXT_PLAIN_TYPE)
+                    .post(Entity.entity("{\"name\":\"a\"}\n", AbstractJsonBindingProvider.APPLICATION_NDJSON), String.class);
+            Assertions.assertTrue(JsonbResolver.TYPES.contains(EntityTest.TestEntity.class));
+            Assertions.assertFalse(JsonbResolver.TYPES.contains(Iterator.class));
+            Assertions.assertFalse(JsonbResolver.TYPES.contains(Stream.class));
+        }
+    }
+
+    @ApplicationPath("/")
+    public static class TestApplication extends Application {
+        @Override
+        public Set<Class<?>> getClasses() {
+            return Set.of(TestResource.class, JsonbResolver.class);
+        }
+    }
+
+    @Provider
+    public static class JsonbResolver implements ContextResolver<Jsonb> {
+        static final Set<Class<?>> TYPES = ConcurrentHashMap.newKeySet();
+        private static final Jsonb JSONB = JsonbBuilder.create();
+
+        @Override
+        public Jsonb getContext(final Class<?> type) {
+            TYPES.add(type);
+            return JSONB;
+        }
+    }
+
+    @Path("/stream")
+    public static class TestResource {
+
+        @GET
+        @Produces({ MediaType.APPLICATION_JSON, AbstractJsonBindingProvider.APPLICATION_NDJSON })
+        public Stream<EntityTest.TestEntity> entities() {
+            return IntStream.range(0, 3).mapToObj(i -> {
+                final EntityTest.TestEntity entity = new EntityTest.TestEntity();
+                entity.setName("entity-" + i);
+                return entity;
+            });
+        }
+
+        @POST
+        @Consumes(MediaType.APPLICATION_JSON)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String names(final Stream<EntityTest.TestEntity> entities) {
+            try (entities) {
+                return entities.map(EntityTest.TestEntity::getName).collect(Collectors.joining(","));
+            }
+        }
+
+        @POST
+        @Path("iterator")
+        @Consumes(AbstractJsonBindingProvider.APPLICATION_NDJSON)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String names(final Iterator<EntityTest.TestEntity> entities) {
+            final StringBuilder names = new StringBuilder();
+            entities.forEachRemaining(entity -> {
+                if (names.length() > 0) {
+                    names.append(',');
+                }
+                names.append(entity.getName());
+            });
+            return names.toString();
+        }
+
+        @GET
+        @Path("empty")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Stream<EntityTest.TestEntity> empty() {
+            return Stream.empty();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.plugins.providers.multipart;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.EntityPart;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.Providers;
+
+import org.jboss.resteasy.core.ResteasyContext;
+import org.jboss.resteasy.plugins.providers.multipart.i18n.Messages;
+import org.jboss.resteasy.spi.multipart.MultipartContent;
+import org.jboss.resteasy.spi.util.Types;
+
+/**
+ * A {@link MessageBodyReader} for reading {@code multipart/form-data} into an {@link Iterator} of
+ * {@linkplain EntityPart entity parts}. Each part is parsed from the entity stream only when the iterator is
+ * advanced, so the parts must be consumed in order before the resource method returns. Part bodies larger than the
+ * {@link org.jboss.resteasy.spi.config.Options#ENTITY_MEMORY_THRESHOLD} are offloaded to a temporary file.
+ *
+ * @see MultipartInputImpl#parseStreaming(InputStream)
+ */
+@Provider
+@Consumes(MediaType.MULTIPART_FORM_DATA)
+public class MultipartEntityPartIteratorReader implements MessageBodyReader<Iterator<EntityPart>> {
+
+    @Override
+    public boolean isReadable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+            final MediaType mediaType) {
+        return Iterator.class.equals(type)
+                && genericType instanceof ParameterizedType
+                && Types.isGenericTypeInstanceOf(EntityPart.class, genericType);
+    }
+
+    @Override
+    public Iterator<EntityPart> readFrom(final Class<Iterator<EntityPart>> type, final Type genericType,
+            final Annotation[] annotations, final MediaType mediaType,
+            final MultivaluedMap<String, String> httpHeaders,
+            final InputStream entityStream)
+            throws IOException, WebApplicationException {
+
+        final String boundary = mediaType.getParameters().get("boundary");
+        if (boundary == null)
+            throw new IOException(Messages.MESSAGES.unableToGetBoundary());
+
+        // If the entity has already been parsed by the EntityPartFilter, there is nothing left to stream
+        final MultipartContent multipartContent = ResteasyContext.getContextData(MultipartContent.class);
+        if (multipartContent != null) {
+            return multipartContent.entityParts().iterator();
+        }
+
+        final Providers providers = ResteasyContext.getRequiredContextData(Providers.class);
+        return new MultipartFormDataInputImpl(mediaType, providers).parseEntityParts(entityStream);
+    }
+}
@@ -5,6 +5,7 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -111,6 +112,37 @@ public class MultipartFormDataInputImpl extends MultipartInputImpl implements
         return result;
     }
 
+    /**
+     * Lazily parses the entity stream into {@link EntityPart}'s. Parts are read from the stream as the iterator is
+     * advanced and are not added to the {@linkplain #getFormDataMap() form data map}.
+     *
+     * @param is the multipart entity stream
+     *
+     * @return an iterator of the entity parts
+     *
+     * @throws IOException if the stream could not be opened for parsing
+     * @see #parseStreaming(InputStream)
+     */
+    Iterator<EntityPart> parseEntityParts(final InputStream is) throws IOException {
+        final Iterator<InputPart> parts = parseStreaming(is);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return parts.hasNext();
+            }
+
+            @Override
+            public EntityPart next() {
+                final PartImpl part = (PartImpl) parts.next();
+                final ContentDispositionField disposition = part.getContentDisposition();
+                if (disposition == null) {
+                    throw new RuntimeException(Messages.MESSAGES.couldFindNoContentDispositionHeader());
+                }
+                return new InputPartEntityPart(disposition.getParameter("name"), part);
+            }
+        };
+    }
+
     private static class InputPartEntityPart implements EntityPart {
         private final AtomicBoolean contentRetrieved = new AtomicBoolean(false);
         private final String name;
@@ -4,6 +4,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.lang.annotation.Annotation;
 import java.lang.ref.Cleaner;
@@ -14,6 +15,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.HttpHeaders;
@@ -22,20 +24,31 @@ import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.ext.MessageBodyReader;
 import jakarta.ws.rs.ext.Providers;
 
+import org.apache.james.mime4j.MimeException;
+import org.apache.james.mime4j.MimeIOException;
+import org.apache.james.mime4j.codec.DecodeMonitor;
 import org.apache.james.mime4j.dom.BinaryBody;
 import org.apache.james.mime4j.dom.Body;
 import org.apache.james.mime4j.dom.Entity;
 import org.apache.james.mime4j.dom.Message;
 import org.apache.james.mime4j.dom.Multipart;
 import org.apache.james.mime4j.dom.TextBody;
+import org.apache.james.mime4j.dom.field.ContentDispositionField;
 import org.apache.james.mime4j.dom.field.ContentTypeField;
+import org.apache.james.mime4j.field.LenientFieldParser;
 import org.apache.james.mime4j.message.BodyPart;
+import org.apache.james.mime4j.message.DefaultBodyDescriptorBuilder;
+import org.apache.james.mime4j.stream.EntityState;
 import org.apache.james.mime4j.stream.Field;
+import org.apache.james.mime4j.stream.MimeConfig;
+import org.apache.james.mime4j.stream.MimeTokenStream;
+import org.apache.james.mime4j.stream.RecursionMode;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.core.ProvidersContextRetainer;
 import org.jboss.resteasy.core.ResteasyContext;
 import org.jboss.resteasy.plugins.providers.multipart.i18n.Messages;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
+import org.jboss.resteasy.spi.EntityOutputStream;
 import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.ResourceCleaner;
 import org.jboss.resteasy.util.CaseInsensitiveMap;
@@ -66,6 +79,7 @@ public class MultipartInputImpl implements MultipartInput, ProvidersContextRetai
     protected MediaType defaultPartContentType = MultipartConstants.TEXT_PLAIN_WITH_CHARSET_US_ASCII_TYPE;
     protected String defaultPartCharset = null;
     protected Providers savedProviders;
+    private volatile String streamedPreamble;
 
     public MultipartInputImpl(final MediaType contentType, final Providers workers) {
         this.contentType = contentType;
@@ -119,6 +133,26 @@ public class MultipartInputImpl implements MultipartInput, ProvidersContextRetai
         extractParts();
     }
 
+    /**
+     * Parses the multipart stream lazily, reading the next part from the stream only when the returned iterator is
+     * advanced. Each part body is buffered in an {@link EntityOutputStream}, which offloads bodies larger than the
+     * {@link org.jboss.resteasy.spi.config.Options#ENTITY_MEMORY_THRESHOLD} to a temporary file. Nested multipart
+     * bodies are not parsed, they are available as the raw body of the part.
+     * <p>
+     * Unlike {@link #parse(InputStream)} the parts are not retained and {@link #getParts()} is not populated. The body
+     * of a streamed part can only be read once and any temporary file is deleted once the body stream is closed.
+     * </p>
+     *
+     * @param is the multipart entity stream, without the message headers
+     *
+     * @return an iterator which parses the parts as they are requested
+     *
+     * @throws IOException if the stream could not be opened for parsing
+     */
+    public Iterator<InputPart> parseStreaming(InputStream is) throws IOException {
+        return new StreamingPartIterator(addHeaderToHeadlessStream(is));
+    }
+
     protected InputStream addHeaderToHeadlessStream(InputStream is)
             throws UnsupportedEncodingException {
         return new SequenceInputStream(createHeaderInputStream(), is);
@@ -132,7 +166,11 @@ public class MultipartInputImpl implements MultipartInput, ProvidersContextRetai
     }
 
     public String getPreamble() {
-        return ((Multipart) getMimeMessage().getBody()).getPreamble();
+        final Message message = getMimeMessage();
+        if (message == null) {
+            return streamedPreamble;
+        }
+        return ((Multipart) message.getBody()).getPreamble();
     }
 
     public List<InputPart> getParts() {
@@ -159,17 +197,30 @@ public class MultipartInputImpl implements MultipartInput, ProvidersContextRetai
     public class PartImpl implements InputPart {
 
         private BodyPart bodyPart;
+        private InputStream streamedBody;
+        private ContentDispositionField contentDisposition;
         private MediaType contentType;
         private MultivaluedMap<String, String> headers = new CaseInsensitiveMap<String>();
         private boolean contentTypeFromMessage;
 
         public PartImpl(final BodyPart bodyPart) {
             this.bodyPart = bodyPart;
-            for (Field field : bodyPart.getHeader()) {
+            processHeaders(bodyPart.getHeader());
+        }
+
+        PartImpl(final Iterable<Field> fields, final InputStream body) {
+            this.streamedBody = body;
+            processHeaders(fields);
+        }
+
+        private void processHeaders(final Iterable<Field> fields) {
+            for (Field field : fields) {
                 headers.add(field.getName(), field.getBody());
                 if (field instanceof ContentTypeField) {
                     contentType = MediaType.valueOf(field.getBody());
                     contentTypeFromMessage = true;
+                } else if (field instanceof ContentDispositionField) {
+                    contentDisposition = (ContentDispositionField) field;
                 }
             }
             if (contentType == null)
@@ -195,7 +246,7 @@ public class MultipartInputImpl implements MultipartInput, ProvidersContextRetai
                 throws IOException {
             boolean pushProviders = savedProviders != null && ResteasyContext.getContextData(Providers.class) == null;
 
-            if (MultipartInput.class.isAssignableFrom(type)) {
+            if (bodyPart != null && MultipartInput.class.isAssignableFrom(type)) {
 
                 if (bodyPart.getBody() instanceof Multipart) {
 
@@ -240,6 +291,9 @@ public class MultipartInputImpl implements MultipartInput, ProvidersContextRetai
 
         @Override
         public InputStream getBody() throws IOException {
+            if (bodyPart == null) {
+                return streamedBody;
+            }
             Body body = bodyPart.getBody();
             InputStream result = null;
             if (body instanceof TextBody) {
@@ -270,9 +324,16 @@ public class MultipartInputImpl implements MultipartInput, ProvidersContextRetai
 
         @Override
         public String getFileName() {
+            if (bodyPart == null) {
+                return contentDisposition == null ? null : contentDisposition.getFilename();
+            }
             return bodyPart.getFilename();
         }
 
+        ContentDispositionField getContentDisposition() {
+            return contentDisposition;
+        }
+
         public MultivaluedMap<String, String> getHeaders() {
             return headers;
         }
@@ -286,6 +347,92 @@ public class MultipartInputImpl implements MultipartInput, ProvidersContextRetai
         }
     }
 
+    private class StreamingPartIterator implements Iterator<InputPart> {
+        private final MimeTokenStream tokens;
+        private InputPart next;
+        private boolean done;
+
+        private StreamingPartIterator(final InputStream is) {
+            final MimeConfig config = MimeConfig.DEFAULT;
+            final DecodeMonitor monitor = config.isStrictParsing() ? DecodeMonitor.STRICT : DecodeMonitor.SILENT;
+            tokens = new MimeTokenStream(config, monitor,
+                    new DefaultBodyDescriptorBuilder(null, LenientFieldParser.getParser(), monitor));
+            tokens.parse(is);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = readNextPart();
+                } catch (IOException e) {
+                    done = true;
+                    throw new UncheckedIOException(e);
+                }
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public InputPart next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final InputPart result = next;
+            next = null;
+            return result;
+        }
+
+        private InputPart readNextPart() throws IOException {
+            try {
+                List<Field> fields = null;
+                for (EntityState state = tokens.next(); state != EntityState.T_END_OF_STREAM; state = tokens.next()) {
+                    switch (state) {
+                        case T_START_MULTIPART:
+                            // Only the outer multipart is parsed, nested entities are delivered as a raw body
+                            tokens.setRecursionMode(RecursionMode.M_FLAT);
+                            break;
+                        case T_PREAMBLE:
+                            streamedPreamble = new String(tokens.getInputStream().readAllBytes(),
+                                    StandardCharsets.US_ASCII);
+                            break;
+                        case T_START_BODYPART:
+                            fields = new ArrayList<>();
+                            break;
+                        case T_FIELD:
+                            if (fields != null) {
+                                fields.add(tokens.getField());
+                            }
+                            break;
+                        case T_BODY:
+                            if (fields != null) {
+                                final EntityOutputStream body = new EntityOutputStream();
+                                try (InputStream in = tokens.getInputStream()) {
+                                    in.transferTo(body);
+                                } catch (IOException | RuntimeException e) {
+                                    try {
+                                        // Exporting the stream and closing it deletes any file which has been written
+                                        body.toInputStream().close();
+                                    } catch (IOException | RuntimeException suppressed) {
+                                        e.addSuppressed(suppressed);
+                                    }
+                                    throw e;
+                                }
+                                return new PartImpl(fields, body.toInputStream());
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                }
+                return null;
+            } catch (MimeException e) {
+                throw new MimeIOException(e);
+            }
+        }
+    }
+
     public static void main(String[] args) throws Exception {
         String input = "URLSTR: file:/Users/billburke/jboss/resteasy-jaxrs/resteasy-jaxrs/src/test/test-data/data.txt\r\n"
                 + "--B98hgCmKsQ-B5AUFnm2FnDRCgHPDE3\r\n"
@@ -301,6 +301,36 @@ public class MultipartEntityPartProviderTest {
         }
     }
 
+    /**
+     * Tests sending {@code multipart/form-data} content which is read lazily as an {@link Iterator Iterator<EntityPart>}.
+     *
+     * @throws Exception if an error occurs in the test
+     */
+    @Test
+    public void iterator() throws Exception {
+        try (Client client = ClientBuilder.newClient()) {
+            final List<EntityPart> multipart = List.of(
+                    EntityPart.withName("first")
+                            .content("first content".getBytes(StandardCharsets.UTF_8))
+                            .mediaType(MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                            .build(),
+                    EntityPart.withName("second")
+                            .content("second content")
+                            .fileName("second.txt")
+                            .mediaType(MediaType.TEXT_PLAIN_TYPE)
+                            .build());
+            try (
+                    Response response = client.target(INSTANCE.configuration().baseUriBuilder().path("test/iterator"))
+                            .request(MediaType.TEXT_PLAIN_TYPE)
+                            .post(Entity.entity(new GenericEntity<>(multipart) {
+                            }, MediaType.MULTIPART_FORM_DATA))) {
+                Assertions.assertEquals(Response.Status.OK, response.getStatusInfo());
+                Assertions.assertEquals("first=first content;second(second.txt)=second content;",
+                        response.readEntity(String.class));
+            }
+        }
+    }
+
     /**
      * Tests sending {@code multipart/form-data} content as a {@link EntityPart List<EntityPart>}. Three parts are sent
      * and injected as {@link FormParam @FormParam} method parameters. Each part send is different and injected as a
@@ -677,6 +707,21 @@ public class MultipartEntityPartProviderTest {
             }, MediaType.MULTIPART_FORM_DATA).build();
         }
 
+        @POST
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        @Path("/iterator")
+        public String iterator(final Iterator<EntityPart> parts) throws IOException {
+            final StringBuilder result = new StringBuilder();
+            while (parts.hasNext()) {
+                final EntityPart part = parts.next();
+                result.append(part.getName());
+                part.getFileName().ifPresent(fileName -> result.append('(').append(fileName).append(')'));
+                result.append('=').append(part.getContent(String.class)).append(';');
+            }
+            return result.toString();
+        }
+
         @POST
         @Consumes(MediaType.MULTIPART_FORM_DATA)
         @Produces(MediaType.MULTIPART_FORM_DATA)
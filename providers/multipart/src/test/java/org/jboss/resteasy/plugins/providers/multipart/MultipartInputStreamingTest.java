@@ -0,0 +1,81 @@
+package org.jboss.resteasy.plugins.providers.multipart;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import jakarta.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests lazily parsing a multipart entity with {@link MultipartInputImpl#parseStreaming(InputStream)}.
+ */
+public class MultipartInputStreamingTest {
+    private static final MediaType CONTENT_TYPE = new MediaType("multipart", "mixed", Map.of("boundary", "outer"));
+
+    @Test
+    public void parts() throws Exception {
+        final String input = "preamble\r\n"
+                + "--outer\r\n"
+                + "Content-Type: text/plain; charset=UTF-8\r\n"
+                + "Content-Disposition: form-data; name=\"first\"; filename=\"first.txt\"\r\n"
+                + "\r\n"
+                + "first part\r\n"
+                + "--outer\r\n"
+                + "Content-Type: multipart/mixed; boundary=inner\r\n"
+                + "\r\n"
+                + "--inner\r\n"
+                + "\r\n"
+                + "nested part\r\n"
+                + "--inner--\r\n"
+                + "\r\n"
+                + "--outer\r\n"
+                + "\r\n"
+                + "last part\r\n"
+                + "--outer--\r\n";
+        final MultipartInputImpl multipart = new MultipartInputImpl(CONTENT_TYPE, null);
+        final Iterator<InputPart> parts = multipart.parseStreaming(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertTrue(parts.hasNext());
+        InputPart part = parts.next();
+        Assertions.assertEquals("preamble", multipart.getPreamble());
+        Assertions.assertEquals(MediaType.valueOf("text/plain; charset=UTF-8"), part.getMediaType());
+        Assertions.assertTrue(part.isContentTypeFromMessage());
+        Assertions.assertEquals("first.txt", part.getFileName());
+        Assertions.assertEquals("first part", readBody(part));
+
+        // Nested multipart content is not parsed, but returned as the body of the part
+        part = parts.next();
+        Assertions.assertEquals("multipart/mixed", part.getMediaType().getType() + "/" + part.getMediaType().getSubtype());
+        Assertions.assertEquals("--inner\r\n\r\nnested part\r\n--inner--\r\n", readBody(part));
+
+        part = parts.next();
+        Assertions.assertFalse(part.isContentTypeFromMessage());
+        Assertions.assertNull(part.getFileName());
+        Assertions.assertEquals("last part", readBody(part));
+
+        Assertions.assertFalse(parts.hasNext());
+        Assertions.assertThrows(NoSuchElementException.class, parts::next);
+        Assertions.assertTrue(multipart.getParts().isEmpty());
+    }
+
+    @Test
+    public void empty() throws Exception {
+        final MultipartInputImpl multipart = new MultipartInputImpl(CONTENT_TYPE, null);
+        final Iterator<InputPart> parts = multipart.parseStreaming(
+                new ByteArrayInputStream("--outer--\r\n".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertFalse(parts.hasNext());
+    }
+
+    private static String readBody(final InputPart part) throws Exception {
+        try (InputStream in = part.getBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.jboss.resteasy.client.jaxrs;
+
+/**
+ * Receives the duration of the phases of client invocations. An implementation is set with
+ * {@link ResteasyClientBuilder#metrics(ClientMetrics)} and is called on the invoking and on the I/O threads, so it must
+ * be thread safe and should not block.
+ * <p>
+ * The target identifies the invoked resource: for proxies it is the URI template of the proxy method, otherwise the
+ * scheme and authority of the request URI.
+ * </p>
+ */
+@FunctionalInterface
+public interface ClientMetrics {
+
+    /**
+     * The configuration property holding the {@link ClientMetrics} of a client.
+     */
+    String PROPERTY = ClientMetrics.class.getName();
+
+    enum Phase {
+        /**
+         * Running the {@link jakarta.ws.rs.client.ClientRequestFilter}s.
+         */
+        REQUEST_FILTERS,
+        /**
+         * From handing the request to the {@link ClientHttpEngine} until the response headers are received. This
+         * includes acquiring a connection, writing the request entity and the time to first byte.
+         */
+        EXCHANGE,
+        /**
+         * Acquiring a connection from the pool, including opening it if needed. Part of {@link #EXCHANGE}, only
+         * reported by engines which observe it, such as the Apache HttpClient engine built by the client builder
+         * and the Jetty, Vert.x and Reactor Netty engines.
+         */
+        CONNECTION,
+        /**
+         * From the request being sent until the response headers are received. Part of {@link #EXCHANGE}, only
+         * reported by engines which observe it, such as the Apache HttpClient engine built by the client builder
+         * and the Jetty, Vert.x and Reactor Netty engines.
+         */
+        FIRST_BYTE,
+        /**
+         * Running the {@link jakarta.ws.rs.client.ClientResponseFilter}s.
+         */
+        RESPONSE_FILTERS,
+        /**
+         * Reading the response entity through the reader interceptors and the
+         * {@link jakarta.ws.rs.ext.MessageBodyReader}.
+         */
+        ENTITY_READ
+    }
+
+    /**
+     * Records the duration of a phase.
+     *
+     * @param method the HTTP method
+     * @param target the invoked target
+     * @param phase  the phase
+     * @param nanos  the duration in nanoseconds
+     */
+    void record(String method, String target, Phase phase, long nanos);
+}
@@ -0,0 +1,107 @@
+package org.jboss.resteasy.client.jaxrs;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ClientMetrics} which keeps a histogram per method, target and phase. Durations are counted in buckets of
+ * powers of two nanoseconds, so recording is a few additions and percentiles are accurate within a factor of two.
+ */
+public class HistogramClientMetrics implements ClientMetrics {
+
+    private final ConcurrentMap<String, Histogram[]> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(final String method, final String target, final Phase phase, final long nanos) {
+        Histogram[] phases = histograms.get(key(method, target));
+        if (phases == null) {
+            phases = histograms.computeIfAbsent(key(method, target), k -> {
+                final Histogram[] h = new Histogram[Phase.values().length];
+                for (int i = 0; i < h.length; i++) {
+                    h[i] = new Histogram();
+                }
+                return h;
+            });
+        }
+        phases[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * @return the method and target of every invocation recorded so far, separated by a space
+     */
+    public Set<String> getTargets() {
+        return histograms.keySet();
+    }
+
+    /**
+     * Returns the histogram of a phase.
+     *
+     * @param method the HTTP method
+     * @param target the invoked target
+     * @param phase  the phase
+     * @return the histogram, or {@code null} if no invocation was recorded for the method and target
+     */
+    public Histogram getHistogram(final String method, final String target, final Phase phase) {
+        final Histogram[] phases = histograms.get(key(method, target));
+        return phases == null ? null : phases[phase.ordinal()];
+    }
+
+    private static String key(final String method, final String target) {
+        return method + ' ' + target;
+    }
+
+    public static class Histogram {
+        private final LongAdder[] buckets = new LongAdder[64];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+
+        public Histogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        public void record(final long nanos) {
+            final long value = Math.max(nanos, 0);
+            buckets[64 - Long.numberOfLeadingZeros(value) - (value == 0 ? 0 : 1)].increment();
+            count.increment();
+            total.add(value);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public Duration getMean() {
+            final long c = count.sum();
+            return c == 0 ? Duration.ZERO : Duration.ofNanos(total.sum() / c);
+        }
+
+        /**
+         * Returns the upper bound of the bucket holding the percentile.
+         *
+         * @param percentile the percentile, between 0 and 1
+         * @return the approximated percentile
+         */
+        public Duration getPercentile(final double percentile) {
+            final long[] counts = new long[buckets.length];
+            long c = 0;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets[i].sum();
+                c += counts[i];
+            }
+            final long rank = (long) Math.ceil(percentile * c);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank && seen > 0) {
+                    return Duration.ofNanos(i >= 62 ? Long.MAX_VALUE : (2L << i) - 1);
+                }
+            }
+            return Duration.ZERO;
+        }
+    }
+}
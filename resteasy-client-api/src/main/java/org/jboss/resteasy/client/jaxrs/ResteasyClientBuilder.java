@@ -52,6 +52,12 @@ public abstract class ResteasyClientBuilder extends ClientBuilder {
 
     public static final String PROPERTY_FOLLOW_REDIRECTS = "dev.resteasy.client.follow.redirects";
 
+    /**
+     * Whether a response of the client returned by a server resource method has its entity forwarded as received,
+     * without message body readers and writers (boolean). Hop-by-hop headers are not forwarded.
+     */
+    public static final String PROPERTY_PASS_THROUGH = "dev.resteasy.client.response.pass.through";
+
     /**
      * Changing the providerFactory will wipe clean any registered components or properties.
      *
@@ -282,4 +288,15 @@ public abstract class ResteasyClientBuilder extends ClientBuilder {
     public abstract ResteasyClientBuilder setFollowRedirects(boolean followRedirects);
 
     public abstract boolean isFollowRedirects();
+
+    /**
+     * Records the duration of the phases of every invocation of the built clients.
+     *
+     * @param metrics the metrics receiving the durations
+     * @return an updated client builder instance
+     */
+    public ResteasyClientBuilder metrics(ClientMetrics metrics) {
+        property(ClientMetrics.PROPERTY, metrics);
+        return this;
+    }
 }
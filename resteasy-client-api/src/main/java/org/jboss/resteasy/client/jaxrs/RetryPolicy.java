@@ -0,0 +1,168 @@
+package org.jboss.resteasy.client.jaxrs;
+
+import java.time.Duration;
+
+import org.jboss.resteasy.annotations.ClientRetry;
+import org.jboss.resteasy.client.jaxrs.i18n.Messages;
+
+/**
+ * Describes how idempotent requests sent by a client proxy are retried and hedged.
+ * <p>
+ * A failed request, either an exception or a 5xx response, is retried after a randomized exponential backoff until
+ * {@link #getMaxAttempts()} requests were sent. If hedging is enabled, a second request is sent when the first one
+ * has not completed after the {@linkplain #getHedgeDelay() hedge delay} or the
+ * {@linkplain #getHedgePercentile() latency percentile} observed so far; the first successful response is used and
+ * the other one is closed. Retried and hedged requests together are limited to the
+ * {@linkplain #getRetryBudget() retry budget}.
+ * </p>
+ * <p>
+ * A policy is applied to a proxy either with the {@link ClientRetry} annotation or by setting it as the
+ * {@link #PROPERTY} of the {@link ResteasyWebTarget} the proxy is created from:
+ * </p>
+ *
+ * <pre>
+ * target.property(RetryPolicy.PROPERTY, RetryPolicy.builder().hedgePercentile(0.95).build());
+ * </pre>
+ */
+public final class RetryPolicy {
+
+    /**
+     * The configuration property holding the {@link RetryPolicy} of a {@link ResteasyWebTarget}.
+     */
+    public static final String PROPERTY = RetryPolicy.class.getName();
+
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+    private final double retryBudget;
+    private final Duration hedgeDelay;
+    private final double hedgePercentile;
+
+    private RetryPolicy(final Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.backoff = builder.backoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.retryBudget = builder.retryBudget;
+        this.hedgeDelay = builder.hedgeDelay;
+        this.hedgePercentile = builder.hedgePercentile;
+    }
+
+    /**
+     * Creates a new builder with the default values of {@link ClientRetry}.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a policy from the values of the annotation.
+     *
+     * @param retry the annotation
+     * @return the policy
+     */
+    public static RetryPolicy of(final ClientRetry retry) {
+        return builder()
+                .maxAttempts(retry.maxAttempts())
+                .backoff(Duration.ofMillis(retry.backoff()), Duration.ofMillis(retry.maxBackoff()))
+                .retryBudget(retry.retryBudget())
+                .hedgeDelay(Duration.ofMillis(retry.hedgeDelay()))
+                .hedgePercentile(retry.hedgePercentile())
+                .build();
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getBackoff() {
+        return backoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public double getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * @return the fixed delay after which a hedged request is sent, {@link Duration#ZERO} if disabled
+     */
+    public Duration getHedgeDelay() {
+        return hedgeDelay;
+    }
+
+    /**
+     * @return the latency percentile after which a hedged request is sent, zero if disabled
+     */
+    public double getHedgePercentile() {
+        return hedgePercentile;
+    }
+
+    /**
+     * @return {@code true} if either a hedge delay or a hedge percentile is set
+     */
+    public boolean isHedging() {
+        return !hedgeDelay.isZero() || hedgePercentile > 0;
+    }
+
+    public static final class Builder {
+        private int maxAttempts = 3;
+        private Duration backoff = Duration.ofMillis(50);
+        private Duration maxBackoff = Duration.ofSeconds(1);
+        private double retryBudget = 0.2;
+        private Duration hedgeDelay = Duration.ZERO;
+        private double hedgePercentile;
+
+        private Builder() {
+        }
+
+        public Builder maxAttempts(final int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException(Messages.MESSAGES.requiredPositiveValue("maxAttempts"));
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder backoff(final Duration backoff, final Duration maxBackoff) {
+            if (backoff.isNegative() || maxBackoff.compareTo(backoff) < 0) {
+                throw new IllegalArgumentException(Messages.MESSAGES.invalidBackoff());
+            }
+            this.backoff = backoff;
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        public Builder retryBudget(final double retryBudget) {
+            if (retryBudget < 0) {
+                throw new IllegalArgumentException(Messages.MESSAGES.requiredNonNegativeValue("retryBudget"));
+            }
+            this.retryBudget = retryBudget;
+            return this;
+        }
+
+        public Builder hedgeDelay(final Duration hedgeDelay) {
+            if (hedgeDelay.isNegative()) {
+                throw new IllegalArgumentException(Messages.MESSAGES.requiredNonNegativeValue("hedgeDelay"));
+            }
+            this.hedgeDelay = hedgeDelay;
+            return this;
+        }
+
+        public Builder hedgePercentile(final double hedgePercentile) {
+            if (hedgePercentile < 0 || hedgePercentile >= 1) {
+                throw new IllegalArgumentException(Messages.MESSAGES.invalidHedgePercentile());
+            }
+            this.hedgePercentile = hedgePercentile;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.jboss.resteasy.client.jaxrs.i18n;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.TypeVariable;
+import java.net.URI;
 import java.util.function.Supplier;
 
 import jakarta.ws.rs.client.ResponseProcessingException;
@@ -163,4 +164,34 @@ public interface Messages {
     @Message(id = BASE + 194, value = "No content type found in response. Cannot extract the response value.")
     @Signature(messageIndex = 1, value = { Response.class, String.class })
     ResponseProcessingException noContentTypeFound(@Param Response response);
+
+    @Message(id = BASE + 195, value = "Cannot stream the elements of a response with content type %s")
+    String cannotStreamElements(MediaType mediaType);
+
+    @Message(id = BASE + 196, value = "Endpoint %s must be an absolute URI with an authority")
+    String endpointNotAbsolute(URI uri);
+
+    @Message(id = BASE + 197, value = "At least one endpoint is required")
+    String noEndpoints();
+
+    @Message(id = BASE + 198, value = "Required positive value for %s")
+    String requiredPositiveValue(String name);
+
+    @Message(id = BASE + 199, value = "Required non negative value for %s")
+    String requiredNonNegativeValue(String name);
+
+    @Message(id = BASE + 200, value = "Required 0 <= backoff <= maxBackoff")
+    String invalidBackoff();
+
+    @Message(id = BASE + 201, value = "Required 0 <= hedgePercentile < 1")
+    String invalidHedgePercentile();
+
+    @Message(id = BASE + 202, value = "The limit must not be lower than the default maximum per route")
+    String adaptiveLimitTooLow();
+
+    @Message(id = BASE + 203, value = "The %s property must be a positive integer, was %s")
+    String invalidAdaptivePoolLimit(String property, Object value);
+
+    @Message(id = BASE + 204, value = "The engine %s cannot stream the elements of a response")
+    String streamingNotSupported(String engine);
 }
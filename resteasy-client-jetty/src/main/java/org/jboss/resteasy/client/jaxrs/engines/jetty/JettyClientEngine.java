@@ -30,6 +30,7 @@ import org.eclipse.jetty.client.Request;
 import org.eclipse.jetty.client.Response;
 import org.eclipse.jetty.http.HttpFields;
 import org.jboss.resteasy.client.jaxrs.engines.AsyncClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.engines.ExchangeMetrics;
 import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
 import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
 
@@ -114,6 +115,12 @@ public class JettyClientEngine implements AsyncClientHttpEngine {
         if (request.getAttributes().get(FOLLOW_REDIRECTS) == Boolean.FALSE) {
             request.followRedirects(false);
         }
+        final ExchangeMetrics metrics = ExchangeMetrics.start(invocation);
+        if (metrics != null) {
+            request.onRequestBegin(r -> metrics.connected())
+                    .onRequestSuccess(r -> metrics.sent())
+                    .onResponseBegin(r -> metrics.received());
+        }
 
         if (invocation.getEntity() != null) {
             final OutputStreamRequestContent contentOut = new OutputStreamRequestContent(
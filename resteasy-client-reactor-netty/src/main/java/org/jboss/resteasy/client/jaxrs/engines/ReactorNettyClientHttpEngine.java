@@ -3,9 +3,15 @@ package org.jboss.resteasy.client.jaxrs.engines;
 import static java.util.Objects.requireNonNull;
 import static org.jboss.resteasy.util.HttpHeaderNames.CONTENT_LENGTH;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -14,6 +20,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
@@ -23,11 +30,15 @@ import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.InvocationCallback;
 import jakarta.ws.rs.client.ResponseProcessingException;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.MessageBodyReader;
 import jakarta.ws.rs.ext.Providers;
 
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.client.jaxrs.i18n.Messages;
 import org.jboss.resteasy.client.jaxrs.internal.ClientConfiguration;
 import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
 import org.jboss.resteasy.client.jaxrs.internal.ClientRequestHeaders;
@@ -35,13 +46,16 @@ import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
 import org.jboss.resteasy.client.jaxrs.internal.TrackingClientRequestHeaders;
 import org.jboss.resteasy.client.jaxrs.internal.TrackingMap;
 import org.jboss.resteasy.core.ResteasyContext;
+import org.jboss.resteasy.plugins.providers.sse.SseConstants;
 import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
 import org.jboss.resteasy.util.CaseInsensitiveMap;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufOutputStream;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.http.client.HttpClientResponse;
@@ -50,6 +64,9 @@ import reactor.netty.resources.ConnectionProvider;
 public class ReactorNettyClientHttpEngine implements ReactiveClientHttpEngine {
     private static final Logger log = Logger.getLogger(ReactorNettyClientHttpEngine.class);
 
+    private static final MediaType NDJSON = new MediaType("application", "x-ndjson");
+    private static final Annotation[] EMPTY_ANNOTATIONS = new Annotation[0];
+
     private final HttpClient httpClient;
     private final ChannelGroup channelGroup;
     private final ConnectionProvider connectionProvider;
@@ -168,6 +185,96 @@ public class ReactorNettyClientHttpEngine implements ReactiveClientHttpEngine {
                 }).onErrorMap(err -> clientException(err, null));
     }
 
+    /**
+     * Streams the elements of a newline delimited JSON ({@code application/x-ndjson}) or server-sent events
+     * ({@code text/event-stream}) response as they are received. The elements are decoded from the Netty buffers
+     * directly, without aggregating the body or bridging it to a blocking {@link InputStream}: the complete lines of a
+     * buffer are copied out before the buffer is released and each element is then bound with the
+     * {@link MessageBodyReader} of the client. Newline delimited JSON elements are read as {@code application/json},
+     * the data of a server-sent event is read as the {@code element-type} parameter of the content type, or as
+     * {@code text/plain} if there is none.
+     * <p>
+     * The status and headers of the response are passed to the {@code responseFilter} before any element is read. A
+     * status of 400 or greater fails the returned {@link Flux} with the matching {@link WebApplicationException}. The
+     * request timeout, if any, limits the wait for each element.
+     * </p>
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Flux<T> submitStream(final ClientInvocation request, final GenericType<T> elementType,
+            final ResultExtractor<ClientResponse> responseFilter) {
+        final ClientConfiguration configuration = request.getClientConfiguration();
+        final Class<T> rawType = (Class<T>) elementType.getRawType();
+        final Flux<T> elements = send(request).response((response, body) -> {
+            if (response.status().code() >= 400) {
+                return body.aggregate().asByteArray()
+                        .defaultIfEmpty(new byte[0])
+                        .<T> handle((bytes, sink) -> {
+                            try {
+                                ClientInvocation.handleErrorStatus(responseFilter.extractResult(
+                                        toRestEasyResponse(configuration, response, new ByteArrayInputStream(bytes))));
+                            } catch (final RuntimeException e) {
+                                sink.error(e);
+                            }
+                        });
+            }
+            final ClientResponse filtered;
+            try {
+                filtered = responseFilter
+                        .extractResult(toRestEasyResponse(configuration, response, InputStream.nullInputStream()));
+                if (filtered.getStatus() >= 400) {
+                    ClientInvocation.handleErrorStatus(filtered);
+                }
+            } catch (final RuntimeException e) {
+                return Flux.error(e);
+            }
+            final MediaType mediaType = filtered.getMediaType();
+            final MultivaluedMap<String, String> headers = new CaseInsensitiveMap<>();
+            headers.putAll(filtered.getStringHeaders());
+            filtered.close();
+            final MediaType elementMediaType;
+            final boolean events;
+            if (NDJSON.isCompatible(mediaType)) {
+                elementMediaType = MediaType.APPLICATION_JSON_TYPE;
+                events = false;
+            } else if (MediaType.SERVER_SENT_EVENTS_TYPE.isCompatible(mediaType)) {
+                final String elementContentType = mediaType.getParameters().get(SseConstants.SSE_ELEMENT_MEDIA_TYPE);
+                elementMediaType = elementContentType == null ? MediaType.TEXT_PLAIN_TYPE
+                        : MediaType.valueOf(elementContentType);
+                events = true;
+            } else {
+                return Flux.error(new ProcessingException(Messages.MESSAGES.cannotStreamElements(mediaType)));
+            }
+            final MessageBodyReader<T> reader = configuration.getMessageBodyReader(rawType,
+                    elementType.getType(), EMPTY_ANNOTATIONS, elementMediaType);
+            if (reader == null) {
+                return Flux.error(new ProcessingException(org.jboss.resteasy.resteasy_jaxrs.i18n.Messages.MESSAGES
+                        .couldNotFindMessageBodyReader(elementType.getType(), elementMediaType)));
+            }
+            final ElementDecoder decoder = new ElementDecoder(events);
+            // The buffers are released once map returns, so the lines are copied out synchronously
+            return body.map(decoder::decode)
+                    .concatWith(Mono.fromSupplier(decoder::finish))
+                    .concatMapIterable(Function.identity())
+                    .map(bytes -> readElement(reader, rawType, elementType, elementMediaType, headers, bytes));
+        });
+        return requestTimeout
+                .map(elements::timeout)
+                .orElse(elements)
+                .onErrorMap(err -> clientException(err, null));
+    }
+
+    private static <T> T readElement(final MessageBodyReader<T> reader, final Class<T> rawType,
+            final GenericType<T> elementType, final MediaType mediaType, final MultivaluedMap<String, String> headers,
+            final byte[] element) {
+        try {
+            return reader.readFrom(rawType, elementType.getType(), EMPTY_ANNOTATIONS, mediaType,
+                    headers, new ByteArrayInputStream(element));
+        } catch (final IOException e) {
+            throw new ProcessingException(e);
+        }
+    }
+
     /**
      * The main business logic mapping RestEasy's {@link ClientInvocation request} to Reactor Netty's concept
      * of it.
@@ -175,7 +282,12 @@ public class ReactorNettyClientHttpEngine implements ReactiveClientHttpEngine {
     private HttpClient.ResponseReceiver<?> send(final ClientInvocation resteasyReq) {
         final Optional<Object> reqPayload = Optional.ofNullable(resteasyReq.getEntity());
 
-        final HttpClient.RequestSender requestSender = httpClient.headers(headers -> addHeaders(resteasyReq, headers))
+        final ExchangeMetrics metrics = ExchangeMetrics.start(resteasyReq);
+        final HttpClient client = metrics == null ? httpClient
+                : httpClient.doOnRequest((req, conn) -> metrics.connected())
+                        .doAfterRequest((req, conn) -> metrics.sent())
+                        .doOnResponse((res, conn) -> metrics.received());
+        final HttpClient.RequestSender requestSender = client.headers(headers -> addHeaders(resteasyReq, headers))
                 .request(HttpMethod.valueOf(resteasyReq.getMethod()))
                 .uri(resteasyReq.getUri().toString());
 
@@ -376,6 +488,87 @@ public class ReactorNettyClientHttpEngine implements ReactiveClientHttpEngine {
         return restEasyClientResponse;
     }
 
+    /**
+     * Splits the received buffers into the newline delimited JSON elements or the data of the server-sent events. A
+     * line received in several buffers is accumulated until its end is received.
+     */
+    private static final class ElementDecoder {
+        private final boolean events;
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        private boolean hasData;
+
+        private ElementDecoder(final boolean events) {
+            this.events = events;
+        }
+
+        List<byte[]> decode(final ByteBuf buffer) {
+            final List<byte[]> elements = new ArrayList<>();
+            int end;
+            while ((end = buffer.indexOf(buffer.readerIndex(), buffer.writerIndex(), (byte) '\n')) >= 0) {
+                byte[] bytes = new byte[end - buffer.readerIndex()];
+                buffer.readBytes(bytes);
+                buffer.skipBytes(1);
+                if (line.size() > 0) {
+                    line.writeBytes(bytes);
+                    bytes = line.toByteArray();
+                    line.reset();
+                }
+                line(bytes, elements);
+            }
+            if (buffer.isReadable()) {
+                final byte[] bytes = new byte[buffer.readableBytes()];
+                buffer.readBytes(bytes);
+                line.writeBytes(bytes);
+            }
+            return elements;
+        }
+
+        List<byte[]> finish() {
+            // An event that was not terminated by a blank line is discarded, the last JSON element may not end a line
+            final List<byte[]> elements = new ArrayList<>(1);
+            if (!events && line.size() > 0) {
+                line(line.toByteArray(), elements);
+                line.reset();
+            }
+            return elements;
+        }
+
+        private void line(final byte[] bytes, final List<byte[]> elements) {
+            final int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+            if (!events) {
+                for (int i = 0; i < length; i++) {
+                    if (!Character.isWhitespace(bytes[i])) {
+                        elements.add(length == bytes.length ? bytes : Arrays.copyOf(bytes, length));
+                        return;
+                    }
+                }
+            } else if (length == 0) {
+                if (hasData) {
+                    elements.add(data.toByteArray());
+                    data.reset();
+                    hasData = false;
+                }
+            } else if (bytes[0] != ':') {
+                int colon = 0;
+                while (colon < length && bytes[colon] != ':') {
+                    colon++;
+                }
+                if ("data".equals(new String(bytes, 0, colon, StandardCharsets.US_ASCII))) {
+                    int start = colon + 1;
+                    if (start < length && bytes[start] == ' ') {
+                        start++;
+                    }
+                    if (hasData) {
+                        data.write('\n');
+                    }
+                    data.write(bytes, Math.min(start, length), length - Math.min(start, length));
+                    hasData = true;
+                }
+            }
+        }
+    }
+
     private static class RestEasyClientResponse extends ClientResponse {
 
         private InputStream is;
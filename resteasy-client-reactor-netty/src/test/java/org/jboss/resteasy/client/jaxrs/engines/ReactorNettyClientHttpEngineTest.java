@@ -13,8 +13,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -22,11 +24,13 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import jakarta.ws.rs.InternalServerErrorException;
+import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseFilter;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.InvocationCallback;
 import jakarta.ws.rs.client.ResponseProcessingException;
@@ -39,7 +43,9 @@ import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.MessageBodyWriter;
 import jakarta.ws.rs.ext.Providers;
 
+import org.jboss.resteasy.client.jaxrs.ClientMetrics;
 import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
 import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
@@ -52,6 +58,7 @@ import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.util.concurrent.DefaultEventExecutor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
 import reactor.netty.DisposableServer;
@@ -161,6 +168,16 @@ public class ReactorNettyClientHttpEngineTest {
                                 (req, resp) -> headerEcho(req, resp, HttpHeaderNames.CONTENT_ENCODING.toString()))
                         .post("/headers/content-type",
                                 (req, resp) -> allHeaderEcho(req, resp, HttpHeaderNames.CONTENT_TYPE.toString()))
+                        .get("/ndjson", (req, resp) -> resp
+                                .addHeader(HttpHeaderNames.CONTENT_TYPE, "application/x-ndjson")
+                                .sendString(Flux.just("{\"name\":\"a\",", "\"age\":1}\r\n\n{\"name\":\"b\",\"age\":2}\n{\"na",
+                                        "me\":\"c\",\"age\":3}")
+                                        .delayElements(Duration.ofMillis(10))))
+                        .get("/sse", (req, resp) -> resp
+                                .addHeader(HttpHeaderNames.CONTENT_TYPE, "text/event-stream")
+                                .sendString(Flux.just(": comment\nid: 1\ndata: one\n\ndata:tw", "o\ndata: lines\n\n",
+                                        "event: ignored\ndata: three\n\ndata: unterminated\n")
+                                        .delayElements(Duration.ofMillis(10))))
                         .get("/kill-conn", (req, resp) -> {
                             req.withConnection(Connection::disposeNow);
                             return Mono.empty();
@@ -501,6 +518,26 @@ public class ReactorNettyClientHttpEngineTest {
         assertTrue(connectionProvider.isDisposed());
     }
 
+    @Test
+    public void testMetrics() {
+        final Set<ClientMetrics.Phase> phases = ConcurrentHashMap.newKeySet();
+        final ReactorNettyClientHttpEngine engine = new ReactorNettyClientHttpEngine(
+                HttpClient.create(),
+                new DefaultChannelGroup(new DefaultEventExecutor()),
+                HttpResources.get());
+        final Client client = ((ResteasyClientBuilder) ClientBuilder.newBuilder()).httpEngine(engine)
+                .metrics((method, target, phase, nanos) -> phases.add(phase))
+                .build();
+        try {
+            final Response response = client.target(url("/hello")).request().get();
+            assertEquals(HELLO_WORLD, response.readEntity(String.class));
+            assertTrue(phases.contains(ClientMetrics.Phase.CONNECTION));
+            assertTrue(phases.contains(ClientMetrics.Phase.FIRST_BYTE));
+        } finally {
+            client.close();
+        }
+    }
+
     @Test
     public void testThatRequestContentLengthIsSet() {
         final String payload = "hello";
@@ -734,6 +771,64 @@ public class ReactorNettyClientHttpEngineTest {
         }
     }
 
+    @Test
+    public void testStreamNdjson() {
+        final List<Person> people = stream(client.target(url("/ndjson")), Person.class)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        assertEquals(3, people.size());
+        assertEquals("a", people.get(0).getName());
+        assertEquals(1, people.get(0).getAge());
+        assertEquals("b", people.get(1).getName());
+        assertEquals("c", people.get(2).getName());
+        assertEquals(3, people.get(2).getAge());
+    }
+
+    @Test
+    public void testStreamServerSentEvents() {
+        final List<String> events = stream(client.target(url("/sse")), String.class)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        assertEquals(List.of("one", "two\nlines", "three"), events);
+    }
+
+    @Test
+    public void testStreamFilters() {
+        final AtomicReference<String> method = new AtomicReference<>();
+        final AtomicReference<Integer> status = new AtomicReference<>();
+        final WebTarget target = client.target(url("/ndjson"))
+                .register((ClientRequestFilter) requestContext -> method.set(requestContext.getMethod()))
+                .register((ClientResponseFilter) (requestContext, responseContext) -> status
+                        .set(responseContext.getStatus()));
+        assertEquals(3, stream(target, Person.class).count().block(Duration.ofSeconds(10)));
+        assertEquals("GET", method.get());
+        assertEquals(200, status.get());
+
+        final List<String> aborted = stream(client.target(url("/ndjson"))
+                .register((ClientRequestFilter) requestContext -> requestContext
+                        .abortWith(Response.ok("aborted").build())),
+                String.class)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        assertEquals(List.of("aborted"), aborted);
+    }
+
+    @Test
+    public void testStreamErrors() {
+        final NotFoundException notFound = assertThrows(NotFoundException.class,
+                () -> stream(client.target(url("/notfoundwithentity")), String.class)
+                        .blockLast(Duration.ofSeconds(10)));
+        assertEquals(404, notFound.getResponse().getStatus());
+        assertThrows(ProcessingException.class, () -> stream(client.target(url("/hello")), String.class)
+                .blockLast(Duration.ofSeconds(10)));
+    }
+
+    private static <T> Flux<T> stream(final WebTarget target, final Class<T> elementType) {
+        return Flux.from(((ClientInvocation) target.request().buildGet()).reactive()
+                .orElseThrow()
+                .stream(elementType));
+    }
+
     private static String incrementAge(final String json) {
         final int length = json.length();
         final String age = json.substring(length - 2, length - 1);
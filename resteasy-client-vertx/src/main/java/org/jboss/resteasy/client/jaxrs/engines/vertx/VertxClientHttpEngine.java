@@ -21,6 +21,7 @@ import jakarta.ws.rs.client.ResponseProcessingException;
 import jakarta.ws.rs.core.Response;
 
 import org.jboss.resteasy.client.jaxrs.engines.AsyncClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.engines.ExchangeMetrics;
 import org.jboss.resteasy.client.jaxrs.internal.ClientConfiguration;
 import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
 import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
@@ -183,10 +184,17 @@ public class VertxClientHttpEngine implements AsyncClientHttpEngine {
         }
 
         final CompletableFuture<ClientResponse> futureResponse = new CompletableFuture<>();
+        final ExchangeMetrics metrics = ExchangeMetrics.start(request);
         httpClient.request(options)
                 .map(httpClientRequest -> {
+                    if (metrics != null) {
+                        metrics.connected();
+                    }
                     final Handler<AsyncResult<HttpClientResponse>> handler = event -> {
                         if (event.succeeded()) {
+                            if (metrics != null) {
+                                metrics.received();
+                            }
                             final HttpClientResponse response = event.result();
                             response.pause();
                             futureResponse.complete(toRestEasyResponse(request.getClientConfiguration(), response));
@@ -200,6 +208,9 @@ public class VertxClientHttpEngine implements AsyncClientHttpEngine {
                     } else {
                         httpClientRequest.send(handler);
                     }
+                    if (metrics != null) {
+                        metrics.sent();
+                    }
                     return null;
                 })
                 .onFailure(futureResponse::completeExceptionally);
@@ -1,11 +1,11 @@
 package org.jboss.resteasy.client.jaxrs.engines;
 
-import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -38,7 +38,7 @@ import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.concurrent.BasicFuture;
 import org.apache.http.concurrent.FutureCallback;
-import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.AbstractHttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.message.BasicHeader;
@@ -46,6 +46,8 @@ import org.apache.http.nio.ContentDecoder;
 import org.apache.http.nio.IOControl;
 import org.apache.http.nio.client.methods.HttpAsyncMethods;
 import org.apache.http.nio.entity.ContentInputStream;
+import org.apache.http.nio.entity.NByteArrayEntity;
+import org.apache.http.nio.entity.NFileEntity;
 import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
 import org.apache.http.nio.protocol.HttpAsyncRequestProducer;
 import org.apache.http.nio.protocol.HttpAsyncResponseConsumer;
@@ -55,10 +57,13 @@ import org.apache.http.nio.util.SimpleInputBuffer;
 import org.apache.http.protocol.HTTP;
 import org.apache.http.protocol.HttpContext;
 import org.jboss.resteasy.client.jaxrs.i18n.LogMessages;
+import org.jboss.resteasy.client.jaxrs.i18n.Messages;
 import org.jboss.resteasy.client.jaxrs.internal.ClientConfiguration;
 import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
 import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
 import org.jboss.resteasy.client.jaxrs.internal.FinalizedClientResponse;
+import org.jboss.resteasy.spi.ResourceCleaner;
+import org.jboss.resteasy.spi.config.Threshold;
 import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
 import org.jboss.resteasy.util.CaseInsensitiveMap;
 
@@ -72,7 +77,9 @@ import org.jboss.resteasy.util.CaseInsensitiveMap;
  * As such, performance may profit from fewer thread switches and less memory usage due to fewer thread-stacks. But doing
  * synchronous, blocking IO (the invoke-methods not returning a future) may suffer, because the data has to be transferred
  * piecewiese to/from the io-threads.</li>
- * <li>Request-Entities are fully buffered in memory, thus this engine is unsuitable for very large uploads.</li>
+ * <li>Request-Entities are buffered in memory up to the
+ * {@linkplain org.jboss.resteasy.spi.config.Options#ENTITY_MEMORY_THRESHOLD entity memory threshold}, larger
+ * entities are buffered in a temporary file before being sent.</li>
  * <li>Response-Entities are buffered in memory, except if requesting a Response, InputStream or Reader as Result. Thus
  * for large downloads or COMET one of these three return types must be requested, but there may be a performance penalty
  * because the response-body is transferred piecewise from the io-threads. When using InvocationCallbacks, the response is
@@ -665,18 +672,19 @@ public class ApacheHttpAsyncClient4Engine implements AsyncClientHttpEngine, Clos
     }
 
     private static HttpUriRequest buildHttpRequest(ClientInvocation request) {
-        // Writers may change headers. Thus buffer the content before committing the headers.
-        // For simplicity's sake the content is buffered in memory. File-buffering (ZeroCopyConsumer...) would be
-        // possible, but resource management is error-prone.
+        // Writers may change headers. Thus buffer the content before committing the headers. The content is buffered
+        // in memory up to the entity memory threshold and offloaded to a file beyond it.
 
         HttpRequestBase httpRequest = createHttpMethod(request.getUri(), request.getMethod());
         if (request.getEntity() != null) {
-            byte[] requestContent = requestContent(request);
-            ByteArrayEntity entity = new ByteArrayEntity(requestContent);
+            AbstractHttpEntity entity = requestContent(request);
             final MediaType mediaType = request.getHeaders().getMediaType();
             if (mediaType != null) {
                 entity.setContentType(new BasicHeader(HTTP.CONTENT_TYPE, mediaType.toString()));
             }
+            if (request.isChunked()) {
+                entity.setChunked(true);
+            }
             commitHeaders(request, httpRequest);
             ((HttpEntityEnclosingRequest) httpRequest).setEntity(entity);
         } else {
@@ -686,18 +694,54 @@ public class ApacheHttpAsyncClient4Engine implements AsyncClientHttpEngine, Clos
         return httpRequest;
     }
 
-    private static byte[] requestContent(ClientInvocation request) {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        request.getDelegatingOutputStream().setDelegate(baos);
-        try {
+    private static AbstractHttpEntity requestContent(ClientInvocation request) {
+        try (AsyncEntityOutputStream entityStream = new AsyncEntityOutputStream()) {
+            request.getDelegatingOutputStream().setDelegate(entityStream);
             request.writeRequestBody(request.getEntityStream());
-            baos.close();
-            return baos.toByteArray();
+            entityStream.close();
+            return entityStream.toAsyncEntity();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Buffers a request entity for the async client. It is kept apart from {@link ClientEntityOutputStream}, which the
+     * blocking engines use, so the non-blocking entities are only loaded with this engine.
+     */
+    static class AsyncEntityOutputStream extends ClientEntityOutputStream {
+
+        AsyncEntityOutputStream() {
+            super();
+        }
+
+        AsyncEntityOutputStream(final Threshold threshold) {
+            super(threshold, null, () -> "resteasy-entity");
+        }
+
+        /**
+         * Creates a non-blocking entity for the output stream. A file is sent with a {@link NFileEntity}, which
+         * transfers the content directly from the file channel.
+         *
+         * @return a non-blocking entity for the output stream
+         */
+        AbstractHttpEntity toAsyncEntity() {
+            if (!isClosed()) {
+                throw Messages.MESSAGES.streamNotClosed(this);
+            }
+            checkExported(Messages.MESSAGES.alreadyExported());
+            synchronized (lock) {
+                final Path file = getFile();
+                if (file != null) {
+                    final AbstractHttpEntity result = new NFileEntity(file.toFile());
+                    ResourceCleaner.register(result, new FileCleaner(file));
+                    return result;
+                }
+                return new NByteArrayEntity(getAndClearMemory());
+            }
+        }
+    }
+
     private static HttpRequestBase createHttpMethod(URI url, String restVerb) {
         if ("GET".equals(restVerb)) {
             return new HttpGet(url);
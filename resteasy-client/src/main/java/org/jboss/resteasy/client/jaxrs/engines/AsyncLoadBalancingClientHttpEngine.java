@@ -0,0 +1,92 @@
+package org.jboss.resteasy.client.jaxrs.engines;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import jakarta.ws.rs.client.InvocationCallback;
+
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+
+/**
+ * A {@link LoadBalancingClientHttpEngine} which also spreads asynchronous requests over its endpoints.
+ * <p>
+ * An asynchronous request is counted as outstanding, and its latency is measured, until the future of the delegate
+ * engine completes. The URI of the invocation is restored at that point.
+ * </p>
+ */
+public class AsyncLoadBalancingClientHttpEngine extends LoadBalancingClientHttpEngine implements AsyncClientHttpEngine {
+
+    private final AsyncClientHttpEngine delegate;
+
+    /**
+     * Creates an engine which spreads requests with the {@linkplain Policy#powerOfTwoChoices() power of two choices}
+     * policy.
+     *
+     * @param delegate  the engine requests are sent with
+     * @param endpoints the endpoints to spread requests over
+     */
+    public AsyncLoadBalancingClientHttpEngine(final AsyncClientHttpEngine delegate, final Collection<URI> endpoints) {
+        this(delegate, endpoints, Policy.powerOfTwoChoices());
+    }
+
+    /**
+     * Creates an engine which spreads requests with the given policy.
+     *
+     * @param delegate  the engine requests are sent with
+     * @param endpoints the endpoints to spread requests over
+     * @param policy    the policy which chooses the endpoint for each request
+     */
+    public AsyncLoadBalancingClientHttpEngine(final AsyncClientHttpEngine delegate, final Collection<URI> endpoints,
+            final Policy policy) {
+        super(delegate, endpoints, policy);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <T> Future<T> submit(final ClientInvocation request, final boolean buffered,
+            final InvocationCallback<T> callback, final ResultExtractor<T> extractor) {
+        final CompletableFuture<T> future = submit(request, buffered, extractor, null);
+        if (callback != null) {
+            future.whenComplete((result, error) -> {
+                if (error != null)
+                    callback.failed(error);
+                else
+                    callback.completed(result);
+            });
+        }
+        return future;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(final ClientInvocation request, final boolean buffered,
+            final ResultExtractor<T> extractor, final ExecutorService executorService) {
+        final URI uri = request.getUri();
+        final Endpoint endpoint = start(request);
+        final long start = System.nanoTime();
+        final boolean[] serverError = new boolean[1];
+        final CompletableFuture<T> future;
+        try {
+            future = delegate.submit(request, buffered, response -> {
+                serverError[0] = response.getStatus() >= 500;
+                return extractor.extractResult(response);
+            }, executorService);
+        } catch (RuntimeException e) {
+            request.setUri(uri);
+            complete(endpoint, start, true);
+            throw e;
+        }
+        final CompletableFuture<T> result = future.whenComplete((value, error) -> {
+            request.setUri(uri);
+            complete(endpoint, start, error != null || serverError[0]);
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                future.cancel(true);
+            }
+        });
+        return result;
+    }
+}
@@ -38,6 +38,14 @@ import org.jboss.resteasy.spi.config.Threshold;
  */
 class ClientEntityOutputStream extends EntityOutputStream {
 
+    /**
+     * Creates a new entity stream with the default
+     * {@linkplain org.jboss.resteasy.spi.config.Options#ENTITY_MEMORY_THRESHOLD memory threshold}.
+     */
+    ClientEntityOutputStream() {
+        super();
+    }
+
     /**
      * Creates a new entity stream with the maximum in memory threshold and a file prefix to be used if the stream needs
      * to be written to a file due to the threshold.
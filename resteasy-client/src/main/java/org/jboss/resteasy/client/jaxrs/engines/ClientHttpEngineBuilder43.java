@@ -7,6 +7,7 @@ import java.net.URISyntaxException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -34,13 +35,13 @@ import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
 import org.apache.http.conn.util.PublicSuffixMatcherLoader;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.BasicHttpClientConnectionManager;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.protocol.HttpCoreContext;
 import org.apache.http.ssl.SSLContexts;
 import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
 import org.jboss.resteasy.client.jaxrs.ClientHttpEngineBuilder;
 import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.client.jaxrs.i18n.Messages;
 import org.jboss.resteasy.client.jaxrs.spi.ClientConfigProvider;
 import org.jboss.resteasy.spi.PriorityServiceLoader;
 
@@ -52,6 +53,15 @@ import org.jboss.resteasy.spi.PriorityServiceLoader;
 @Deprecated(forRemoval = true, since = "6.2")
 public class ClientHttpEngineBuilder43 implements ClientHttpEngineBuilder {
 
+    /**
+     * The upper bound of the maximum connections per route. When set on the {@link ResteasyClientBuilder} the maximum
+     * connections of each route are adjusted to the time requests wait for a connection. The value is a positive
+     * integer, a route never grows beyond the connection pool size.
+     */
+    public static final String PROPERTY_ADAPTIVE_POOL_LIMIT = "dev.resteasy.client.pool.adaptive.limit";
+
+    private static final Duration ADAPTIVE_POOL_INTERVAL = Duration.ofSeconds(1);
+
     private ResteasyClientBuilder that;
 
     @Override
@@ -81,6 +91,7 @@ public class ClientHttpEngineBuilder43 implements ClientHttpEngineBuilder {
                     break;
             }
         }
+        final int adaptiveLimit = getAdaptivePoolLimit(that);
         try {
             SSLConnectionSocketFactory sslsf = null;
             SSLContext theContext = that.getSSLContext();
@@ -165,13 +176,16 @@ public class ClientHttpEngineBuilder43 implements ClientHttpEngineBuilder {
 
             HttpClientConnectionManager cm = null;
             if (that.getConnectionPoolSize() > 0) {
-                PoolingHttpClientConnectionManager tcm = new PoolingHttpClientConnectionManager(
-                        registry, null, null, null, that.getConnectionTTL(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
+                MonitoredPoolingConnectionManager tcm = new MonitoredPoolingConnectionManager(
+                        registry, that.getConnectionTTL(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
                 tcm.setMaxTotal(that.getConnectionPoolSize());
                 if (that.getMaxPooledPerRoute() == 0) {
                     that.maxPooledPerRoute(that.getConnectionPoolSize());
                 }
                 tcm.setDefaultMaxPerRoute(that.getMaxPooledPerRoute());
+                if (adaptiveLimit > 0) {
+                    tcm.enableAdaptiveSizing(Math.max(that.getMaxPooledPerRoute(), adaptiveLimit), ADAPTIVE_POOL_INTERVAL);
+                }
                 cm = tcm;
 
             } else {
@@ -195,6 +209,26 @@ public class ClientHttpEngineBuilder43 implements ClientHttpEngineBuilder {
         }
     }
 
+    /**
+     * @return the value of the {@link #PROPERTY_ADAPTIVE_POOL_LIMIT} property, or 0 if it is not set
+     */
+    private static int getAdaptivePoolLimit(final ResteasyClientBuilder that) {
+        final Object value = that.getConfiguration().getProperty(PROPERTY_ADAPTIVE_POOL_LIMIT);
+        if (value == null) {
+            return 0;
+        }
+        int limit;
+        try {
+            limit = value instanceof Number ? ((Number) value).intValue() : Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException e) {
+            limit = -1;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException(Messages.MESSAGES.invalidAdaptivePoolLimit(PROPERTY_ADAPTIVE_POOL_LIMIT, value));
+        }
+        return limit;
+    }
+
     private static HttpHost getDefaultProxy(ResteasyClientBuilder that) {
         String hostName = that.getDefaultProxyHostname();
         return hostName != null ? new HttpHost(hostName, that.getDefaultProxyPort(), that.getDefaultProxyScheme()) : null;
@@ -215,6 +249,7 @@ public class ClientHttpEngineBuilder43 implements ClientHttpEngineBuilder {
                     .evictExpiredConnections()
                     .evictIdleConnections(maxIdleTime, TimeUnit.SECONDS)
                     .setDefaultRequestConfig(rcBuilder.build())
+                    .setRequestExecutor(new MetricsRequestExecutor())
                     .disableContentCompression();
             if (!that.isCookieManagementEnabled()) {
                 httpClientBuilder.disableCookieManagement();
@@ -232,6 +267,7 @@ public class ClientHttpEngineBuilder43 implements ClientHttpEngineBuilder {
                             .evictExpiredConnections()
                             .evictIdleConnections(maxIdleTime, TimeUnit.SECONDS)
                             .setDefaultRequestConfig(rcBuilder.build())
+                            .setRequestExecutor(new MetricsRequestExecutor())
                             .disableContentCompression();
                     if (!that.isCookieManagementEnabled()) {
                         httpClientBuilder.disableCookieManagement();
@@ -245,6 +281,9 @@ public class ClientHttpEngineBuilder43 implements ClientHttpEngineBuilder {
         }
 
         ApacheHttpClient43Engine engine = new ApacheHttpClient43Engine(httpClient, true);
+        if (cm instanceof MonitoredPoolingConnectionManager) {
+            engine.setConnectionPool((MonitoredPoolingConnectionManager) cm);
+        }
         engine.setResponseBufferSize(responseBufferSize);
         engine.setHostnameVerifier(verifier);
         // this may be null.  We can't really support this with Apache Client.
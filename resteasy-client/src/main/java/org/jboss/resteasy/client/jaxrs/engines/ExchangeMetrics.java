@@ -0,0 +1,64 @@
+package org.jboss.resteasy.client.jaxrs.engines;
+
+import org.jboss.resteasy.client.jaxrs.ClientMetrics;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+
+/**
+ * Reports the {@link ClientMetrics.Phase#CONNECTION} and {@link ClientMetrics.Phase#FIRST_BYTE} phases of an
+ * invocation for engines notified when a connection was acquired for a request, when the request was sent and when
+ * the response headers were received.
+ * <p>
+ * The connection phase runs from the engine receiving the invocation until a connection is acquired. When the engine
+ * sends the request again, to follow a redirect or to retry it, the connection phase of the next exchange starts once
+ * the response of the previous one was received.
+ * </p>
+ *
+ * @since 7.0
+ */
+public final class ExchangeMetrics {
+    private final ClientInvocation invocation;
+    private volatile long start;
+    private volatile long sent;
+
+    private ExchangeMetrics(final ClientInvocation invocation) {
+        this.invocation = invocation;
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Starts measuring the phases of an invocation.
+     *
+     * @param invocation the invocation
+     *
+     * @return the metrics of the invocation or {@code null} if the client has no {@link ClientMetrics}
+     */
+    public static ExchangeMetrics start(final ClientInvocation invocation) {
+        return invocation.isMetricsEnabled() ? new ExchangeMetrics(invocation) : null;
+    }
+
+    /**
+     * Records the connection phase, a connection was acquired for the request.
+     */
+    public void connected() {
+        invocation.recordMetric(ClientMetrics.Phase.CONNECTION, System.nanoTime() - start);
+    }
+
+    /**
+     * Marks the request as sent, the first byte phase starts.
+     */
+    public void sent() {
+        sent = System.nanoTime();
+    }
+
+    /**
+     * Records the first byte phase, the response headers were received.
+     */
+    public void received() {
+        final long now = System.nanoTime();
+        if (sent != 0) {
+            invocation.recordMetric(ClientMetrics.Phase.FIRST_BYTE, now - sent);
+            sent = 0;
+        }
+        start = now;
+    }
+}
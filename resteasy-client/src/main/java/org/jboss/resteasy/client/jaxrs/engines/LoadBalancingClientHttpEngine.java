@@ -0,0 +1,371 @@
+package org.jboss.resteasy.client.jaxrs.engines;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.i18n.LogMessages;
+import org.jboss.resteasy.client.jaxrs.i18n.Messages;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+
+/**
+ * A {@link ClientHttpEngine} which spreads requests over a set of equivalent endpoints and hands them to another
+ * engine.
+ * <p>
+ * The scheme and authority of every request URI are replaced with the ones of the endpoint chosen by the
+ * {@link Policy}. An endpoint which fails {@linkplain #setFailureThreshold(int) several} requests in a row, either
+ * with an exception or with a 5xx response, is taken out of rotation for the {@linkplain #setEjectionTime(Duration)
+ * ejection time}. Once that time has passed it is tried again, and a single further failure takes it out again. When
+ * every endpoint is out of rotation requests are spread over all of them.
+ * </p>
+ * <p>
+ * Requests are counted as outstanding, and their latency is measured, until the delegate engine returns the
+ * response. The URI of the invocation is restored once the delegate engine returned.
+ * </p>
+ * <p>
+ * This engine only sends synchronous requests with the delegate engine, an {@link AsyncLoadBalancingClientHttpEngine}
+ * also spreads the asynchronous ones.
+ * </p>
+ */
+public class LoadBalancingClientHttpEngine implements ClientHttpEngine {
+
+    /**
+     * Chooses the endpoint a request is sent to.
+     */
+    @FunctionalInterface
+    public interface Policy {
+
+        /**
+         * Selects one of the given endpoints.
+         *
+         * @param endpoints the endpoints in rotation, never empty
+         * @return the chosen endpoint
+         */
+        Endpoint select(List<Endpoint> endpoints);
+
+        /**
+         * Chooses the endpoint with the fewest outstanding requests.
+         *
+         * @return the policy
+         */
+        static Policy leastOutstandingRequests() {
+            return endpoints -> {
+                // start at a random position so ties do not always go to the first endpoint
+                final int size = endpoints.size();
+                final int offset = ThreadLocalRandom.current().nextInt(size);
+                Endpoint selected = null;
+                for (int i = 0; i < size; i++) {
+                    final Endpoint endpoint = endpoints.get((offset + i) % size);
+                    if (selected == null || endpoint.getOutstandingRequests() < selected.getOutstandingRequests()) {
+                        selected = endpoint;
+                    }
+                }
+                return selected;
+            };
+        }
+
+        /**
+         * Picks two endpoints at random and chooses the one with fewer outstanding requests.
+         *
+         * @return the policy
+         */
+        static Policy powerOfTwoChoices() {
+            return endpoints -> {
+                final int size = endpoints.size();
+                if (size == 1) {
+                    return endpoints.get(0);
+                }
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+                final int first = random.nextInt(size);
+                final int second = (first + 1 + random.nextInt(size - 1)) % size;
+                final Endpoint a = endpoints.get(first);
+                final Endpoint b = endpoints.get(second);
+                return a.getOutstandingRequests() <= b.getOutstandingRequests() ? a : b;
+            };
+        }
+
+        /**
+         * Chooses the endpoint with the lowest exponentially weighted moving average latency, weighted by its
+         * outstanding requests. Endpoints which have not answered yet are preferred.
+         *
+         * @return the policy
+         */
+        static Policy ewmaLatency() {
+            return endpoints -> {
+                final int size = endpoints.size();
+                final int offset = ThreadLocalRandom.current().nextInt(size);
+                Endpoint selected = null;
+                double cost = Double.MAX_VALUE;
+                for (int i = 0; i < size; i++) {
+                    final Endpoint endpoint = endpoints.get((offset + i) % size);
+                    final double c = endpoint.latency * (endpoint.getOutstandingRequests() + 1);
+                    if (selected == null || c < cost) {
+                        selected = endpoint;
+                        cost = c;
+                    }
+                }
+                return selected;
+            };
+        }
+    }
+
+    /**
+     * An endpoint requests can be sent to, along with the statistics the {@link Policy} chooses from.
+     */
+    public static final class Endpoint {
+        private static final double DECAY = 0.2;
+
+        private final URI uri;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private volatile double latency;
+        private volatile boolean ejected;
+        private volatile long ejectedUntil;
+        private int consecutiveFailures;
+
+        Endpoint(final URI uri) {
+            if (uri.getScheme() == null || uri.getRawAuthority() == null) {
+                throw new IllegalArgumentException(Messages.MESSAGES.endpointNotAbsolute(uri));
+            }
+            this.uri = uri;
+        }
+
+        /**
+         * @return the URI whose scheme and authority are used for requests sent to this endpoint
+         */
+        public URI getUri() {
+            return uri;
+        }
+
+        /**
+         * @return the number of requests sent to this endpoint which have not completed yet
+         */
+        public int getOutstandingRequests() {
+            return outstanding.get();
+        }
+
+        /**
+         * @return the exponentially weighted moving average of the latency of this endpoint
+         */
+        public Duration getLatency() {
+            return Duration.ofNanos((long) latency);
+        }
+
+        /**
+         * @return {@code false} if this endpoint is currently out of rotation
+         */
+        public boolean isAvailable() {
+            return !ejected || System.nanoTime() - ejectedUntil >= 0;
+        }
+
+        private synchronized void record(final long nanos, final boolean failed, final int failureThreshold,
+                final long ejectionNanos) {
+            latency = latency == 0 ? nanos : latency + DECAY * (nanos - latency);
+            if (!failed) {
+                consecutiveFailures = 0;
+            } else if (++consecutiveFailures >= failureThreshold) {
+                ejectedUntil = System.nanoTime() + ejectionNanos;
+                ejected = true;
+                // once back in rotation a single failure takes the endpoint out again
+                consecutiveFailures = failureThreshold - 1;
+                LogMessages.LOGGER.debugf("Taking endpoint %s out of rotation for %d ms", uri, ejectionNanos / 1_000_000L);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return uri.toString();
+        }
+    }
+
+    private final ClientHttpEngine delegate;
+    private final List<Endpoint> endpoints;
+    private final Policy policy;
+    private volatile int failureThreshold = 5;
+    private volatile long ejectionNanos = Duration.ofSeconds(30).toNanos();
+
+    /**
+     * Creates an engine which spreads requests with the {@linkplain Policy#powerOfTwoChoices() power of two choices}
+     * policy.
+     *
+     * @param delegate  the engine requests are sent with
+     * @param endpoints the endpoints to spread requests over
+     */
+    public LoadBalancingClientHttpEngine(final ClientHttpEngine delegate, final Collection<URI> endpoints) {
+        this(delegate, endpoints, Policy.powerOfTwoChoices());
+    }
+
+    /**
+     * Creates an engine which spreads requests with the given policy.
+     *
+     * @param delegate  the engine requests are sent with
+     * @param endpoints the endpoints to spread requests over
+     * @param policy    the policy which chooses the endpoint for each request
+     */
+    public LoadBalancingClientHttpEngine(final ClientHttpEngine delegate, final Collection<URI> endpoints,
+            final Policy policy) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException(Messages.MESSAGES.noEndpoints());
+        }
+        this.delegate = delegate;
+        this.policy = policy;
+        final List<Endpoint> list = new ArrayList<>(endpoints.size());
+        for (URI uri : endpoints) {
+            list.add(new Endpoint(uri));
+        }
+        this.endpoints = List.copyOf(list);
+    }
+
+    /**
+     * @return the endpoints requests are spread over
+     */
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    /**
+     * Sets the number of consecutive failed requests after which an endpoint is taken out of rotation. The default is
+     * 5.
+     *
+     * @param failureThreshold the number of consecutive failures
+     */
+    public void setFailureThreshold(final int failureThreshold) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException(Messages.MESSAGES.requiredPositiveValue("failureThreshold"));
+        }
+        this.failureThreshold = failureThreshold;
+    }
+
+    public Duration getEjectionTime() {
+        return Duration.ofNanos(ejectionNanos);
+    }
+
+    /**
+     * Sets how long an endpoint stays out of rotation. The default is 30 seconds.
+     *
+     * @param ejectionTime the time an endpoint stays out of rotation
+     */
+    public void setEjectionTime(final Duration ejectionTime) {
+        if (ejectionTime.isNegative()) {
+            throw new IllegalArgumentException(Messages.MESSAGES.requiredNonNegativeValue("ejectionTime"));
+        }
+        this.ejectionNanos = ejectionTime.toNanos();
+    }
+
+    @Override
+    public Response invoke(final Invocation request) {
+        final ClientInvocation invocation = (ClientInvocation) request;
+        final URI uri = invocation.getUri();
+        final Endpoint endpoint = start(invocation);
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            final Response response = delegate.invoke(request);
+            failed = response.getStatus() >= 500;
+            return response;
+        } finally {
+            invocation.setUri(uri);
+            complete(endpoint, start, failed);
+        }
+    }
+
+    /**
+     * Chooses the endpoint of a request, routes the request to it and counts it as outstanding.
+     *
+     * @param invocation the request
+     * @return the endpoint the request is sent to
+     */
+    Endpoint start(final ClientInvocation invocation) {
+        final Endpoint endpoint = select();
+        invocation.setUri(route(invocation.getUri(), endpoint.uri));
+        endpoint.outstanding.incrementAndGet();
+        return endpoint;
+    }
+
+    /**
+     * Completes a request sent to an endpoint.
+     *
+     * @param endpoint the endpoint the request was sent to
+     * @param start    the {@link System#nanoTime()} the request was sent at
+     * @param failed   whether the request failed with an exception or a 5xx response
+     */
+    void complete(final Endpoint endpoint, final long start, final boolean failed) {
+        endpoint.outstanding.decrementAndGet();
+        endpoint.record(System.nanoTime() - start, failed, failureThreshold, ejectionNanos);
+    }
+
+    private Endpoint select() {
+        List<Endpoint> available = endpoints;
+        for (int i = 0; i < endpoints.size(); i++) {
+            if (!endpoints.get(i).isAvailable()) {
+                available = new ArrayList<>(endpoints.size());
+                for (Endpoint endpoint : endpoints) {
+                    if (endpoint.isAvailable()) {
+                        available.add(endpoint);
+                    }
+                }
+                if (available.isEmpty()) {
+                    available = endpoints;
+                }
+                break;
+            }
+        }
+        return policy.select(available);
+    }
+
+    private static URI route(final URI uri, final URI endpoint) {
+        final StringBuilder builder = new StringBuilder()
+                .append(endpoint.getScheme())
+                .append("://")
+                .append(endpoint.getRawAuthority());
+        if (uri.getRawPath() != null) {
+            builder.append(uri.getRawPath());
+        }
+        if (uri.getRawQuery() != null) {
+            builder.append('?').append(uri.getRawQuery());
+        }
+        if (uri.getRawFragment() != null) {
+            builder.append('#').append(uri.getRawFragment());
+        }
+        return URI.create(builder.toString());
+    }
+
+    @Override
+    public SSLContext getSslContext() {
+        return delegate.getSslContext();
+    }
+
+    @Override
+    public HostnameVerifier getHostnameVerifier() {
+        return delegate.getHostnameVerifier();
+    }
+
+    @Override
+    public boolean isFollowRedirects() {
+        return delegate.isFollowRedirects();
+    }
+
+    @Override
+    public void setFollowRedirects(final boolean followRedirects) {
+        delegate.setFollowRedirects(followRedirects);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -43,7 +43,9 @@ import org.apache.http.entity.FileEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.message.BasicHeader;
+import org.apache.http.protocol.BasicHttpContext;
 import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
 import org.jboss.resteasy.client.jaxrs.i18n.LogMessages;
 import org.jboss.resteasy.client.jaxrs.i18n.Messages;
 import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
@@ -134,6 +136,8 @@ public class ManualClosingApacheHttpClient43Engine implements ApacheHttpClientEn
 
     protected boolean followRedirects = false;
 
+    protected MonitoredPoolingConnectionManager connectionPool;
+
     /**
      * For uploading File's over JAX-RS framework, this property, together with {@link #fileUploadMemoryUnit},
      * defines the maximum File size allowed in memory. If fileSize exceeds this size, it will be stored to
@@ -344,16 +348,15 @@ public class ManualClosingApacheHttpClient43Engine implements ApacheHttpClientEn
         try {
             loadHttpMethod(request, httpMethod);
 
+            final HttpContext context = createHttpContext(request);
             if (System.getSecurityManager() == null) {
-                res = httpClient.execute(httpMethod,
-                        ((httpContextProvider == null) ? null : httpContextProvider.getContext()));
+                res = httpClient.execute(httpMethod, context);
             } else {
                 try {
                     res = AccessController.doPrivileged(new PrivilegedExceptionAction<HttpResponse>() {
                         @Override
                         public HttpResponse run() throws Exception {
-                            return httpClient.execute(httpMethod,
-                                    ((httpContextProvider == null) ? null : httpContextProvider.getContext()));
+                            return httpClient.execute(httpMethod, context);
                         }
                     });
                 } catch (PrivilegedActionException pae) {
@@ -514,6 +517,18 @@ public class ManualClosingApacheHttpClient43Engine implements ApacheHttpClientEn
         this.chunked = chunked;
     }
 
+    /**
+     * @return the connection pool of the engine, or {@code null} if it was not created by
+     *         {@link ClientHttpEngineBuilder43}
+     */
+    public MonitoredPoolingConnectionManager getConnectionPool() {
+        return connectionPool;
+    }
+
+    public void setConnectionPool(final MonitoredPoolingConnectionManager connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
     @Override
     public boolean isFollowRedirects() {
         return followRedirects;
@@ -591,8 +606,26 @@ public class ManualClosingApacheHttpClient43Engine implements ApacheHttpClientEn
         return processId;
     }
 
+    /**
+     * Creates the context a request is executed with. When the client has {@link org.jboss.resteasy.client.jaxrs.ClientMetrics}
+     * the context tells the request executor of the HttpClient, if it was built by RESTEasy, which invocation the
+     * connection and first byte phases belong to.
+     */
+    private HttpContext createHttpContext(final ClientInvocation request) {
+        final HttpContext context = httpContextProvider == null ? null : httpContextProvider.getContext();
+        if (!request.isMetricsEnabled()) {
+            return context;
+        }
+        // the attributes are set on a child, the provided context may be shared
+        final HttpContext child = new BasicHttpContext(context);
+        child.setAttribute(MetricsRequestExecutor.INVOCATION, request);
+        child.setAttribute(MetricsRequestExecutor.START, System.nanoTime());
+        return child;
+    }
+
     protected HttpClient createDefaultHttpClient() {
         final HttpClientBuilder builder = HttpClientBuilder.create();
+        builder.setRequestExecutor(new MetricsRequestExecutor());
         RequestConfig.Builder requestBuilder = RequestConfig.custom();
         if (defaultProxy != null) {
             requestBuilder.setProxy(defaultProxy);
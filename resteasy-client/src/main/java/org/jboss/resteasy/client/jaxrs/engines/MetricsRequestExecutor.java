@@ -0,0 +1,69 @@
+package org.jboss.resteasy.client.jaxrs.engines;
+
+import java.io.IOException;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+import org.jboss.resteasy.client.jaxrs.ClientMetrics;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+
+/**
+ * A {@link HttpRequestExecutor} reporting the {@link ClientMetrics.Phase#CONNECTION} and
+ * {@link ClientMetrics.Phase#FIRST_BYTE} phases of the invocations sent by {@link ManualClosingApacheHttpClient43Engine}.
+ * The HttpClient calls the executor once a connection is acquired for a request, the connection phase runs from the
+ * engine handing the request to the HttpClient until then. When the HttpClient retries the request or follows a redirect
+ * the connection phase of the next exchange starts once the previous one is over.
+ */
+class MetricsRequestExecutor extends HttpRequestExecutor {
+    /**
+     * The context attribute holding the {@link ClientInvocation} a request is sent for.
+     */
+    static final String INVOCATION = MetricsRequestExecutor.class.getName() + ".invocation";
+    /**
+     * The context attribute holding the {@link System#nanoTime()} at which the engine handed the request to the
+     * HttpClient.
+     */
+    static final String START = MetricsRequestExecutor.class.getName() + ".start";
+    private static final String SENT = MetricsRequestExecutor.class.getName() + ".sent";
+
+    @Override
+    public HttpResponse execute(final HttpRequest request, final HttpClientConnection conn, final HttpContext context)
+            throws IOException, HttpException {
+        final ClientInvocation invocation = (ClientInvocation) context.getAttribute(INVOCATION);
+        final Long start = (Long) context.getAttribute(START);
+        if (invocation == null || start == null) {
+            return super.execute(request, conn, context);
+        }
+        invocation.recordMetric(ClientMetrics.Phase.CONNECTION, System.nanoTime() - start);
+        try {
+            return super.execute(request, conn, context);
+        } finally {
+            // A retry or a redirect acquires a connection again once this exchange is over
+            context.setAttribute(START, System.nanoTime());
+        }
+    }
+
+    @Override
+    protected HttpResponse doSendRequest(final HttpRequest request, final HttpClientConnection conn,
+            final HttpContext context) throws IOException, HttpException {
+        final HttpResponse response = super.doSendRequest(request, conn, context);
+        context.setAttribute(SENT, System.nanoTime());
+        return response;
+    }
+
+    @Override
+    protected HttpResponse doReceiveResponse(final HttpRequest request, final HttpClientConnection conn,
+            final HttpContext context) throws HttpException, IOException {
+        final HttpResponse response = super.doReceiveResponse(request, conn, context);
+        final ClientInvocation invocation = (ClientInvocation) context.getAttribute(INVOCATION);
+        final Long sent = (Long) context.getAttribute(SENT);
+        if (invocation != null && sent != null) {
+            invocation.recordMetric(ClientMetrics.Phase.FIRST_BYTE, System.nanoTime() - sent);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,219 @@
+package org.jboss.resteasy.client.jaxrs.engines;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.jboss.resteasy.client.jaxrs.HistogramClientMetrics;
+import org.jboss.resteasy.client.jaxrs.i18n.LogMessages;
+import org.jboss.resteasy.client.jaxrs.i18n.Messages;
+
+/**
+ * A {@link PoolingHttpClientConnectionManager} which records how long requests wait to lease a connection, per route.
+ * The leased, available and pending connections of a route are returned by {@link #getStats(HttpRoute)}.
+ * <p>
+ * In adaptive mode the maximum connections of each route are adjusted periodically: they grow while requests wait
+ * for a connection and shrink back towards the default maximum while less than half of them are leased.
+ * </p>
+ * <p>
+ * The statistics of a route are dropped once the pool drops the route, after its connections were evicted.
+ * </p>
+ */
+public class MonitoredPoolingConnectionManager extends PoolingHttpClientConnectionManager {
+
+    /**
+     * Requests waiting longer than this on average make an adaptive route grow.
+     */
+    private static final long WAIT_THRESHOLD = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final ConcurrentMap<HttpRoute, RouteMonitor> routes = new ConcurrentHashMap<>();
+    private volatile ScheduledExecutorService scheduler;
+    private volatile int adaptiveLimit;
+
+    public MonitoredPoolingConnectionManager(final Registry<ConnectionSocketFactory> registry, final long timeToLive,
+            final TimeUnit unit) {
+        super(registry, null, null, null, timeToLive, unit);
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(final HttpRoute route, final Object state) {
+        // The monitor is held before the pool knows the route, so that pruning the routes cannot drop it meanwhile
+        final RouteMonitor monitor = routes.compute(route, (r, m) -> {
+            final RouteMonitor held = m == null ? new RouteMonitor() : m;
+            held.requests.incrementAndGet();
+            return held;
+        });
+        final ConnectionRequest request;
+        try {
+            request = super.requestConnection(route, state);
+        } catch (RuntimeException e) {
+            monitor.requests.decrementAndGet();
+            throw e;
+        }
+        return new ConnectionRequest() {
+            private final AtomicBoolean done = new AtomicBoolean();
+
+            @Override
+            public HttpClientConnection get(final long timeout, final TimeUnit unit)
+                    throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                final long start = System.nanoTime();
+                try {
+                    return request.get(timeout, unit);
+                } finally {
+                    monitor.record(System.nanoTime() - start);
+                    release();
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                try {
+                    return request.cancel();
+                } finally {
+                    release();
+                }
+            }
+
+            private void release() {
+                if (done.compareAndSet(false, true)) {
+                    monitor.requests.decrementAndGet();
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the time requests waited to lease a connection to a route.
+     *
+     * @param route the route
+     * @return the histogram, or {@code null} if no connection was requested for the route since the pool last held it
+     */
+    public HistogramClientMetrics.Histogram getLeaseWait(final HttpRoute route) {
+        final RouteMonitor monitor = routes.get(route);
+        return monitor == null ? null : monitor.leaseWait;
+    }
+
+    /**
+     * Periodically adjusts the maximum connections per route between the default maximum per route and the limit.
+     * <p>
+     * The connections of all the routes are also bounded by {@link #getMaxTotal()}, which is not changed: a route does
+     * not grow beyond it, so the total must be raised as well for a limit above it to be reached.
+     * </p>
+     *
+     * @param limit    the upper bound of the maximum connections of a route
+     * @param interval the time between two adjustments
+     */
+    public synchronized void enableAdaptiveSizing(final int limit, final Duration interval) {
+        if (limit < getDefaultMaxPerRoute()) {
+            throw new IllegalArgumentException(Messages.MESSAGES.adaptiveLimitTooLow());
+        }
+        adaptiveLimit = limit;
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, "resteasy-connection-pool-sizing");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::adjust, interval.toMillis(), interval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isAdaptiveSizing() {
+        return scheduler != null;
+    }
+
+    private void adjust() {
+        try {
+            pruneRoutes();
+            final int min = getDefaultMaxPerRoute();
+            final int limit = Math.min(adaptiveLimit, Math.max(min, getMaxTotal()));
+            for (HttpRoute route : getRoutes()) {
+                final RouteMonitor monitor = routes.get(route);
+                if (monitor == null) {
+                    continue;
+                }
+                final long leases = monitor.leases.sumThenReset();
+                final long waited = monitor.waited.sumThenReset();
+                final PoolStats stats = getStats(route);
+                final int max = stats.getMax();
+                int next = max;
+                if (stats.getPending() > 0 || (leases > 0 && waited / leases > WAIT_THRESHOLD)) {
+                    next = Math.min(limit, max + Math.max(1, max / 4));
+                } else if (stats.getLeased() < max / 2) {
+                    next = Math.max(min, max - 1);
+                }
+                if (next != max) {
+                    LogMessages.LOGGER.debugf("Changing the maximum connections of route %s from %d to %d", route, max, next);
+                    setMaxPerRoute(route, next);
+                }
+            }
+        } catch (RuntimeException e) {
+            LogMessages.LOGGER.debugf(e, "Failed to adjust the connection pool %s", this);
+        }
+    }
+
+    @Override
+    public void closeExpiredConnections() {
+        super.closeExpiredConnections();
+        pruneRoutes();
+    }
+
+    @Override
+    public void closeIdleConnections(final long idleTimeout, final TimeUnit unit) {
+        super.closeIdleConnections(idleTimeout, unit);
+        pruneRoutes();
+    }
+
+    /**
+     * Drops the statistics of the routes the pool no longer holds, it drops a route once its connections are closed.
+     * The statistics of a route a connection is being requested for are kept.
+     */
+    private void pruneRoutes() {
+        final Set<HttpRoute> held = getRoutes();
+        for (HttpRoute route : routes.keySet()) {
+            if (!held.contains(route)) {
+                routes.computeIfPresent(route, (r, monitor) -> monitor.requests.get() == 0 ? null : monitor);
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        final ScheduledExecutorService s = scheduler;
+        if (s != null) {
+            s.shutdownNow();
+        }
+        super.shutdown();
+    }
+
+    private static class RouteMonitor {
+        private final HistogramClientMetrics.Histogram leaseWait = new HistogramClientMetrics.Histogram();
+        private final LongAdder leases = new LongAdder();
+        private final LongAdder waited = new LongAdder();
+        // the connection requests which were not completed yet
+        private final AtomicInteger requests = new AtomicInteger();
+
+        void record(final long nanos) {
+            leaseWait.record(nanos);
+            leases.increment();
+            waited.add(nanos);
+        }
+    }
+}
@@ -2,7 +2,12 @@ package org.jboss.resteasy.client.jaxrs.engines;
 
 import java.util.concurrent.CompletionStage;
 
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.core.GenericType;
+
+import org.jboss.resteasy.client.jaxrs.i18n.Messages;
 import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
 import org.reactivestreams.Publisher;
 
 public interface ReactiveClientHttpEngine extends AsyncClientHttpEngine {
@@ -13,6 +18,26 @@ public interface ReactiveClientHttpEngine extends AsyncClientHttpEngine {
             boolean buffered,
             ResultExtractor<T> extractor);
 
+    /**
+     * Streams the elements of a newline delimited JSON or server-sent events response as they are received. The
+     * {@code responseFilter} is applied to the status and headers of the response before any element is read, the
+     * entity of the response it is given is empty unless the status is an error.
+     *
+     * @param request        the request to send
+     * @param elementType    the type of the elements
+     * @param responseFilter applies the client response filters
+     * @param <T>            the type of the elements
+     *
+     * @return the elements of the response
+     *
+     * @since 7.0
+     */
+    default <T> Publisher<T> submitStream(ClientInvocation request,
+            GenericType<T> elementType,
+            ResultExtractor<ClientResponse> responseFilter) {
+        return error(new ProcessingException(Messages.MESSAGES.streamingNotSupported(getClass().getName())));
+    }
+
     <T> Publisher<T> fromCompletionStage(CompletionStage<T> cs);
 
     <T> Publisher<T> just(T t);
@@ -1,6 +1,5 @@
 package org.jboss.resteasy.client.jaxrs.engines;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -23,6 +22,7 @@ import org.jboss.resteasy.client.jaxrs.i18n.Messages;
 import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
 import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
 import org.jboss.resteasy.client.jaxrs.internal.FinalizedClientResponse;
+import org.jboss.resteasy.spi.EntityOutputStream;
 import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
 import org.jboss.resteasy.util.CaseInsensitiveMap;
 
@@ -179,18 +179,26 @@ public class URLConnectionEngine implements ClientHttpEngine {
             if (request.getMethod().equals("GET"))
                 throw new ProcessingException(Messages.MESSAGES.getRequestCannotHaveBody());
 
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            request.getDelegatingOutputStream().setDelegate(baos);
-            try {
-
+            // Writers may change headers, so the entity is buffered before the headers are committed. Entities larger
+            // than the entity memory threshold are buffered in a temporary file.
+            try (EntityOutputStream entityStream = new EntityOutputStream()) {
+                request.getDelegatingOutputStream().setDelegate(entityStream);
                 request.writeRequestBody(request.getEntityStream());
-                baos.close();
+                entityStream.close();
                 commitHeaders(request, connection);
                 connection.setDoOutput(true);
-                OutputStream os = connection.getOutputStream();
-                os.write(baos.toByteArray());
-                os.flush();
-                os.close();
+                if (request.isChunked()) {
+                    connection.setChunkedStreamingMode(0);
+                } else {
+                    // Without a streaming mode HttpURLConnection buffers the whole entity in memory again
+                    connection.setFixedLengthStreamingMode(entityStream.getContentLength());
+                }
+                try (
+                        InputStream in = entityStream.toInputStream();
+                        OutputStream os = connection.getOutputStream()) {
+                    in.transferTo(os);
+                    os.flush();
+                }
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
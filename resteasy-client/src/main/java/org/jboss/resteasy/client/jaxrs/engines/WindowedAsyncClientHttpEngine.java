@@ -0,0 +1,261 @@
+package org.jboss.resteasy.client.jaxrs.engines;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.InvocationCallback;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.client.jaxrs.i18n.Messages;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
+
+/**
+ * An {@link AsyncClientHttpEngine} which limits the number of requests in flight to each host and queues the others
+ * until a response is received.
+ * <p>
+ * Bursts of small asynchronous requests, for example from proxy methods returning a
+ * {@link java.util.concurrent.CompletionStage}, are then spread over the connections of the delegate engine instead
+ * of opening a new connection per request. Paired with an engine using HTTP/2, such as the Vert.x, Jetty or Reactor
+ * Netty engines configured for it, the window can match the concurrent streams of one multiplexed connection. No
+ * thread is blocked while a request waits in the queue.
+ * </p>
+ * <p>
+ * A request leaves the window when the delegate engine completes it, which for unbuffered responses is when the
+ * response headers have been received, or when the returned future is cancelled. The window of a host is dropped once it has no
+ * request in flight or queued.
+ * </p>
+ */
+public class WindowedAsyncClientHttpEngine implements AsyncClientHttpEngine {
+
+    private final AsyncClientHttpEngine delegate;
+    private final int window;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new engine.
+     *
+     * @param delegate the engine requests are sent with
+     * @param window   the maximum number of requests in flight to one host
+     */
+    public WindowedAsyncClientHttpEngine(final AsyncClientHttpEngine delegate, final int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException(Messages.MESSAGES.requiredPositiveValue("window"));
+        }
+        this.delegate = delegate;
+        this.window = window;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+
+    /**
+     * Returns the number of requests to the host of the URI which are waiting for a place in the window.
+     *
+     * @param uri the URI of a request
+     * @return the number of queued requests
+     */
+    public int getQueued(final URI uri) {
+        final Window w = windows.get(key(uri));
+        return w == null ? 0 : w.queued();
+    }
+
+    /**
+     * Returns the number of hosts with requests in flight or queued.
+     *
+     * @return the number of hosts
+     */
+    public int getHosts() {
+        return windows.size();
+    }
+
+    @Override
+    public <T> Future<T> submit(final ClientInvocation request, final boolean buffered,
+            final InvocationCallback<T> callback, final ResultExtractor<T> extractor) {
+        final CompletableFuture<T> result = submit(request, buffered, extractor, null);
+        if (callback != null) {
+            // the callbacks are attached to the returned future so that cancelling it reaches the request
+            result.whenComplete((value, error) -> {
+                if (error != null)
+                    callback.failed(error);
+                else
+                    callback.completed(value);
+            });
+        }
+        return result;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(final ClientInvocation request, final boolean buffered,
+            final ResultExtractor<T> extractor, final ExecutorService executorService) {
+        final String key = key(request.getUri());
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        Window w;
+        do {
+            w = windows.computeIfAbsent(key, Window::new);
+        } while (!enqueue(w, request, buffered, extractor, executorService, result));
+        return result;
+    }
+
+    /**
+     * Queues a request in a window.
+     *
+     * @return {@code false} if the window was dropped meanwhile and the request was not queued
+     */
+    private <T> boolean enqueue(final Window w, final ClientInvocation request, final boolean buffered,
+            final ResultExtractor<T> extractor, final ExecutorService executorService, final CompletableFuture<T> result) {
+        return w.execute(() -> {
+            if (result.isDone()) {
+                // cancelled while queued
+                w.release();
+                return;
+            }
+            final CompletableFuture<T> future;
+            try {
+                future = delegate.submit(request, buffered, extractor, executorService);
+            } catch (RuntimeException e) {
+                w.release();
+                result.completeExceptionally(e);
+                return;
+            }
+            future.whenComplete((value, error) -> {
+                w.release();
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else if (!result.complete(value) && value instanceof Response) {
+                    ((Response) value).close();
+                }
+            });
+            // cancelling the request in flight cancels it in the delegate engine, which frees its place
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    future.cancel(true);
+                }
+            });
+        });
+    }
+
+    @Override
+    public Response invoke(final Invocation request) {
+        final Future<ClientResponse> future = submit((ClientInvocation) request, false, response -> response, null);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ProcessingException(cause);
+        }
+    }
+
+    @Override
+    public SSLContext getSslContext() {
+        return delegate.getSslContext();
+    }
+
+    @Override
+    public HostnameVerifier getHostnameVerifier() {
+        return delegate.getHostnameVerifier();
+    }
+
+    @Override
+    public boolean isFollowRedirects() {
+        return delegate.isFollowRedirects();
+    }
+
+    @Override
+    public void setFollowRedirects(final boolean followRedirects) {
+        delegate.setFollowRedirects(followRedirects);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private static String key(final URI uri) {
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+
+    private class Window {
+        private final String key;
+        private final Queue<Runnable> queue = new ArrayDeque<>();
+        private int inFlight;
+        private boolean draining;
+        private boolean dropped;
+
+        Window(final String key) {
+            this.key = key;
+        }
+
+        boolean execute(final Runnable task) {
+            synchronized (this) {
+                if (dropped) {
+                    return false;
+                }
+                queue.add(task);
+                if (draining) {
+                    return true;
+                }
+                draining = true;
+            }
+            drain();
+            return true;
+        }
+
+        void release() {
+            synchronized (this) {
+                inFlight--;
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            drain();
+        }
+
+        // Runs queued tasks in a loop rather than recursively, since a task may complete, and release its place,
+        // on the calling thread.
+        private void drain() {
+            for (;;) {
+                final Runnable next;
+                synchronized (this) {
+                    if (inFlight >= window || queue.isEmpty()) {
+                        draining = false;
+                        // an idle window is dropped, a request racing with it is queued in a new one
+                        dropped = inFlight == 0;
+                        break;
+                    }
+                    next = queue.poll();
+                    inFlight++;
+                }
+                next.run();
+            }
+            if (dropped) {
+                windows.remove(key, this);
+            }
+        }
+
+        synchronized int queued() {
+            return queue.size();
+        }
+    }
+}
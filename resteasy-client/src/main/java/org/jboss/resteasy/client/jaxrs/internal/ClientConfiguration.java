@@ -3,7 +3,9 @@ package org.jboss.resteasy.client.jaxrs.internal;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Type;
+import java.util.AbstractMap;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
@@ -38,7 +40,11 @@ import org.jboss.resteasy.spi.interception.JaxrsInterceptorRegistry;
  * @version $Revision: 1 $
  */
 public class ClientConfiguration implements Configuration, Configurable<ClientConfiguration>, Providers, HeaderValueProcessor {
-    protected ResteasyProviderFactory providerFactory;
+    // Replaced by a copy when a shared factory is first modified, which may happen on another thread than the reads
+    protected volatile ResteasyProviderFactory providerFactory;
+    // Indicates the provider factory may be referenced by another configuration and must be copied before it is modified
+    private volatile boolean shared;
+    private Map<String, Object> mutableProperties;
 
     public ClientConfiguration(final ResteasyProviderFactory factory) {
         if (factory instanceof ThreadLocalResteasyProviderFactory) {
@@ -49,14 +55,22 @@ public class ClientConfiguration implements Configuration, Configurable<ClientCo
         }
     }
 
+    /**
+     * Creates a configuration which inherits the state of the parent. The parent's provider factory is shared until
+     * either configuration is modified, at which point the modified configuration makes its own copy. This allows a
+     * web target or an invocation to be created without copying the providers of the client.
+     *
+     * @param parent the configuration to inherit from
+     */
     public ClientConfiguration(final ClientConfiguration parent) {
-        this(parent.getProviderFactory());
-        setProperties(parent.getProperties());
+        parent.shared = true;
+        this.providerFactory = parent.providerFactory;
+        this.shared = true;
     }
 
     public void setProperties(Map<String, Object> newProps) {
         if (newProps != null && !newProps.isEmpty()) {
-            providerFactory.setProperties(newProps);
+            writableProviderFactory().setProperties(newProps);
         }
     }
 
@@ -64,8 +78,35 @@ public class ClientConfiguration implements Configuration, Configurable<ClientCo
         return providerFactory;
     }
 
+    /**
+     * Returns the provider factory to be modified, copying the factory first if it is shared with another
+     * configuration.
+     *
+     * @return a provider factory which is owned by this configuration
+     */
+    private ResteasyProviderFactory writableProviderFactory() {
+        if (shared) {
+            synchronized (this) {
+                if (shared) {
+                    providerFactory = new LocalResteasyProviderFactory(providerFactory);
+                    shared = false;
+                }
+            }
+        }
+        return providerFactory;
+    }
+
+    /**
+     * Returns a mutable view of the properties. Modifying the returned map does not affect any configuration this
+     * configuration shares its state with.
+     *
+     * @return a mutable view of the properties
+     */
     public Map<String, Object> getMutableProperties() {
-        return providerFactory.getMutableProperties();
+        if (mutableProperties == null) {
+            mutableProperties = new MutableProperties();
+        }
+        return mutableProperties;
     }
 
     /**
@@ -170,31 +211,31 @@ public class ClientConfiguration implements Configuration, Configurable<ClientCo
 
     @Override
     public ClientConfiguration register(Class<?> providerClass) {
-        providerFactory.register(providerClass);
+        writableProviderFactory().register(providerClass);
         return this;
     }
 
     @Override
     public ClientConfiguration register(Object provider) {
-        providerFactory.register(provider);
+        writableProviderFactory().register(provider);
         return this;
     }
 
     @Override
     public ClientConfiguration register(Class<?> providerClass, int priority) {
-        providerFactory.register(providerClass, priority);
+        writableProviderFactory().register(providerClass, priority);
         return this;
     }
 
     @Override
     public ClientConfiguration register(Object provider, int Priority) {
-        providerFactory.register(provider, Priority);
+        writableProviderFactory().register(provider, Priority);
         return this;
     }
 
     @Override
     public ClientConfiguration property(String name, Object value) {
-        providerFactory.property(name, value);
+        writableProviderFactory().property(name, value);
         return this;
     }
 
@@ -205,25 +246,25 @@ public class ClientConfiguration implements Configuration, Configurable<ClientCo
 
     @Override
     public ClientConfiguration register(Class<?> componentClass, Class<?>... contracts) {
-        providerFactory.register(componentClass, contracts);
+        writableProviderFactory().register(componentClass, contracts);
         return this;
     }
 
     @Override
     public ClientConfiguration register(Class<?> componentClass, Map<Class<?>, Integer> contracts) {
-        providerFactory.register(componentClass, contracts);
+        writableProviderFactory().register(componentClass, contracts);
         return this;
     }
 
     @Override
     public ClientConfiguration register(Object component, Class<?>... contracts) {
-        providerFactory.register(component, contracts);
+        writableProviderFactory().register(component, contracts);
         return this;
     }
 
     @Override
     public ClientConfiguration register(Object component, Map<Class<?>, Integer> contracts) {
-        providerFactory.register(component, contracts);
+        writableProviderFactory().register(component, contracts);
         return this;
     }
 
@@ -275,6 +316,60 @@ public class ClientConfiguration implements Configuration, Configurable<ClientCo
     }
 
     public void addHeaderDelegate(Class<?> clazz, HeaderDelegate header) {
-        providerFactory.addHeaderDelegate(clazz, header);
+        writableProviderFactory().addHeaderDelegate(clazz, header);
+    }
+
+    /**
+     * A view of the properties which only copies the provider factory when the properties are modified. The
+     * {@linkplain #entrySet() entry set} and the views derived from it are read-only.
+     */
+    private class MutableProperties extends AbstractMap<String, Object> {
+
+        @Override
+        public Object get(final Object key) {
+            return providerFactory.getMutableProperties().get(key);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return providerFactory.getMutableProperties().containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return providerFactory.getMutableProperties().size();
+        }
+
+        @Override
+        public Object put(final String key, final Object value) {
+            return writableProviderFactory().getMutableProperties().put(key, value);
+        }
+
+        @Override
+        public Object remove(final Object key) {
+            if (!containsKey(key)) {
+                return null;
+            }
+            return writableProviderFactory().getMutableProperties().remove(key);
+        }
+
+        @Override
+        public void putAll(final Map<? extends String, ?> m) {
+            if (!m.isEmpty()) {
+                writableProviderFactory().getMutableProperties().putAll(m);
+            }
+        }
+
+        @Override
+        public void clear() {
+            if (!isEmpty()) {
+                writableProviderFactory().getMutableProperties().clear();
+            }
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return Collections.unmodifiableMap(providerFactory.getMutableProperties()).entrySet();
+        }
     }
 }
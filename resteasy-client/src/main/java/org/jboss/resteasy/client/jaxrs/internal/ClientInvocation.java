@@ -10,6 +10,7 @@ import java.net.URI;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -46,6 +47,7 @@ import jakarta.ws.rs.ext.WriterInterceptor;
 
 import org.jboss.resteasy.client.exception.WebApplicationExceptionWrapper;
 import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.ClientMetrics;
 import org.jboss.resteasy.client.jaxrs.ResteasyClient;
 import org.jboss.resteasy.client.jaxrs.engines.AsyncClientHttpEngine;
 import org.jboss.resteasy.client.jaxrs.engines.AsyncClientHttpEngine.ResultExtractor;
@@ -57,6 +59,8 @@ import org.jboss.resteasy.core.ResteasyContext;
 import org.jboss.resteasy.core.ResteasyContext.CloseableContext;
 import org.jboss.resteasy.core.interception.jaxrs.AbstractWriterInterceptorContext;
 import org.jboss.resteasy.core.interception.jaxrs.ClientWriterInterceptorContext;
+import org.jboss.resteasy.jfr.ClientInvocationEvent;
+import org.jboss.resteasy.jfr.Events;
 import org.jboss.resteasy.plugins.providers.sse.EventInput;
 import org.jboss.resteasy.specimpl.MultivaluedTreeMap;
 import org.jboss.resteasy.spi.util.Types;
@@ -101,6 +105,10 @@ public class ClientInvocation implements Invocation {
 
     protected OutputStream entityStream = delegatingOutputStream;
 
+    private InvocationMetrics invocationMetrics;
+
+    private boolean invocationMetricsResolved;
+
     public ClientInvocation(final ResteasyClient client, final URI uri, final ClientRequestHeaders headers,
             final ClientConfiguration parent) {
         this.uri = uri;
@@ -419,18 +427,33 @@ public class ClientInvocation implements Invocation {
 
     @Override
     public ClientResponse invoke() {
+        final ClientInvocationEvent event = Events.clientInvocation();
+        event.begin();
+        int status = 0;
         try (CloseableContext ctx = pushProvidersContext()) {
+            final InvocationMetrics metrics = invocationMetrics();
+            long start = metrics == null ? 0 : System.nanoTime();
             ClientRequestContextImpl requestContext = new ClientRequestContextImpl(this);
             ClientResponse aborted = filterRequest(requestContext);
+            if (metrics != null) {
+                start = metrics.record(ClientMetrics.Phase.REQUEST_FILTERS, start);
+            }
 
             // spec requires that aborted response go through filter/interceptor chains.
             ClientResponse response = (aborted != null) ? aborted : (ClientResponse) client.httpEngine().invoke(this);
-            return filterResponse(requestContext, response);
+            if (metrics != null && aborted == null) {
+                metrics.record(ClientMetrics.Phase.EXCHANGE, start);
+            }
+            final ClientResponse filtered = filterResponse(requestContext, response);
+            status = filtered.getStatus();
+            return filtered;
         } catch (ResponseProcessingException e) {
             if (e.getResponse() != null) {
                 e.getResponse().close();
             }
             throw e;
+        } finally {
+            event.end(method, uri, status, false);
         }
     }
 
@@ -552,7 +575,7 @@ public class ClientInvocation implements Invocation {
         }
     }
 
-    class ReactiveInvocation {
+    public class ReactiveInvocation {
         private final ReactiveClientHttpEngine reactiveEngine;
 
         ReactiveInvocation(final ReactiveClientHttpEngine reactiveEngine) {
@@ -571,24 +594,62 @@ public class ClientInvocation implements Invocation {
             return doSubmitRx(getGenericTypeExtractor(responseType), true);
         }
 
+        /**
+         * Streams the elements of a newline delimited JSON or server-sent events response as they are received, if
+         * the engine supports it. The client request and response filters are applied, the response filters before
+         * any element is read.
+         *
+         * @param elementType the type of the elements
+         * @param <T>         the type of the elements
+         *
+         * @return the elements of the response
+         *
+         * @since 7.0
+         */
+        public <T> Publisher<T> stream(final Class<T> elementType) {
+            return stream(new GenericType<>(elementType));
+        }
+
+        /**
+         * Streams the elements of a newline delimited JSON or server-sent events response as they are received, if
+         * the engine supports it. The client request and response filters are applied, the response filters before
+         * any element is read.
+         *
+         * @param elementType the type of the elements
+         * @param <T>         the type of the elements
+         *
+         * @return the elements of the response
+         *
+         * @since 7.0
+         */
+        public <T> Publisher<T> stream(final GenericType<T> elementType) {
+            return rxSubmit(
+                    reactiveEngine,
+                    filter -> reactiveEngine.submitStream(ClientInvocation.this, elementType, filter),
+                    getGenericTypeExtractor(elementType),
+                    response -> response);
+        }
+
         private <T> Publisher<T> doSubmitRx(ResultExtractor<T> extractor, boolean buffered) {
             return rxSubmit(
                     reactiveEngine,
                     getPublisherExtractorFunction(buffered),
+                    extractor,
                     extractor);
         }
 
-        private <T> Publisher<T> rxSubmit(
+        private <T, R> Publisher<T> rxSubmit(
                 final ReactiveClientHttpEngine reactiveEngine,
-                final Function<ResultExtractor<T>, Publisher<T>> asyncHttpEngineSubmitFn,
-                final ResultExtractor<T> extractor) {
+                final Function<ResultExtractor<R>, Publisher<T>> asyncHttpEngineSubmitFn,
+                final ResultExtractor<T> abortedExtractor,
+                final ResultExtractor<R> extractor) {
             final ClientRequestContextImpl requestContext = new ClientRequestContextImpl(ClientInvocation.this);
             try (CloseableContext ctx = pushProvidersContext()) {
                 ClientResponse aborted = filterRequest(requestContext);
                 if (aborted != null) {
                     // spec requires that aborted response go through filter/interceptor chains.
                     aborted = filterResponse(requestContext, aborted);
-                    T result = extractor.extractResult(aborted);
+                    T result = abortedExtractor.extractResult(aborted);
                     return reactiveEngine.just(result);
                 }
             } catch (Exception ex) {
@@ -657,7 +718,10 @@ public class ClientInvocation implements Invocation {
     }
 
     protected ClientResponse filterResponse(ClientRequestContextImpl requestContext, ClientResponse response) {
+        final InvocationMetrics metrics = invocationMetrics();
+        final long start = metrics == null ? 0 : System.nanoTime();
         response.setProperties(configuration.getMutableProperties());
+        response.setInvocationMetrics(metrics);
 
         ClientResponseFilter[] responseFilters = getResponseFilters();
         if (responseFilters != null && responseFilters.length > 0) {
@@ -672,14 +736,66 @@ public class ClientInvocation implements Invocation {
                 }
             }
         }
+        if (metrics != null) {
+            metrics.record(ClientMetrics.Phase.RESPONSE_FILTERS, start);
+        }
         return response;
     }
 
+    /**
+     * Whether the client has {@link ClientMetrics}, in which case engines which can observe the
+     * {@link ClientMetrics.Phase#CONNECTION} and {@link ClientMetrics.Phase#FIRST_BYTE} phases report them with
+     * {@link #recordMetric(ClientMetrics.Phase, long)}.
+     *
+     * @return {@code true} if the phases of this invocation are recorded
+     */
+    public boolean isMetricsEnabled() {
+        return invocationMetrics() != null;
+    }
+
+    /**
+     * Records the duration of a phase of this invocation to the {@link ClientMetrics} of the client, if any.
+     *
+     * @param phase the phase
+     * @param nanos the duration in nanoseconds
+     */
+    public void recordMetric(final ClientMetrics.Phase phase, final long nanos) {
+        final InvocationMetrics metrics = invocationMetrics();
+        if (metrics != null) {
+            metrics.recordDuration(phase, nanos);
+        }
+    }
+
+    /**
+     * The recorder is resolved once, by the first phase of the invocation.
+     *
+     * @return the recorder of the {@link ClientMetrics} of the client, or {@code null} if none is configured
+     */
+    InvocationMetrics invocationMetrics() {
+        if (!invocationMetricsResolved) {
+            final Object metrics = configuration.getProperty(ClientMetrics.PROPERTY);
+            if (metrics instanceof ClientMetrics) {
+                // targets other than proxy templates are keyed by host, so that paths holding identifiers do not
+                // create a histogram per call
+                final String target = clientInvoker != null ? clientInvoker.getTemplate()
+                        : uri.getScheme() + "://" + uri.getRawAuthority();
+                invocationMetrics = new InvocationMetrics((ClientMetrics) metrics, method, target);
+            }
+            invocationMetricsResolved = true;
+        }
+        return invocationMetrics;
+    }
+
     private <T> CompletionStage<T> submitRequest(final ResultExtractor<T> extractor, final boolean buffered) {
         final ClientRequestContextImpl requestContext = new ClientRequestContextImpl(this);
+        final InvocationMetrics metrics = invocationMetrics();
         return CompletableFuture.supplyAsync(() -> {
             try (CloseableContext ctx = pushProvidersContext()) {
+                final long start = metrics == null ? 0 : System.nanoTime();
                 ClientResponse aborted = filterRequest(requestContext);
+                if (metrics != null) {
+                    metrics.record(ClientMetrics.Phase.REQUEST_FILTERS, start);
+                }
                 if (aborted != null) {
                     // spec requires that aborted response go through filter/interceptor chains.
                     aborted = filterResponse(requestContext, aborted);
@@ -692,15 +808,25 @@ public class ClientInvocation implements Invocation {
                     if (aborted != null) {
                         return CompletableFuture.completedFuture(aborted);
                     }
-                    final ResultExtractor<T> wrapped = (response) -> extractor
-                            .extractResult(filterResponse(requestContext, response));
+                    final long start = metrics == null ? 0 : System.nanoTime();
+                    final ClientInvocationEvent event = Events.clientInvocation();
+                    event.begin();
+                    final ResultExtractor<T> wrapped = (response) -> {
+                        if (metrics != null) {
+                            metrics.record(ClientMetrics.Phase.EXCHANGE, start);
+                        }
+                        final ClientResponse filtered = filterResponse(requestContext, response);
+                        event.end(method, uri, filtered.getStatus(), true);
+                        return extractor.extractResult(filtered);
+                    };
                     return ((AsyncClientHttpEngine) client.httpEngine()).submit(ClientInvocation.this, buffered, wrapped);
                 });
     }
 
     private <T> CompletableFuture<T> executorSubmit(ExecutorService executor, final InvocationCallback<T> callback,
             final ResultExtractor<T> extractor) {
-        return CompletableFuture.supplyAsync(() -> {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        CompletableFuture.runAsync(() -> {
             // FIXME: why does this have no context?
             // ensure the future and the callback see the same result
             ClientResponse response = null;
@@ -708,15 +834,19 @@ public class ClientInvocation implements Invocation {
                 response = invoke(); // does filtering too
                 T result = extractor.extractResult(response);
                 callCompletedNoThrow(callback, result);
-                return result;
+                if (!future.complete(result) && callback == null && result instanceof Response) {
+                    // the future was cancelled, nobody else will close the response
+                    response.close();
+                }
             } catch (Exception e) {
                 callFailedNoThrow(callback, e);
-                throw e;
+                future.completeExceptionally(e instanceof CompletionException ? e : new CompletionException(e));
             } finally {
                 if (response != null && callback != null)
                     response.close();
             }
         }, executor);
+        return future;
     }
 
     private static <T> void callCompletedNoThrow(InvocationCallback<T> callback, T result) {
@@ -14,6 +14,8 @@ import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.ext.Providers;
 import jakarta.ws.rs.ext.ReaderInterceptor;
 
+import org.jboss.resteasy.client.jaxrs.ClientMetrics;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
 import org.jboss.resteasy.client.jaxrs.i18n.Messages;
 import org.jboss.resteasy.core.Headers;
 import org.jboss.resteasy.core.ProvidersContextRetainer;
@@ -25,6 +27,7 @@ import org.jboss.resteasy.specimpl.AbstractBuiltResponse;
 import org.jboss.resteasy.specimpl.BuiltResponse;
 import org.jboss.resteasy.spi.HeaderValueProcessor;
 import org.jboss.resteasy.spi.MarshalledEntity;
+import org.jboss.resteasy.spi.PassThroughResponse;
 import org.jboss.resteasy.spi.util.Types;
 import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
 import org.jboss.resteasy.util.HttpHeaderNames;
@@ -36,11 +39,12 @@ import org.reactivestreams.Publisher;
  * @author <a href="mailto:bill@burkecentral.com">Bill Burke</a>
  * @version $Revision: 1 $
  */
-public abstract class ClientResponse extends BuiltResponse {
+public abstract class ClientResponse extends BuiltResponse implements PassThroughResponse {
     // One thing to note, I don't cache header objects because I was too lazy to proxy the headers multivalued map
     protected Map<String, Object> properties;
     protected ClientConfiguration configuration;
     protected RESTEasyTracingLogger tracingLogger;
+    private InvocationMetrics invocationMetrics;
 
     @Deprecated
     protected ClientResponse(final ClientConfiguration configuration) {
@@ -67,6 +71,10 @@ public abstract class ClientResponse extends BuiltResponse {
         return properties;
     }
 
+    void setInvocationMetrics(final InvocationMetrics invocationMetrics) {
+        this.invocationMetrics = invocationMetrics;
+    }
+
     public void setClientConfiguration(ClientConfiguration configuration) {
         this.configuration = configuration;
         this.processor = configuration;
@@ -90,6 +98,18 @@ public abstract class ClientResponse extends BuiltResponse {
         return entity;
     }
 
+    @Override
+    public synchronized InputStream getPassThroughStream() {
+        if (isClosed() || entity != null || bufferedEntity != null || streamFullyRead) {
+            return null;
+        }
+        final Object passThrough = configuration.getProperty(ResteasyClientBuilder.PROPERTY_PASS_THROUGH);
+        if (passThrough == null || !Boolean.parseBoolean(String.valueOf(passThrough))) {
+            return null;
+        }
+        return getEntityStream();
+    }
+
     @Override
     public Class<?> getEntityClass() {
         Class<?> classs = super.getEntityClass();
@@ -185,6 +205,7 @@ public abstract class ClientResponse extends BuiltResponse {
             final Object finalObj;
 
             final long timestamp = tracingLogger.timestamp("RI_SUMMARY");
+            final long start = invocationMetrics == null ? 0 : System.nanoTime();
             AbstractReaderInterceptorContext context = new ClientReaderInterceptorContext(readerInterceptors,
                     configuration.getProviderFactory(), useType,
                     useGeneric, annotations, media, getStringHeaders(), is, properties, tracingLogger);
@@ -193,6 +214,9 @@ public abstract class ClientResponse extends BuiltResponse {
                 obj = finalObj;
             } finally {
                 tracingLogger.logDuration("RI_SUMMARY", timestamp, context.getProcessedInterceptorCount());
+                if (invocationMetrics != null) {
+                    invocationMetrics.record(ClientMetrics.Phase.ENTITY_READ, start);
+                }
             }
 
             if (isMarshalledEntity) {
@@ -28,6 +28,9 @@ public class ClientWebTarget implements ResteasyWebTarget {
     protected UriBuilder uriBuilder;
     protected ClientConfiguration configuration;
     protected boolean chunked = false;
+    // The URI builder of a target is never modified, so the URI is only built once. A subclass may modify or replace
+    // the protected builder, so its URI is not cached.
+    private volatile URI uri;
 
     protected ClientWebTarget(final ResteasyClient client, final ClientConfiguration configuration) {
         this.configuration = new ClientConfiguration(configuration);
@@ -102,7 +105,18 @@ public class ClientWebTarget implements ResteasyWebTarget {
     @Override
     public URI getUri() {
         client.abortIfClosed();
-        return uriBuilder.build();
+        return buildUri();
+    }
+
+    private URI buildUri() {
+        if (getClass() != ClientWebTarget.class) {
+            return uriBuilder.build();
+        }
+        URI result = uri;
+        if (result == null) {
+            uri = result = uriBuilder.build();
+        }
+        return result;
     }
 
     @Override
@@ -337,14 +351,26 @@ public class ClientWebTarget implements ResteasyWebTarget {
         return newInstance(client, copy, configuration);
     }
 
+    /**
+     * Creates a new target. The URI builder has already been copied from this target's builder and is owned by the
+     * new target, so it is not copied again.
+     *
+     * @param client        the client
+     * @param uriBuilder    the URI builder for the new target
+     * @param configuration the configuration the new target inherits from
+     *
+     * @return the new target
+     */
     protected ClientWebTarget newInstance(ResteasyClient client, UriBuilder uriBuilder, ClientConfiguration configuration) {
-        return new ClientWebTarget(client, uriBuilder, configuration);
+        final ClientWebTarget target = new ClientWebTarget(client, configuration);
+        target.uriBuilder = uriBuilder;
+        return target;
     }
 
     @Override
     public Invocation.Builder request() {
         client.abortIfClosed();
-        ClientInvocationBuilder builder = createClientInvocationBuilder(client, uriBuilder.build(), configuration);
+        ClientInvocationBuilder builder = createClientInvocationBuilder(client, buildUri(), configuration);
         builder.setChunked(chunked);
         builder.setTarget(this);
         return builder;
@@ -353,7 +379,7 @@ public class ClientWebTarget implements ResteasyWebTarget {
     @Override
     public Invocation.Builder request(String... acceptedResponseTypes) {
         client.abortIfClosed();
-        ClientInvocationBuilder builder = createClientInvocationBuilder(client, uriBuilder.build(), configuration);
+        ClientInvocationBuilder builder = createClientInvocationBuilder(client, buildUri(), configuration);
         builder.getHeaders().accept(acceptedResponseTypes);
         builder.setChunked(chunked);
         builder.setTarget(this);
@@ -363,7 +389,7 @@ public class ClientWebTarget implements ResteasyWebTarget {
     @Override
     public Invocation.Builder request(MediaType... acceptedResponseTypes) {
         client.abortIfClosed();
-        ClientInvocationBuilder builder = createClientInvocationBuilder(client, uriBuilder.build(), configuration);
+        ClientInvocationBuilder builder = createClientInvocationBuilder(client, buildUri(), configuration);
         builder.getHeaders().accept(acceptedResponseTypes);
         builder.setChunked(chunked);
         builder.setTarget(this);
@@ -0,0 +1,41 @@
+package org.jboss.resteasy.client.jaxrs.internal;
+
+import org.jboss.resteasy.client.jaxrs.ClientMetrics;
+
+/**
+ * Records the phases of one invocation to the {@link ClientMetrics} of the client.
+ */
+class InvocationMetrics {
+    private final ClientMetrics metrics;
+    private final String method;
+    private final String target;
+
+    InvocationMetrics(final ClientMetrics metrics, final String method, final String target) {
+        this.metrics = metrics;
+        this.method = method;
+        this.target = target;
+    }
+
+    /**
+     * Records the time elapsed since the start of a phase.
+     *
+     * @param phase the phase
+     * @param start the {@link System#nanoTime()} at the start of the phase
+     * @return the current {@link System#nanoTime()}, which is the start of the next phase
+     */
+    long record(final ClientMetrics.Phase phase, final long start) {
+        final long now = System.nanoTime();
+        metrics.record(method, target, phase, now - start);
+        return now;
+    }
+
+    /**
+     * Records the duration of a phase measured by the engine.
+     *
+     * @param phase the phase
+     * @param nanos the duration in nanoseconds
+     */
+    void recordDuration(final ClientMetrics.Phase phase, final long nanos) {
+        metrics.record(method, target, phase, nanos);
+    }
+}
@@ -1,11 +1,14 @@
 package org.jboss.resteasy.client.jaxrs.internal.proxy;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
+import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.RxInvoker;
@@ -17,8 +20,10 @@ import jakarta.ws.rs.container.ResourceInfo;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.MediaType;
 
+import org.jboss.resteasy.annotations.ClientRetry;
 import org.jboss.resteasy.client.jaxrs.ProxyConfig;
 import org.jboss.resteasy.client.jaxrs.ResteasyWebTarget;
+import org.jboss.resteasy.client.jaxrs.RetryPolicy;
 import org.jboss.resteasy.client.jaxrs.internal.ClientConfiguration;
 import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
 import org.jboss.resteasy.client.jaxrs.internal.ClientInvocationBuilder;
@@ -50,6 +55,8 @@ public class ClientInvoker implements MethodInvoker {
     protected ClientConfiguration invokerConfig;
     protected RxInvokerProvider<?> rxInvokerProvider;
     protected SyncInvoker syncInvoker;
+    private final RetryHandler retryHandler;
+    private volatile String template;
 
     public ClientInvoker(final ResteasyWebTarget parent, final Class<?> declaring, final Method method,
             final ProxyConfig config) {
@@ -85,6 +92,19 @@ public class ClientInvoker implements MethodInvoker {
         entityExtractorFactory = new DefaultEntityExtractorFactory();
         this.extractor = entityExtractorFactory.createExtractor(method);
         rxInvokerProvider = invokerConfig.getRxInvokerProviderFromReactiveClass(method.getReturnType());
+        retryHandler = createRetryHandler(declaring, method, invokerConfig);
+    }
+
+    private static RetryHandler createRetryHandler(final Class<?> declaring, final Method method,
+            final ClientConfiguration config) {
+        ClientRetry retry = method.getAnnotation(ClientRetry.class);
+        if (retry == null) {
+            retry = declaring.getAnnotation(ClientRetry.class);
+        }
+        final Object property = config.getProperty(RetryPolicy.PROPERTY);
+        final RetryPolicy policy = retry != null ? RetryPolicy.of(retry)
+                : property instanceof RetryPolicy ? (RetryPolicy) property : null;
+        return policy != null && policy.getMaxAttempts() > 1 ? new RetryHandler(policy) : null;
     }
 
     public MediaType[] getAccepts() {
@@ -99,6 +119,17 @@ public class ClientInvoker implements MethodInvoker {
         return declaring;
     }
 
+    /**
+     * @return the URI template of the method, before any parameter is resolved
+     */
+    public String getTemplate() {
+        String t = template;
+        if (t == null) {
+            template = t = webTarget.getUriBuilder().toTemplate();
+        }
+        return t;
+    }
+
     public Object invoke(Object[] args) {
         return rxInvokerProvider != null ? invokeAsync(args) : invokeSync(args);
     }
@@ -131,11 +162,39 @@ public class ClientInvoker implements MethodInvoker {
 
     protected Object invokeSync(Object[] args) {
         ClientInvocation request = createRequest(args);
-        ClientResponse response = (ClientResponse) request.invoke();
+        ClientResponse response;
+        if (retryHandler != null && isRetryable(request)) {
+            final ClientInvocation[] first = { request };
+            final RetryHandler.Result result = retryHandler.invoke(() -> {
+                final ClientInvocation next = first[0] != null ? first[0] : createRequest(args);
+                first[0] = null;
+                return next;
+            }, webTarget.getResteasyClient());
+            // the context must describe the retry or hedge which produced the response
+            request = result.getRequest();
+            response = result.getResponse();
+        } else {
+            response = (ClientResponse) request.invoke();
+        }
         ClientContext context = new ClientContext(request, response, entityExtractorFactory);
         return extractor.extractEntity(context);
     }
 
+    private boolean isRetryable(final ClientInvocation request) {
+        switch (httpMethod) {
+            case HttpMethod.GET:
+            case HttpMethod.HEAD:
+            case HttpMethod.OPTIONS:
+            case HttpMethod.PUT:
+            case HttpMethod.DELETE:
+                // streamed entities cannot be sent twice
+                final Object entity = request.getEntity();
+                return !(entity instanceof InputStream || entity instanceof Reader);
+            default:
+                return false;
+        }
+    }
+
     protected ClientInvocation createRequest(Object[] args) {
         WebTarget target = this.webTarget;
         for (int i = 0; i < processors.length; i++) {
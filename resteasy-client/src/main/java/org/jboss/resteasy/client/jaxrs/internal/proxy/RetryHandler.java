@@ -0,0 +1,259 @@
+package org.jboss.resteasy.client.jaxrs.internal.proxy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.client.jaxrs.RetryPolicy;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
+
+/**
+ * Sends the requests of one proxy method according to a {@link RetryPolicy}. The requests are submitted
+ * asynchronously and delays are scheduled rather than slept, so with an async engine only the invoking thread waits
+ * for the result. Retries and hedges are scheduled and their requests built on the executors of the client.
+ * <p>
+ * The handler keeps the retry budget and the latencies the hedge percentile is computed from.
+ * </p>
+ */
+class RetryHandler {
+    private static final int MAX_TOKENS = 10;
+    private static final int LATENCY_SAMPLES = 128;
+    private static final int MIN_LATENCY_SAMPLES = 16;
+
+    private final RetryPolicy policy;
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int latencyCount;
+    private double tokens = MAX_TOKENS;
+
+    RetryHandler(final RetryPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Sends the requests until one succeeds or the policy gives up.
+     *
+     * @param requests supplies a new request for each attempt
+     * @param client   the client whose executors retries and hedges are scheduled on
+     *
+     * @return the request which produced the returned response, and that response
+     */
+    Result invoke(final Supplier<ClientInvocation> requests, final ResteasyClient client) {
+        deposit();
+        final Attempts attempts = new Attempts(requests, client);
+        attempts.start();
+        final long hedgeDelay = hedgeDelay();
+        if (hedgeDelay > 0 && policy.getMaxAttempts() > 1) {
+            attempts.schedule(attempts::hedge, hedgeDelay);
+        }
+        try {
+            return attempts.result.get();
+        } catch (InterruptedException e) {
+            attempts.cancel();
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                    ? e.getCause().getCause()
+                    : e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ProcessingException(cause);
+        }
+    }
+
+    private synchronized void deposit() {
+        tokens = Math.min(MAX_TOKENS, tokens + policy.getRetryBudget());
+    }
+
+    private synchronized boolean withdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    private synchronized void recordLatency(final long nanos) {
+        latencies[latencyCount++ % LATENCY_SAMPLES] = nanos;
+    }
+
+    private long hedgeDelay() {
+        if (policy.getHedgePercentile() > 0) {
+            final long[] samples;
+            synchronized (this) {
+                samples = latencyCount < MIN_LATENCY_SAMPLES ? null
+                        : Arrays.copyOf(latencies, Math.min(latencyCount, LATENCY_SAMPLES));
+            }
+            if (samples != null) {
+                Arrays.sort(samples);
+                return samples[(int) (policy.getHedgePercentile() * (samples.length - 1))];
+            }
+        }
+        return policy.getHedgeDelay().toNanos();
+    }
+
+    private long backoff(final int retry) {
+        final long base = policy.getBackoff().toNanos();
+        final long max = policy.getMaxBackoff().toNanos();
+        final long delay = retry < 31 ? Math.min(max, base << retry) : max;
+        return delay == 0 ? 0 : ThreadLocalRandom.current().nextLong(delay + 1);
+    }
+
+    private static boolean isFailure(final Response response) {
+        return response.getStatus() >= 500;
+    }
+
+    /**
+     * The response of an invocation and the request, of all the attempts, which produced it.
+     */
+    static final class Result {
+        private final ClientInvocation request;
+        private final ClientResponse response;
+
+        private Result(final ClientInvocation request, final ClientResponse response) {
+            this.request = request;
+            this.response = response;
+        }
+
+        ClientInvocation getRequest() {
+            return request;
+        }
+
+        ClientResponse getResponse() {
+            return response;
+        }
+    }
+
+    private class Attempts {
+        private final Supplier<ClientInvocation> requests;
+        private final ResteasyClient client;
+        private final CompletableFuture<Result> result = new CompletableFuture<>();
+        private final List<CompletableFuture<Response>> pending = new ArrayList<>(2);
+        private int started;
+        private ClientInvocation lastRequest;
+        private ClientResponse lastResponse;
+        private Throwable lastError;
+
+        Attempts(final Supplier<ClientInvocation> requests, final ResteasyClient client) {
+            this.requests = requests;
+            this.client = client;
+        }
+
+        void schedule(final Runnable task, final long delay) {
+            final ScheduledExecutorService scheduler = client.getScheduledExecutor();
+            if (scheduler != null) {
+                scheduler.schedule(task, delay, TimeUnit.NANOSECONDS);
+            } else {
+                CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, client.asyncInvocationExecutor())
+                        .execute(task);
+            }
+        }
+
+        synchronized void start() {
+            if (result.isDone()) {
+                return;
+            }
+            started++;
+            final long start = System.nanoTime();
+            final ClientInvocation request;
+            final CompletableFuture<Response> future;
+            try {
+                request = requests.get();
+                future = request.submitCF();
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            pending.add(future);
+            future.whenComplete((response, error) -> completed(future, start, request, (ClientResponse) response, error));
+        }
+
+        /**
+         * Gives up on the invocation, the requests still in flight are cancelled and the last response is closed.
+         */
+        synchronized void cancel() {
+            result.cancel(false);
+            abortPending();
+            if (lastResponse != null) {
+                lastResponse.close();
+                lastResponse = null;
+            }
+        }
+
+        private void abortPending() {
+            // Cancelling a future completes it, which removes it from the pending futures
+            for (CompletableFuture<Response> future : new ArrayList<>(pending)) {
+                future.cancel(true);
+            }
+        }
+
+        synchronized void hedge() {
+            if (!result.isDone() && lastResponse == null && lastError == null
+                    && started < policy.getMaxAttempts() && withdraw()) {
+                start();
+            }
+        }
+
+        private synchronized void completed(final CompletableFuture<Response> future, final long start,
+                final ClientInvocation request, final ClientResponse response, final Throwable error) {
+            pending.remove(future);
+            if (result.isDone()) {
+                // the loser of a hedged request
+                if (response != null) {
+                    response.close();
+                }
+                return;
+            }
+            if (error == null && !isFailure(response)) {
+                recordLatency(System.nanoTime() - start);
+                if (lastResponse != null) {
+                    lastResponse.close();
+                }
+                result.complete(new Result(request, response));
+                // abort the loser of a hedged request
+                abortPending();
+                return;
+            }
+            if (lastResponse != null) {
+                lastResponse.close();
+            }
+            lastRequest = request;
+            lastResponse = response;
+            lastError = error;
+            if (!pending.isEmpty()) {
+                // a hedged request is still in flight
+                return;
+            }
+            if (started < policy.getMaxAttempts() && withdraw()) {
+                schedule(this::retry, backoff(started - 1));
+            } else if (lastResponse != null) {
+                result.complete(new Result(lastRequest, lastResponse));
+            } else {
+                result.completeExceptionally(lastError);
+            }
+        }
+
+        private synchronized void retry() {
+            if (lastResponse != null) {
+                lastResponse.close();
+                lastResponse = null;
+            }
+            lastRequest = null;
+            lastError = null;
+            start();
+        }
+    }
+}
@@ -25,11 +25,13 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
+import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.ServiceUnavailableException;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
@@ -55,6 +57,8 @@ public class SseEventSourceImpl implements SseEventSource {
 
     private final long reconnectDelay;
 
+    private final long maxReconnectDelay;
+
     private final SseEventSourceScheduler sseEventSourceScheduler;
 
     private enum State {
@@ -81,6 +85,8 @@ public class SseEventSourceImpl implements SseEventSource {
 
         private long reconnect = RECONNECT_DEFAULT;
 
+        private long maxReconnect;
+
         private String name = null;
 
         private ScheduledExecutorService executor;
@@ -98,7 +104,7 @@ public class SseEventSourceImpl implements SseEventSource {
         }
 
         public SseEventSource build() {
-            return new SseEventSourceImpl(target, name, reconnect, false, executor, alwaysReconnect);
+            return new SseEventSourceImpl(target, name, reconnect, maxReconnect, false, executor, alwaysReconnect);
         }
 
         @Override
@@ -116,6 +122,19 @@ public class SseEventSourceImpl implements SseEventSource {
             return this;
         }
 
+        /**
+         * Makes consecutive reconnects back off exponentially, with jitter, from the reconnect delay up to the given
+         * delay. Without it, every reconnect waits for the reconnect delay.
+         *
+         * @param delay the maximum delay between two reconnects
+         * @param unit  the unit of the delay
+         * @return the builder
+         */
+        public Builder maxReconnectDelay(long delay, TimeUnit unit) {
+            maxReconnect = unit.toMillis(delay);
+            return this;
+        }
+
         public Builder executor(ScheduledExecutorService executor) {
             this.executor = executor;
             return this;
@@ -132,16 +151,18 @@ public class SseEventSourceImpl implements SseEventSource {
     }
 
     public SseEventSourceImpl(final WebTarget target, final boolean open) {
-        this(target, null, RECONNECT_DEFAULT, open, null, true);
+        this(target, null, RECONNECT_DEFAULT, 0, open, null, true);
     }
 
-    private SseEventSourceImpl(final WebTarget target, final String name, final long reconnectDelay, final boolean open,
-            final ScheduledExecutorService executor, final boolean alwaysReconnect) {
+    private SseEventSourceImpl(final WebTarget target, final String name, final long reconnectDelay,
+            final long maxReconnectDelay, final boolean open, final ScheduledExecutorService executor,
+            final boolean alwaysReconnect) {
         if (target == null) {
             throw new IllegalArgumentException(Messages.MESSAGES.webTargetIsNotSetForEventSource());
         }
         this.target = target;
         this.reconnectDelay = reconnectDelay;
+        this.maxReconnectDelay = maxReconnectDelay;
         this.alwaysReconnect = alwaysReconnect;
 
         if (executor == null) {
@@ -276,6 +297,9 @@ public class SseEventSourceImpl implements SseEventSource {
 
         private long reconnectDelay;
 
+        // the reconnects since the last received event
+        private int reconnects;
+
         private final String verb;
         private final Entity<?> entity;
         private final MediaType[] mediaTypes;
@@ -293,6 +317,7 @@ public class SseEventSourceImpl implements SseEventSource {
         private EventHandler(final EventHandler anotherHandler) {
             this.connectedLatch = anotherHandler.connectedLatch;
             this.reconnectDelay = anotherHandler.reconnectDelay;
+            this.reconnects = anotherHandler.reconnects + 1;
             this.lastEventId = anotherHandler.lastEventId;
             this.verb = anotherHandler.verb;
             this.entity = anotherHandler.entity;
@@ -361,6 +386,14 @@ public class SseEventSourceImpl implements SseEventSource {
                     onUnrecoverableError(ex);
                 }
                 return;
+            } catch (ProcessingException e) {
+                if (maxReconnectDelay > 0 && alwaysReconnect && connectedLatch.getCount() == 0) {
+                    // the server went away after the first connection, keep trying with a growing delay
+                    reconnect(reconnectDelay);
+                } else {
+                    onUnrecoverableError(e);
+                }
+                return;
             } catch (Throwable e) {
                 onUnrecoverableError(e);
                 return;
@@ -409,6 +442,7 @@ public class SseEventSourceImpl implements SseEventSource {
         }
 
         private void onEvent(final InboundSseEvent event) {
+            reconnects = 0;
             if (event.getId() != null) {
                 lastEventId = event.getId();
             }
@@ -435,7 +469,23 @@ public class SseEventSourceImpl implements SseEventSource {
             }
 
             EventHandler processor = new EventHandler(this);
-            sseEventSourceScheduler.schedule(processor, delay, TimeUnit.MILLISECONDS);
+            sseEventSourceScheduler.schedule(processor, backoff(delay), TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Doubles the delay for every reconnect since the last received event, up to the maximum reconnect delay, and
+         * picks a random delay between half of it and the full value so that sources do not reconnect all at once.
+         */
+        private long backoff(final long delay) {
+            if (reconnects == 0 || maxReconnectDelay <= delay) {
+                return delay;
+            }
+            final long exponential = Math.min(maxReconnectDelay, delay << Math.min(reconnects, 30));
+            if (exponential < 0) {
+                return maxReconnectDelay;
+            }
+            final long half = exponential / 2;
+            return Math.max(delay, half + ThreadLocalRandom.current().nextLong(exponential - half + 1));
         }
     }
 }
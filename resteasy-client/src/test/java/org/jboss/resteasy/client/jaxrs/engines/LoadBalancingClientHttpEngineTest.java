@@ -0,0 +1,206 @@
+package org.jboss.resteasy.client.jaxrs.engines;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.InvocationCallback;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
+import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
+import org.junit.jupiter.api.Test;
+
+public class LoadBalancingClientHttpEngineTest {
+
+    private static final URI FIRST = URI.create("http://first:8080");
+    private static final URI SECOND = URI.create("http://second:8080");
+
+    @Test
+    public void testRequestsAreRoutedToEndpoints() {
+        final RecordingEngine recording = new RecordingEngine(Set.of());
+        final LoadBalancingClientHttpEngine engine = new LoadBalancingClientHttpEngine(recording, List.of(FIRST, SECOND),
+                LoadBalancingClientHttpEngine.Policy.leastOutstandingRequests());
+        try (Client client = ((ResteasyClientBuilder) ResteasyClientBuilder.newBuilder()).httpEngine(engine).build()) {
+            for (int i = 0; i < 20; i++) {
+                try (Response response = client.target("http://service/path/a%20b?q=1").request().get()) {
+                    assertEquals(200, response.getStatus());
+                }
+            }
+        }
+        assertEquals(20, recording.uris.size());
+        for (URI uri : recording.uris) {
+            assertEquals("/path/a%20b", uri.getRawPath());
+            assertEquals("q=1", uri.getRawQuery());
+            assertTrue(Set.of("first", "second").contains(uri.getHost()));
+        }
+        assertTrue(recording.uris.stream().anyMatch(uri -> uri.getHost().equals("first")));
+        assertTrue(recording.uris.stream().anyMatch(uri -> uri.getHost().equals("second")));
+    }
+
+    @Test
+    public void testFailingEndpointIsTakenOutOfRotation() throws Exception {
+        final RecordingEngine recording = new RecordingEngine(Set.of("first"));
+        final LoadBalancingClientHttpEngine engine = new LoadBalancingClientHttpEngine(recording, List.of(FIRST, SECOND),
+                LoadBalancingClientHttpEngine.Policy.powerOfTwoChoices());
+        engine.setFailureThreshold(2);
+        engine.setEjectionTime(Duration.ofMillis(200));
+        try (Client client = ((ResteasyClientBuilder) ResteasyClientBuilder.newBuilder()).httpEngine(engine).build()) {
+            for (int i = 0; i < 50; i++) {
+                client.target("http://service/").request().get().close();
+            }
+            final LoadBalancingClientHttpEngine.Endpoint first = engine.getEndpoints().get(0);
+            assertFalse(first.isAvailable());
+            final long failures = recording.uris.stream().filter(uri -> uri.getHost().equals("first")).count();
+            assertEquals(2, failures);
+
+            Thread.sleep(300);
+            assertTrue(first.isAvailable());
+            recording.uris.clear();
+            for (int i = 0; i < 50; i++) {
+                client.target("http://service/").request().get().close();
+            }
+            // a single failure after coming back takes the endpoint out again
+            assertEquals(1, recording.uris.stream().filter(uri -> uri.getHost().equals("first")).count());
+            assertFalse(first.isAvailable());
+        }
+    }
+
+    @Test
+    public void testAllEndpointsOutOfRotation() {
+        final RecordingEngine recording = new RecordingEngine(Set.of("first", "second"));
+        final LoadBalancingClientHttpEngine engine = new LoadBalancingClientHttpEngine(recording, List.of(FIRST, SECOND),
+                LoadBalancingClientHttpEngine.Policy.ewmaLatency());
+        engine.setFailureThreshold(1);
+        try (Client client = ((ResteasyClientBuilder) ResteasyClientBuilder.newBuilder()).httpEngine(engine).build()) {
+            for (int i = 0; i < 10; i++) {
+                try (Response response = client.target("http://service/").request().get()) {
+                    assertEquals(503, response.getStatus());
+                }
+            }
+        }
+        assertEquals(10, recording.uris.size());
+    }
+
+    @Test
+    public void testAsyncRequestsAreRoutedToEndpoints() throws Exception {
+        final AsyncRecordingEngine recording = new AsyncRecordingEngine(Set.of("first"));
+        final AsyncLoadBalancingClientHttpEngine engine = new AsyncLoadBalancingClientHttpEngine(recording,
+                List.of(FIRST, SECOND), LoadBalancingClientHttpEngine.Policy.leastOutstandingRequests());
+        engine.setFailureThreshold(1);
+        try (Client client = ((ResteasyClientBuilder) ResteasyClientBuilder.newBuilder()).httpEngine(engine).build()) {
+            for (int i = 0; i < 10; i++) {
+                client.target("http://service/path").request().async().get().get(10, TimeUnit.SECONDS).close();
+            }
+        }
+        assertEquals(10, recording.uris.size());
+        assertEquals(1, recording.uris.stream().filter(uri -> uri.getHost().equals("first")).count());
+        assertFalse(engine.getEndpoints().get(0).isAvailable());
+        for (LoadBalancingClientHttpEngine.Endpoint endpoint : engine.getEndpoints()) {
+            assertEquals(0, endpoint.getOutstandingRequests());
+        }
+    }
+
+    @Test
+    public void testInvocationUriIsRestored() throws Exception {
+        final AsyncLoadBalancingClientHttpEngine engine = new AsyncLoadBalancingClientHttpEngine(
+                new AsyncRecordingEngine(Set.of()), List.of(FIRST, SECOND));
+        try (Client client = ((ResteasyClientBuilder) ResteasyClientBuilder.newBuilder()).httpEngine(engine).build()) {
+            final URI uri = URI.create("http://service/path?q=1");
+            final ClientInvocation invocation = (ClientInvocation) client.target(uri).request().buildGet();
+            invocation.invoke().close();
+            assertEquals(uri, invocation.getUri());
+            invocation.submit().get(10, TimeUnit.SECONDS).close();
+            assertEquals(uri, invocation.getUri());
+        }
+    }
+
+    private static class AsyncRecordingEngine extends RecordingEngine implements AsyncClientHttpEngine {
+
+        AsyncRecordingEngine(final Set<String> failingHosts) {
+            super(failingHosts);
+        }
+
+        @Override
+        public <T> Future<T> submit(final ClientInvocation request, final boolean buffered,
+                final InvocationCallback<T> callback, final ResultExtractor<T> extractor) {
+            return submit(request, buffered, extractor, null);
+        }
+
+        @Override
+        public <T> CompletableFuture<T> submit(final ClientInvocation request, final boolean buffered,
+                final ResultExtractor<T> extractor, final ExecutorService executorService) {
+            return CompletableFuture.supplyAsync(() -> extractor.extractResult((ClientResponse) invoke(request)));
+        }
+    }
+
+    private static class RecordingEngine implements ClientHttpEngine {
+        final List<URI> uris = new CopyOnWriteArrayList<>();
+        private final Set<String> failingHosts;
+
+        RecordingEngine(final Set<String> failingHosts) {
+            this.failingHosts = failingHosts;
+        }
+
+        @Override
+        public Response invoke(final Invocation request) {
+            final ClientInvocation invocation = (ClientInvocation) request;
+            final URI uri = invocation.getUri();
+            uris.add(uri);
+            final ClientResponse response = new ClientResponse(invocation.getClientConfiguration(),
+                    RESTEasyTracingLogger.empty()) {
+                @Override
+                protected InputStream getInputStream() {
+                    return null;
+                }
+
+                @Override
+                protected void setInputStream(final InputStream is) {
+                }
+
+                @Override
+                public void releaseConnection() {
+                }
+
+                @Override
+                public void releaseConnection(final boolean consumeInputStream) {
+                }
+            };
+            response.setStatus(failingHosts.contains(uri.getHost()) ? 503 : 200);
+            return response;
+        }
+
+        @Override
+        public SSLContext getSslContext() {
+            return null;
+        }
+
+        @Override
+        public HostnameVerifier getHostnameVerifier() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
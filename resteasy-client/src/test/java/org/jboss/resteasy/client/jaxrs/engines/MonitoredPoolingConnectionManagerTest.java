@@ -0,0 +1,157 @@
+package org.jboss.resteasy.client.jaxrs.engines;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.client.ClientBuilder;
+
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+public class MonitoredPoolingConnectionManagerTest {
+
+    private static HttpServer server;
+
+    @BeforeAll
+    public static void start() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/plain");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterAll
+    public static void stop() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testStatistics() {
+        try (ResteasyClient client = ((ResteasyClientBuilder) ClientBuilder.newBuilder())
+                .connectionPoolSize(4)
+                .build()) {
+            for (int i = 0; i < 3; i++) {
+                assertEquals("ok", client.target(uri()).request().get(String.class));
+            }
+            final MonitoredPoolingConnectionManager pool = ((ApacheHttpClient43Engine) client.httpEngine())
+                    .getConnectionPool();
+            assertNotNull(pool);
+            final HttpRoute route = new HttpRoute(new HttpHost("localhost", server.getAddress().getPort()));
+            assertEquals(3, pool.getLeaseWait(route).getCount());
+            assertEquals(0, pool.getStats(route).getLeased());
+            assertEquals(1, pool.getStats(route).getAvailable());
+        }
+    }
+
+    @Test
+    public void testRoutesPruned() {
+        try (ResteasyClient client = ((ResteasyClientBuilder) ClientBuilder.newBuilder())
+                .connectionPoolSize(4)
+                .build()) {
+            assertEquals("ok", client.target(uri()).request().get(String.class));
+            final MonitoredPoolingConnectionManager pool = ((ApacheHttpClient43Engine) client.httpEngine())
+                    .getConnectionPool();
+            final HttpRoute route = new HttpRoute(new HttpHost("localhost", server.getAddress().getPort()));
+            assertNotNull(pool.getLeaseWait(route));
+            pool.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+            assertNull(pool.getLeaseWait(route));
+        }
+    }
+
+    @Test
+    public void testRouteRequestedWhilePruned() {
+        try (ResteasyClient client = ((ResteasyClientBuilder) ClientBuilder.newBuilder())
+                .connectionPoolSize(4)
+                .build()) {
+            assertEquals("ok", client.target(uri()).request().get(String.class));
+            final MonitoredPoolingConnectionManager pool = ((ApacheHttpClient43Engine) client.httpEngine())
+                    .getConnectionPool();
+            final HttpRoute route = new HttpRoute(new HttpHost("localhost", server.getAddress().getPort()));
+            pool.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+            assertNull(pool.getLeaseWait(route));
+
+            // a connection request not completed yet keeps the statistics of its route
+            final ConnectionRequest request = pool.requestConnection(route, null);
+            pool.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+            assertNotNull(pool.getLeaseWait(route));
+            request.cancel();
+            pool.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+            assertNull(pool.getLeaseWait(route));
+        }
+    }
+
+    @Test
+    public void testInvalidAdaptiveLimit() {
+        final ResteasyClientBuilder builder = (ResteasyClientBuilder) ClientBuilder.newBuilder()
+                .property(ClientHttpEngineBuilder43.PROPERTY_ADAPTIVE_POOL_LIMIT, "many");
+        assertThrows(IllegalArgumentException.class, () -> builder.connectionPoolSize(4).build());
+    }
+
+    @Test
+    public void testAdaptiveSizing() throws Exception {
+        try (ResteasyClient client = ((ResteasyClientBuilder) ClientBuilder.newBuilder()
+                .property(ClientHttpEngineBuilder43.PROPERTY_ADAPTIVE_POOL_LIMIT, 4))
+                .connectionPoolSize(8)
+                .maxPooledPerRoute(1)
+                .build()) {
+            final MonitoredPoolingConnectionManager pool = ((ApacheHttpClient43Engine) client.httpEngine())
+                    .getConnectionPool();
+            assertTrue(pool.isAdaptiveSizing());
+            final HttpRoute route = new HttpRoute(new HttpHost("localhost", server.getAddress().getPort()));
+
+            // keep requests waiting until the route grows
+            final List<CompletableFuture<Void>> load = new ArrayList<>();
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            for (int i = 0; i < 4; i++) {
+                load.add(CompletableFuture.runAsync(() -> {
+                    while (System.nanoTime() < deadline && pool.getMaxPerRoute(route) < 4) {
+                        client.target(uri()).request().get(String.class);
+                    }
+                }, Executors.newSingleThreadExecutor()));
+            }
+            CompletableFuture.allOf(load.toArray(new CompletableFuture[0])).get(20, TimeUnit.SECONDS);
+            assertEquals(4, pool.getMaxPerRoute(route));
+
+            // and shrinks back once idle
+            final long idleDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (pool.getMaxPerRoute(route) > 1 && System.nanoTime() < idleDeadline) {
+                Thread.sleep(100);
+            }
+            assertEquals(1, pool.getMaxPerRoute(route));
+        }
+    }
+
+    private static String uri() {
+        return "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+}
@@ -0,0 +1,170 @@
+package org.jboss.resteasy.client.jaxrs.engines;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.MediaType;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.nio.entity.NByteArrayEntity;
+import org.apache.http.nio.entity.NFileEntity;
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.client.jaxrs.engines.ApacheHttpAsyncClient4Engine.AsyncEntityOutputStream;
+import org.jboss.resteasy.spi.config.SizeUnit;
+import org.jboss.resteasy.spi.config.Threshold;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests how {@link ApacheHttpAsyncClient4Engine} and {@link URLConnectionEngine} buffer and send request entities.
+ */
+public class RequestEntityStreamingTest {
+    private static final byte[] SMALL = content(100);
+    private static final byte[] LARGE = content(10 * 1024);
+
+    private static HttpServer server;
+    private static final AtomicReference<Received> received = new AtomicReference<>();
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            try (InputStream in = exchange.getRequestBody()) {
+                received.set(new Received(exchange.getRequestHeaders().getFirst("Content-Length"),
+                        exchange.getRequestHeaders().getFirst("Transfer-Encoding"), in.readAllBytes()));
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        server.stop(0);
+    }
+
+    @BeforeEach
+    public void reset() {
+        received.set(null);
+    }
+
+    @Test
+    public void testAsyncEntityInMemory() throws Exception {
+        final AbstractHttpEntity entity = asyncEntity(SMALL);
+        assertInstanceOf(NByteArrayEntity.class, entity);
+        assertEquals(SMALL.length, entity.getContentLength());
+        try (InputStream in = entity.getContent()) {
+            assertArrayEquals(SMALL, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testAsyncEntityInFile() throws Exception {
+        final AbstractHttpEntity entity = asyncEntity(LARGE);
+        assertInstanceOf(NFileEntity.class, entity);
+        assertEquals(LARGE.length, entity.getContentLength());
+        try (InputStream in = entity.getContent()) {
+            assertArrayEquals(LARGE, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testAsyncEngine() throws Exception {
+        final String threshold = System.getProperty("dev.resteasy.entity.memory.threshold");
+        System.setProperty("dev.resteasy.entity.memory.threshold", "1KB");
+        try (ResteasyClient client = client(new ApacheHttpAsyncClient4Engine(HttpAsyncClients.createDefault(), true))) {
+            // below and above the memory threshold
+            for (byte[] content : Arrays.asList(SMALL, LARGE)) {
+                post(client, content, false);
+                assertEquals(String.valueOf(content.length), received.get().contentLength);
+                assertArrayEquals(content, received.get().content);
+            }
+            post(client, LARGE, true);
+            assertEquals("chunked", received.get().transferEncoding);
+            assertArrayEquals(LARGE, received.get().content);
+        } finally {
+            if (threshold == null) {
+                System.clearProperty("dev.resteasy.entity.memory.threshold");
+            } else {
+                System.setProperty("dev.resteasy.entity.memory.threshold", threshold);
+            }
+        }
+    }
+
+    @Test
+    public void testUrlConnectionFixedLength() throws Exception {
+        try (ResteasyClient client = client(new URLConnectionEngine())) {
+            post(client, LARGE, false);
+            assertEquals(String.valueOf(LARGE.length), received.get().contentLength);
+            assertNull(received.get().transferEncoding);
+            assertArrayEquals(LARGE, received.get().content);
+        }
+    }
+
+    @Test
+    public void testUrlConnectionChunked() throws Exception {
+        try (ResteasyClient client = client(new URLConnectionEngine())) {
+            post(client, LARGE, true);
+            assertEquals("chunked", received.get().transferEncoding);
+            assertNull(received.get().contentLength);
+            assertArrayEquals(LARGE, received.get().content);
+        }
+    }
+
+    private static AbstractHttpEntity asyncEntity(final byte[] content) throws Exception {
+        try (AsyncEntityOutputStream out = new AsyncEntityOutputStream(Threshold.of(1, SizeUnit.KILOBYTE))) {
+            out.write(content);
+            out.close();
+            return out.toAsyncEntity();
+        }
+    }
+
+    private static ResteasyClient client(final ClientHttpEngine engine) {
+        return ((ResteasyClientBuilder) ResteasyClientBuilder.newBuilder()).httpEngine(engine).build();
+    }
+
+    private static void post(final ResteasyClient client, final byte[] content, final boolean chunked) {
+        client.target("http://localhost:" + server.getAddress().getPort() + "/")
+                .setChunked(chunked)
+                .request()
+                .post(Entity.entity(content, MediaType.APPLICATION_OCTET_STREAM_TYPE))
+                .close();
+    }
+
+    private static byte[] content(final int length) {
+        final byte[] content = new byte[length];
+        for (int i = 0; i < length; i++) {
+            content[i] = (byte) i;
+        }
+        return content;
+    }
+
+    private static class Received {
+        private final String contentLength;
+        private final String transferEncoding;
+        private final byte[] content;
+
+        Received(final String contentLength, final String transferEncoding, final byte[] content) {
+            this.contentLength = contentLength;
+            this.transferEncoding = transferEncoding;
+            this.content = content;
+        }
+    }
+}
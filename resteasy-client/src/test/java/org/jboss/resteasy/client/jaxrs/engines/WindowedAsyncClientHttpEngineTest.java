@@ -0,0 +1,155 @@
+package org.jboss.resteasy.client.jaxrs.engines;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.InvocationCallback;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+import org.junit.jupiter.api.Test;
+
+public class WindowedAsyncClientHttpEngineTest {
+
+    @Test
+    public void testWindow() throws Exception {
+        final PendingEngine pending = new PendingEngine();
+        final WindowedAsyncClientHttpEngine engine = new WindowedAsyncClientHttpEngine(pending, 2);
+        try (ResteasyClient client = ((ResteasyClientBuilder) ResteasyClientBuilder.newBuilder()).httpEngine(engine)
+                .build()) {
+            final List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                results.add(engine.submit(request(client, "http://first/" + i), true, response -> "ok", null));
+            }
+            final CompletableFuture<String> other = engine.submit(request(client, "http://second/"), true,
+                    response -> "other", null);
+
+            assertEquals(3, pending.futures.size());
+            assertEquals(3, engine.getQueued(URI.create("http://first/")));
+            assertEquals(0, engine.getQueued(URI.create("http://second/")));
+
+            pending.futures.get(0).complete("ok");
+            assertTrue(results.get(0).isDone());
+            assertFalse(results.get(2).isDone());
+            assertEquals(4, pending.futures.size());
+            assertEquals(2, engine.getQueued(URI.create("http://first/")));
+
+            // a cancelled request gives its place to the next one
+            results.get(3).cancel(false);
+            pending.futures.get(1).complete("ok");
+            pending.futures.get(3).complete("ok");
+            assertEquals(5, pending.futures.size());
+            assertEquals(0, engine.getQueued(URI.create("http://first/")));
+
+            pending.futures.get(2).complete("other");
+            assertEquals("other", other.get());
+            assertEquals(1, engine.getHosts());
+
+            // idle windows are dropped
+            pending.futures.get(4).complete("ok");
+            assertEquals(0, engine.getHosts());
+            engine.submit(request(client, "http://first/"), true, response -> "ok", null);
+            assertEquals(6, pending.futures.size());
+            assertEquals(1, engine.getHosts());
+        }
+    }
+
+    @Test
+    public void testCancelInFlight() throws Exception {
+        final PendingEngine pending = new PendingEngine();
+        final WindowedAsyncClientHttpEngine engine = new WindowedAsyncClientHttpEngine(pending, 1);
+        try (ResteasyClient client = ((ResteasyClientBuilder) ResteasyClientBuilder.newBuilder()).httpEngine(engine)
+                .build()) {
+            final Future<String> first = engine.submit(request(client, "http://first/"), true, null,
+                    response -> "ok");
+            final CompletableFuture<String> second = engine.submit(request(client, "http://first/"), true,
+                    response -> "ok", null);
+            assertEquals(1, pending.futures.size());
+            assertEquals(1, engine.getQueued(URI.create("http://first/")));
+
+            // the request is cancelled in the delegate engine and the next one takes its place
+            first.cancel(true);
+            assertTrue(pending.futures.get(0).isCancelled());
+            assertEquals(2, pending.futures.size());
+            assertEquals(0, engine.getQueued(URI.create("http://first/")));
+
+            pending.futures.get(1).complete("ok");
+            assertEquals("ok", second.get());
+            assertEquals(0, engine.getHosts());
+        }
+    }
+
+    @Test
+    public void testSynchronousCompletion() throws Exception {
+        final PendingEngine pending = new PendingEngine();
+        pending.complete = true;
+        final WindowedAsyncClientHttpEngine engine = new WindowedAsyncClientHttpEngine(pending, 1);
+        try (ResteasyClient client = ((ResteasyClientBuilder) ResteasyClientBuilder.newBuilder()).httpEngine(engine)
+                .build()) {
+            for (int i = 0; i < 10_000; i++) {
+                assertEquals("done", engine.submit(request(client, "http://first/"), true, response -> "ok", null).get());
+            }
+            assertEquals(0, engine.getHosts());
+        }
+    }
+
+    private static ClientInvocation request(final ResteasyClient client, final String uri) {
+        return (ClientInvocation) client.target(uri).request().buildGet();
+    }
+
+    private static class PendingEngine implements AsyncClientHttpEngine {
+        private final List<CompletableFuture<Object>> futures = new ArrayList<>();
+        private boolean complete;
+
+        @Override
+        public <T> Future<T> submit(final ClientInvocation request, final boolean buffered,
+                final InvocationCallback<T> callback, final ResultExtractor<T> extractor) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletableFuture<T> submit(final ClientInvocation request, final boolean buffered,
+                final ResultExtractor<T> extractor, final ExecutorService executorService) {
+            if (complete) {
+                return CompletableFuture.completedFuture((T) "done");
+            }
+            final CompletableFuture<Object> future = new CompletableFuture<>();
+            futures.add(future);
+            return (CompletableFuture<T>) future;
+        }
+
+        @Override
+        public Response invoke(final Invocation request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SSLContext getSslContext() {
+            return null;
+        }
+
+        @Override
+        public HostnameVerifier getHostnameVerifier() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package org.jboss.resteasy.client.jaxrs.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.ClientMetrics;
+import org.jboss.resteasy.client.jaxrs.HistogramClientMetrics;
+import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+public class ClientMetricsTest {
+
+    @Path("/orders")
+    public interface Orders {
+        @GET
+        @Path("{id}")
+        @Produces(MediaType.TEXT_PLAIN)
+        String get(@PathParam("id") String id);
+    }
+
+    @Test
+    public void testProxyPhases() {
+        final HistogramClientMetrics metrics = new HistogramClientMetrics();
+        try (ResteasyClient client = ((ResteasyClientBuilder) ResteasyClientBuilder.newBuilder())
+                .metrics(metrics)
+                .httpEngine(new StubEngine())
+                .build()) {
+            final Orders orders = client.target("http://localhost/").proxy(Orders.class);
+            for (int i = 0; i < 3; i++) {
+                assertEquals("ok", orders.get("id-" + i));
+            }
+        }
+        assertEquals(Set.of("GET http://localhost/orders/{id}"), metrics.getTargets());
+        for (ClientMetrics.Phase phase : EnumSet.of(ClientMetrics.Phase.REQUEST_FILTERS, ClientMetrics.Phase.EXCHANGE,
+                ClientMetrics.Phase.RESPONSE_FILTERS, ClientMetrics.Phase.ENTITY_READ)) {
+            final HistogramClientMetrics.Histogram histogram = metrics.getHistogram("GET", "http://localhost/orders/{id}",
+                    phase);
+            assertEquals(3, histogram.getCount(), phase.name());
+        }
+        // the stub engine does not report the connection phase
+        assertEquals(0, metrics.getHistogram("GET", "http://localhost/orders/{id}", ClientMetrics.Phase.CONNECTION)
+                .getCount());
+    }
+
+    @Test
+    public void testTargetPhases() {
+        final HistogramClientMetrics metrics = new HistogramClientMetrics();
+        try (ResteasyClient client = ((ResteasyClientBuilder) ResteasyClientBuilder.newBuilder())
+                .metrics(metrics)
+                .httpEngine(new StubEngine())
+                .build()) {
+            try (Response response = client.target("http://localhost/orders?page=1").request().get()) {
+                assertEquals(200, response.getStatus());
+            }
+            try (Response response = client.target("http://localhost/orders/1").request().get()) {
+                assertEquals(200, response.getStatus());
+            }
+        }
+        // keyed by host
+        assertEquals(Set.of("GET http://localhost"), metrics.getTargets());
+        final String target = "http://localhost";
+        assertEquals(2, metrics.getHistogram("GET", target, ClientMetrics.Phase.EXCHANGE).getCount());
+        // the entity was never read
+        assertEquals(0, metrics.getHistogram("GET", target, ClientMetrics.Phase.ENTITY_READ).getCount());
+        assertNull(metrics.getHistogram("POST", target, ClientMetrics.Phase.EXCHANGE));
+    }
+
+    @Test
+    public void testApacheEnginePhases() throws Exception {
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            final byte[] entity = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN);
+            exchange.sendResponseHeaders(200, entity.length);
+            exchange.getResponseBody().write(entity);
+            exchange.close();
+        });
+        server.start();
+        final HistogramClientMetrics metrics = new HistogramClientMetrics();
+        final String target = "http://localhost:" + server.getAddress().getPort();
+        try (ResteasyClient client = ((ResteasyClientBuilder) ResteasyClientBuilder.newBuilder())
+                .metrics(metrics)
+                .build()) {
+            for (int i = 0; i < 2; i++) {
+                assertEquals("ok", client.target(target + "/orders/" + i).request().get(String.class));
+            }
+        } finally {
+            server.stop(0);
+        }
+        assertEquals(2, metrics.getHistogram("GET", target, ClientMetrics.Phase.CONNECTION).getCount());
+        assertEquals(2, metrics.getHistogram("GET", target, ClientMetrics.Phase.FIRST_BYTE).getCount());
+        assertEquals(2, metrics.getHistogram("GET", target, ClientMetrics.Phase.EXCHANGE).getCount());
+    }
+
+    @Test
+    public void testHistogram() {
+        final HistogramClientMetrics metrics = new HistogramClientMetrics();
+        for (int i = 1; i <= 100; i++) {
+            metrics.record("GET", "t", ClientMetrics.Phase.EXCHANGE, i * 1000L);
+        }
+        final HistogramClientMetrics.Histogram histogram = metrics.getHistogram("GET", "t", ClientMetrics.Phase.EXCHANGE);
+        assertEquals(100, histogram.getCount());
+        assertEquals(Duration.ofNanos(50500), histogram.getMean());
+        final long p95 = histogram.getPercentile(0.95).toNanos();
+        assertTrue(p95 >= 95000 && p95 < 2 * 95000, Long.toString(p95));
+    }
+
+    private static class StubEngine implements ClientHttpEngine {
+
+        @Override
+        public Response invoke(final Invocation request) {
+            final ClientResponse response = new ClientResponse(((ClientInvocation) request).getClientConfiguration(),
+                    RESTEasyTracingLogger.empty()) {
+                private InputStream is = new ByteArrayInputStream("ok".getBytes(StandardCharsets.UTF_8));
+
+                @Override
+                protected InputStream getInputStream() {
+                    return is;
+                }
+
+                @Override
+                protected void setInputStream(final InputStream is) {
+                    this.is = is;
+                }
+
+                @Override
+                public void releaseConnection() {
+                }
+
+                @Override
+                public void releaseConnection(final boolean consumeInputStream) {
+                }
+            };
+            response.setStatus(200);
+            response.getHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN);
+            return response;
+        }
+
+        @Override
+        public SSLContext getSslContext() {
+            return null;
+        }
+
+        @Override
+        public HostnameVerifier getHostnameVerifier() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.jboss.resteasy.client.jaxrs.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.net.URI;
+
+import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.junit.jupiter.api.Test;
+
+public class ClientWebTargetTest {
+
+    @Test
+    public void testUriBuiltOnce() {
+        try (ResteasyClient client = (ResteasyClient) ResteasyClientBuilder.newBuilder().build()) {
+            final ClientWebTarget target = (ClientWebTarget) client.target("http://localhost/a");
+            assertSame(target.getUri(), target.getUri());
+        }
+    }
+
+    @Test
+    public void testSubclassModifyingUriBuilder() {
+        try (ResteasyClient client = (ResteasyClient) ResteasyClientBuilder.newBuilder().build()) {
+            final ClientWebTarget target = new ClientWebTarget(client, "http://localhost/a",
+                    ((ClientWebTarget) client.target("http://localhost/")).configuration) {
+                {
+                    getUri();
+                    uriBuilder.path("b");
+                }
+            };
+            assertEquals(URI.create("http://localhost/a/b"), target.getUri());
+        }
+    }
+}
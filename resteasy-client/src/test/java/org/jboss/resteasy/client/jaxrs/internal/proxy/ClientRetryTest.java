@@ -0,0 +1,218 @@
+package org.jboss.resteasy.client.jaxrs.internal.proxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.annotations.ClientRetry;
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.client.jaxrs.ResteasyWebTarget;
+import org.jboss.resteasy.client.jaxrs.RetryPolicy;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+import org.jboss.resteasy.client.jaxrs.internal.ClientResponse;
+import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
+import org.junit.jupiter.api.Test;
+
+public class ClientRetryTest {
+
+    @Path("/")
+    @Produces(MediaType.TEXT_PLAIN)
+    public interface Resource {
+        @GET
+        @ClientRetry(backoff = 1, maxBackoff = 5)
+        String retried();
+
+        @GET
+        @Path("hedged")
+        @ClientRetry(maxAttempts = 2, hedgeDelay = 50)
+        String hedged();
+
+        @POST
+        @ClientRetry(backoff = 1, maxBackoff = 5)
+        String post();
+
+        @GET
+        @Path("plain")
+        String plain();
+    }
+
+    @Test
+    public void testRetry() {
+        final StubEngine engine = new StubEngine(call -> call < 3 ? 503 : 200, call -> 0);
+        try (ResteasyClient client = newClient(engine)) {
+            assertEquals("ok", proxy(client).retried());
+        }
+        assertEquals(3, engine.calls.get());
+    }
+
+    @Test
+    public void testRetryScheduledOnClientExecutor() {
+        final StubEngine engine = new StubEngine(call -> call < 3 ? 503 : 200, call -> 0);
+        final AtomicInteger scheduled = new AtomicInteger();
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1) {
+            @Override
+            public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+                scheduled.incrementAndGet();
+                return super.schedule(command, delay, unit);
+            }
+        };
+        try (ResteasyClient client = ((ResteasyClientBuilder) ResteasyClientBuilder.newBuilder()).httpEngine(engine)
+                .scheduledExecutorService(scheduler).build()) {
+            assertEquals("ok", proxy(client).retried());
+        } finally {
+            scheduler.shutdownNow();
+        }
+        assertEquals(2, scheduled.get());
+    }
+
+    @Test
+    public void testRetriesExhausted() {
+        final StubEngine engine = new StubEngine(call -> 503, call -> 0);
+        try (ResteasyClient client = newClient(engine)) {
+            assertThrows(ServiceUnavailableException.class, () -> proxy(client).retried());
+        }
+        assertEquals(3, engine.calls.get());
+    }
+
+    @Test
+    public void testNonIdempotentMethodIsNotRetried() {
+        final StubEngine engine = new StubEngine(call -> 503, call -> 0);
+        try (ResteasyClient client = newClient(engine)) {
+            assertThrows(ServiceUnavailableException.class, () -> proxy(client).post());
+        }
+        assertEquals(1, engine.calls.get());
+    }
+
+    @Test
+    public void testHedge() {
+        final StubEngine engine = new StubEngine(call -> 200, call -> call == 1 ? 2000 : 0);
+        try (ResteasyClient client = newClient(engine)) {
+            final long start = System.nanoTime();
+            assertEquals("ok", proxy(client).hedged());
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1500);
+        }
+        assertEquals(2, engine.calls.get());
+    }
+
+    @Test
+    public void testHedgeLoserIsClosed() throws Exception {
+        final StubEngine engine = new StubEngine(call -> 200, call -> call == 1 ? 500 : 0);
+        try (ResteasyClient client = newClient(engine)) {
+            assertEquals("ok", proxy(client).hedged());
+            // the winner is closed once its entity is read, the loser once its cancelled request completes
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (engine.closed.get() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+        assertEquals(2, engine.closed.get());
+    }
+
+    @Test
+    public void testPolicyProperty() {
+        final StubEngine engine = new StubEngine(call -> call < 2 ? 503 : 200, call -> 0);
+        try (ResteasyClient client = newClient(engine)) {
+            final ResteasyWebTarget target = client.target("http://localhost/");
+            target.property(RetryPolicy.PROPERTY, RetryPolicy.builder()
+                    .backoff(Duration.ZERO, Duration.ZERO)
+                    .build());
+            assertEquals("ok", target.proxy(Resource.class).plain());
+        }
+        assertEquals(2, engine.calls.get());
+    }
+
+    private static ResteasyClient newClient(final ClientHttpEngine engine) {
+        return ((ResteasyClientBuilder) ResteasyClientBuilder.newBuilder()).httpEngine(engine).build();
+    }
+
+    private static Resource proxy(final ResteasyClient client) {
+        return client.target("http://localhost/").proxy(Resource.class);
+    }
+
+    private static class StubEngine implements ClientHttpEngine {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger closed = new AtomicInteger();
+        private final IntFunction<Integer> status;
+        private final IntFunction<Integer> delay;
+
+        StubEngine(final IntFunction<Integer> status, final IntFunction<Integer> delay) {
+            this.status = status;
+            this.delay = delay;
+        }
+
+        @Override
+        public Response invoke(final Invocation request) {
+            final int call = calls.incrementAndGet();
+            try {
+                Thread.sleep(delay.apply(call));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final ClientResponse response = new ClientResponse(((ClientInvocation) request).getClientConfiguration(),
+                    RESTEasyTracingLogger.empty()) {
+                private InputStream is = new ByteArrayInputStream("ok".getBytes(StandardCharsets.UTF_8));
+
+                @Override
+                protected InputStream getInputStream() {
+                    return is;
+                }
+
+                @Override
+                protected void setInputStream(final InputStream is) {
+                    this.is = is;
+                }
+
+                @Override
+                public void releaseConnection() {
+                    closed.incrementAndGet();
+                }
+
+                @Override
+                public void releaseConnection(final boolean consumeInputStream) {
+                }
+            };
+            response.setStatus(status.apply(call));
+            response.getHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN);
+            return response;
+        }
+
+        @Override
+        public SSLContext getSslContext() {
+            return null;
+        }
+
+        @Override
+        public HostnameVerifier getHostnameVerifier() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
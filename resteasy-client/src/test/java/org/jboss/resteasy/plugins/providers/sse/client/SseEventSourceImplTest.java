@@ -0,0 +1,80 @@
+package org.jboss.resteasy.plugins.providers.sse.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.sse.SseEventSource;
+
+import org.jboss.resteasy.plugins.providers.sse.SseConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+public class SseEventSourceImplTest {
+
+    private HttpServer server;
+    private final List<Long> requestTimes = new CopyOnWriteArrayList<>();
+    private final List<String> lastEventIds = new CopyOnWriteArrayList<>();
+    private final CountDownLatch requests = new CountDownLatch(7);
+
+    @BeforeEach
+    public void start() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/events", exchange -> {
+            requestTimes.add(System.nanoTime());
+            lastEventIds.add(exchange.getRequestHeaders().getFirst(SseConstants.LAST_EVENT_ID_HEADER));
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream os = exchange.getResponseBody()) {
+                // only the first connection sends an event, the others end right away
+                if (requestTimes.size() == 1) {
+                    os.write("id: 1\ndata: one\n\n".getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            requests.countDown();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    public void stop() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testReconnectBackoff() throws Exception {
+        final Client client = ClientBuilder.newClient();
+        final List<String> events = new CopyOnWriteArrayList<>();
+        try (SseEventSource source = ((SseEventSourceImpl.SourceBuilder) SseEventSource
+                .target(client.target("http://localhost:" + server.getAddress().getPort() + "/events"))
+                .reconnectingEvery(20, TimeUnit.MILLISECONDS))
+                .maxReconnectDelay(400, TimeUnit.MILLISECONDS)
+                .build()) {
+            source.register(event -> events.add(event.readData()));
+            source.open();
+            assertTrue(requests.await(10, TimeUnit.SECONDS));
+        } finally {
+            client.close();
+        }
+        assertEquals(List.of("one"), events);
+        for (int i = 1; i < lastEventIds.size(); i++) {
+            assertEquals("1", lastEventIds.get(i));
+        }
+        // the delay doubles from 20ms on every reconnect without events, less a random part of up to half of it
+        final long first = requestTimes.get(1) - requestTimes.get(0);
+        final long fifth = requestTimes.get(5) - requestTimes.get(4);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(fifth) >= 150, fifth + " after " + first);
+    }
+}
@@ -0,0 +1,57 @@
+package org.jboss.resteasy.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Retries, and optionally hedges, idempotent (GET, HEAD, OPTIONS, PUT and DELETE) methods of a proxied client. When
+ * placed on the interface it applies to all of its methods.
+ * <p>
+ * For Example:
+ * <p>
+ *
+ * <pre>
+ * {@literal @}GET
+ * {@literal @}ClientRetry(maxAttempts = 3, hedgePercentile = 0.95)
+ * MyDTO getDTO();
+ * </pre>
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClientRetry {
+
+    /**
+     * The maximum number of requests sent for one invocation, including the first one and any hedged request.
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * The base delay, in milliseconds, before a failed request is retried. It doubles with every retry and a random
+     * delay up to that value is used.
+     */
+    long backoff() default 50;
+
+    /**
+     * The maximum delay, in milliseconds, before a failed request is retried.
+     */
+    long maxBackoff() default 1000;
+
+    /**
+     * The fraction of requests which may be followed by an additional retried or hedged request.
+     */
+    double retryBudget() default 0.2;
+
+    /**
+     * The delay, in milliseconds, after which a hedged request is sent if the first one has not completed. Zero
+     * disables the fixed delay.
+     */
+    long hedgeDelay() default 0;
+
+    /**
+     * The latency percentile, for example {@code 0.95}, after which a hedged request is sent if the first one has not
+     * completed. Zero disables the adaptive delay.
+     */
+    double hedgePercentile() default 0;
+}
@@ -22,4 +22,27 @@ public @interface Stream {
     MODE value() default MODE.GENERAL;
 
     boolean includeStreaming() default false;
+
+    /**
+     * The number of elements requested from the underlying publisher ahead of the ones being written.
+     * With the default of 1 the next element is only requested once the previous one has been written;
+     * a larger window lets the publisher produce while elements are being written, and demand is
+     * replenished in batches rather than one element at a time.
+     */
+    int prefetch() default 1;
+
+    /**
+     * The number of bytes of raw elements buffered before they are flushed to the client. In
+     * {@link MODE#RAW raw} mode with a {@link #prefetch()} larger than 1, the elements queued while
+     * a previous write was in progress are written as one batch and flushed together once the batch
+     * has been written, or earlier once this many bytes are buffered.
+     */
+    int flushSize() default 8192;
+
+    /**
+     * The maximum time, in milliseconds, raw elements of a batch are buffered before they are flushed
+     * to the client. With the default of 0 a batch is only flushed once it has been written or
+     * {@link #flushSize()} is reached.
+     */
+    long flushInterval() default 0;
 }
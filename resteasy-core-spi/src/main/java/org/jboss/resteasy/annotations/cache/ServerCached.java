@@ -0,0 +1,27 @@
+package org.jboss.resteasy.annotations.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the responses of a GET resource method on the server, when the
+ * {@code org.jboss.resteasy.plugins.interceptors.RepresentationCacheFeature} is registered. A cached response is sent
+ * without invoking the resource method until it expires.
+ *
+ * @since 7.0
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface ServerCached {
+    /**
+     * The number of seconds a response is cached for. A value of {@code -1} uses the {@code sMaxAge}, or else the
+     * {@code maxAge}, of the {@link Cache} annotation.
+     *
+     * @return the number of seconds
+     */
+    int maxAge() default -1;
+}
@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.spi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A content coding, as used in the {@code Content-Encoding} and {@code Accept-Encoding} headers. The {@code gzip} and
+ * {@code deflate} codings are built in. Additional codings, for example {@code br} or {@code zstd}, are discovered with
+ * a {@link java.util.ServiceLoader} and used by the encoding and decoding interceptors once they are enabled. A coding
+ * with the same {@linkplain #getName() name} as a built in coding replaces it.
+ * <p>
+ * Implementations must be thread safe, one instance codes all the messages.
+ * </p>
+ *
+ * @since 7.0
+ */
+public interface ContentCodec {
+
+    /**
+     * The name of the coding, for example {@code br}. The name is compared ignoring case.
+     *
+     * @return the name of the coding
+     */
+    String getName();
+
+    /**
+     * Creates a stream encoding the bytes written to it. Closing the returned stream must write the remaining encoded
+     * bytes, release the resources of the encoder and close the given stream.
+     *
+     * @param out   the stream the encoded bytes are written to
+     * @param level the compression level, {@code -1} for the default level of the coding
+     *
+     * @return the encoding stream
+     *
+     * @throws IOException if the stream could not be created
+     */
+    OutputStream encode(OutputStream out, int level) throws IOException;
+
+    /**
+     * Creates a stream decoding the bytes read from the given stream. Closing the returned stream must release the
+     * resources of the decoder and close the given stream.
+     *
+     * @param in the encoded stream
+     *
+     * @return the decoding stream
+     *
+     * @throws IOException if the stream could not be created
+     */
+    InputStream decode(InputStream in) throws IOException;
+}
@@ -0,0 +1,19 @@
+package org.jboss.resteasy.spi;
+
+import java.io.InputStream;
+
+/**
+ * A response whose entity can be written to the server response as received, without a
+ * {@link jakarta.ws.rs.ext.MessageBodyWriter}. This is typically a client response returned by a resource method which
+ * proxies another service.
+ */
+public interface PassThroughResponse {
+
+    /**
+     * Returns the raw entity stream of the response if it can be forwarded as is.
+     *
+     * @return the unread entity stream, which must be closed by the caller, or {@code null} if the entity has to be
+     *         written by a message body writer
+     */
+    InputStream getPassThroughStream();
+}
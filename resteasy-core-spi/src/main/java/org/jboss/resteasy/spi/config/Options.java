@@ -77,6 +77,87 @@ public class Options<T> {
             Integer.class,
             Functions.singleton(() -> 204));
 
+    /**
+     * An option for enabling or disabling the build-time resource index written to
+     * {@code META-INF/resteasy/resource-index} by the {@code resteasy-index-processor}. When enabled and the index is
+     * present, resources and providers are discovered, and resource methods looked up, from the index rather than by
+     * scanning the class path and reflecting on each resource.
+     * <p>
+     * The default is {@code true}.
+     * </p>
+     */
+    public static final Options<Boolean> RESOURCE_INDEX = new Options<>("dev.resteasy.resource.index",
+            Boolean.class, Functions.singleton(() -> true));
+
+    /**
+     * An option for building the resource metadata and invokers of the resource classes concurrently when a deployment
+     * starts. The resources are still added to the registry in the order they were registered. This can shorten the
+     * start of deployments with many resources, however any {@link jakarta.ws.rs.container.DynamicFeature},
+     * {@link org.jboss.resteasy.spi.InjectorFactory} and validator must be thread safe. Subclasses of the default
+     * registry always register the resources sequentially.
+     * <p>
+     * The default is {@code false}.
+     * </p>
+     */
+    public static final Options<Boolean> PARALLEL_REGISTRATION = new Options<>("dev.resteasy.registration.parallel",
+            Boolean.class, Functions.singleton(() -> false));
+
+    /**
+     * An option for how often requests are sampled to profile the time spent in each phase of the request
+     * processing. One in the given number of requests is sampled, a value of {@code 0} disables the sampling.
+     * <p>
+     * The default is 100.
+     * </p>
+     */
+    public static final Options<Integer> PROFILER_SAMPLE_RATE = new Options<>("dev.resteasy.profiler.sample.rate",
+            Integer.class, Functions.singleton(() -> 100));
+
+    /**
+     * An option for the compression level used to encode response entities with a {@code Content-Encoding}, from
+     * {@code 0} for no compression to {@code 9} for the best compression. A value of {@code -1} uses the default level
+     * of each coding.
+     * <p>
+     * The default is -1.
+     * </p>
+     */
+    public static final Options<Integer> COMPRESSION_LEVEL = new Options<>("dev.resteasy.compression.level",
+            Integer.class, Functions.singleton(() -> -1));
+
+    /**
+     * An option for the minimum size, in bytes, of an entity to encode with its {@code Content-Encoding}. Up to this many
+     * bytes are buffered. An entity which turns out to be smaller is sent unencoded and the {@code Content-Encoding}
+     * header is removed, as compressing it would likely not make it smaller.
+     * <p>
+     * The default is 0, which encodes all entities.
+     * </p>
+     */
+    public static final Options<Integer> COMPRESSION_MIN_SIZE = new Options<>("dev.resteasy.compression.min.size",
+            Integer.class, Functions.singleton(() -> 0));
+
+    /**
+     * An option for the maximum number of responses held by the server cache of the
+     * {@code org.jboss.resteasy.plugins.interceptors.RepresentationCacheFeature}. Once the cache is full the expired
+     * responses are removed, or all of them if none has expired.
+     * <p>
+     * The default is 1000.
+     * </p>
+     */
+    public static final Options<Integer> REPRESENTATION_CACHE_SIZE = new Options<>("dev.resteasy.representation.cache.size",
+            Integer.class, Functions.singleton(() -> 1000));
+
+    /**
+     * An option for the maximum size of an entity cached by the
+     * {@code org.jboss.resteasy.plugins.interceptors.RepresentationCacheFeature}. Up to this many bytes of an entity are
+     * buffered, a larger entity is streamed to the client and not cached. A value of {@code -1} caches entities of any
+     * size.
+     * <p>
+     * The default is 1 MB.
+     * </p>
+     */
+    public static final Options<Threshold> REPRESENTATION_CACHE_MAX_ENTITY_SIZE = new Options<>(
+            "dev.resteasy.representation.cache.max.entity.size", Threshold.class,
+            Functions.singleton(() -> Threshold.of(1L, SizeUnit.MEGABYTE)));
+
     private final String key;
     private final Class<T> name;
     private final Supplier<T> dftValue;
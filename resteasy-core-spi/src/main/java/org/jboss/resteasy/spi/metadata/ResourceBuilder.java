@@ -757,7 +757,12 @@ public class ResourceBuilder {
         else {
             builder = createResourceClassBuilder(clazz);
         }
-        for (Method method : clazz.getMethods()) {
+        // Use the methods from the build-time index if present, this avoids reflecting on every public method
+        Method[] methods = ResourceIndex.of(clazz.getClassLoader()).getResourceMethods(clazz);
+        if (methods == null) {
+            methods = clazz.getMethods();
+        }
+        for (Method method : methods) {
             if (!method.isSynthetic() && !method.getDeclaringClass().equals(Object.class))
                 processMethod(isLocator, builder, clazz, method);
 
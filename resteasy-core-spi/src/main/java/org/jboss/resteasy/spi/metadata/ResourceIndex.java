@@ -0,0 +1,278 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.spi.metadata;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
+import org.jboss.resteasy.spi.config.Options;
+
+/**
+ * A build-time index of the applications, resources and providers of a deployment. The index is written to
+ * {@value #LOCATION} by the {@code resteasy-index-processor} annotation processor. It allows the resources to be
+ * discovered without scanning the class path and the resource methods to be looked up without reflecting on every
+ * public method of a resource.
+ * <p>
+ * The index is only a hint. If an entry cannot be resolved, for example because the class was changed without the
+ * index being regenerated, {@code null} is returned and the caller falls back to reflection.
+ * </p>
+ *
+ * @since 7.0
+ */
+public final class ResourceIndex {
+    /**
+     * The location of the index on the class path.
+     */
+    public static final String LOCATION = "META-INF/resteasy/resource-index";
+
+    private static final String HEADER = "# resteasy-resource-index 2";
+    private static final ResourceIndex EMPTY = new ResourceIndex(Set.of(), Set.of(), Set.of(), Map.of(), Map.of());
+    private static final Map<ClassLoader, ResourceIndex> INDEXES = new WeakHashMap<>();
+    private static final Map<String, Class<?>> PRIMITIVES = Map.of(
+            "boolean", boolean.class,
+            "byte", byte.class,
+            "char", char.class,
+            "short", short.class,
+            "int", int.class,
+            "long", long.class,
+            "float", float.class,
+            "double", double.class);
+
+    private final Set<String> applications;
+    private final Set<String> resources;
+    private final Set<String> providers;
+    private final Map<String, String[]> methods;
+    private final Map<String, Integer> fingerprints;
+
+    private ResourceIndex(final Set<String> applications, final Set<String> resources, final Set<String> providers,
+            final Map<String, String[]> methods, final Map<String, Integer> fingerprints) {
+        this.applications = applications;
+        this.resources = resources;
+        this.providers = providers;
+        this.methods = methods;
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * Returns the index merged from all the {@value #LOCATION} resources visible to the class loader. If the
+     * {@link Options#RESOURCE_INDEX} option is disabled, or no index is found, an empty index is returned.
+     *
+     * @param cl the class loader to find the index on, {@code null} returns an empty index
+     *
+     * @return the index, never {@code null}
+     */
+    public static ResourceIndex of(final ClassLoader cl) {
+        if (cl == null || !Options.RESOURCE_INDEX.getValue()) {
+            return EMPTY;
+        }
+        synchronized (INDEXES) {
+            ResourceIndex index = INDEXES.get(cl);
+            if (index == null) {
+                index = load(cl);
+                INDEXES.put(cl, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Indicates whether the index is empty, in other words no index was found.
+     *
+     * @return {@code true} if the index does not contain any type
+     */
+    public boolean isEmpty() {
+        return applications.isEmpty() && resources.isEmpty() && providers.isEmpty() && methods.isEmpty();
+    }
+
+    /**
+     * Returns the binary names of the {@linkplain jakarta.ws.rs.core.Application applications} in the index.
+     *
+     * @return the applications found
+     */
+    public Set<String> getApplications() {
+        return applications;
+    }
+
+    /**
+     * Returns the binary names of the types annotated with {@link jakarta.ws.rs.Path @Path}.
+     *
+     * @return the resources found
+     */
+    public Set<String> getResources() {
+        return resources;
+    }
+
+    /**
+     * Returns the binary names of the types annotated with {@link jakarta.ws.rs.ext.Provider @Provider}.
+     *
+     * @return the providers found
+     */
+    public Set<String> getProviders() {
+        return providers;
+    }
+
+    /**
+     * Returns the public methods of the type which may be resource methods or sub-resource locators. These are the
+     * methods annotated, or overriding a method annotated, with {@link jakarta.ws.rs.Path @Path} or an HTTP method
+     * designator.
+     * <p>
+     * The index records the number of public methods of the type. If the type, or one of its super types, was changed
+     * without the index being regenerated, for example a resource method was added, the number no longer matches and
+     * {@code null} is returned.
+     * </p>
+     *
+     * @param clazz the type to get the methods for
+     *
+     * @return the candidate methods or {@code null} if the type is not in the index or the index does not match the
+     *         type
+     */
+    public Method[] getResourceMethods(final Class<?> clazz) {
+        final String[] signatures = methods.get(clazz.getName());
+        if (signatures == null) {
+            return null;
+        }
+        final int expected = fingerprints.get(clazz.getName());
+        final int fingerprint = fingerprint(clazz);
+        if (fingerprint != expected) {
+            LogMessages.LOGGER.debugf("The resource index does not match %s, it has %d public methods instead of %d.",
+                    clazz.getName(), fingerprint, expected);
+            return null;
+        }
+        final Method[] result = new Method[signatures.length];
+        for (int i = 0; i < signatures.length; i++) {
+            final String signature = signatures[i];
+            final int start = signature.indexOf('(');
+            final String name = signature.substring(0, start);
+            final String params = signature.substring(start + 1, signature.length() - 1);
+            try {
+                final String[] names = params.isEmpty() ? new String[0] : params.split(",");
+                final Class<?>[] types = new Class<?>[names.length];
+                for (int j = 0; j < names.length; j++) {
+                    final Class<?> primitive = PRIMITIVES.get(names[j]);
+                    types[j] = primitive == null ? Class.forName(names[j], false, clazz.getClassLoader()) : primitive;
+                }
+                result[i] = clazz.getMethod(name, types);
+            } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+                LogMessages.LOGGER.debugf(e, "The resource index does not match %s, method %s could not be resolved.",
+                        clazz.getName(), signature);
+                return null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of distinct public method signatures of the type, declared or inherited, excluding the
+     * methods declared by {@link Object} and the synthetic methods other than the bridges for the public methods of a
+     * super class which is not public. The annotation processor writing the index computes the same number.
+     */
+    private static int fingerprint(final Class<?> clazz) {
+        final Method[] all = clazz.getMethods();
+        final Set<String> signatures = new HashSet<>();
+        final Set<String> names = new HashSet<>();
+        for (Method method : all) {
+            if (!method.isSynthetic() && !method.getDeclaringClass().equals(Object.class)) {
+                signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()));
+                names.add(method.getName() + '/' + method.getParameterCount());
+            }
+        }
+        for (Method method : all) {
+            // A bridge re-declaring a public method inherited from a class which is not public replaces that method,
+            // unlike a bridge for a generic override it has no other method with the same name
+            if (method.isBridge() && !names.contains(method.getName() + '/' + method.getParameterCount())) {
+                signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()));
+            }
+        }
+        return signatures.size();
+    }
+
+    private static ResourceIndex load(final ClassLoader cl) {
+        final Set<String> applications = new LinkedHashSet<>();
+        final Set<String> resources = new LinkedHashSet<>();
+        final Set<String> providers = new LinkedHashSet<>();
+        final Map<String, String[]> methods = new HashMap<>();
+        final Map<String, Integer> fingerprints = new HashMap<>();
+        try {
+            final Enumeration<URL> urls = cl.getResources(LOCATION);
+            while (urls.hasMoreElements()) {
+                final URL url = urls.nextElement();
+                try (
+                        BufferedReader reader = new BufferedReader(
+                                new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    String line = reader.readLine();
+                    if (!HEADER.equals(line)) {
+                        LogMessages.LOGGER.debugf("Ignoring resource index %s with an unknown format.", url);
+                        continue;
+                    }
+                    while ((line = reader.readLine()) != null) {
+                        final String[] parts = line.split(" ");
+                        if (parts.length < 2) {
+                            continue;
+                        }
+                        switch (parts[0]) {
+                            case "application":
+                                applications.add(parts[1]);
+                                break;
+                            case "resource":
+                                resources.add(parts[1]);
+                                break;
+                            case "provider":
+                                providers.add(parts[1]);
+                                break;
+                            case "methods":
+                                if (parts.length < 3) {
+                                    break;
+                                }
+                                final String[] signatures = new String[parts.length - 3];
+                                System.arraycopy(parts, 3, signatures, 0, signatures.length);
+                                methods.put(parts[1], signatures);
+                                fingerprints.put(parts[1], Integer.valueOf(parts[2]));
+                                break;
+                            default:
+                                break;
+                        }
+                    }
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            LogMessages.LOGGER.debugf(e, "Failed to read the resource index, falling back to reflection.");
+            return EMPTY;
+        }
+        if (applications.isEmpty() && resources.isEmpty() && providers.isEmpty() && methods.isEmpty()) {
+            return EMPTY;
+        }
+        return new ResourceIndex(Collections.unmodifiableSet(applications), Collections.unmodifiableSet(resources),
+                Collections.unmodifiableSet(providers), methods, fingerprints);
+    }
+}
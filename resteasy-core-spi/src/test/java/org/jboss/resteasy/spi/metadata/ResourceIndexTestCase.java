@@ -0,0 +1,155 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.spi.metadata;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.ws.rs.GET;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests reading the {@link ResourceIndex} written by the {@code resteasy-index-processor}.
+ */
+public class ResourceIndexTestCase {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Tests the indexes of all the class path roots are merged.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void merged() throws Exception {
+        final Path first = write(dir.resolve("first"), "# resteasy-resource-index 2",
+                "application org.example.App",
+                "resource " + Resource.class.getName());
+        final Path second = write(dir.resolve("second"), "# resteasy-resource-index 2",
+                "provider org.example.Provider",
+                "# a comment");
+        try (URLClassLoader cl = loader(first, second)) {
+            final ResourceIndex index = ResourceIndex.of(cl);
+            Assertions.assertFalse(index.isEmpty());
+            Assertions.assertSame(index, ResourceIndex.of(cl));
+            Assertions.assertEquals(Set.of("org.example.App"), index.getApplications());
+            Assertions.assertEquals(Set.of(Resource.class.getName()), index.getResources());
+            Assertions.assertEquals(Set.of("org.example.Provider"), index.getProviders());
+        }
+    }
+
+    /**
+     * Tests an index with an unknown format is ignored.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void unknownFormat() throws Exception {
+        final Path root = write(dir, "# resteasy-resource-index 1", "resource org.example.Resource");
+        try (URLClassLoader cl = loader(root)) {
+            Assertions.assertTrue(ResourceIndex.of(cl).isEmpty());
+        }
+        Assertions.assertTrue(ResourceIndex.of(null).isEmpty());
+    }
+
+    /**
+     * Tests resolving the candidate resource methods and falling back when the index does not match the type.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void resourceMethods() throws Exception {
+        final Path root = write(dir, "# resteasy-resource-index 2",
+                "methods " + Resource.class.getName() + " 2 get() get(java.lang.String,int)",
+                "methods " + Stale.class.getName() + " 1 removed(long)",
+                "methods " + Changed.class.getName() + " 1 get()");
+        try (URLClassLoader cl = loader(root)) {
+            final ResourceIndex index = ResourceIndex.of(cl);
+            Assertions.assertArrayEquals(new Object[] {
+                    Resource.class.getMethod("get"),
+                    Resource.class.getMethod("get", String.class, int.class)
+            }, index.getResourceMethods(Resource.class));
+            Assertions.assertNull(index.getResourceMethods(Stale.class));
+            // A method was added since the index was written
+            Assertions.assertNull(index.getResourceMethods(Changed.class));
+            Assertions.assertNull(index.getResourceMethods(ResourceIndexTestCase.class));
+        }
+    }
+
+    private static Path write(final Path root, final String... lines) throws IOException {
+        final Path file = root.resolve(ResourceIndex.LOCATION);
+        Files.createDirectories(file.getParent());
+        Files.write(file, List.of(lines));
+        return root;
+    }
+
+    private static URLClassLoader loader(final Path... roots) throws IOException {
+        final URL[] urls = new URL[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            urls[i] = roots[i].toUri().toURL();
+        }
+        return new URLClassLoader(urls, null);
+    }
+
+    @jakarta.ws.rs.Path("/")
+    public static class Resource {
+        @GET
+        public String get() {
+            return "";
+        }
+
+        @GET
+        @jakarta.ws.rs.Path("{name}")
+        public String get(final String name, final int count) {
+            return name;
+        }
+    }
+
+    @jakarta.ws.rs.Path("/stale")
+    public static class Stale {
+        @GET
+        public String get() {
+            return "";
+        }
+    }
+
+    @jakarta.ws.rs.Path("/changed")
+    public static class Changed {
+        @GET
+        public String get() {
+            return "";
+        }
+
+        @GET
+        @jakarta.ws.rs.Path("added")
+        public String added() {
+            return "";
+        }
+    }
+}
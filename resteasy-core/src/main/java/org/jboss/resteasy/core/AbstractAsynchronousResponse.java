@@ -17,6 +17,8 @@ import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.WriterInterceptor;
 
 import org.jboss.resteasy.core.ResteasyContext.CloseableContext;
+import org.jboss.resteasy.jfr.AsyncResponseEvent;
+import org.jboss.resteasy.jfr.Events;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.Messages;
 import org.jboss.resteasy.specimpl.BuiltResponse;
 import org.jboss.resteasy.spi.AsyncWriterInterceptor;
@@ -41,6 +43,7 @@ public abstract class AbstractAsynchronousResponse implements ResteasyAsynchrono
     protected List<CompletionCallback> completionCallbacks = new ArrayList<CompletionCallback>();
     protected Map<Class<?>, Object> contextDataMap;
     private boolean callbacksCalled;
+    private AsyncResponseEvent event;
 
     protected AbstractAsynchronousResponse(final SynchronousDispatcher dispatcher, final HttpRequest request,
             final HttpResponse response) {
@@ -48,6 +51,8 @@ public abstract class AbstractAsynchronousResponse implements ResteasyAsynchrono
         this.request = request;
         this.response = response;
         contextDataMap = ResteasyContext.getContextDataMap();
+        event = Events.asyncResponse();
+        event.begin();
     }
 
     @Override
@@ -158,6 +163,7 @@ public abstract class AbstractAsynchronousResponse implements ResteasyAsynchrono
     }
 
     protected boolean internalResume(Object entity, Consumer<Throwable> onComplete) {
+        endEvent(false);
         try (CloseableContext c = ResteasyContext.addCloseableContextDataLevel(contextDataMap)) {
             Response response = null;
             if (entity == null) {
@@ -204,6 +210,7 @@ public abstract class AbstractAsynchronousResponse implements ResteasyAsynchrono
     }
 
     protected boolean internalResume(Throwable exc, Consumer<Throwable> onComplete) {
+        endEvent(true);
         try (CloseableContext c = ResteasyContext.addCloseableContextDataLevel(contextDataMap)) {
             dispatcher.asynchronousExceptionDelivery(request, response, exc, t -> {
                 onComplete.accept(t);
@@ -213,4 +220,11 @@ public abstract class AbstractAsynchronousResponse implements ResteasyAsynchrono
         return true;
     }
 
+    private void endEvent(final boolean failed) {
+        final AsyncResponseEvent event = this.event;
+        if (event != null) {
+            this.event = null;
+            event.end(request, failed);
+        }
+    }
 }
@@ -1,14 +1,20 @@
 package org.jboss.resteasy.core;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -27,8 +33,10 @@ import org.jboss.resteasy.resteasy_jaxrs.i18n.Messages;
 import org.jboss.resteasy.specimpl.BuiltResponse;
 import org.jboss.resteasy.specimpl.BuiltResponseEntityNotBacked;
 import org.jboss.resteasy.specimpl.MultivaluedTreeMap;
+import org.jboss.resteasy.spi.AsyncOutputStream;
 import org.jboss.resteasy.spi.AsyncResponseProvider;
 import org.jboss.resteasy.spi.AsyncStreamProvider;
+import org.jboss.resteasy.spi.BlockingAsyncOutputStream;
 import org.jboss.resteasy.spi.Dispatcher;
 import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.HttpResponse;
@@ -229,13 +237,30 @@ public abstract class AsyncResponseConsumer {
         }
     }
 
+    /*
+     * AsyncStreamResponseConsumer writes the elements of a stream one at a time, in the order they were received.
+     * Up to @Stream.prefetch() elements are requested ahead: elements arriving while a previous one is still being
+     * written are queued, and demand is replenished in batches once enough of them have been written. The queued
+     * elements form a batch, which subclasses may coalesce and flush once it has been written.
+     */
     private abstract static class AsyncStreamResponseConsumer extends AsyncResponseConsumer implements Subscriber<Object> {
         protected Subscription subscription;
         private AsyncStreamProvider<?> asyncStreamProvider;
+        private final int prefetch;
+        private final int replenishLimit;
+        private final Queue<Object> pending = new ArrayDeque<Object>();
+        private int consumed;
+        private boolean sendingElement;
+        private boolean draining;
+        private boolean onCompleteReceived;
 
         AsyncStreamResponseConsumer(final ResourceMethodInvoker method, final AsyncStreamProvider<?> asyncStreamProvider) {
             super(method);
             this.asyncStreamProvider = asyncStreamProvider;
+            Stream stream = method.getMethod().getAnnotation(Stream.class);
+            prefetch = stream != null ? Math.max(1, stream.prefetch()) : 1;
+            // same policy as Reactor: ask for more once three quarters of the window has been written
+            replenishLimit = prefetch - (prefetch >> 2);
         }
 
         @Override
@@ -248,7 +273,10 @@ public abstract class AsyncResponseConsumer {
 
         @Override
         public void onComplete() {
-            complete(null);
+            synchronized (this) {
+                onCompleteReceived = true;
+            }
+            drain();
         }
 
         @Override
@@ -257,16 +285,16 @@ public abstract class AsyncResponseConsumer {
         }
 
         /**
-         * Subclass to collect the next element and inform if you want more.
+         * Subclass to collect the next element. By default the element is queued and written once the elements
+         * received before it have been written.
          *
          * @param element the next element to collect
-         * @return true if you want more elements, false if not
          */
         protected void addNextElement(Object element) {
-            internalResume(element, t -> {
-                if (t != null)
-                    complete(t);
-            });
+            synchronized (this) {
+                pending.add(element);
+            }
+            drain();
         }
 
         @Override
@@ -277,7 +305,78 @@ public abstract class AsyncResponseConsumer {
         @Override
         public void onSubscribe(Subscription subscription) {
             this.subscription = subscription;
-            subscription.request(1);
+            subscription.request(prefetch);
+        }
+
+        /**
+         * Subclass to send the elements written so far. This is called between the elements of a batch and once the
+         * batch has been written.
+         *
+         * @param batchWritten whether all the queued elements have been written
+         * @return the pending flush, or {@code null} if nothing needs to be flushed
+         */
+        protected CompletionStage<Void> flushElements(boolean batchWritten) {
+            return null;
+        }
+
+        /*
+         * Writes queued elements one at a time. Elements written synchronously are handled by this loop rather than
+         * by recursing from the completion callback; asynchronous completions re-enter through drain().
+         */
+        private void drain() {
+            synchronized (this) {
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            for (;;) {
+                final boolean batchWritten;
+                synchronized (this) {
+                    if (isComplete || sendingElement) {
+                        draining = false;
+                        return;
+                    }
+                    batchWritten = pending.isEmpty();
+                    sendingElement = true;
+                }
+                final CompletionStage<Void> flush = flushElements(batchWritten);
+                if (flush != null) {
+                    flush.whenComplete((v, t) -> sent(t, false));
+                } else if (batchWritten) {
+                    synchronized (this) {
+                        sendingElement = false;
+                        if (pending.isEmpty()) {
+                            draining = false;
+                            if (!isComplete && onCompleteReceived) {
+                                complete(null);
+                            }
+                            return;
+                        }
+                    }
+                } else {
+                    final Object element;
+                    synchronized (this) {
+                        element = pending.poll();
+                    }
+                    internalResume(element, t -> sent(t, true));
+                }
+            }
+        }
+
+        private void sent(Throwable t, boolean element) {
+            synchronized (this) {
+                sendingElement = false;
+                if (t != null) {
+                    complete(t);
+                    return;
+                }
+                if (element && ++consumed == replenishLimit && !onCompleteReceived) {
+                    consumed = 0;
+                    subscription.request(replenishLimit);
+                }
+            }
+            drain();
         }
 
         @Override
@@ -295,12 +394,33 @@ public abstract class AsyncResponseConsumer {
      */
     private static class AsyncRawStreamingResponseConsumer extends AsyncStreamResponseConsumer {
         private boolean sentEntity;
-        private boolean onCompleteReceived;
-        private volatile boolean sendingEvent;
+        private final boolean coalesce;
+        private final int flushSize;
+        private final long flushInterval;
+        private CoalescingOutputStream buffer;
+        private long lastFlush;
 
         AsyncRawStreamingResponseConsumer(final ResourceMethodInvoker method,
                 final AsyncStreamProvider<?> asyncStreamProvider) {
             super(method, asyncStreamProvider);
+            Stream stream = method.getMethod().getAnnotation(Stream.class);
+            // with one element at a time there is nothing to coalesce
+            coalesce = stream.prefetch() > 1;
+            flushSize = stream.flushSize();
+            flushInterval = TimeUnit.MILLISECONDS.toNanos(stream.flushInterval());
+        }
+
+        @Override
+        protected CompletionStage<Void> flushElements(boolean batchWritten) {
+            if (buffer == null || buffer.size() == 0) {
+                return null;
+            }
+            if (!batchWritten && buffer.size() < flushSize
+                    && (flushInterval <= 0 || System.nanoTime() - lastFlush < flushInterval)) {
+                return null;
+            }
+            lastFlush = System.nanoTime();
+            return buffer.flushBuffer();
         }
 
         @Override
@@ -332,33 +452,18 @@ public abstract class AsyncResponseConsumer {
                 headerMap.add("Content-Type", mediaType);
                 builtResponse.setMetadata(headerMap);
             }
+            if (coalesce && !sentEntity) {
+                OutputStream os = httpResponse.getOutputStream();
+                if (os != null) {
+                    buffer = new CoalescingOutputStream(os);
+                    lastFlush = System.nanoTime();
+                    httpResponse.setOutputStream(buffer);
+                }
+            }
             super.sendBuiltResponse(builtResponse, httpRequest, httpResponse, onComplete);
             sentEntity = true;
         }
 
-        protected void addNextElement(Object element) {
-            sendingEvent = true;
-            internalResume(element, t -> {
-                synchronized (this) {
-                    sendingEvent = false;
-                    if (onCompleteReceived) {
-                        super.onComplete();
-                    } else if (t != null) {
-                        complete(t);
-                    } else {
-                        subscription.request(1);
-                    }
-                }
-            });
-        }
-
-        @Override
-        public synchronized void onComplete() {
-            onCompleteReceived = true;
-            if (sendingEvent == false)
-                super.onComplete();
-        }
-
         @Override
         protected boolean sendHeaders() {
             return !sentEntity;
@@ -382,10 +487,16 @@ public abstract class AsyncResponseConsumer {
             return true;
         }
 
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            // everything is collected anyway, so there's no point in asking for one element at a time
+            subscription.request(Long.MAX_VALUE);
+        }
+
         @Override
         protected void addNextElement(Object element) {
             collector.add(element);
-            subscription.request(1);
         }
 
         @Override
@@ -429,8 +540,6 @@ public abstract class AsyncResponseConsumer {
     private static class AsyncGeneralStreamingSseResponseConsumer extends AsyncStreamResponseConsumer {
         private SseImpl sse;
         private SseEventSink sseEventSink;
-        private boolean onCompleteReceived;
-        private volatile boolean sendingEvent;
 
         private AsyncGeneralStreamingSseResponseConsumer(final ResourceMethodInvoker method,
                 final AsyncStreamProvider<?> asyncStreamProvider) {
@@ -452,18 +561,6 @@ public abstract class AsyncResponseConsumer {
             }
         }
 
-        @Override
-        protected void addNextElement(Object element) {
-            super.addNextElement(element);
-        }
-
-        @Override
-        public synchronized void onComplete() {
-            onCompleteReceived = true;
-            if (sendingEvent == false)
-                super.onComplete();
-        }
-
         @Override
         protected void sendBuiltResponse(BuiltResponse builtResponse, HttpRequest httpRequest, HttpResponse httpResponse,
                 Consumer<Throwable> onComplete) {
@@ -501,24 +598,14 @@ public abstract class AsyncResponseConsumer {
                     && event instanceof OutboundSseEventImpl) {
                 ((OutboundSseEventImpl) event).setEscape(true);
             }
-            sendingEvent = true;
-            // we can only get onComplete after we return from this method
             try {
                 sseEventSink.send(event).whenComplete((val, ex) -> {
-                    synchronized (this) {
-                        sendingEvent = false;
-                        if (onCompleteReceived)
-                            super.onComplete();
-                        else if (ex != null) {
-                            // cancel the subscription
-                            complete(ex);
-                            onComplete.accept(ex);
-                        } else {
-                            // we're good, ask for the next one
-                            subscription.request(1);
-                            onComplete.accept(ex);
-                        }
+                    if (ex != null) {
+                        // cancel the subscription
+                        complete(ex);
                     }
+                    // the next element, if any, is sent once we report back
+                    onComplete.accept(ex);
                 });
             } catch (Exception x) {
                 // most likely connection closed
@@ -534,5 +621,74 @@ public abstract class AsyncResponseConsumer {
         }
     }
 
+    /*
+     * CoalescingOutputStream buffers the elements of a raw stream so that a batch of elements reaches the client in
+     * one write. Flushes requested by the writers are ignored, the consumer flushes once a batch has been written.
+     */
+    private static class CoalescingOutputStream extends AsyncOutputStream {
+        private final AsyncOutputStream delegate;
+        private byte[] buf = new byte[256];
+        private int count;
+
+        CoalescingOutputStream(final OutputStream delegate) {
+            this.delegate = delegate instanceof AsyncOutputStream ? (AsyncOutputStream) delegate
+                    : new BlockingAsyncOutputStream(delegate);
+        }
+
+        int size() {
+            return count;
+        }
+
+        CompletionStage<Void> flushBuffer() {
+            // the buffer is not written to again before the flush has completed
+            final int length = count;
+            count = 0;
+            return delegate.asyncWrite(buf, 0, length).thenCompose(v -> delegate.asyncFlush());
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(1);
+            buf[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(len);
+            System.arraycopy(b, off, buf, count, len);
+            count += len;
+        }
+
+        @Override
+        public CompletionStage<Void> asyncWrite(byte[] bytes, int offset, int length) {
+            write(bytes, offset, length);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public CompletionStage<Void> asyncFlush() {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (count > 0) {
+                delegate.write(buf, 0, count);
+                count = 0;
+            }
+            delegate.close();
+        }
+
+        private void ensureCapacity(int len) {
+            if (count + len > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, count + len));
+            }
+        }
+    }
+
     public abstract void subscribe(Object rtn);
 }
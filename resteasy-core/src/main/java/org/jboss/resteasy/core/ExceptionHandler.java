@@ -121,16 +121,7 @@ public class ExceptionHandler {
         if (logger == null)
             logger = RESTEasyTracingLogger.empty();
 
-        ExceptionMapper mapper = null;
-
-        Class causeClass = exception.getClass();
-        while (mapper == null) {
-            if (causeClass == null)
-                break;
-            mapper = providerFactory.getExceptionMapperForClass(causeClass);
-            if (mapper == null)
-                causeClass = causeClass.getSuperclass();
-        }
+        ExceptionMapper mapper = providerFactory.resolveExceptionMapper(exception.getClass());
 
         if (mapper != null) {
             mapperExecuted = true;
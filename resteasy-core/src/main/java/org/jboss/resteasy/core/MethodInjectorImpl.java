@@ -21,6 +21,7 @@ import org.jboss.resteasy.spi.metadata.MethodParameter;
 import org.jboss.resteasy.spi.metadata.ResourceLocator;
 import org.jboss.resteasy.spi.validation.GeneralValidator;
 import org.jboss.resteasy.spi.validation.GeneralValidatorCDI;
+import org.jboss.resteasy.statistics.PhaseProfiler;
 
 /**
  * @author <a href="mailto:bill@burkecentral.com">Bill Burke</a>
@@ -114,6 +115,10 @@ public class MethodInjectorImpl implements MethodInjector {
     @Override
     public Object invoke(HttpRequest request, HttpResponse httpResponse, Object resource) throws Failure, ApplicationException {
         Object argsObj = injectArguments(request, httpResponse);
+        final PhaseProfiler.Sample sample = PhaseProfiler.Sample.of(request);
+        if (sample != null) {
+            sample.phase(PhaseProfiler.RequestPhase.PARAMETER_INJECTION);
+        }
         if (argsObj == null || !(argsObj instanceof CompletionStage)) {
             Object returnObj = invoke(request, httpResponse, resource, (Object[]) argsObj);
             if (returnObj instanceof CompletionStage) {
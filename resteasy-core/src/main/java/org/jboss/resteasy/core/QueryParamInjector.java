@@ -13,6 +13,7 @@ import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.QueryParam;
 
 import org.jboss.resteasy.resteasy_jaxrs.i18n.Messages;
+import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.HttpResponse;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
@@ -45,6 +46,11 @@ public class QueryParamInjector extends StringParameterInjector implements Value
 
     @Override
     public Object inject(HttpRequest request, HttpResponse response, boolean unwrapAsync) {
+        if (request.getUri() instanceof ResteasyUriInfo) {
+            // Only decode the values of this parameter
+            return extractValues(((ResteasyUriInfo) request.getUri()).getQueryParameter(encode ? encodedName : paramName,
+                    !encode));
+        }
         if (encode) {
             List<String> list = request.getUri().getQueryParameters(false).get(encodedName);
             return extractValues(list);
@@ -59,6 +59,7 @@ import org.jboss.resteasy.spi.metadata.ResourceMethod;
 import org.jboss.resteasy.spi.statistics.MethodStatisticsLogger;
 import org.jboss.resteasy.spi.validation.GeneralValidator;
 import org.jboss.resteasy.spi.validation.GeneralValidatorCDI;
+import org.jboss.resteasy.statistics.PhaseProfiler;
 import org.jboss.resteasy.statistics.StatisticsControllerImpl;
 import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
 import org.jboss.resteasy.util.DynamicFeatureContextDelegate;
@@ -115,6 +116,11 @@ public class ResourceMethodInvoker implements ResourceInvoker, JaxrsInterceptorR
             }
         };
 
+        // Invokers of sub-resources are created while processing requests, only the startup is profiled
+        final PhaseProfiler profiler = ResteasyContext.getContextData(HttpRequest.class) == null
+                ? ResteasyContext.getContextData(PhaseProfiler.class)
+                : null;
+        final long dynamicFeaturesStart = System.nanoTime();
         Set<DynamicFeature> serverDynamicFeatures = providerFactory.getServerDynamicFeatures();
         if (serverDynamicFeatures != null && !serverDynamicFeatures.isEmpty()) {
             this.resourceMethodProviderFactory = new ResteasyProviderFactoryImpl(RuntimeType.SERVER, providerFactory);
@@ -126,6 +132,9 @@ public class ResourceMethodInvoker implements ResourceInvoker, JaxrsInterceptorR
             // if no dynamic features, we don't need to copy the parent.
             this.resourceMethodProviderFactory = providerFactory;
         }
+        if (profiler != null) {
+            profiler.recordStartup(PhaseProfiler.StartupPhase.DYNAMIC_FEATURES, System.nanoTime() - dynamicFeaturesStart);
+        }
 
         this.methodInjector = injector.createMethodInjector(method, resourceMethodProviderFactory);
 
@@ -144,6 +153,7 @@ public class ResourceMethodInvoker implements ResourceInvoker, JaxrsInterceptorR
         providerFactory.getContainerRequestFilterRegistry().getListeners().add(this);
         providerFactory.getContainerResponseFilterRegistry().getListeners().add(this);
         providerFactory.getServerWriterInterceptorRegistry().getListeners().add(this);
+        final long validationStart = System.nanoTime();
         ContextResolver<GeneralValidator> resolver = providerFactory.getContextResolver(GeneralValidator.class,
                 MediaType.WILDCARD_TYPE);
         if (resolver != null) {
@@ -167,6 +177,9 @@ public class ResourceMethodInvoker implements ResourceInvoker, JaxrsInterceptorR
             }
             methodIsValidatable = validator.isMethodValidatable(getMethod());
         }
+        if (profiler != null) {
+            profiler.recordStartup(PhaseProfiler.StartupPhase.VALIDATION, System.nanoTime() - validationStart);
+        }
 
         asyncResponseProvider = resourceMethodProviderFactory.getAsyncResponseProvider(method.getReturnType());
         if (asyncResponseProvider == null) {
@@ -321,6 +334,15 @@ public class ResourceMethodInvoker implements ResourceInvoker, JaxrsInterceptorR
         return method.getResourceClass().getClazz();
     }
 
+    /**
+     * Returns the path template of the resource method, which includes the path of its resource class.
+     *
+     * @return the path template
+     */
+    public String getFullPath() {
+        return method.getFullpath();
+    }
+
     public Class<?> getReturnType() {
         return method.getReturnType();
     }
@@ -404,6 +426,11 @@ public class ResourceMethodInvoker implements ResourceInvoker, JaxrsInterceptorR
         final RESTEasyTracingLogger tracingLogger = RESTEasyTracingLogger.getInstance(request);
         final long timestamp = tracingLogger.timestamp("METHOD_INVOKE");
         final long msTimeStamp = methodStatisticsLogger.timestamp();
+        final PhaseProfiler.Sample sample = PhaseProfiler.Sample.of(request);
+        if (sample != null) {
+            // Creating the resource and injecting its fields
+            sample.phase(PhaseProfiler.RequestPhase.PARAMETER_INJECTION);
+        }
         try {
             ResteasyContext.pushContext(ResourceInfo.class, resourceInfo); // we don't pop so writer interceptors can get at this
             ResteasyContext.pushContext(Configuration.class, resourceMethodProviderFactory);
@@ -428,6 +455,10 @@ public class ResourceMethodInvoker implements ResourceInvoker, JaxrsInterceptorR
     }
 
     protected BuiltResponse invokeOnTargetAfterFilter(HttpRequest request, HttpResponse response, Object target) {
+        final PhaseProfiler.Sample sample = PhaseProfiler.Sample.of(request);
+        if (sample != null) {
+            sample.phase(PhaseProfiler.RequestPhase.REQUEST_FILTERS);
+        }
         if (validator != null) {
             if (isValidatable) {
                 validator.validate(request, target);
@@ -5,9 +5,13 @@ import java.lang.reflect.Proxy;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import jakarta.ws.rs.Path;
 
@@ -172,6 +176,10 @@ public class ResourceMethodRegistry implements Registry {
     }
 
     public void addResourceFactory(ResourceFactory ref, ResourceBuilder resourceBuilder, String base) {
+        addResourceFactory(ref, resourceBuilder, base, resolveRootClass(ref, resourceBuilder));
+    }
+
+    private static Class<?> resolveRootClass(ResourceFactory ref, ResourceBuilder resourceBuilder) {
         Class<?> clazz = ref.getScannableClass();
         Class restful = AnnotationResolver.getClassWithAnnotation(clazz, resourceBuilder.getCorrespondingRootAnnotation());
         if (restful == null) {
@@ -181,7 +189,7 @@ public class ResourceMethodRegistry implements Registry {
             }
             throw new RuntimeException(msg);
         }
-        addResourceFactory(ref, resourceBuilder, base, restful);
+        return restful;
     }
 
     /**
@@ -227,7 +235,75 @@ public class ResourceMethodRegistry implements Registry {
                 register(ref, base, resourceClass);
             }
         }
+        checkNonPublicMethods(resourceBuilder, classes);
+    }
+
+    /**
+     * Registers vanilla JAX-RS resource classes, building the resource metadata and the invokers of each class
+     * concurrently on the pool. The invokers are then added to the registry on the calling thread in the order of the
+     * classes, so the result is the same as invoking {@link #addPerRequestResource(Class)} for each class. Note that
+     * the {@link #register(ResourceFactory, String, ResourceClass)} and
+     * {@link #processMethod(ResourceFactory, String, ResourceLocator)} methods are not invoked.
+     * <p>
+     * The context data, the context class loader and the provider factory of the calling thread are made available to
+     * the tasks.
+     * </p>
+     *
+     * @param classes the resource classes
+     * @param pool    the pool used to build the resources
+     */
+    public void addPerRequestResources(final List<Class<?>> classes, final ForkJoinPool pool) {
+        final Map<Class<?>, Object> contextData = ResteasyContext.getContextDataMap();
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final List<ForkJoinTask<List<Registration>>> tasks = new ArrayList<>(classes.size());
+        for (Class<?> clazz : classes) {
+            tasks.add(pool.submit(() -> {
+                final Thread thread = Thread.currentThread();
+                final ClassLoader current = thread.getContextClassLoader();
+                thread.setContextClassLoader(classLoader);
+                ThreadLocalResteasyProviderFactory.push(providerFactory);
+                // Each task gets its own copy as the map is not thread safe
+                ResteasyContext.pushContextDataMap(new HashMap<>(contextData));
+                try {
+                    final ResourceFactory factory = new POJOResourceFactory(resourceBuilder, clazz);
+                    return prepareResourceFactory(factory, resourceBuilder, null,
+                            new Class<?>[] { resolveRootClass(factory, resourceBuilder) });
+                } finally {
+                    ResteasyContext.removeContextDataLevel();
+                    ThreadLocalResteasyProviderFactory.pop();
+                    thread.setContextClassLoader(current);
+                }
+            }));
+        }
+        // Merge in the order of the classes
+        for (ForkJoinTask<List<Registration>> task : tasks) {
+            for (Registration registration : task.join()) {
+                addRegistration(registration);
+            }
+        }
+    }
 
+    private List<Registration> prepareResourceFactory(final ResourceFactory ref, final ResourceBuilder resourceBuilder,
+            final String base, final Class<?>[] classes) {
+        if (ref != null)
+            ref.registered(providerFactory);
+        final List<Registration> registrations = new ArrayList<>();
+        for (Class<?> clazz : classes) {
+            if (Proxy.isProxyClass(clazz)) {
+                for (Class<?> intf : clazz.getInterfaces()) {
+                    ResourceClass resourceClass = resourceBuilder.getRootResourceFromAnnotations(intf);
+                    prepare(ref, base, resourceClass, registrations);
+                }
+            } else {
+                ResourceClass resourceClass = resourceBuilder.getRootResourceFromAnnotations(clazz);
+                prepare(ref, base, resourceClass, registrations);
+            }
+        }
+        checkNonPublicMethods(resourceBuilder, classes);
+        return registrations;
+    }
+
+    private void checkNonPublicMethods(final ResourceBuilder resourceBuilder, final Class<?>[] classes) {
         // https://issues.jboss.org/browse/JBPAPP-7871
         for (Class<?> clazz : classes) {
             for (Method method : getDeclaredMethods(clazz)) {
@@ -238,7 +314,6 @@ public class ResourceMethodRegistry implements Registry {
                 }
             }
         }
-
     }
 
     private Method[] getDeclaredMethods(final Class<?> clazz) {
@@ -276,6 +351,15 @@ public class ResourceMethodRegistry implements Registry {
         }
     }
 
+    private void prepare(ResourceFactory rf, String base, ResourceClass resourceClass, List<Registration> registrations) {
+        for (ResourceMethod method : resourceClass.getResourceMethods()) {
+            registrations.add(prepareMethod(rf, base, method));
+        }
+        for (ResourceLocator method : resourceClass.getResourceLocators()) {
+            registrations.add(prepareMethod(rf, base, method));
+        }
+    }
+
     /**
      * Resteasy 2.x does not properly handle sub-resource and sub-resource locator
      * endpoints with the same uri. Resteasy 3.x does handle this properly. In
@@ -314,6 +398,13 @@ public class ResourceMethodRegistry implements Registry {
     }
 
     protected void processMethod(ResourceFactory rf, String base, ResourceLocator method) {
+        addRegistration(prepareMethod(rf, base, method));
+    }
+
+    /**
+     * Creates the invoker of the method, this does not change the registry.
+     */
+    private Registration prepareMethod(ResourceFactory rf, String base, ResourceLocator method) {
         ResteasyUriBuilder builder = new ResteasyUriBuilderImpl();
         if (base != null)
             builder.path(base);
@@ -332,21 +423,19 @@ public class ResourceMethodRegistry implements Registry {
 
         InjectorFactory injectorFactory = providerFactory.getInjectorFactory();
         if (method instanceof ResourceMethod) {
-            ResourceMethodInvoker invoker = new ResourceMethodInvoker((ResourceMethod) method, injectorFactory, rf,
-                    providerFactory);
-            if (widerMatching)
-                rootNode.addInvoker(fullpath, invoker);
-            else
-                root.addInvoker(classExpression, fullpath, invoker);
-            statisticsController.register(invoker);
-        } else {
-            ResourceLocatorInvoker locator = new ResourceLocatorInvoker(rf, injectorFactory, providerFactory, method);
-            if (widerMatching)
-                rootNode.addInvoker(fullpath, locator);
-            else
-                root.addInvoker(classExpression, fullpath, locator);
-            statisticsController.register(locator);
+            return new Registration(classExpression, fullpath,
+                    new ResourceMethodInvoker((ResourceMethod) method, injectorFactory, rf, providerFactory));
         }
+        return new Registration(classExpression, fullpath,
+                new ResourceLocatorInvoker(rf, injectorFactory, providerFactory, method));
+    }
+
+    private void addRegistration(Registration registration) {
+        if (widerMatching)
+            rootNode.addInvoker(registration.fullpath, registration.invoker);
+        else
+            root.addInvoker(registration.classExpression, registration.fullpath, registration.invoker);
+        statisticsController.register(registration.invoker);
     }
 
     /**
@@ -444,4 +533,16 @@ public class ResourceMethodRegistry implements Registry {
             tracingLogger.logDuration("MATCH_SUMMARY", timestamp);
         }
     }
+
+    private static class Registration {
+        final String classExpression;
+        final String fullpath;
+        final ResourceInvoker invoker;
+
+        private Registration(final String classExpression, final String fullpath, final ResourceInvoker invoker) {
+            this.classExpression = classExpression;
+            this.fullpath = fullpath;
+            this.invoker = invoker;
+        }
+    }
 }
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import jakarta.ws.rs.container.DynamicFeature;
 import jakarta.ws.rs.core.Application;
@@ -21,6 +22,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.ext.Providers;
 
 import org.jboss.resteasy.core.providerfactory.ResteasyProviderFactoryImpl;
+import org.jboss.resteasy.jfr.Events;
 import org.jboss.resteasy.plugins.interceptors.RoleBasedSecurityFeature;
 import org.jboss.resteasy.plugins.providers.JaxrsServerFormUrlEncodedProvider;
 import org.jboss.resteasy.plugins.providers.RegisterBuiltin;
@@ -39,7 +41,9 @@ import org.jboss.resteasy.spi.ResteasyConfiguration;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
 import org.jboss.resteasy.spi.config.ConfigurationFactory;
+import org.jboss.resteasy.spi.config.Options;
 import org.jboss.resteasy.spi.metadata.ResourceBuilder;
+import org.jboss.resteasy.statistics.PhaseProfiler;
 import org.jboss.resteasy.util.GetRestful;
 
 /**
@@ -73,6 +77,7 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment {
     protected List<Class> actualProviderClasses;
     protected List<Object> providers;
     private final Set<String> disabledProviders;
+    private Runnable requestPhaseEventHook;
     protected boolean securityEnabled = false;
     protected List<String> jndiResources;
     protected List<String> resourceClasses;
@@ -131,6 +136,7 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment {
     }
 
     private void startInternal() {
+        final long start = System.nanoTime();
         initializeFactory();
         initializeDispatcher();
         pushContext();
@@ -163,6 +169,13 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment {
 
             registerMappers();
             ((ResteasyProviderFactoryImpl) providerFactory).lockSnapshots();
+            final PhaseProfiler profiler = getPhaseProfiler();
+            if (profiler != null) {
+                profiler.recordStartup(PhaseProfiler.StartupPhase.TOTAL, System.nanoTime() - start);
+                LogMessages.LOGGER.debugf("Deployment started, nanoseconds spent in each phase: %s",
+                        profiler.getStartupTimes());
+                requestPhaseEventHook = Events.register(profiler);
+            }
         } finally {
             ResteasyContext.removeContextDataLevel();
         }
@@ -415,6 +428,13 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment {
     }
 
     public void registration() {
+        final PhaseProfiler profiler = getPhaseProfiler();
+        if (profiler != null) {
+            // The registration may be run again, the times of the last run replace the previous ones
+            profiler.resetStartup(PhaseProfiler.StartupPhase.PROVIDERS, PhaseProfiler.StartupPhase.RESOURCES,
+                    PhaseProfiler.StartupPhase.DYNAMIC_FEATURES, PhaseProfiler.StartupPhase.VALIDATION);
+        }
+        final long start = System.nanoTime();
         boolean useScanning = registerApplication();
 
         if (useScanning && scannedProviderClasses != null) {
@@ -457,8 +477,22 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment {
                 }
             }
         }
+        final long providersRegistered = System.nanoTime();
         registerResources(useScanning);
+        final long resourcesRegistered = System.nanoTime();
+        if (profiler != null) {
+            profiler.recordStartup(PhaseProfiler.StartupPhase.PROVIDERS, providersRegistered - start);
+            profiler.recordStartup(PhaseProfiler.StartupPhase.RESOURCES, resourcesRegistered - providersRegistered);
+        }
+    }
 
+    /**
+     * Returns the profiler of the dispatcher.
+     *
+     * @return the profiler or {@code null} if the dispatcher does not profile
+     */
+    public PhaseProfiler getPhaseProfiler() {
+        return dispatcher instanceof SynchronousDispatcher ? ((SynchronousDispatcher) dispatcher).getPhaseProfiler() : null;
     }
 
     protected void registerResources(boolean useScanning) {
@@ -481,7 +515,44 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment {
             }
         }
 
+        // Subclasses of the registry may override the registration methods, which are then only called sequentially
+        final ForkJoinPool pool = Options.PARALLEL_REGISTRATION.getValue()
+                && registry.getClass() == ResourceMethodRegistry.class
+                        ? new ForkJoinPool(Runtime.getRuntime().availableProcessors())
+                        : null;
+        try {
+            registerPerRequestResources(useScanning, pool);
+
+            if (resources != null) {
+                for (Object obj : resources) {
+                    registry.addSingletonResource(obj);
+                }
+            }
+
+            if (actualResourceClasses != null) {
+                final List<Class<?>> classes = new ArrayList<>(actualResourceClasses.size());
+                for (Class<?> actualResourceClass : actualResourceClasses) {
+                    classes.add(actualResourceClass);
+                }
+                addPerRequestResources(classes, pool);
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+
+        if (resourceFactories != null) {
+            for (ResourceFactory factory : resourceFactories) {
+                registry.addResourceFactory(factory);
+            }
+        }
+        registry.checkAmbiguousUri();
+    }
+
+    private void registerPerRequestResources(final boolean useScanning, final ForkJoinPool pool) {
         if (useScanning && scannedResourceClasses != null) {
+            final List<Class<?>> classes = new ArrayList<>(scannedResourceClasses.size());
             for (String resource : scannedResourceClasses) {
                 Class<?> clazz = null;
                 try {
@@ -489,8 +560,9 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment {
                 } catch (ClassNotFoundException e) {
                     throw new RuntimeException(e);
                 }
-                registry.addPerRequestResource(clazz);
+                classes.add(clazz);
             }
+            addPerRequestResources(classes, pool);
         }
 
         if (useScanning && scannedResourceClassesWithBuilder != null) {
@@ -527,6 +599,7 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment {
         }
 
         if (resourceClasses != null) {
+            final List<Class<?>> classes = new ArrayList<>(resourceClasses.size());
             for (String resource : resourceClasses) {
                 Class<?> clazz = null;
                 try {
@@ -534,28 +607,20 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment {
                 } catch (ClassNotFoundException e) {
                     throw new RuntimeException(e);
                 }
-                registry.addPerRequestResource(clazz);
-            }
-        }
-
-        if (resources != null) {
-            for (Object obj : resources) {
-                registry.addSingletonResource(obj);
-            }
-        }
-
-        if (actualResourceClasses != null) {
-            for (Class<?> actualResourceClass : actualResourceClasses) {
-                registry.addPerRequestResource(actualResourceClass);
+                classes.add(clazz);
             }
+            addPerRequestResources(classes, pool);
         }
+    }
 
-        if (resourceFactories != null) {
-            for (ResourceFactory factory : resourceFactories) {
-                registry.addResourceFactory(factory);
+    private void addPerRequestResources(final List<Class<?>> classes, final ForkJoinPool pool) {
+        if (pool == null) {
+            for (Class<?> clazz : classes) {
+                registry.addPerRequestResource(clazz);
             }
+        } else {
+            ((ResourceMethodRegistry) registry).addPerRequestResources(classes, pool);
         }
-        registry.checkAmbiguousUri();
     }
 
     protected boolean registerApplication() {
@@ -605,6 +670,10 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment {
         if (asyncJobServiceEnabled) {
             ((AsynchronousDispatcher) dispatcher).stop();
         }
+        if (requestPhaseEventHook != null) {
+            Events.unregister(requestPhaseEventHook);
+            requestPhaseEventHook = null;
+        }
 
         ResteasyProviderFactory.clearInstanceIfEqual(threadLocalProviderFactory);
         ResteasyProviderFactory.clearInstanceIfEqual(providerFactory);
@@ -1,6 +1,7 @@
 package org.jboss.resteasy.core;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -21,6 +22,7 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.container.ContainerResponseFilter;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.NewCookie;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.MessageBodyWriter;
@@ -31,13 +33,16 @@ import org.jboss.resteasy.core.interception.jaxrs.ContainerResponseContextImpl;
 import org.jboss.resteasy.core.interception.jaxrs.ResponseContainerRequestContext;
 import org.jboss.resteasy.core.interception.jaxrs.ServerWriterInterceptorContext;
 import org.jboss.resteasy.core.registry.SegmentNode;
+import org.jboss.resteasy.plugins.providers.ProviderHelper;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
 import org.jboss.resteasy.specimpl.BuiltResponse;
 import org.jboss.resteasy.spi.AsyncOutputStream;
 import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.HttpResponse;
+import org.jboss.resteasy.spi.PassThroughResponse;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
+import org.jboss.resteasy.statistics.PhaseProfiler;
 import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
 import org.jboss.resteasy.util.CommitHeaderAsyncOutputStream;
 import org.jboss.resteasy.util.CommitHeaderOutputStream;
@@ -55,6 +60,17 @@ public class ServerResponseWriter {
         void run(Consumer<Throwable> onComplete) throws IOException;
     }
 
+    private static final String[] HOP_BY_HOP_HEADERS = {
+            HttpHeaderNames.CONNECTION,
+            "Keep-Alive",
+            "Proxy-Authenticate",
+            "Proxy-Authorization",
+            "TE",
+            "Trailer",
+            HttpHeaderNames.TRANSFER_ENCODING,
+            "Upgrade"
+    };
+
     private static Produces WILDCARD_PRODUCES = new Produces() {
 
         @Override
@@ -92,12 +108,28 @@ public class ServerResponseWriter {
             final ResteasyProviderFactory providerFactory, Consumer<Throwable> onComplete, boolean sendHeaders)
             throws IOException {
         ResourceMethodInvoker method = (ResourceMethodInvoker) request.getAttribute(ResourceMethodInvoker.class.getName());
+        final PhaseProfiler.Sample sample = PhaseProfiler.Sample.of(request);
+        if (sample != null) {
+            // The resource method, or its asynchronous result, has completed
+            sample.phase(PhaseProfiler.RequestPhase.INVOKE);
+            onComplete = sample.completing(onComplete);
+        }
 
         // do this even if we're not sending the headers, because this sets the content type in the response,
         // which is used by marshalling, and NPEs otherwise
         setResponseMediaType(jaxrsResponse, request, response, providerFactory, method);
 
         executeFilters(jaxrsResponse, request, response, providerFactory, method, onComplete, (onWriteComplete) -> {
+            if (sample != null) {
+                sample.phase(PhaseProfiler.RequestPhase.RESPONSE_FILTERS);
+            }
+            if (sendHeaders && jaxrsResponse instanceof PassThroughResponse && response.getOutputStream() != null) {
+                final InputStream passThrough = ((PassThroughResponse) jaxrsResponse).getPassThroughStream();
+                if (passThrough != null) {
+                    writePassThrough(jaxrsResponse, passThrough, response, onWriteComplete);
+                    return;
+                }
+            }
             Object entity = jaxrsResponse.isClosed() ? null : jaxrsResponse.getEntity();
 
             //[RESTEASY-1627] check on response.getOutputStream() to avoid resteasy-netty4 trying building a chunked response body for HEAD requests
@@ -181,6 +213,42 @@ public class ServerResponseWriter {
         });
     }
 
+    /**
+     * Forwards the raw entity of a {@link PassThroughResponse}, bypassing the message body writers and writer
+     * interceptors. Hop-by-hop headers of the original response are not forwarded.
+     */
+    private static void writePassThrough(BuiltResponse jaxrsResponse, InputStream in, HttpResponse response,
+            Consumer<Throwable> onWriteComplete) throws IOException {
+        removeHopByHopHeaders(jaxrsResponse);
+        response.setStatus(jaxrsResponse.getStatus());
+        commitHeaders(jaxrsResponse, response);
+        final OutputStream os = response.getOutputStream();
+        if (os instanceof AsyncOutputStream) {
+            ProviderHelper.writeToAndCloseInput(in, (AsyncOutputStream) os)
+                    .whenComplete((v, t) -> onWriteComplete.accept(t));
+        } else {
+            try (InputStream is = in) {
+                is.transferTo(os);
+            }
+            onWriteComplete.accept(null);
+        }
+    }
+
+    private static void removeHopByHopHeaders(BuiltResponse jaxrsResponse) {
+        final MultivaluedMap<String, Object> headers = jaxrsResponse.getMetadata();
+        final List<Object> connection = headers.get(HttpHeaderNames.CONNECTION);
+        if (connection != null) {
+            for (Object value : connection) {
+                for (String name : String.valueOf(value).split(",")) {
+                    headers.remove(name.trim());
+                }
+            }
+        }
+        for (String name : HOP_BY_HOP_HEADERS) {
+            headers.remove(name);
+        }
+    }
+
     private static OutputStream makeCommitOutputStream(OutputStream delegate, CommitCallback headers) {
         return delegate instanceof AsyncOutputStream
                 ? new CommitHeaderAsyncOutputStream((AsyncOutputStream) delegate, headers)
@@ -2,6 +2,9 @@ package org.jboss.resteasy.core;
 
 import java.io.UnsupportedEncodingException;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
@@ -16,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -25,6 +29,7 @@ import java.util.NavigableSet;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -68,6 +73,10 @@ public class StringParameterInjector {
 
     };
 
+    private static final MethodType CONVERTER_TYPE = MethodType.methodType(Object.class, String.class);
+    // Converters used in place of the constructor or valueOf method found by reflection for the most common types
+    private static final Map<Class<?>, MethodHandle> SPECIALIZED_CONVERTERS = specializedConverters();
+
     private static final class UnmodifiableArrayList<E> extends ArrayList<E> {
 
         private static final long serialVersionUID = -4912938596876802150L;
@@ -497,6 +506,8 @@ public class StringParameterInjector {
     protected ParamConverter<?> paramConverter;
     protected StringParameterUnmarshaller<?> unmarshaller;
     protected RuntimeDelegate.HeaderDelegate<?> delegate;
+    private MethodHandle converter;
+    private Map<String, Object> enumConstants;
 
     public StringParameterInjector() {
 
@@ -581,6 +592,14 @@ public class StringParameterInjector {
     }
 
     private boolean initialize(Annotation[] annotations, ResteasyProviderFactory factory) {
+        if (findConverter(annotations, factory)) {
+            bindConverter();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean findConverter(Annotation[] annotations, ResteasyProviderFactory factory) {
 
         // First try to find a ParamConverter if any
         paramConverter = factory.getParamConverter(baseType, baseGenericType, annotations);
@@ -681,6 +700,65 @@ public class StringParameterInjector {
         return valueOf != null;
     }
 
+    /**
+     * Binds the constructor or the {@code valueOf} method into a method handle, so converting a value does not go
+     * through reflection on each request. The constants of an enum are looked up in a map first.
+     */
+    private void bindConverter() {
+        converter = null;
+        enumConstants = null;
+        if (paramConverter != null || unmarshaller != null || delegate != null) {
+            return;
+        }
+        final MethodHandle specialized = SPECIALIZED_CONVERTERS.get(baseType);
+        if (specialized != null) {
+            converter = specialized;
+            return;
+        }
+        try {
+            if (constructor != null) {
+                converter = MethodHandles.publicLookup().unreflectConstructor(constructor).asType(CONVERTER_TYPE);
+            } else if (valueOf != null) {
+                converter = MethodHandles.publicLookup().unreflect(valueOf).asType(CONVERTER_TYPE);
+                if (baseType.isEnum() && "valueOf".equals(valueOf.getName())) {
+                    final Map<String, Object> constants = new HashMap<>();
+                    for (Object constant : baseType.getEnumConstants()) {
+                        constants.put(((Enum<?>) constant).name(), constant);
+                    }
+                    enumConstants = constants;
+                }
+            }
+        } catch (IllegalAccessException e) {
+            // Not accessible to a public lookup, fall back to reflection
+            LogMessages.LOGGER.debugf(e, "Unable to bind the converter of %s, reflection will be used.", baseType.getName());
+            converter = null;
+        }
+    }
+
+    private static Map<Class<?>, MethodHandle> specializedConverters() {
+        final Map<Class<?>, MethodHandle> converters = new HashMap<>();
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        try {
+            final MethodHandle intConverter = lookup.findStatic(Integer.class, "valueOf",
+                    MethodType.methodType(Integer.class, String.class)).asType(CONVERTER_TYPE);
+            final MethodHandle longConverter = lookup.findStatic(Long.class, "valueOf",
+                    MethodType.methodType(Long.class, String.class)).asType(CONVERTER_TYPE);
+            final MethodHandle booleanConverter = lookup.findStatic(Boolean.class, "valueOf",
+                    MethodType.methodType(Boolean.class, String.class)).asType(CONVERTER_TYPE);
+            converters.put(int.class, intConverter);
+            converters.put(Integer.class, intConverter);
+            converters.put(long.class, longConverter);
+            converters.put(Long.class, longConverter);
+            converters.put(boolean.class, booleanConverter);
+            converters.put(Boolean.class, booleanConverter);
+            converters.put(UUID.class, lookup.findStatic(UUID.class, "fromString",
+                    MethodType.methodType(UUID.class, String.class)).asType(CONVERTER_TYPE));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        return Map.copyOf(converters);
+    }
+
     @SuppressWarnings("rawtypes")
     private Class<? extends Collection> convertParameterTypeToCollectionType() {
         if (List.class.equals(type) || ArrayList.class.equals(type)) {
@@ -708,19 +786,20 @@ public class StringParameterInjector {
             if (values == null)
                 return null;
             Object vals = Array.newInstance(type.getComponentType(), values.size());
-            for (int i = 0; i < values.size(); i++)
-                Array.set(vals, i, extractValue(values.get(i)));
+            if (vals instanceof Object[]) {
+                final Object[] array = (Object[]) vals;
+                for (int i = 0; i < array.length; i++)
+                    array[i] = extractValue(values.get(i));
+            } else {
+                for (int i = 0; i < values.size(); i++)
+                    Array.set(vals, i, extractValue(values.get(i)));
+            }
             return vals;
         } else if (isCollection) {
             if (values == null)
                 return null;
-            @SuppressWarnings("rawtypes")
-            Collection collection = null;
-            try {
-                collection = collectionType.newInstance();
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+            // The values are collected in a list, the unmodifiable collection is the only copy
+            final List<Object> collection = new ArrayList<>(values.size());
             for (String str : values) {
                 collection.add(extractValue(str));
             }
@@ -786,6 +865,18 @@ public class StringParameterInjector {
                 throwProcessingException(Messages.MESSAGES.unableToExtractParameter(
                         getParamSignature(), strVal), pce);
             }
+        } else if (constructor != null && converter != null) {
+            try {
+                return (Object) converter.invokeExact(strVal);
+            } catch (WebApplicationException wae) {
+                throw wae;
+            } catch (Throwable e) {
+                LogMessages.LOGGER.unableToExtractParameter(e, getParamSignature(), strVal, target);
+                if (strVal.isBlank()) {
+                    return null;
+                }
+                throwProcessingException(Messages.MESSAGES.unableToExtractParameter(getParamSignature(), _encode(strVal)), e);
+            }
         } else if (constructor != null) {
             try {
                 return constructor.newInstance(strVal);
@@ -807,6 +898,21 @@ public class StringParameterInjector {
                 throwProcessingException(Messages.MESSAGES.unableToExtractParameter(getParamSignature(), _encode(strVal)),
                         targetException);
             }
+        } else if (valueOf != null && converter != null) {
+            if (enumConstants != null) {
+                final Object constant = enumConstants.get(strVal);
+                if (constant != null) {
+                    return constant;
+                }
+            }
+            try {
+                return (Object) converter.invokeExact(strVal);
+            } catch (WebApplicationException wae) {
+                throw wae;
+            } catch (Throwable e) {
+                LogMessages.LOGGER.unableToExtractParameter(e, getParamSignature(), strVal, target);
+                throwProcessingException(Messages.MESSAGES.unableToExtractParameter(getParamSignature(), _encode(strVal)), e);
+            }
         } else if (valueOf != null) {
             try {
                 return valueOf.invoke(null, strVal);
@@ -824,9 +930,11 @@ public class StringParameterInjector {
             }
         }
         try {
+            if (converter != null)
+                return (Object) converter.invokeExact(strVal);
             if (StringToPrimitive.isPrimitive(baseType))
                 return StringToPrimitive.stringToPrimitiveBoxType(baseType, strVal);
-        } catch (Exception e) {
+        } catch (Throwable e) {
             LogMessages.LOGGER.unableToExtractParameter(e, getParamSignature(), strVal, target);
             throwProcessingException(Messages.MESSAGES.unableToExtractParameter(getParamSignature(), _encode(strVal)), e);
         }
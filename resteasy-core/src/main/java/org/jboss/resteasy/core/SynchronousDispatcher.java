@@ -21,6 +21,9 @@ import jakarta.ws.rs.core.UriInfo;
 import jakarta.ws.rs.ext.Providers;
 
 import org.jboss.resteasy.core.interception.jaxrs.PreMatchContainerRequestContext;
+import org.jboss.resteasy.core.registry.RoutingFailure;
+import org.jboss.resteasy.jfr.DispatchEvent;
+import org.jboss.resteasy.jfr.Events;
 import org.jboss.resteasy.plugins.server.Cleanable;
 import org.jboss.resteasy.plugins.server.Cleanables;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
@@ -39,6 +42,7 @@ import org.jboss.resteasy.spi.ResteasyAsynchronousContext;
 import org.jboss.resteasy.spi.ResteasyConfiguration;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
 import org.jboss.resteasy.spi.UnhandledException;
+import org.jboss.resteasy.statistics.PhaseProfiler;
 import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
 
 /**
@@ -54,6 +58,7 @@ public class SynchronousDispatcher implements Dispatcher {
     protected Set<String> unwrappedExceptions = new HashSet<String>();
     protected boolean bufferExceptionEntityRead = false;
     protected boolean bufferExceptionEntity = true;
+    protected final PhaseProfiler phaseProfiler = new PhaseProfiler();
 
     {
         // This is to make sure LogMessages are preloaded as profiler shows a runtime hit
@@ -70,6 +75,7 @@ public class SynchronousDispatcher implements Dispatcher {
         defaultContextObjects.put(Registry.class, registry);
         defaultContextObjects.put(Dispatcher.class, this);
         defaultContextObjects.put(InternalDispatcher.class, InternalDispatcher.getInstance());
+        defaultContextObjects.put(PhaseProfiler.class, phaseProfiler);
     }
 
     public SynchronousDispatcher(final ResteasyProviderFactory providerFactory, final ResourceMethodRegistry registry) {
@@ -94,6 +100,15 @@ public class SynchronousDispatcher implements Dispatcher {
         return unwrappedExceptions;
     }
 
+    /**
+     * Returns the profiler recording the time spent starting the deployment and processing requests.
+     *
+     * @return the profiler
+     */
+    public PhaseProfiler getPhaseProfiler() {
+        return phaseProfiler;
+    }
+
     /*
      * TODO: refactor this method
      * This only used by org.jboss.restesy.springmvc.ResteasyHandlerMapping
@@ -224,11 +239,19 @@ public class SynchronousDispatcher implements Dispatcher {
         RESTEasyTracingLogger.initTracingSupport(providerFactory, request);
         RESTEasyTracingLogger.logStart(request);
 
+        final DispatchEvent event = Events.dispatch();
+        event.begin();
         try {
+            final PhaseProfiler.Sample sample = phaseProfiler.sample(request);
             pushContextObjects(request, response);
             preprocess(request, response, () -> {
                 ResourceInvoker invoker = null;
                 try {
+                    if (sample != null) {
+                        sample.phase(PhaseProfiler.RequestPhase.PRE_MATCH_FILTERS);
+                    }
+                    // Without exception mappers for them, 404, 405, 406 and 415 are answered without an exception
+                    final boolean routingFailures = RoutingFailure.enable(request, providerFactory);
                     try {
                         invoker = getInvoker(request);
                     } catch (Exception exception) {
@@ -236,6 +259,13 @@ public class SynchronousDispatcher implements Dispatcher {
                         writeException(request, response, exception, t -> {
                         });
                         return;
+                    } finally {
+                        if (routingFailures) {
+                            RoutingFailure.disable(request);
+                        }
+                    }
+                    if (sample != null) {
+                        sample.phase(PhaseProfiler.RequestPhase.MATCH);
                     }
                     invoke(request, response, invoker);
                 } finally {
@@ -244,6 +274,7 @@ public class SynchronousDispatcher implements Dispatcher {
                 }
             });
         } finally {
+            event.end(request, response);
             clearContextData();
         }
     }
@@ -255,11 +286,17 @@ public class SynchronousDispatcher implements Dispatcher {
      * @param response http response
      */
     public void invokePropagateNotFound(HttpRequest request, HttpResponse response) throws NotFoundException {
+        final DispatchEvent event = Events.dispatch();
+        event.begin();
         try {
+            final PhaseProfiler.Sample sample = phaseProfiler.sample(request);
             pushContextObjects(request, response);
             preprocess(request, response, () -> {
                 ResourceInvoker invoker = null;
                 try {
+                    if (sample != null) {
+                        sample.phase(PhaseProfiler.RequestPhase.PRE_MATCH_FILTERS);
+                    }
                     try {
                         invoker = getInvoker(request);
                     } catch (Exception failure) {
@@ -272,6 +309,9 @@ public class SynchronousDispatcher implements Dispatcher {
                             return;
                         }
                     }
+                    if (sample != null) {
+                        sample.phase(PhaseProfiler.RequestPhase.MATCH);
+                    }
                     invoke(request, response, invoker);
                 } finally {
                     // we're probably clearing it twice but still required
@@ -279,6 +319,7 @@ public class SynchronousDispatcher implements Dispatcher {
                 }
             });
         } finally {
+            event.end(request, response);
             clearContextData();
         }
 
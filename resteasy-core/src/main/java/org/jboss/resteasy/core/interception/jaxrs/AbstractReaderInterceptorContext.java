@@ -12,6 +12,8 @@ import jakarta.ws.rs.ext.MessageBodyReader;
 import jakarta.ws.rs.ext.ReaderInterceptor;
 import jakarta.ws.rs.ext.ReaderInterceptorContext;
 
+import org.jboss.resteasy.jfr.Events;
+import org.jboss.resteasy.jfr.MessageBodyReaderEvent;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.Messages;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
@@ -73,12 +75,17 @@ public abstract class AbstractReaderInterceptorContext implements ReaderIntercep
     public Object proceed() throws IOException {
         LogMessages.LOGGER.debugf("Interceptor Context: %s,  Method : proceed", getClass().getName());
         if (interceptors == null || index >= interceptors.length) {
+            final MessageBodyReaderEvent event = Events.messageBodyReader();
+            event.start();
             MessageBodyReader reader = getReader();
+            event.selected();
             if (reader != null) {
                 tracingLogger.log("MBR_READ_FROM", reader.getClass().getName());
                 LogMessages.LOGGER.debugf("MessageBodyReader: %s", reader.getClass().getName());
             }
-            return readFrom(reader);
+            final Object result = readFrom(reader);
+            event.end(reader, type, mediaType);
+            return result;
         }
         LogMessages.LOGGER.debugf("ReaderInterceptor: %s", interceptors[index].getClass().getName());
 
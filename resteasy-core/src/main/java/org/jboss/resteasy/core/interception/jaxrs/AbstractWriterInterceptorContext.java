@@ -16,6 +16,8 @@ import jakarta.ws.rs.ext.WriterInterceptor;
 import jakarta.ws.rs.ext.WriterInterceptorContext;
 
 import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.jfr.Events;
+import org.jboss.resteasy.jfr.MessageBodyWriterEvent;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.Messages;
 import org.jboss.resteasy.spi.AsyncMessageBodyWriter;
@@ -182,12 +184,19 @@ public abstract class AbstractWriterInterceptorContext implements WriterIntercep
         LogMessages.LOGGER.debugf("Interceptor Context: %s,  Method : proceed", getClass().getName());
 
         if (interceptors == null || index >= interceptors.length) {
+            final MessageBodyWriterEvent event = Events.messageBodyWriter();
+            event.start();
             AsyncMessageBodyWriter writer = (AsyncMessageBodyWriter) getWriter();
+            event.selected();
             if (writer != null) {
                 tracingLogger.log("MBW_WRITE_TO", writer.getClass().getName());
                 LogMessages.LOGGER.debugf("MessageBodyWriter: %s", writer.getClass().getName());
             }
-            return writeTo(writer);
+            final CompletionStage<Void> result = writeTo(writer);
+            if (event.isEnabled()) {
+                return result.whenComplete((v, t) -> event.end(writer, type, mediaType));
+            }
+            return result;
         } else {
             LogMessages.LOGGER.debugf("WriterInterceptor: %s", interceptors[index].getClass().getName());
             int x = index;
@@ -216,12 +225,17 @@ public abstract class AbstractWriterInterceptorContext implements WriterIntercep
         LogMessages.LOGGER.debugf("Interceptor Context: %s,  Method : proceed", getClass().getName());
 
         if (interceptors == null || index >= interceptors.length) {
+            final MessageBodyWriterEvent event = Events.messageBodyWriter();
+            event.start();
             MessageBodyWriter writer = getWriter();
+            event.selected();
             if (writer != null) {
                 tracingLogger.log("MBW_WRITE_TO", writer.getClass().getName());
                 LogMessages.LOGGER.debugf("MessageBodyWriter: %s", writer.getClass().getName());
             }
-            return writeTo(writer);
+            final CompletionStage<Void> result = writeTo(writer);
+            event.end(writer, type, mediaType);
+            return result;
         } else {
             LogMessages.LOGGER.debugf("WriterInterceptor: %s", interceptors[index].getClass().getName());
             int x = index;
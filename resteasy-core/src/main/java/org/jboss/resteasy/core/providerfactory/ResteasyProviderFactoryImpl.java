@@ -993,23 +993,24 @@ public class ResteasyProviderFactoryImpl extends ResteasyProviderFactory
 
     @Override
     public <T extends Throwable> ExceptionMapper<T> getExceptionMapper(Class<T> type) {
-        Class exceptionType = type;
-        SortedKey<ExceptionMapper> mapper = null;
-        Map<Class<?>, SortedKey<ExceptionMapper>> mappers = getSortedExceptionMappers();
-        if (mappers == null && defaultExceptionManagerEnabled) {
-            return (ExceptionMapper<T>) DefaultExceptionMapper.INSTANCE;
-        }
-        while (mapper == null) {
-            if (exceptionType == null)
-                break;
-            mapper = mappers.get(exceptionType);
-            if (mapper == null)
-                exceptionType = exceptionType.getSuperclass();
-        }
+        SortedKey<ExceptionMapper> mapper = serverHelper.resolveExceptionMapper(type);
         return mapper != null ? mapper.getObj()
                 : (defaultExceptionManagerEnabled ? (ExceptionMapper<T>) DefaultExceptionMapper.INSTANCE : null);
     }
 
+    /**
+     * Returns the exception mapper registered for the type or, if there is none, for its closest super class. Unlike
+     * {@link #getExceptionMapper(Class)} the default exception mapper is not returned if no mapper is registered.
+     *
+     * @param type the exception type
+     * @param <T>  the exception type
+     * @return the exception mapper or {@code null} if no mapper handles the type
+     */
+    public <T extends Throwable> ExceptionMapper<T> resolveExceptionMapper(Class<T> type) {
+        SortedKey<ExceptionMapper> mapper = serverHelper.resolveExceptionMapper(type);
+        return mapper != null ? mapper.getObj() : null;
+    }
+
     public <T extends Throwable> ExceptionMapper<T> getExceptionMapperForClass(Class<T> type) {
         Map<Class<?>, SortedKey<ExceptionMapper>> mappers = getSortedExceptionMappers();
         if (mappers == null)
@@ -3,6 +3,8 @@ package org.jboss.resteasy.core.providerfactory;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.ws.rs.ConstrainedTo;
 import jakarta.ws.rs.RuntimeType;
@@ -40,6 +42,9 @@ public class ServerHelper extends CommonProviders {
     protected Map<Class<?>, AsyncStreamProvider> asyncStreamProviders;
     protected boolean attachedExceptionMappers;
     protected Map<Class<?>, SortedKey<ExceptionMapper>> exceptionMappers;
+    // The mapper resolved for each thrown exception type, cleared whenever a mapper is registered
+    private final Map<Class<?>, Optional<SortedKey<ExceptionMapper>>> resolvedExceptionMappers = new ConcurrentHashMap<>();
+    private volatile int exceptionMappersVersion;
 
     public ServerHelper() {
     }
@@ -293,6 +298,51 @@ public class ServerHelper extends CommonProviders {
         mappers.put(exceptionClass, candidateExceptionMapper);
         attachedExceptionMappers = false;
         exceptionMappers = mappers;
+        exceptionMappersVersion++;
+        resolvedExceptionMappers.clear();
+    }
+
+    /**
+     * Returns the exception mapper registered for the exception type or, if there is none, for its closest super
+     * class. The result is cached per exception type until another exception mapper is registered.
+     *
+     * @param type the exception type
+     * @return the mapper or {@code null} if no mapper handles the exception type
+     */
+    public SortedKey<ExceptionMapper> resolveExceptionMapper(final Class<?> type) {
+        // Read the version before the mappers, a mapper registered after reading them then changes the version
+        final int version = exceptionMappersVersion;
+        final Map<Class<?>, SortedKey<ExceptionMapper>> mappers = getExceptionMappers();
+        if (mappers == null) {
+            return null;
+        }
+        if (attachedExceptionMappers) {
+            // The mappers are shared with the parent which may still register mappers, do not cache
+            return findExceptionMapper(mappers, type);
+        }
+        Optional<SortedKey<ExceptionMapper>> resolved = resolvedExceptionMappers.get(type);
+        if (resolved == null) {
+            resolved = Optional.ofNullable(findExceptionMapper(mappers, type));
+            resolvedExceptionMappers.putIfAbsent(type, resolved);
+            if (version != exceptionMappersVersion) {
+                // A mapper was registered in the meantime, the result may be stale
+                resolvedExceptionMappers.remove(type);
+            }
+        }
+        return resolved.orElse(null);
+    }
+
+    private static SortedKey<ExceptionMapper> findExceptionMapper(final Map<Class<?>, SortedKey<ExceptionMapper>> mappers,
+            final Class<?> type) {
+        Class<?> exceptionType = type;
+        while (exceptionType != null) {
+            final SortedKey<ExceptionMapper> mapper = mappers.get(exceptionType);
+            if (mapper != null) {
+                return mapper;
+            }
+            exceptionType = exceptionType.getSuperclass();
+        }
+        return null;
     }
 
     protected JaxrsInterceptorRegistry<ContainerRequestFilter> getRequestFiltersForWrite() {
@@ -8,8 +8,6 @@ import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import jakarta.ws.rs.NotFoundException;
-
 import org.jboss.resteasy.resteasy_jaxrs.i18n.Messages;
 import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.spi.HttpRequest;
@@ -61,7 +59,11 @@ public class ClassNode {
                 return expression.getRoot();
             }
         }
-        throw new NotFoundException(Messages.MESSAGES.couldNotFindResourceForFullPath(request.getUri().getRequestUri()));
+        if (RoutingFailure.isEnabled(request)) {
+            return RoutingFailure.NO_RESOURCES;
+        }
+        throw new StacklessNotFoundException(
+                Messages.MESSAGES.couldNotFindResourceForFullPath(request.getUri().getRequestUri()));
     }
 
     public void potentials(String path, int start, List<ClassExpression> matches) {
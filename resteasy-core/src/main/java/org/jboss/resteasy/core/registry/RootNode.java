@@ -13,6 +13,8 @@ import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.MultivaluedMap;
 
 import org.jboss.resteasy.core.ResourceMethodInvoker;
+import org.jboss.resteasy.jfr.Events;
+import org.jboss.resteasy.jfr.MatchEvent;
 import org.jboss.resteasy.plugins.server.servlet.ResteasyContextParameters;
 import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.spi.HttpRequest;
@@ -56,12 +58,17 @@ public class RootNode {
     }
 
     public ResourceInvoker match(HttpRequest request, int start) {
+        final MatchEvent event = Events.match();
+        event.begin();
         if (!CACHE || (request.getHttpHeaders().getMediaType() != null
                 && !request.getHttpHeaders().getMediaType().getParameters().isEmpty())) {
-            return root.match(request, start).invoker;
+            final ResourceInvoker invoker = root.match(request, start).invoker;
+            event.end(request, MatchEvent.BYPASS);
+            return invoker;
         }
         MatchCache.Key key = new MatchCache.Key(request, start);
         MatchCache match = cache.get(key);
+        String outcome = MatchEvent.HIT;
         if (match != null) {
             //System.out.println("*** cache hit: " + key.method + " " + key.path);
             request.setAttribute(RESTEASY_CHOSEN_ACCEPT, match.chosen);
@@ -69,6 +76,7 @@ public class RootNode {
             ((ResteasyUriInfo) request.getUri()).addMatchedResourceTemplate(match.pathExpression());
         } else {
             match = root.match(request, start);
+            outcome = MatchEvent.BYPASS;
             if (match.match != null && match.match.expression.getNumGroups() == 0
                     && match.invoker instanceof ResourceMethodInvoker) {
                 //System.out.println("*** caching: " + key.method + " " + key.path);
@@ -77,8 +85,10 @@ public class RootNode {
                     cache.clear();
                 }
                 cache.putIfAbsent(key, match);
+                outcome = MatchEvent.MISS;
             }
         }
+        event.end(request, outcome);
         return match.invoker;
     }
 
@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.core.registry;
+
+import jakarta.ws.rs.NotAcceptableException;
+import jakarta.ws.rs.NotAllowedException;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.NotSupportedException;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.core.providerfactory.ResteasyProviderFactoryImpl;
+import org.jboss.resteasy.spi.HttpRequest;
+import org.jboss.resteasy.spi.HttpResponseCodes;
+import org.jboss.resteasy.spi.ResteasyProviderFactory;
+import org.jboss.resteasy.util.HttpHeaderNames;
+
+/**
+ * The outcome of a request which could not be matched to a resource method. By default matching fails by throwing a
+ * {@link NotFoundException}, {@link NotAllowedException}, {@link NotAcceptableException} or
+ * {@link NotSupportedException}, which is then handed to the exception mappers. When no exception mapper handles these
+ * exceptions the response is always the status of the exception, so the dispatcher may
+ * {@linkplain #enable(HttpRequest, ResteasyProviderFactory) enable} the routing failures for the request. The match
+ * then returns an invoker answering with the status directly, without creating the exception.
+ * <p>
+ * Routing failures are only enabled while the dispatcher matches the request itself. Sub-resource locators and other
+ * callers of the registry still get the exceptions.
+ * </p>
+ *
+ * @since 7.0
+ */
+public final class RoutingFailure {
+    private static final String ATTRIBUTE = RoutingFailure.class.getName();
+
+    /**
+     * The resources of a class which could not be matched. There are none, so matching them is a routing failure.
+     */
+    static final RootNode NO_RESOURCES = new RootNode();
+
+    private RoutingFailure() {
+    }
+
+    /**
+     * Enables the routing failures for the request if no exception mapper handles the exceptions the match would
+     * throw.
+     *
+     * @param request         the request about to be matched
+     * @param providerFactory the provider factory holding the exception mappers
+     *
+     * @return {@code true} if the routing failures were enabled and must be {@linkplain #disable(HttpRequest) disabled}
+     *         once the request has been matched
+     */
+    public static boolean enable(final HttpRequest request, final ResteasyProviderFactory providerFactory) {
+        if (!(providerFactory instanceof ResteasyProviderFactoryImpl)) {
+            return false;
+        }
+        final ResteasyProviderFactoryImpl factory = (ResteasyProviderFactoryImpl) providerFactory;
+        if (factory.resolveExceptionMapper(NotFoundException.class) != null
+                || factory.resolveExceptionMapper(NotAllowedException.class) != null
+                || factory.resolveExceptionMapper(NotAcceptableException.class) != null
+                || factory.resolveExceptionMapper(NotSupportedException.class) != null) {
+            return false;
+        }
+        request.setAttribute(ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * Disables the routing failures for the request.
+     *
+     * @param request the request which was matched
+     */
+    public static void disable(final HttpRequest request) {
+        request.removeAttribute(ATTRIBUTE);
+    }
+
+    static boolean isEnabled(final HttpRequest request) {
+        return request.getAttribute(ATTRIBUTE) != null;
+    }
+
+    static MatchCache notFound() {
+        return of(Response.status(HttpResponseCodes.SC_NOT_FOUND).build());
+    }
+
+    static MatchCache notAllowed(final String allow) {
+        return of(Response.status(HttpResponseCodes.SC_METHOD_NOT_ALLOWED).header(HttpHeaderNames.ALLOW, allow).build());
+    }
+
+    static MatchCache notAcceptable() {
+        return of(Response.status(HttpResponseCodes.SC_NOT_ACCEPTABLE).build());
+    }
+
+    static MatchCache unsupportedMediaType() {
+        return of(Response.status(HttpResponseCodes.SC_UNSUPPORTED_MEDIA_TYPE).build());
+    }
+
+    private static MatchCache of(final Response response) {
+        // The match is left null so the outcome is never cached
+        final MatchCache cache = new MatchCache("/");
+        cache.invoker = new ConstantResourceInvoker(response);
+        return cache;
+    }
+}
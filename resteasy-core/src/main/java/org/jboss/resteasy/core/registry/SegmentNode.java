@@ -16,8 +16,6 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import jakarta.ws.rs.NotAcceptableException;
-import jakarta.ws.rs.NotAllowedException;
-import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.NotSupportedException;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
@@ -140,7 +138,11 @@ public class SegmentNode {
             }
         }
         if (matches.size() == 0) {
-            throw new NotFoundException(Messages.MESSAGES.couldNotFindResourceForFullPath(request.getUri().getRequestUri()));
+            if (RoutingFailure.isEnabled(request)) {
+                return RoutingFailure.notFound();
+            }
+            throw new StacklessNotFoundException(
+                    Messages.MESSAGES.couldNotFindResourceForFullPath(request.getUri().getRequestUri()));
         }
         MatchCache match = match(matches, request.getHttpMethod(), request);
         if (match.match != null) {
@@ -441,13 +443,23 @@ public class SegmentNode {
                     cache.invoker = new ConstantResourceInvoker(resBuilder.build());
                     return cache;
                 } else {
+                    if (RoutingFailure.isEnabled(request)) {
+                        return RoutingFailure.notAllowed(allowHeaderValue);
+                    }
                     Response res = Response.status(HttpResponseCodes.SC_METHOD_NOT_ALLOWED)
                             .header(HttpHeaderNames.ALLOW, allowHeaderValue).build();
-                    throw new NotAllowedException(Messages.MESSAGES.noResourceMethodFoundForHttpMethod(httpMethod), res);
+                    throw new StacklessNotAllowedException(Messages.MESSAGES.noResourceMethodFoundForHttpMethod(httpMethod),
+                            res);
                 }
             } else if (!consumeMatch) {
+                if (RoutingFailure.isEnabled(request)) {
+                    return RoutingFailure.unsupportedMediaType();
+                }
                 throw new NotSupportedException(Messages.MESSAGES.cannotConsumeContentType());
             }
+            if (RoutingFailure.isEnabled(request)) {
+                return RoutingFailure.notAcceptable();
+            }
             throw new NotAcceptableException(Messages.MESSAGES.noMatchForAcceptHeader());
         }
         //if (list.size() == 1) return list.get(0); //don't do this optimization as we need to set chosen accept
@@ -0,0 +1,23 @@
+package org.jboss.resteasy.core.registry;
+
+import jakarta.ws.rs.NotAllowedException;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Thrown when no resource method of the matched resource supports the HTTP method of a request. The stack trace would
+ * only show the matching code, so it is not filled in, which makes the exception cheap to create.
+ *
+ * @since 7.0
+ */
+final class StacklessNotAllowedException extends NotAllowedException {
+    private static final long serialVersionUID = 6305046578262442345L;
+
+    StacklessNotAllowedException(final String message, final Response response) {
+        super(message, response);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
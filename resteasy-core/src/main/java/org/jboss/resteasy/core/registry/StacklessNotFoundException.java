@@ -0,0 +1,22 @@
+package org.jboss.resteasy.core.registry;
+
+import jakarta.ws.rs.NotFoundException;
+
+/**
+ * Thrown when no resource matches the path of a request. The stack trace would only show the matching code, so it is
+ * not filled in, which makes the exception cheap to create when many requests do not match.
+ *
+ * @since 7.0
+ */
+final class StacklessNotFoundException extends NotFoundException {
+    private static final long serialVersionUID = -4178340858934547519L;
+
+    StacklessNotFoundException(final String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
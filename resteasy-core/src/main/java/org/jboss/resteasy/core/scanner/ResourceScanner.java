@@ -22,7 +22,9 @@ package org.jboss.resteasy.core.scanner;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.net.URL;
+import java.nio.file.FileSystemNotFoundException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -34,6 +36,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -53,6 +56,8 @@ import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 import org.jboss.jandex.JarIndexer;
 import org.jboss.jandex.Result;
+import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
+import org.jboss.resteasy.spi.metadata.ResourceIndex;
 
 /**
  * A scanner for locating resources.
@@ -79,16 +84,20 @@ public class ResourceScanner {
     private static final DotName PROVIDER = DotName.createComponentized(EXT, "Provider");
 
     private final IndexView index;
+    private final Set<String> indexedApplications;
     private final Map<DotName, Set<String>> scanned;
 
-    private ResourceScanner(final IndexView index) {
+    private ResourceScanner(final IndexView index, final Set<String> indexedApplications) {
         this.index = index;
+        this.indexedApplications = indexedApplications;
         scanned = new ConcurrentHashMap<>();
     }
 
     /**
-     * Creates a new scanner. This first searches for {@code META-INF/jandex.idx} resources on the class path. If no
-     * index resources are found, the class path itself is indexed. Note that scanning the class path could have
+     * Creates a new scanner. This first searches for the {@linkplain ResourceIndex build-time resource index}, then for
+     * {@code META-INF/jandex.idx} resources on the class path. If no index resources are found, the class path itself
+     * is indexed. The types of the build-time index are merged with the other results, only the directories and
+     * archives containing a build-time index are not read again. Note that scanning the class path could have
      * significant performance impacts.
      *
      * @param cl the class loader to find the indexes on
@@ -102,9 +111,11 @@ public class ResourceScanner {
     }
 
     /**
-     * Creates a new scanner. This first searches for {@code META-INF/jandex.idx} resources on the class path ignoring
-     * the {@code filter}. If no index resources are found, the class path itself is indexed. Note that scanning the
-     * class path could have significant performance impacts.
+     * Creates a new scanner. This first searches for the {@linkplain ResourceIndex build-time resource index}, then for
+     * {@code META-INF/jandex.idx} resources on the class path ignoring the {@code filter}. If no index resources are
+     * found, the class path itself is indexed. The types of the build-time index are merged with the other results,
+     * only the directories and archives containing a build-time index are not read again. Note that scanning the class
+     * path could have significant performance impacts.
      * <p>
      * A filter can be used to exclude certain paths from being processed. For example if you want only {@code *.class}
      * files to be processed you could add a filter like:
@@ -122,23 +133,42 @@ public class ResourceScanner {
      */
     public static ResourceScanner fromClassPath(final ClassLoader cl, final Predicate<Path> filter) throws IOException {
         final Collection<IndexView> indexes = new ArrayList<>();
+        // Check for the index written by the resteasy-index-processor, the roots it was found in are not scanned
+        final ResourceIndex resourceIndex = ResourceIndex.of(cl);
+        Set<Path> indexedRoots = Set.of();
+        Set<String> indexedApplications = Set.of();
+        if (!resourceIndex.isEmpty()) {
+            final Index index = indexResourceIndex(cl, resourceIndex);
+            if (index != null) {
+                indexes.add(index);
+                indexedRoots = findRoots(cl, ResourceIndex.LOCATION);
+                indexedApplications = resourceIndex.getApplications();
+            }
+        }
         // Check for a jandex.idx
+        boolean jandex = false;
         final Enumeration<URL> resources = cl.getResources("META-INF/jandex.idx");
-        if (resources.hasMoreElements()) {
-            while (resources.hasMoreElements()) {
-                try (InputStream in = resources.nextElement().openStream()) {
-                    final IndexReader reader = new IndexReader(in);
-                    indexes.add(reader.read());
-                }
+        while (resources.hasMoreElements()) {
+            final URL url = resources.nextElement();
+            if (indexedRoots.contains(findRoot(url, "META-INF/jandex.idx"))) {
+                continue;
             }
-            return new ResourceScanner(CompositeIndex.create(indexes));
+            try (InputStream in = url.openStream()) {
+                final IndexReader reader = new IndexReader(in);
+                indexes.add(reader.read());
+            }
+            jandex = true;
+        }
+        if (jandex) {
+            return new ResourceScanner(CompositeIndex.create(indexes), indexedApplications);
         }
         final Indexer indexer = new Indexer();
 
         final String[] cpEntries = System.getProperty("java.class.path").split(File.pathSeparator);
         for (String entry : cpEntries) {
             final Path path = Paths.get(entry);
-            if (Files.exists(path) && (filter == null || filter.test(path))) {
+            if (Files.exists(path) && (filter == null || filter.test(path))
+                    && !indexedRoots.contains(path.toAbsolutePath().normalize())) {
                 if (Files.isDirectory(path)) {
                     Files.walkFileTree(path, new SimpleFileVisitor<>() {
                         @Override
@@ -158,7 +188,7 @@ public class ResourceScanner {
             }
         }
         indexes.add(indexer.complete());
-        return new ResourceScanner(CompositeIndex.create(indexes));
+        return new ResourceScanner(CompositeIndex.create(indexes), indexedApplications);
     }
 
     /**
@@ -169,7 +199,7 @@ public class ResourceScanner {
      * @return a new resource scanner
      */
     public static ResourceScanner of(final Index index) {
-        return new ResourceScanner(index);
+        return new ResourceScanner(index, Set.of());
     }
 
     /**
@@ -185,9 +215,12 @@ public class ResourceScanner {
             apps.addAll(resolveTypeFromAnnotation(annotation));
             apps.addAll(index.getAllKnownSubclasses(APPLICATION));
             apps.sort(PrioritySorter.INSTANCE);
-            return apps.stream()
+            final Set<String> names = apps.stream()
                     .map(classInfo -> classInfo.name().toString())
-                    .collect(Collectors.toSet());
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            // Applications may extend Application indirectly through types which are not indexed
+            names.addAll(indexedApplications);
+            return names;
         });
         return Collections.unmodifiableSet(applications);
     }
@@ -239,6 +272,61 @@ public class ResourceScanner {
         return results;
     }
 
+    private static Index indexResourceIndex(final ClassLoader cl, final ResourceIndex resourceIndex)
+            throws IOException {
+        // Only the types listed in the index are indexed, which avoids reading every class of the indexed roots
+        final Set<String> types = new LinkedHashSet<>(resourceIndex.getApplications());
+        types.addAll(resourceIndex.getResources());
+        types.addAll(resourceIndex.getProviders());
+        final Indexer indexer = new Indexer();
+        for (String type : types) {
+            try (InputStream in = cl.getResourceAsStream(type.replace('.', '/') + ".class")) {
+                if (in == null) {
+                    // The index is stale, fall back to scanning
+                    LogMessages.LOGGER.debugf("Type %s from the resource index was not found, scanning the class path.",
+                            type);
+                    return null;
+                }
+                indexer.index(in);
+            }
+        }
+        return indexer.complete();
+    }
+
+    private static Set<Path> findRoots(final ClassLoader cl, final String location) throws IOException {
+        final Set<Path> roots = new HashSet<>();
+        final Enumeration<URL> urls = cl.getResources(location);
+        while (urls.hasMoreElements()) {
+            final Path root = findRoot(urls.nextElement(), location);
+            if (root != null) {
+                roots.add(root);
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * Returns the directory or archive a resource was found in, or {@code null} if it is neither a file nor in a
+     * file archive.
+     */
+    private static Path findRoot(final URL url, final String location) {
+        final String value = url.toString();
+        try {
+            if ("jar".equals(url.getProtocol())) {
+                final int end = value.lastIndexOf("!/");
+                if (end > 4) {
+                    return Paths.get(URI.create(value.substring(4, end))).toAbsolutePath().normalize();
+                }
+            } else if ("file".equals(url.getProtocol()) && value.endsWith(location)) {
+                return Paths.get(URI.create(value.substring(0, value.length() - location.length())))
+                        .toAbsolutePath().normalize();
+            }
+        } catch (IllegalArgumentException | FileSystemNotFoundException e) {
+            LogMessages.LOGGER.debugf(e, "Could not resolve the class path root of %s.", url);
+        }
+        return null;
+    }
+
     private static Result indexJar(final Indexer indexer, final Path jar) throws IOException {
         return JarIndexer.createJarIndex(jar.toFile(), indexer, false, false, false);
     }
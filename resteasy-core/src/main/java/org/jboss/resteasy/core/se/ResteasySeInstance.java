@@ -38,11 +38,13 @@ import org.jboss.jandex.Index;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.concurrent.ContextualExecutors;
 import org.jboss.resteasy.core.AsynchronousDispatcher;
+import org.jboss.resteasy.core.ResteasyDeploymentImpl;
 import org.jboss.resteasy.core.scanner.ResourceScanner;
 import org.jboss.resteasy.plugins.server.embedded.EmbeddedServer;
 import org.jboss.resteasy.plugins.server.embedded.EmbeddedServers;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.Messages;
 import org.jboss.resteasy.spi.ResteasyDeployment;
+import org.jboss.resteasy.statistics.PhaseProfiler;
 
 /**
  * An implementation of a {@link Instance}.
@@ -89,12 +91,14 @@ public class ResteasySeInstance implements Instance {
                 final ResteasyDeployment deployment = server.getDeployment();
                 deployment.setRegisterBuiltin(ConfigurationOption.REGISTER_BUILT_INS.getValue(config));
                 deployment.setApplication(application);
+                final long scanTime;
                 try {
-                    scanForResources(deployment, application, config);
+                    scanTime = scanForResources(deployment, application, config);
                 } catch (IOException e) {
                     throw Messages.MESSAGES.failedToScanResources(e);
                 }
                 deployment.start();
+                recordStartup(deployment, scanTime, scanTime);
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debugf("Application %s used for %s", deployment.getApplication(), server);
                     deployment.getResourceClasses()
@@ -140,9 +144,11 @@ public class ResteasySeInstance implements Instance {
                 deployment.start();
                 final Application application = deployment.getApplication();
                 try {
-                    scanForResources(deployment, application, config);
+                    final long start = System.nanoTime();
+                    final long scan = scanForResources(deployment, application, config);
                     // We need to re-run the registration of resources
                     deployment.registration();
+                    recordStartup(deployment, scan, System.nanoTime() - start);
                 } catch (IOException e) {
                     throw Messages.MESSAGES.failedToScanResources(e);
                 }
@@ -196,15 +202,21 @@ public class ResteasySeInstance implements Instance {
         return null;
     }
 
+    /**
+     * Scans for resources and providers if the application does not define any.
+     *
+     * @return the time spent scanning in nanoseconds
+     */
     @SuppressWarnings("deprecation")
-    private static void scanForResources(final ResteasyDeployment deployment, final Application application,
+    private static long scanForResources(final ResteasyDeployment deployment, final Application application,
             final Configuration configuration)
             throws IOException {
         // If the application is not null we may not need to scan
         if ((application.getClasses() != null && !application.getClasses().isEmpty()) ||
                 (application.getSingletons() != null && !application.getSingletons().isEmpty())) {
-            return;
+            return 0L;
         }
+        final long start = System.nanoTime();
         // Scan the class path for applications and resources
         final Index index = ConfigurationOption.JANDEX_INDEX.getValue(configuration);
         final ResourceScanner resourceScanner;
@@ -223,6 +235,18 @@ public class ResteasySeInstance implements Instance {
             deployment.getScannedResourceClasses().addAll(resources);
             deployment.getScannedProviderClasses().addAll(resourceScanner.getProviders());
         }
+        return System.nanoTime() - start;
+    }
+
+    private static void recordStartup(final ResteasyDeployment deployment, final long scan, final long total) {
+        if (deployment instanceof ResteasyDeploymentImpl) {
+            final PhaseProfiler profiler = ((ResteasyDeploymentImpl) deployment).getPhaseProfiler();
+            if (profiler != null) {
+                profiler.recordStartup(PhaseProfiler.StartupPhase.SCAN, scan);
+                // The scan, and the registration when it is run again, are not part of the deployment start
+                profiler.recordStartup(PhaseProfiler.StartupPhase.TOTAL, total);
+            }
+        }
     }
 
     private static ClassLoader classLoader() {
@@ -0,0 +1,30 @@
+package org.jboss.resteasy.jfr;
+
+import org.jboss.resteasy.spi.HttpRequest;
+
+/**
+ * Emitted when a suspended request is resumed. The event starts when the request is suspended.
+ * <p>
+ * Created with {@link Events#asyncResponse()}, which returns an event doing nothing when the {@code jdk.jfr} module is
+ * not available.
+ * </p>
+ *
+ * @since 7.0
+ */
+public interface AsyncResponseEvent {
+
+    /**
+     * Starts the event.
+     */
+    default void begin() {
+    }
+
+    /**
+     * Ends the event and commits it if the event is enabled and exceeds the threshold.
+     *
+     * @param request the request
+     * @param failed  whether the request was resumed with an exception
+     */
+    default void end(final HttpRequest request, final boolean failed) {
+    }
+}
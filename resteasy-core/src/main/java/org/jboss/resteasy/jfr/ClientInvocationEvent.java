@@ -0,0 +1,32 @@
+package org.jboss.resteasy.jfr;
+
+import java.net.URI;
+
+/**
+ * Emitted when a client invocation has received its response, including the request and response filters.
+ * <p>
+ * Created with {@link Events#clientInvocation()}, which returns an event doing nothing when the {@code jdk.jfr} module is
+ * not available.
+ * </p>
+ *
+ * @since 7.0
+ */
+public interface ClientInvocationEvent {
+
+    /**
+     * Starts the event.
+     */
+    default void begin() {
+    }
+
+    /**
+     * Ends the event and commits it if the event is enabled and exceeds the threshold.
+     *
+     * @param method the HTTP method
+     * @param uri    the request URI
+     * @param status the response status or {@code 0} if the invocation failed
+     * @param async  whether the invocation was submitted asynchronously
+     */
+    default void end(final String method, final URI uri, final int status, final boolean async) {
+    }
+}
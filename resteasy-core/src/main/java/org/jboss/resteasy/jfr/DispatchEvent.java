@@ -0,0 +1,33 @@
+package org.jboss.resteasy.jfr;
+
+import org.jboss.resteasy.spi.HttpRequest;
+import org.jboss.resteasy.spi.HttpResponse;
+
+/**
+ * Emitted when the dispatcher has processed a request on the thread it was received on. If the request was suspended
+ * the event ends when the request is handed over, the rest of the processing is covered by an
+ * {@link AsyncResponseEvent}.
+ * <p>
+ * Created with {@link Events#dispatch()}, which returns an event doing nothing when the {@code jdk.jfr} module is
+ * not available.
+ * </p>
+ *
+ * @since 7.0
+ */
+public interface DispatchEvent {
+
+    /**
+     * Starts the event.
+     */
+    default void begin() {
+    }
+
+    /**
+     * Ends the event and commits it if the event is enabled and exceeds the threshold.
+     *
+     * @param request  the request
+     * @param response the response
+     */
+    default void end(final HttpRequest request, final HttpResponse response) {
+    }
+}
@@ -0,0 +1,116 @@
+package org.jboss.resteasy.jfr;
+
+import org.jboss.resteasy.statistics.PhaseProfiler;
+
+/**
+ * Creates the Java Flight Recorder events of RESTEasy. The {@code jdk.jfr} module is looked up once, when it is not
+ * part of the runtime, for example in a {@code jlink} image without it, the events returned do nothing and the classes
+ * referring to {@code jdk.jfr} are never loaded.
+ *
+ * @since 7.0
+ */
+public final class Events {
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private static final DispatchEvent NO_DISPATCH = new DispatchEvent() {
+    };
+    private static final MatchEvent NO_MATCH = new MatchEvent() {
+    };
+    private static final MessageBodyReaderEvent NO_MESSAGE_BODY_READER = new MessageBodyReaderEvent() {
+    };
+    private static final MessageBodyWriterEvent NO_MESSAGE_BODY_WRITER = new MessageBodyWriterEvent() {
+    };
+    private static final AsyncResponseEvent NO_ASYNC_RESPONSE = new AsyncResponseEvent() {
+    };
+    private static final ClientInvocationEvent NO_CLIENT_INVOCATION = new ClientInvocationEvent() {
+    };
+
+    private Events() {
+    }
+
+    /**
+     * Indicates whether the events are recorded by Java Flight Recorder.
+     *
+     * @return {@code true} if the {@code jdk.jfr} module is available
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Creates a new {@link DispatchEvent}.
+     *
+     * @return the event
+     */
+    public static DispatchEvent dispatch() {
+        return AVAILABLE ? new JfrDispatchEvent() : NO_DISPATCH;
+    }
+
+    /**
+     * Creates a new {@link MatchEvent}.
+     *
+     * @return the event
+     */
+    public static MatchEvent match() {
+        return AVAILABLE ? new JfrMatchEvent() : NO_MATCH;
+    }
+
+    /**
+     * Creates a new {@link MessageBodyReaderEvent}.
+     *
+     * @return the event
+     */
+    public static MessageBodyReaderEvent messageBodyReader() {
+        return AVAILABLE ? new JfrMessageBodyReaderEvent() : NO_MESSAGE_BODY_READER;
+    }
+
+    /**
+     * Creates a new {@link MessageBodyWriterEvent}.
+     *
+     * @return the event
+     */
+    public static MessageBodyWriterEvent messageBodyWriter() {
+        return AVAILABLE ? new JfrMessageBodyWriterEvent() : NO_MESSAGE_BODY_WRITER;
+    }
+
+    /**
+     * Creates a new {@link AsyncResponseEvent}.
+     *
+     * @return the event
+     */
+    public static AsyncResponseEvent asyncResponse() {
+        return AVAILABLE ? new JfrAsyncResponseEvent() : NO_ASYNC_RESPONSE;
+    }
+
+    /**
+     * Creates a new {@link ClientInvocationEvent}.
+     *
+     * @return the event
+     */
+    public static ClientInvocationEvent clientInvocation() {
+        return AVAILABLE ? new JfrClientInvocationEvent() : NO_CLIENT_INVOCATION;
+    }
+
+    /**
+     * Registers a periodic event with the request phase statistics aggregated by the profiler.
+     *
+     * @param profiler the profiler
+     *
+     * @return the hook to pass to {@link #unregister(Runnable)}, or {@code null} if the {@code jdk.jfr} module is not
+     *         available
+     */
+    public static Runnable register(final PhaseProfiler profiler) {
+        return AVAILABLE ? JfrRequestPhaseEvent.register(profiler) : null;
+    }
+
+    /**
+     * Removes a periodic event registered with {@link #register(PhaseProfiler)}.
+     *
+     * @param hook the hook returned when registering
+     */
+    public static void unregister(final Runnable hook) {
+        if (AVAILABLE && hook != null) {
+            JfrRequestPhaseEvent.unregister(hook);
+        }
+    }
+}
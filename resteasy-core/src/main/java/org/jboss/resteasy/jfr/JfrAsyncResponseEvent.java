@@ -0,0 +1,40 @@
+package org.jboss.resteasy.jfr;
+
+import org.jboss.resteasy.spi.HttpRequest;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@link AsyncResponseEvent} recorded by Java Flight Recorder.
+ */
+@Name("org.jboss.resteasy.AsyncResponse")
+@Label("Asynchronous Response")
+@Category({ "RESTEasy", "Server" })
+@Description("The time a request stayed suspended before being resumed")
+@StackTrace(false)
+class JfrAsyncResponseEvent extends Event implements AsyncResponseEvent {
+    @Label("HTTP Method")
+    String method;
+
+    @Label("Path")
+    String path;
+
+    @Label("Failed")
+    @Description("Whether the request was resumed with an exception")
+    boolean failed;
+
+    @Override
+    public void end(final HttpRequest request, final boolean failed) {
+        if (shouldCommit()) {
+            this.method = request.getHttpMethod();
+            this.path = request.getUri().getPath();
+            this.failed = failed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.jboss.resteasy.jfr;
+
+import java.net.URI;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@link ClientInvocationEvent} recorded by Java Flight Recorder.
+ */
+@Name("org.jboss.resteasy.ClientInvocation")
+@Label("Client Invocation")
+@Category({ "RESTEasy", "Client" })
+@Description("A request sent by the RESTEasy client")
+@StackTrace(false)
+class JfrClientInvocationEvent extends Event implements ClientInvocationEvent {
+    @Label("HTTP Method")
+    String method;
+
+    @Label("URI")
+    @Description("The URI of the request without the query")
+    String uri;
+
+    @Label("Status")
+    int status;
+
+    @Label("Asynchronous")
+    boolean async;
+
+    @Override
+    public void end(final String method, final URI uri, final int status, final boolean async) {
+        if (shouldCommit()) {
+            this.method = method;
+            if (uri != null) {
+                this.uri = uri.getScheme() + "://" + uri.getRawAuthority()
+                        + (uri.getRawPath() == null ? "" : uri.getRawPath());
+            }
+            this.status = status;
+            this.async = async;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.jboss.resteasy.jfr;
+
+import org.jboss.resteasy.core.ResourceMethodInvoker;
+import org.jboss.resteasy.spi.HttpRequest;
+import org.jboss.resteasy.spi.HttpResponse;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@link DispatchEvent} recorded by Java Flight Recorder.
+ */
+@Name("org.jboss.resteasy.Dispatch")
+@Label("Request Dispatch")
+@Category({ "RESTEasy", "Server" })
+@Description("A request processed by the RESTEasy dispatcher")
+@StackTrace(false)
+class JfrDispatchEvent extends Event implements DispatchEvent {
+    @Label("HTTP Method")
+    String method;
+
+    @Label("Path")
+    String path;
+
+    @Label("Path Template")
+    @Description("The path template of the matched resource method, relative to the resource")
+    String pathTemplate;
+
+    @Label("Resource Method")
+    String resourceMethod;
+
+    @Label("Status")
+    int status;
+
+    @Label("Suspended")
+    @Description("Whether the response is produced asynchronously")
+    boolean suspended;
+
+    @Override
+    public void end(final HttpRequest request, final HttpResponse response) {
+        if (shouldCommit()) {
+            method = request.getHttpMethod();
+            path = request.getUri().getPath();
+            final Object invoker = request.getAttribute(ResourceMethodInvoker.class.getName());
+            if (invoker instanceof ResourceMethodInvoker) {
+                final ResourceMethodInvoker resourceMethodInvoker = (ResourceMethodInvoker) invoker;
+                pathTemplate = resourceMethodInvoker.getFullPath();
+                resourceMethod = resourceMethodInvoker.getResourceClass().getName() + '#'
+                        + resourceMethodInvoker.getMethod().getName();
+            }
+            suspended = request.getAsyncContext().isSuspended();
+            status = suspended ? 0 : response.getStatus();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.jboss.resteasy.jfr;
+
+import org.jboss.resteasy.spi.HttpRequest;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The {@link MatchEvent} recorded by Java Flight Recorder.
+ */
+@Name("org.jboss.resteasy.Match")
+@Label("Resource Match")
+@Category({ "RESTEasy", "Server" })
+@Description("The matching of a request to a resource method")
+@Enabled(false)
+@StackTrace(false)
+class JfrMatchEvent extends Event implements MatchEvent {
+    @Label("HTTP Method")
+    String method;
+
+    @Label("Path")
+    String path;
+
+    @Label("Cache")
+    @Description("HIT, MISS or BYPASS")
+    String cache;
+
+    @Override
+    public void end(final HttpRequest request, final String cache) {
+        if (shouldCommit()) {
+            this.method = request.getHttpMethod();
+            this.path = request.getUri().getPath();
+            this.cache = cache;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.jboss.resteasy.jfr;
+
+import jakarta.ws.rs.core.MediaType;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The {@link MessageBodyReaderEvent} recorded by Java Flight Recorder.
+ */
+@Name("org.jboss.resteasy.MessageBodyReader")
+@Label("Message Body Read")
+@Category({ "RESTEasy", "Providers" })
+@Description("An entity read by a MessageBodyReader")
+@Enabled(false)
+@StackTrace(false)
+class JfrMessageBodyReaderEvent extends Event implements MessageBodyReaderEvent {
+    @Label("Reader")
+    Class<?> reader;
+
+    @Label("Type")
+    Class<?> type;
+
+    @Label("Media Type")
+    String mediaType;
+
+    @Label("Selection Time")
+    @Description("The time spent selecting the reader")
+    @Timespan
+    long selectionTime;
+
+    private transient long started;
+
+    @Override
+    public void start() {
+        begin();
+        if (isEnabled()) {
+            started = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void selected() {
+        if (isEnabled()) {
+            selectionTime = System.nanoTime() - started;
+        }
+    }
+
+    @Override
+    public void end(final Object reader, final Class<?> type, final MediaType mediaType) {
+        if (shouldCommit()) {
+            this.reader = reader == null ? null : reader.getClass();
+            this.type = type;
+            this.mediaType = mediaType == null ? null : mediaType.toString();
+            commit();
+        }
+    }
+}
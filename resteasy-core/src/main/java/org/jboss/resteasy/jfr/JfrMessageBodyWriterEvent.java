@@ -0,0 +1,64 @@
+package org.jboss.resteasy.jfr;
+
+import jakarta.ws.rs.core.MediaType;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The {@link MessageBodyWriterEvent} recorded by Java Flight Recorder.
+ */
+@Name("org.jboss.resteasy.MessageBodyWriter")
+@Label("Message Body Write")
+@Category({ "RESTEasy", "Providers" })
+@Description("An entity written by a MessageBodyWriter")
+@Enabled(false)
+@StackTrace(false)
+class JfrMessageBodyWriterEvent extends Event implements MessageBodyWriterEvent {
+    @Label("Writer")
+    Class<?> writer;
+
+    @Label("Type")
+    Class<?> type;
+
+    @Label("Media Type")
+    String mediaType;
+
+    @Label("Selection Time")
+    @Description("The time spent selecting the writer")
+    @Timespan
+    long selectionTime;
+
+    private transient long started;
+
+    @Override
+    public void start() {
+        begin();
+        if (isEnabled()) {
+            started = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void selected() {
+        if (isEnabled()) {
+            selectionTime = System.nanoTime() - started;
+        }
+    }
+
+    @Override
+    public void end(final Object writer, final Class<?> type, final MediaType mediaType) {
+        if (shouldCommit()) {
+            this.writer = writer == null ? null : writer.getClass();
+            this.type = type;
+            this.mediaType = mediaType == null ? null : mediaType.toString();
+            commit();
+        }
+    }
+}
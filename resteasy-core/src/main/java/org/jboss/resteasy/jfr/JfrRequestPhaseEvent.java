@@ -0,0 +1,79 @@
+package org.jboss.resteasy.jfr;
+
+import java.util.Map;
+
+import org.jboss.resteasy.statistics.PhaseProfiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Emitted periodically, once per request phase, with the statistics aggregated by a {@link PhaseProfiler}. Registered
+ * with {@link Events#register(PhaseProfiler)}.
+ */
+@Name("org.jboss.resteasy.RequestPhase")
+@Label("Request Phase Statistics")
+@Category({ "RESTEasy", "Server" })
+@Description("The time spent in a phase by the sampled requests")
+@Period("60 s")
+@StackTrace(false)
+class JfrRequestPhaseEvent extends Event {
+    @Label("Phase")
+    String phase;
+
+    @Label("Samples")
+    long count;
+
+    @Label("Total Time")
+    @Timespan
+    long totalTime;
+
+    @Label("Average Time")
+    @Timespan
+    long averageTime;
+
+    @Label("Maximum Time")
+    @Timespan
+    long maxTime;
+
+    /**
+     * Registers a periodic emission of the statistics of the profiler.
+     *
+     * @param profiler the profiler
+     *
+     * @return the hook to pass to {@link #unregister(Runnable)}
+     */
+    static Runnable register(final PhaseProfiler profiler) {
+        final Runnable hook = () -> {
+            for (Map.Entry<PhaseProfiler.RequestPhase, PhaseProfiler.PhaseStatistics> entry : profiler
+                    .getRequestStatistics().entrySet()) {
+                final PhaseProfiler.PhaseStatistics statistics = entry.getValue();
+                final JfrRequestPhaseEvent event = new JfrRequestPhaseEvent();
+                event.phase = entry.getKey().name();
+                event.count = statistics.getCount();
+                event.totalTime = statistics.getTotalTime();
+                event.averageTime = statistics.getAverageTime();
+                event.maxTime = statistics.getMaxTime();
+                event.commit();
+            }
+        };
+        FlightRecorder.addPeriodicEvent(JfrRequestPhaseEvent.class, hook);
+        return hook;
+    }
+
+    /**
+     * Removes a periodic emission registered with {@link #register(PhaseProfiler)}.
+     *
+     * @param hook the hook returned when registering
+     */
+    static void unregister(final Runnable hook) {
+        FlightRecorder.removePeriodicEvent(hook);
+    }
+}
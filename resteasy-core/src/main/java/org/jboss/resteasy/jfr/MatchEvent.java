@@ -0,0 +1,42 @@
+package org.jboss.resteasy.jfr;
+
+import org.jboss.resteasy.spi.HttpRequest;
+
+/**
+ * Emitted when a request has been matched to a resource method.
+ * <p>
+ * Created with {@link Events#match()}, which returns an event doing nothing when the {@code jdk.jfr} module is
+ * not available.
+ * </p>
+ *
+ * @since 7.0
+ */
+public interface MatchEvent {
+    /**
+     * The request was matched from the cache.
+     */
+    String HIT = "HIT";
+    /**
+     * The request was not in the cache and the result of the match was cached.
+     */
+    String MISS = "MISS";
+    /**
+     * The request was matched without the cache, the match cannot be cached or the cache is disabled.
+     */
+    String BYPASS = "BYPASS";
+
+    /**
+     * Starts the event.
+     */
+    default void begin() {
+    }
+
+    /**
+     * Ends the event and commits it if the event is enabled and exceeds the threshold.
+     *
+     * @param request the request
+     * @param cache   the outcome of the match cache lookup
+     */
+    default void end(final HttpRequest request, final String cache) {
+    }
+}
@@ -0,0 +1,38 @@
+package org.jboss.resteasy.jfr;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Emitted when an entity has been read by a {@link jakarta.ws.rs.ext.MessageBodyReader}, on the server or the client.
+ * The duration includes the selection of the reader.
+ * <p>
+ * Created with {@link Events#messageBodyReader()}, which returns an event doing nothing when the {@code jdk.jfr} module is
+ * not available.
+ * </p>
+ *
+ * @since 7.0
+ */
+public interface MessageBodyReaderEvent {
+
+    /**
+     * Starts the event before the reader is selected.
+     */
+    default void start() {
+    }
+
+    /**
+     * Marks the end of the reader selection.
+     */
+    default void selected() {
+    }
+
+    /**
+     * Ends the event and commits it if the event is enabled and exceeds the threshold.
+     *
+     * @param reader    the reader used
+     * @param type      the type of the entity
+     * @param mediaType the media type of the entity
+     */
+    default void end(final Object reader, final Class<?> type, final MediaType mediaType) {
+    }
+}
@@ -0,0 +1,47 @@
+package org.jboss.resteasy.jfr;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Emitted when an entity has been written by a {@link jakarta.ws.rs.ext.MessageBodyWriter}, on the server or the client.
+ * The duration includes the selection of the writer.
+ * <p>
+ * Created with {@link Events#messageBodyWriter()}, which returns an event doing nothing when the {@code jdk.jfr} module is
+ * not available.
+ * </p>
+ *
+ * @since 7.0
+ */
+public interface MessageBodyWriterEvent {
+
+    /**
+     * Starts the event before the writer is selected.
+     */
+    default void start() {
+    }
+
+    /**
+     * Marks the end of the writer selection.
+     */
+    default void selected() {
+    }
+
+    /**
+     * Indicates whether the event is recorded.
+     *
+     * @return {@code true} if a recording enabled the event
+     */
+    default boolean isEnabled() {
+        return false;
+    }
+
+    /**
+     * Ends the event and commits it if the event is enabled and exceeds the threshold.
+     *
+     * @param writer    the writer used
+     * @param type      the type of the entity
+     * @param mediaType the media type of the entity
+     */
+    default void end(final Object writer, final Class<?> type, final MediaType mediaType) {
+    }
+}
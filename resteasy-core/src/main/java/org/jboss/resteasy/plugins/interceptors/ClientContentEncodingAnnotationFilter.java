@@ -27,6 +27,7 @@ public class ClientContentEncodingAnnotationFilter implements WriterInterceptor
     @Override
     public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
         context.getHeaders().putSingle(HttpHeaders.CONTENT_ENCODING, encoding);
+        context.setProperty(ContentCodecs.ENCODING_PROPERTY, encoding);
         context.proceed();
     }
 }
@@ -0,0 +1,412 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.plugins.interceptors;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
+import org.jboss.resteasy.resteasy_jaxrs.i18n.Messages;
+import org.jboss.resteasy.spi.ContentCodec;
+import org.jboss.resteasy.spi.PriorityServiceLoader;
+
+/**
+ * The {@linkplain ContentCodec content codings} known to the encoding and decoding interceptors. The {@code gzip} and
+ * {@code deflate} codings are built in, others are loaded from the {@link ContentCodec} services or
+ * {@linkplain #register(ContentCodec) registered}.
+ * <p>
+ * The built in codings borrow their {@link Deflater} and {@link Inflater} from a pool and return them once the stream
+ * is closed, which avoids allocating and releasing the native memory of the zlib streams for each message.
+ * </p>
+ *
+ * @since 7.0
+ */
+public final class ContentCodecs {
+
+    /**
+     * The property of the interceptor context holding the coding chosen by an annotation filter. A
+     * {@code Content-Encoding} header other than {@code gzip} is only encoded by the {@link GZIPEncodingInterceptor}
+     * when it holds the coding of this property, otherwise the entity is assumed to be encoded already.
+     */
+    public static final String ENCODING_PROPERTY = ContentCodecs.class.getName() + ".encoding";
+
+    static final ContentCodec GZIP = new GzipCodec();
+    static final ContentCodec DEFLATE = new DeflateCodec();
+
+    private static final Map<String, ContentCodec> CODECS = new ConcurrentHashMap<>();
+
+    static {
+        CODECS.put(GZIP.getName(), GZIP);
+        CODECS.put(DEFLATE.getName(), DEFLATE);
+        final Map<String, ContentCodec> loaded = new ConcurrentHashMap<>();
+        try {
+            // The services are sorted by priority, the first coding found for a name wins
+            for (ContentCodec codec : PriorityServiceLoader.load(ContentCodec.class)) {
+                loaded.putIfAbsent(codec.getName().toLowerCase(Locale.ROOT), codec);
+            }
+        } catch (Exception | ServiceConfigurationError e) {
+            LogMessages.LOGGER.debugf(e, "Failed to load the %s services", ContentCodec.class.getName());
+        }
+        CODECS.putAll(loaded);
+    }
+
+    private ContentCodecs() {
+    }
+
+    /**
+     * Registers a coding, replacing any coding with the same name.
+     *
+     * @param codec the coding
+     */
+    public static void register(final ContentCodec codec) {
+        CODECS.put(codec.getName().toLowerCase(Locale.ROOT), codec);
+    }
+
+    /**
+     * Returns the coding with the given name.
+     *
+     * @param name the name of the coding, compared ignoring case
+     *
+     * @return the coding or {@code null} if the coding is not known
+     */
+    public static ContentCodec get(final String name) {
+        return name == null ? null : CODECS.get(name.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the coding to encode an entity with. The {@code gzip} coding is always encoded, as the header has always
+     * been the way to request the gzip compression of an entity. Other codings are only encoded when they were
+     * chosen by an annotation filter, so an entity the application already encoded is not encoded twice.
+     *
+     * @param encoding   the value of the {@code Content-Encoding} header
+     * @param negotiated the value of the {@link #ENCODING_PROPERTY} property
+     *
+     * @return the coding or {@code null} if the entity is not to be encoded
+     */
+    static ContentCodec forEncoding(final Object encoding, final Object negotiated) {
+        if (encoding == null) {
+            return null;
+        }
+        final String name = encoding.toString().trim();
+        if (name.equalsIgnoreCase(GZIP.getName()) || (negotiated != null && name.equalsIgnoreCase(negotiated.toString()))) {
+            return get(name);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the names of the known codings.
+     *
+     * @return the lower case names of the codings
+     */
+    public static Set<String> getEncodings() {
+        return Set.copyOf(CODECS.keySet());
+    }
+
+    /**
+     * Chooses the coding preferred by the client from the available codings. The coding with the highest
+     * quality value in the {@code Accept-Encoding} header is chosen, codings with a quality value of {@code 0} are not
+     * acceptable and {@code *} matches any coding not listed. When quality values are equal the coding listed first
+     * wins.
+     *
+     * @param acceptEncoding the values of the {@code Accept-Encoding} header
+     * @param available      the lower case names of the available codings, in order of preference for {@code *}
+     *
+     * @return the chosen coding or {@code null} if none of the available codings is acceptable
+     */
+    public static String negotiate(final List<String> acceptEncoding, final Collection<String> available) {
+        if (acceptEncoding == null || available.isEmpty()) {
+            return null;
+        }
+        String best = null;
+        float bestQ = 0F;
+        float wildcardQ = -1F;
+        final Set<String> listed = new HashSet<>();
+        for (String header : acceptEncoding) {
+            int start = 0;
+            while (start < header.length()) {
+                int end = header.indexOf(',', start);
+                if (end < 0) {
+                    end = header.length();
+                }
+                final String coding = header.substring(start, end);
+                start = end + 1;
+                final int semicolon = coding.indexOf(';');
+                final String name = (semicolon < 0 ? coding : coding.substring(0, semicolon)).trim()
+                        .toLowerCase(Locale.ROOT);
+                if (name.isEmpty()) {
+                    continue;
+                }
+                final float q = semicolon < 0 ? 1F : parseQuality(coding.substring(semicolon + 1));
+                if (name.equals("*")) {
+                    wildcardQ = Math.max(wildcardQ, q);
+                    continue;
+                }
+                listed.add(name);
+                if (q > bestQ && available.contains(name)) {
+                    best = name;
+                    bestQ = q;
+                }
+            }
+        }
+        if (wildcardQ > bestQ) {
+            for (String name : available) {
+                if (!listed.contains(name)) {
+                    return name;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static float parseQuality(final String parameters) {
+        for (String parameter : parameters.split(";")) {
+            final int equals = parameter.indexOf('=');
+            if (equals > 0 && parameter.substring(0, equals).trim().equalsIgnoreCase("q")) {
+                try {
+                    final float q = Float.parseFloat(parameter.substring(equals + 1).trim());
+                    return q < 0F || q > 1F ? 0F : q;
+                } catch (NumberFormatException e) {
+                    return 0F;
+                }
+            }
+        }
+        return 1F;
+    }
+
+    /**
+     * Returns a stream which does not close the given stream when it is closed.
+     */
+    static OutputStream shield(final OutputStream out) {
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * Returns a stream which does not close the given stream when it is closed.
+     */
+    static InputStream shield(final InputStream in) {
+        return new FilterInputStream(in) {
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * The pooled {@link Deflater} and {@link Inflater} instances. There is a pool for each compression level and
+     * format, instances which do not fit in their pool are ended.
+     */
+    static final class Pool {
+        private static final int SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        // Levels -1 to 9, in the zlib and raw formats
+        @SuppressWarnings("unchecked")
+        private static final ArrayBlockingQueue<Deflater>[] DEFLATERS = new ArrayBlockingQueue[22];
+        private static final ArrayBlockingQueue<Inflater> INFLATERS = new ArrayBlockingQueue<>(SIZE);
+
+        static {
+            for (int i = 0; i < DEFLATERS.length; i++) {
+                DEFLATERS[i] = new ArrayBlockingQueue<>(SIZE);
+            }
+        }
+
+        private Pool() {
+        }
+
+        private static int index(final int level, final boolean nowrap) {
+            return (level + 1) * 2 + (nowrap ? 1 : 0);
+        }
+
+        static Deflater deflater(final int level, final boolean nowrap) {
+            final Deflater deflater = DEFLATERS[index(level, nowrap)].poll();
+            return deflater == null ? new Deflater(level, nowrap) : deflater;
+        }
+
+        static void release(final Deflater deflater, final int level, final boolean nowrap) {
+            deflater.reset();
+            if (!DEFLATERS[index(level, nowrap)].offer(deflater)) {
+                deflater.end();
+            }
+        }
+
+        static Inflater inflater() {
+            final Inflater inflater = INFLATERS.poll();
+            return inflater == null ? new Inflater() : inflater;
+        }
+
+        static void release(final Inflater inflater) {
+            inflater.reset();
+            if (!INFLATERS.offer(inflater)) {
+                inflater.end();
+            }
+        }
+    }
+
+    private static int checkLevel(final int level) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw Messages.MESSAGES.invalidCompressionLevel(level);
+        }
+        return level;
+    }
+
+    private static final class GzipCodec implements ContentCodec {
+        @Override
+        public String getName() {
+            return "gzip";
+        }
+
+        @Override
+        public OutputStream encode(final OutputStream out, final int level) throws IOException {
+            return new PooledGzipOutputStream(out, checkLevel(level));
+        }
+
+        @Override
+        public InputStream decode(final InputStream in) throws IOException {
+            return new GZIPInputStream(in);
+        }
+    }
+
+    private static final class DeflateCodec implements ContentCodec {
+        @Override
+        public String getName() {
+            return "deflate";
+        }
+
+        @Override
+        public OutputStream encode(final OutputStream out, final int level) throws IOException {
+            return new PooledDeflaterOutputStream(out, checkLevel(level), false);
+        }
+
+        @Override
+        public InputStream decode(final InputStream in) {
+            return new PooledInflaterInputStream(in);
+        }
+    }
+
+    private static class PooledDeflaterOutputStream extends DeflaterOutputStream {
+        private final int level;
+        private final boolean nowrap;
+        private boolean closed;
+
+        PooledDeflaterOutputStream(final OutputStream out, final int level, final boolean nowrap) {
+            super(out, Pool.deflater(level, nowrap), 8192);
+            this.level = level;
+            this.nowrap = nowrap;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                finish();
+            } finally {
+                Pool.release(def, level, nowrap);
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Writes the gzip format of RFC 1952 around the raw deflate stream, as {@link java.util.zip.GZIPOutputStream}
+     * does, with a pooled {@link Deflater}.
+     */
+    private static final class PooledGzipOutputStream extends PooledDeflaterOutputStream {
+        private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+        private final CRC32 crc = new CRC32();
+
+        PooledGzipOutputStream(final OutputStream out, final int level) throws IOException {
+            super(out, level, true);
+            out.write(HEADER);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            super.write(b, off, len);
+            crc.update(b, off, len);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (!def.finished()) {
+                super.finish();
+                final byte[] trailer = new byte[8];
+                writeInt((int) crc.getValue(), trailer, 0);
+                writeInt((int) def.getBytesRead(), trailer, 4);
+                out.write(trailer);
+            }
+        }
+
+        private static void writeInt(final int value, final byte[] buf, final int offset) {
+            buf[offset] = (byte) value;
+            buf[offset + 1] = (byte) (value >> 8);
+            buf[offset + 2] = (byte) (value >> 16);
+            buf[offset + 3] = (byte) (value >> 24);
+        }
+    }
+
+    private static final class PooledInflaterInputStream extends InflaterInputStream {
+        private boolean released;
+
+        PooledInflaterInputStream(final InputStream in) {
+            super(in, Pool.inflater(), 8192);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!released) {
+                    released = true;
+                    Pool.release(inf);
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.jboss.resteasy.plugins.interceptors;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.zip.GZIPInputStream;
@@ -20,6 +21,7 @@ import org.jboss.resteasy.core.interception.jaxrs.ServerReaderInterceptorContext
 import org.jboss.resteasy.plugins.server.servlet.ResteasyContextParameters;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.Messages;
+import org.jboss.resteasy.spi.ContentCodec;
 import org.jboss.resteasy.spi.ResteasyConfiguration;
 
 /**
@@ -83,11 +85,71 @@ public class GZIPDecodingInterceptor implements ReaderInterceptor {
         }
     }
 
+    /**
+     * Limits the number of bytes decoded by a {@linkplain ContentCodec content coding}.
+     */
+    private static class LimitedInputStream extends FilterInputStream {
+        private final int maxSize;
+        private final boolean server;
+        private int count;
+
+        LimitedInputStream(final InputStream in, final boolean server, final int maxSize) {
+            super(in);
+            this.server = server;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b > -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buf, int off, int len) throws IOException {
+            int n = super.read(buf, off, len);
+            if (n > -1) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(final int n) throws IOException {
+            count += n;
+            if (count > maxSize) {
+                close();
+                if (server) {
+                    throw new WebApplicationException(Response.status(Status.REQUEST_ENTITY_TOO_LARGE)
+                            .entity(Messages.MESSAGES.gzipExceedsMaxSize(maxSize)).build());
+                } else {
+                    throw new ProcessingException(Messages.MESSAGES.gzipExceedsMaxSize(maxSize));
+                }
+            }
+        }
+    }
+
     @Override
     public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException, WebApplicationException {
         LogMessages.LOGGER.debugf("Interceptor : %s,  Method : aroundReadFrom", getClass().getName());
         Object encoding = context.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
-        if (encoding != null && encoding.toString().equalsIgnoreCase("gzip")) {
+        ContentCodec codec = encoding == null ? null : ContentCodecs.get(encoding.toString());
+        if (codec != null && codec != ContentCodecs.GZIP) {
+            InputStream old = context.getInputStream();
+            // The decoding stream is closed to release the decoder, but the entity stream must stay open
+            InputStream decoded = codec.decode(ContentCodecs.shield(old));
+            context.setInputStream(
+                    new LimitedInputStream(decoded, context instanceof ServerReaderInterceptorContext, getMaxSize()));
+            try {
+                return context.proceed();
+            } finally {
+                if (!context.getType().equals(InputStream.class))
+                    decoded.close();
+                context.setInputStream(old);
+            }
+        } else if (codec != null) {
             InputStream old = context.getInputStream();
             FinishableGZIPInputStream is = new FinishableGZIPInputStream(old, context instanceof ServerReaderInterceptorContext,
                     getMaxSize());
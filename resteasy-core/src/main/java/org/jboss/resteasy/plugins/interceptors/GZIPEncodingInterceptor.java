@@ -12,14 +12,19 @@ import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.InterceptorContext;
 import jakarta.ws.rs.ext.Provider;
 import jakarta.ws.rs.ext.WriterInterceptorContext;
 
+import org.jboss.resteasy.core.interception.jaxrs.ServerWriterInterceptorContext;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
+import org.jboss.resteasy.resteasy_jaxrs.i18n.Messages;
 import org.jboss.resteasy.spi.AsyncOutputStream;
 import org.jboss.resteasy.spi.AsyncWriterInterceptor;
 import org.jboss.resteasy.spi.AsyncWriterInterceptorContext;
 import org.jboss.resteasy.spi.BlockingAsyncOutputStream;
+import org.jboss.resteasy.spi.ContentCodec;
+import org.jboss.resteasy.spi.config.Options;
 import org.jboss.resteasy.util.CommitHeaderAsyncOutputStream;
 import org.jboss.resteasy.util.CommitHeaderOutputStream;
 
@@ -42,7 +47,27 @@ public class GZIPEncodingInterceptor implements AsyncWriterInterceptor {
         }
     }
 
+    /**
+     * Encodes the entity with a {@linkplain ContentCodec content coding}, despite its name not only with gzip. The
+     * coding only starts once the first bytes are written. When a minimum size is set, the bytes are buffered until
+     * the minimum size is reached. A smaller entity is written unencoded and the
+     * {@code Content-Encoding} header is removed.
+     */
     public static class CommittedGZIPOutputStream extends CommitHeaderAsyncOutputStream {
+        private final ContentCodec codec;
+        private final int level;
+        private final int minSize;
+        private final MultivaluedMap<String, Object> responseHeaders;
+        private byte[] buffer;
+        private int count;
+        private OutputStream encoder;
+
+        /**
+         * @deprecated the entity is not encoded with a {@link GZIPOutputStream} anymore, this is always {@code null}
+         */
+        @Deprecated(forRemoval = true, since = "7.0")
+        protected GZIPOutputStream gzip;
+
         protected CommittedGZIPOutputStream(final OutputStream delegate,
                 final CommitHeaderOutputStream.CommitCallback headers) {
             this(new BlockingAsyncOutputStream(delegate), headers);
@@ -50,11 +75,40 @@ public class GZIPEncodingInterceptor implements AsyncWriterInterceptor {
 
         protected CommittedGZIPOutputStream(final AsyncOutputStream delegate,
                 final CommitHeaderOutputStream.CommitCallback headers) {
-            super(delegate, headers);
+            this(delegate, headers, ContentCodecs.GZIP, -1, 0, null);
         }
 
-        protected GZIPOutputStream gzip;
+        /**
+         * Creates a new encoding stream.
+         *
+         * @param delegate        the stream the encoded entity is written to
+         * @param codec           the content coding
+         * @param level           the compression level, {@code -1} for the default level
+         * @param minSize         the minimum size of an entity to encode, {@code 0} or less to encode all entities
+         * @param responseHeaders the headers of the message, required to write small entities unencoded
+         */
+        protected CommittedGZIPOutputStream(final AsyncOutputStream delegate, final ContentCodec codec, final int level,
+                final int minSize, final MultivaluedMap<String, Object> responseHeaders) {
+            this(delegate, null, codec, level, minSize, responseHeaders);
+        }
 
+        private CommittedGZIPOutputStream(final AsyncOutputStream delegate,
+                final CommitHeaderOutputStream.CommitCallback headers, final ContentCodec codec, final int level,
+                final int minSize, final MultivaluedMap<String, Object> responseHeaders) {
+            super(delegate, headers);
+            this.codec = codec;
+            this.level = level;
+            this.minSize = responseHeaders == null ? 0 : minSize;
+            this.responseHeaders = responseHeaders;
+        }
+
+        /**
+         * Always returns {@code null}.
+         *
+         * @return {@code null}
+         * @deprecated the entity is not encoded with a {@link GZIPOutputStream} anymore
+         */
+        @Deprecated(forRemoval = true, since = "7.0")
         public GZIPOutputStream getGzip() {
             return gzip;
         }
@@ -65,22 +119,110 @@ public class GZIPEncodingInterceptor implements AsyncWriterInterceptor {
                 return;
             isHeadersCommitted = true;
             try {
-                // GZIPOutputStream constructor writes to underlying OS causing headers to be written.
-                // so we swap gzip OS in when we are ready to write.
-                gzip = new EndableGZIPOutputStream(delegate);
-                delegate = new BlockingAsyncOutputStream(gzip);
+                // The encoder may write a header to the underlying stream, causing the headers to be written.
+                // So the encoder is swapped in when we are ready to write.
+                encoder = codec.encode(ContentCodecs.shield(delegate), level);
+                delegate = new BlockingAsyncOutputStream(encoder);
+                if (count > 0) {
+                    encoder.write(buffer, 0, count);
+                }
+                buffer = null;
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
         }
 
+        @Override
+        public void write(int i) throws IOException {
+            if (!buffer(new byte[] { (byte) i }, 0, 1)) {
+                super.write(i);
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes) throws IOException {
+            write(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (!buffer(bytes, offset, length)) {
+                super.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public CompletionStage<Void> asyncWrite(byte[] bytes, int offset, int length) {
+            if (buffer(bytes, offset, length)) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return super.asyncWrite(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Flushing does not decide whether the entity is encoded
+            if (!isBuffering()) {
+                super.flush();
+            }
+        }
+
+        @Override
+        public CompletionStage<Void> asyncFlush() {
+            if (isBuffering()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return super.asyncFlush();
+        }
+
+        private synchronized boolean isBuffering() {
+            return !isHeadersCommitted && minSize > 0;
+        }
+
+        private synchronized boolean buffer(final byte[] bytes, final int offset, final int length) {
+            if (!isBuffering() || count + length >= minSize) {
+                return false;
+            }
+            if (buffer == null) {
+                buffer = new byte[minSize];
+            }
+            System.arraycopy(bytes, offset, buffer, count, length);
+            count += length;
+            return true;
+        }
+
+        /**
+         * Writes the buffered entity unencoded if it is smaller than the minimum size.
+         *
+         * @return {@code true} if the entity is written unencoded
+         */
+        private synchronized boolean isUnencoded() {
+            if (!isBuffering()) {
+                return false;
+            }
+            isHeadersCommitted = true;
+            responseHeaders.remove(HttpHeaders.CONTENT_ENCODING);
+            responseHeaders.putSingle(HttpHeaders.CONTENT_LENGTH, count);
+            return true;
+        }
+
         synchronized void finish() throws IOException {
-            if (gzip != null) {
-                gzip.finish();
+            if (isUnencoded()) {
+                if (count > 0) {
+                    delegate.write(buffer, 0, count);
+                }
+                buffer = null;
+            } else if (encoder != null) {
+                encoder.close();
             }
         }
 
         CompletionStage<Void> asyncFinish() {
+            if (isUnencoded()) {
+                final byte[] bytes = buffer;
+                buffer = null;
+                return count > 0 ? delegate.asyncWrite(bytes, 0, count) : CompletableFuture.completedFuture(null);
+            }
             try {
                 finish();
             } catch (IOException e) {
@@ -92,14 +234,41 @@ public class GZIPEncodingInterceptor implements AsyncWriterInterceptor {
         }
     }
 
+    private final int level;
+    private final int minSize;
+
+    /**
+     * Creates a new interceptor with the compression level of the {@link Options#COMPRESSION_LEVEL} option and the
+     * minimum size of the {@link Options#COMPRESSION_MIN_SIZE} option.
+     */
+    public GZIPEncodingInterceptor() {
+        this(Options.COMPRESSION_LEVEL.getValue(), Options.COMPRESSION_MIN_SIZE.getValue());
+    }
+
+    /**
+     * Creates a new interceptor.
+     *
+     * @param level   the compression level from {@code 0} to {@code 9}, {@code -1} for the default level of the coding
+     * @param minSize the minimum size in bytes of a response entity to encode, {@code 0} to encode all entities. It
+     *                does not apply to client requests.
+     */
+    public GZIPEncodingInterceptor(final int level, final int minSize) {
+        if (level < -1 || level > 9) {
+            throw Messages.MESSAGES.invalidCompressionLevel(level);
+        }
+        this.level = level;
+        this.minSize = minSize;
+    }
+
     @Override
     public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
         LogMessages.LOGGER.debugf("Interceptor : %s,  Method : aroundWriteTo", getClass().getName());
-        if (isGzipEnconding(context.getHeaders())) {
+        ContentCodec codec = getCodec(context, context.getHeaders());
+        if (codec != null) {
             OutputStream old = context.getOutputStream();
             removeContentLengthHeader(context.getHeaders());
-            CommittedGZIPOutputStream gzipOutputStream = replaceOutputStream(new BlockingAsyncOutputStream(old),
-                    context::setOutputStream);
+            CommittedGZIPOutputStream gzipOutputStream = replaceOutputStream(new BlockingAsyncOutputStream(old), codec,
+                    getResponseHeaders(context, context.getHeaders()), context::setOutputStream);
             try {
                 context.proceed();
             } finally {
@@ -114,10 +283,12 @@ public class GZIPEncodingInterceptor implements AsyncWriterInterceptor {
     @Override
     public CompletionStage<Void> asyncAroundWriteTo(AsyncWriterInterceptorContext context) {
         LogMessages.LOGGER.debugf("Interceptor : %s,  Method : asyncAroundWriteTo", getClass().getName());
-        if (isGzipEnconding(context.getHeaders())) {
+        ContentCodec codec = getCodec(context, context.getHeaders());
+        if (codec != null) {
             AsyncOutputStream old = context.getAsyncOutputStream();
             removeContentLengthHeader(context.getHeaders());
-            CommittedGZIPOutputStream gzipOutputStream = replaceOutputStream(old, context::setAsyncOutputStream);
+            CommittedGZIPOutputStream gzipOutputStream = replaceOutputStream(old, codec,
+                    getResponseHeaders(context, context.getHeaders()), context::setAsyncOutputStream);
             return context.asyncProceed()
                     .handle((v, e) -> gzipOutputStream.asyncFinish()
                             .thenAccept(f -> context.setAsyncOutputStream(old)))
@@ -127,9 +298,9 @@ public class GZIPEncodingInterceptor implements AsyncWriterInterceptor {
         }
     }
 
-    private boolean isGzipEnconding(MultivaluedMap<String, Object> headers) {
-        Object encoding = headers.getFirst(HttpHeaders.CONTENT_ENCODING);
-        return encoding != null && encoding.toString().equalsIgnoreCase("gzip");
+    private ContentCodec getCodec(InterceptorContext context, MultivaluedMap<String, Object> headers) {
+        return ContentCodecs.forEncoding(headers.getFirst(HttpHeaders.CONTENT_ENCODING),
+                context.getProperty(ContentCodecs.ENCODING_PROPERTY));
     }
 
     private void removeContentLengthHeader(MultivaluedMap<String, Object> headers) {
@@ -137,10 +308,16 @@ public class GZIPEncodingInterceptor implements AsyncWriterInterceptor {
         headers.remove(HttpHeaders.CONTENT_LENGTH);
     }
 
-    private CommittedGZIPOutputStream replaceOutputStream(AsyncOutputStream originalStream,
-            Consumer<AsyncOutputStream> contextSetter) {
-        // GZIPOutputStream constructor writes to underlying OS causing headers to be written.
-        CommittedGZIPOutputStream gzipOutputStream = new CommittedGZIPOutputStream(originalStream, null);
+    private MultivaluedMap<String, Object> getResponseHeaders(Object context, MultivaluedMap<String, Object> headers) {
+        // The headers of a client request may already be sent when the entity turns out to be small,
+        // so the minimum size only applies to responses.
+        return context instanceof ServerWriterInterceptorContext ? headers : null;
+    }
+
+    private CommittedGZIPOutputStream replaceOutputStream(AsyncOutputStream originalStream, ContentCodec codec,
+            MultivaluedMap<String, Object> headers, Consumer<AsyncOutputStream> contextSetter) {
+        CommittedGZIPOutputStream gzipOutputStream = new CommittedGZIPOutputStream(originalStream, codec, level, minSize,
+                headers);
         contextSetter.accept(gzipOutputStream);
         return gzipOutputStream;
     }
@@ -0,0 +1,226 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.plugins.interceptors;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.spi.config.Options;
+
+/**
+ * The responses cached by the {@link RepresentationCacheFeature}. A response is cached as the bytes written to the
+ * client, after any {@code Content-Encoding} was applied, so a cached response is neither serialized nor compressed
+ * again. Once the cache is full the oldest response is evicted for each response added.
+ *
+ * @since 7.0
+ */
+public final class RepresentationCache {
+    private final Map<String, Representation> representations;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int maxSize;
+    private final long maxEntitySize;
+
+    /**
+     * Creates a new cache holding entities of up to {@link Options#REPRESENTATION_CACHE_MAX_ENTITY_SIZE} bytes.
+     *
+     * @param maxSize the maximum number of responses in the cache
+     */
+    public RepresentationCache(final int maxSize) {
+        this(maxSize, Options.REPRESENTATION_CACHE_MAX_ENTITY_SIZE.getValue().toBytes());
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize       the maximum number of responses in the cache
+     * @param maxEntitySize the maximum size in bytes of a cached entity, larger entities are streamed to the client
+     *                      and not cached
+     */
+    public RepresentationCache(final int maxSize, final long maxEntitySize) {
+        this.maxSize = maxSize;
+        this.maxEntitySize = maxEntitySize;
+        this.representations = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Representation> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the maximum size in bytes of a cached entity.
+     *
+     * @return the maximum entity size
+     */
+    public long getMaxEntitySize() {
+        return maxEntitySize;
+    }
+
+    /**
+     * Returns the cached response for a key if it has not expired.
+     *
+     * @param key the key of the response
+     *
+     * @return the response or {@code null} if there is no fresh response for the key
+     */
+    public Representation get(final String key) {
+        final Representation representation;
+        lock.readLock().lock();
+        try {
+            representation = representations.get(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (representation == null) {
+            return null;
+        }
+        if (representation.isExpired(System.nanoTime())) {
+            lock.writeLock().lock();
+            try {
+                representations.remove(key, representation);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return null;
+        }
+        return representation;
+    }
+
+    /**
+     * Caches a response, evicting the oldest one if the cache is full.
+     *
+     * @param key            the key of the response
+     * @param representation the response
+     */
+    public void put(final String key, final Representation representation) {
+        lock.writeLock().lock();
+        try {
+            // Removed first so that a replaced response becomes the newest one
+            representations.remove(key);
+            representations.put(key, representation);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all the cached responses, for example once the resources they represent have changed.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            representations.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of cached responses, including the expired ones not removed yet.
+     *
+     * @return the number of responses
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return representations.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A cached response.
+     */
+    public static final class Representation {
+        private final byte[] entity;
+        private final MediaType mediaType;
+        private final MultivaluedMap<String, Object> headers;
+        private final EntityTag entityTag;
+        private final long stored;
+        private final long expires;
+
+        Representation(final byte[] entity, final MediaType mediaType, final MultivaluedMap<String, Object> headers,
+                final EntityTag entityTag, final int maxAge) {
+            this.entity = entity;
+            this.mediaType = mediaType;
+            this.headers = headers;
+            this.entityTag = entityTag;
+            this.stored = System.nanoTime();
+            this.expires = stored + TimeUnit.SECONDS.toNanos(maxAge);
+        }
+
+        /**
+         * The entity as written to the client. The array must not be modified.
+         *
+         * @return the entity
+         */
+        public byte[] getEntity() {
+            return entity;
+        }
+
+        /**
+         * The media type of the entity.
+         *
+         * @return the media type
+         */
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        /**
+         * The headers of the response, without the {@code Content-Length}. The headers must not be modified.
+         *
+         * @return the headers
+         */
+        public MultivaluedMap<String, Object> getHeaders() {
+            return headers;
+        }
+
+        /**
+         * The entity tag of the response, the one set by the resource or else one computed from the entity.
+         *
+         * @return the entity tag
+         */
+        public EntityTag getEntityTag() {
+            return entityTag;
+        }
+
+        /**
+         * The number of seconds since the response was cached, as sent in the {@code Age} header.
+         *
+         * @return the age of the response
+         */
+        public long getAge() {
+            return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - stored);
+        }
+
+        boolean isExpired(final long now) {
+            return now - expires >= 0;
+        }
+    }
+}
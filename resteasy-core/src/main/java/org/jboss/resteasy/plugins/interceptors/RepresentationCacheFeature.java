@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.plugins.interceptors;
+
+import java.lang.reflect.Method;
+
+import jakarta.ws.rs.ConstrainedTo;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.container.DynamicFeature;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.FeatureContext;
+
+import org.jboss.resteasy.annotations.cache.Cache;
+import org.jboss.resteasy.annotations.cache.NoCache;
+import org.jboss.resteasy.annotations.cache.ServerCached;
+import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
+import org.jboss.resteasy.spi.config.Options;
+
+/**
+ * Caches the responses of the GET resource methods annotated with {@link ServerCached} on the server. A
+ * {@link RepresentationCacheFilter} is registered for each of these methods, they share the
+ * {@link RepresentationCache} of the feature.
+ * <p>
+ * A response is cached for the {@link ServerCached#maxAge()} or else the {@link Cache#sMaxAge()} or
+ * {@link Cache#maxAge()}. Methods without a positive lifetime, or with a {@link NoCache} annotation or a private,
+ * no-store or no-cache {@link Cache} annotation, are not cached.
+ * </p>
+ *
+ * @since 7.0
+ */
+@ConstrainedTo(RuntimeType.SERVER)
+public class RepresentationCacheFeature implements DynamicFeature {
+    private final RepresentationCache cache;
+
+    /**
+     * Creates a new feature holding up to {@link Options#REPRESENTATION_CACHE_SIZE} responses.
+     */
+    public RepresentationCacheFeature() {
+        this(new RepresentationCache(Options.REPRESENTATION_CACHE_SIZE.getValue()));
+    }
+
+    /**
+     * Creates a new feature.
+     *
+     * @param cache the cache of the responses
+     */
+    public RepresentationCacheFeature(final RepresentationCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Returns the cache of the responses.
+     *
+     * @return the cache
+     */
+    public RepresentationCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public void configure(ResourceInfo resourceInfo, FeatureContext configurable) {
+        final Class<?> declaring = resourceInfo.getResourceClass();
+        final Method method = resourceInfo.getResourceMethod();
+        if (declaring == null || method == null || !method.isAnnotationPresent(GET.class))
+            return;
+
+        ServerCached serverCached = method.getAnnotation(ServerCached.class);
+        if (serverCached == null) {
+            serverCached = declaring.getAnnotation(ServerCached.class);
+            if (serverCached == null)
+                return;
+        }
+        if (method.isAnnotationPresent(NoCache.class)
+                || (!method.isAnnotationPresent(Cache.class) && declaring.isAnnotationPresent(NoCache.class))) {
+            return;
+        }
+        final Cache cacheAnnotation = method.isAnnotationPresent(Cache.class) ? method.getAnnotation(Cache.class)
+                : declaring.getAnnotation(Cache.class);
+        if (cacheAnnotation != null
+                && (cacheAnnotation.isPrivate() || cacheAnnotation.noStore() || cacheAnnotation.noCache())) {
+            return;
+        }
+        final int maxAge = getMaxAge(serverCached, cacheAnnotation);
+        if (maxAge <= 0) {
+            LogMessages.LOGGER.debugf("The responses of %s are not cached, there is no max age", method);
+            return;
+        }
+        configurable.register(createFilter(method, maxAge));
+    }
+
+    protected RepresentationCacheFilter createFilter(Method method, int maxAge) {
+        return new RepresentationCacheFilter(cache, method.toGenericString(), maxAge);
+    }
+
+    private static int getMaxAge(final ServerCached serverCached, final Cache cache) {
+        if (serverCached.maxAge() > -1) {
+            return serverCached.maxAge();
+        }
+        if (cache == null) {
+            return -1;
+        }
+        return cache.sMaxAge() > -1 ? cache.sMaxAge() : cache.maxAge();
+    }
+}
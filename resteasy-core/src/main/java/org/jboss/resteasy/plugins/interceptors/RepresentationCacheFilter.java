@@ -0,0 +1,431 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.plugins.interceptors;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.ConstrainedTo;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import org.jboss.resteasy.core.Headers;
+import org.jboss.resteasy.plugins.interceptors.RepresentationCache.Representation;
+import org.jboss.resteasy.spi.AsyncOutputStream;
+import org.jboss.resteasy.spi.AsyncWriterInterceptor;
+import org.jboss.resteasy.spi.AsyncWriterInterceptorContext;
+import org.jboss.resteasy.spi.BlockingAsyncOutputStream;
+import org.jboss.resteasy.util.HttpHeaderNames;
+
+/**
+ * Answers the GET requests of a resource method from a {@link RepresentationCache}, and caches its responses.
+ * <p>
+ * The responses are cached by request URI, {@code Accept}, {@code Accept-Encoding} and {@code Accept-Language}
+ * header. A cached response is sent, or {@code 304 Not Modified} when the {@code If-None-Match} header matches its
+ * entity tag, without invoking the resource method. Both carry an {@code Age} header with the number of seconds
+ * since the response was cached. Only {@code 200 OK} responses are cached, and not those with a
+ * {@code Set-Cookie} header or a private, no-store or no-cache {@code Cache-Control}.
+ * </p>
+ * <p>
+ * A request with an {@code Authorization} or a {@code Cookie} header is only answered from, and only stored in, the
+ * cache when the response is explicitly shared by a public or s-maxage {@code Cache-Control}. A request with a no-cache
+ * {@code Cache-Control} is not answered from the cache and one with a no-store {@code Cache-Control} neither uses nor
+ * updates the cache.
+ * </p>
+ * <p>
+ * As a writer interceptor the filter wraps the encoding interceptors, so it caches the entity once encoded and writes
+ * a cached entity without encoding it again. The entity of a response which may be cached is buffered to compute its
+ * entity tag, if the resource did not set one, before it is written. An entity larger than the
+ * {@linkplain RepresentationCache#getMaxEntitySize() maximum entity size} is streamed to the client and not cached.
+ * </p>
+ *
+ * @since 7.0
+ */
+@ConstrainedTo(RuntimeType.SERVER)
+@Priority(Priorities.HEADER_DECORATOR)
+public class RepresentationCacheFilter implements ContainerRequestFilter, ContainerResponseFilter, AsyncWriterInterceptor {
+    private static final String KEY = RepresentationCacheFilter.class.getName() + ".key";
+    private static final String HIT = RepresentationCacheFilter.class.getName() + ".hit";
+    private static final String CREDENTIALS = RepresentationCacheFilter.class.getName() + ".credentials";
+    // The headers of a cached response sent with a 304 Not Modified
+    private static final String[] NOT_MODIFIED_HEADERS = { HttpHeaders.CACHE_CONTROL, HttpHeaders.CONTENT_LOCATION,
+            HttpHeaders.EXPIRES, HttpHeaders.VARY };
+
+    private final RepresentationCache cache;
+    private final String resource;
+    private final int maxAge;
+
+    /**
+     * Creates a new filter.
+     *
+     * @param cache    the cache of the responses
+     * @param resource identifies the resource method in the keys of the cache
+     * @param maxAge   the number of seconds a response is cached for
+     */
+    public RepresentationCacheFilter(final RepresentationCache cache, final String resource, final int maxAge) {
+        this.cache = cache;
+        this.resource = resource;
+        this.maxAge = maxAge;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) throws IOException {
+        if (!HttpMethod.GET.equals(requestContext.getMethod()))
+            return;
+        final MultivaluedMap<String, String> headers = requestContext.getHeaders();
+        final List<String> cacheControl = headers.get(HttpHeaders.CACHE_CONTROL);
+        if (hasDirective(cacheControl, "no-store"))
+            return;
+        // The response to a request with credentials may be specific to the user
+        final boolean credentials = headers.containsKey(HttpHeaders.AUTHORIZATION)
+                || headers.containsKey(HttpHeaders.COOKIE) || !requestContext.getCookies().isEmpty();
+        final String key = getKey(requestContext);
+        final Representation representation = hasDirective(cacheControl, "no-cache") ? null : cache.get(key);
+        if (representation == null || (credentials && !isShared(representation.getHeaders()))) {
+            requestContext.setProperty(KEY, key);
+            if (credentials) {
+                requestContext.setProperty(CREDENTIALS, Boolean.TRUE);
+            }
+            return;
+        }
+        final Response.ResponseBuilder notModified = requestContext.getRequest()
+                .evaluatePreconditions(representation.getEntityTag());
+        if (notModified != null) {
+            notModified.header(HttpHeaderNames.AGE, representation.getAge());
+            for (String name : NOT_MODIFIED_HEADERS) {
+                final List<Object> values = representation.getHeaders().get(name);
+                if (values != null) {
+                    for (Object value : values) {
+                        notModified.header(name, value);
+                    }
+                }
+            }
+            requestContext.abortWith(notModified.build());
+            return;
+        }
+        final Response.ResponseBuilder builder = Response.ok(representation.getEntity(), representation.getMediaType());
+        for (Map.Entry<String, List<Object>> header : representation.getHeaders().entrySet()) {
+            if (header.getKey().equalsIgnoreCase(HttpHeaders.CONTENT_TYPE))
+                continue;
+            for (Object value : header.getValue()) {
+                builder.header(header.getKey(), value);
+            }
+        }
+        builder.header(HttpHeaderNames.AGE, representation.getAge());
+        requestContext.setProperty(HIT, representation);
+        requestContext.abortWith(builder.build());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
+            throws IOException {
+        if (responseContext.getStatus() != Response.Status.OK.getStatusCode()) {
+            requestContext.removeProperty(KEY);
+        }
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
+        final Representation hit = (Representation) context.getProperty(HIT);
+        if (hit != null) {
+            // The entity is written as cached, bypassing the writer and the encoding interceptors
+            setHeaders(context.getHeaders(), hit);
+            context.getOutputStream().write(hit.getEntity());
+            return;
+        }
+        final String key = (String) context.getProperty(KEY);
+        if (key == null) {
+            context.proceed();
+            return;
+        }
+        final OutputStream old = context.getOutputStream();
+        final CachingOutputStream buffer = new CachingOutputStream(new BlockingAsyncOutputStream(old),
+                cache.getMaxEntitySize());
+        context.setOutputStream(buffer);
+        try {
+            context.proceed();
+        } finally {
+            context.setOutputStream(old);
+        }
+        final byte[] entity = buffer.getEntity();
+        if (entity != null) {
+            store(key, context.getProperty(CREDENTIALS) != null, context.getHeaders(), context.getMediaType(), entity);
+            old.write(entity);
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> asyncAroundWriteTo(AsyncWriterInterceptorContext context) {
+        final Representation hit = (Representation) context.getProperty(HIT);
+        if (hit != null) {
+            setHeaders(context.getHeaders(), hit);
+            return context.getAsyncOutputStream().asyncWrite(hit.getEntity());
+        }
+        final String key = (String) context.getProperty(KEY);
+        if (key == null) {
+            return context.asyncProceed();
+        }
+        final AsyncOutputStream old = context.getAsyncOutputStream();
+        final CachingOutputStream buffer = new CachingOutputStream(old, cache.getMaxEntitySize());
+        context.setAsyncOutputStream(buffer);
+        return context.asyncProceed()
+                .whenComplete((v, t) -> context.setAsyncOutputStream(old))
+                .thenCompose(v -> {
+                    final byte[] entity = buffer.getEntity();
+                    if (entity == null) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    store(key, context.getProperty(CREDENTIALS) != null, context.getHeaders(), context.getMediaType(),
+                            entity);
+                    return old.asyncWrite(entity);
+                });
+    }
+
+    private String getKey(final ContainerRequestContext requestContext) {
+        final StringBuilder key = new StringBuilder(resource).append('\n')
+                .append(requestContext.getUriInfo().getRequestUri());
+        final MultivaluedMap<String, String> headers = requestContext.getHeaders();
+        appendHeader(key, headers.get(HttpHeaders.ACCEPT));
+        appendHeader(key, headers.get(HttpHeaders.ACCEPT_ENCODING));
+        appendHeader(key, headers.get(HttpHeaders.ACCEPT_LANGUAGE));
+        return key.toString();
+    }
+
+    private static void appendHeader(final StringBuilder key, final List<String> values) {
+        key.append('\n');
+        if (values != null) {
+            for (String value : values) {
+                key.append(value).append(',');
+            }
+        }
+    }
+
+    private static void setHeaders(final MultivaluedMap<String, Object> headers, final Representation representation) {
+        // The content coding may have been negotiated again, the entity is sent as it was cached
+        final List<Object> encoding = representation.getHeaders().get(HttpHeaders.CONTENT_ENCODING);
+        if (encoding == null) {
+            headers.remove(HttpHeaders.CONTENT_ENCODING);
+        } else {
+            headers.put(HttpHeaders.CONTENT_ENCODING, new ArrayList<>(encoding));
+        }
+        headers.putSingle(HttpHeaders.CONTENT_LENGTH, representation.getEntity().length);
+    }
+
+    private void store(final String key, final boolean credentials, final MultivaluedMap<String, Object> headers,
+            final MediaType mediaType, final byte[] entity) {
+        headers.putSingle(HttpHeaders.CONTENT_LENGTH, entity.length);
+        if (!isCacheable(headers) || (credentials && !isShared(headers))) {
+            return;
+        }
+        final EntityTag entityTag;
+        final Object tag = headers.getFirst(HttpHeaders.ETAG);
+        if (tag == null) {
+            entityTag = computeEntityTag(entity);
+            headers.putSingle(HttpHeaders.ETAG, entityTag);
+        } else if (tag instanceof EntityTag) {
+            entityTag = (EntityTag) tag;
+        } else {
+            try {
+                entityTag = RuntimeDelegate.getInstance().createHeaderDelegate(EntityTag.class)
+                        .fromString(tag.toString());
+            } catch (IllegalArgumentException e) {
+                return;
+            }
+        }
+        final Headers<Object> cached = new Headers<>();
+        for (Map.Entry<String, List<Object>> header : headers.entrySet()) {
+            if (!header.getKey().equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH)
+                    && !header.getKey().equalsIgnoreCase(HttpHeaders.DATE)) {
+                cached.put(header.getKey(), new ArrayList<>(header.getValue()));
+            }
+        }
+        cache.put(key, new Representation(entity, mediaType, cached, entityTag, maxAge));
+    }
+
+    private static boolean isCacheable(final MultivaluedMap<String, Object> headers) {
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        final Object vary = headers.getFirst(HttpHeaders.VARY);
+        if (vary != null && vary.toString().trim().equals("*")) {
+            return false;
+        }
+        final List<Object> cacheControl = headers.get(HttpHeaders.CACHE_CONTROL);
+        if (cacheControl != null) {
+            for (Object value : cacheControl) {
+                final String directives = value.toString().toLowerCase(Locale.ROOT);
+                if (directives.contains("no-store") || directives.contains("private")
+                        || directives.contains("no-cache")) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indicates whether the response may be shared by users, in other words whether it is explicitly public.
+     */
+    private static boolean isShared(final MultivaluedMap<String, Object> headers) {
+        final List<Object> cacheControl = headers.get(HttpHeaders.CACHE_CONTROL);
+        if (cacheControl != null) {
+            for (Object value : cacheControl) {
+                final String directives = value.toString().toLowerCase(Locale.ROOT);
+                if (directives.contains("public") || directives.contains("s-maxage")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasDirective(final List<String> cacheControl, final String directive) {
+        if (cacheControl != null) {
+            for (String value : cacheControl) {
+                if (value.toLowerCase(Locale.ROOT).contains(directive)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static EntityTag computeEntityTag(final byte[] entity) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(entity);
+            final StringBuilder value = new StringBuilder(32);
+            for (int i = 0; i < 16; i++) {
+                value.append(Character.forDigit((digest[i] >> 4) & 0xF, 16))
+                        .append(Character.forDigit(digest[i] & 0xF, 16));
+            }
+            return new EntityTag(value.toString());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Buffers the entity up to the maximum entity size. Once the entity is larger, the buffered bytes and the rest of
+     * the entity are written to the delegate.
+     */
+    private static final class CachingOutputStream extends AsyncOutputStream {
+        private final AsyncOutputStream delegate;
+        private final long maxSize;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        private CachingOutputStream(final AsyncOutputStream delegate, final long maxSize) {
+            this.delegate = delegate;
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Returns the entity if it was buffered.
+         *
+         * @return the entity or {@code null} if it was larger than the maximum size and written to the delegate
+         */
+        byte[] getEntity() {
+            return buffer == null ? null : buffer.toByteArray();
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            if (buffer(bytes, offset, length)) {
+                return;
+            }
+            final byte[] buffered = release();
+            if (buffered != null && buffered.length > 0) {
+                delegate.write(buffered);
+            }
+            delegate.write(bytes, offset, length);
+        }
+
+        @Override
+        public CompletionStage<Void> asyncWrite(final byte[] bytes, final int offset, final int length) {
+            if (buffer(bytes, offset, length)) {
+                return CompletableFuture.completedFuture(null);
+            }
+            final byte[] buffered = release();
+            if (buffered != null && buffered.length > 0) {
+                return delegate.asyncWrite(buffered).thenCompose(v -> delegate.asyncWrite(bytes, offset, length));
+            }
+            return delegate.asyncWrite(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (buffer == null) {
+                delegate.flush();
+            }
+        }
+
+        @Override
+        public CompletionStage<Void> asyncFlush() {
+            if (buffer == null) {
+                return delegate.asyncFlush();
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        private boolean buffer(final byte[] bytes, final int offset, final int length) {
+            if (buffer == null || (maxSize >= 0 && buffer.size() + (long) length > maxSize)) {
+                return false;
+            }
+            buffer.write(bytes, offset, length);
+            return true;
+        }
+
+        private byte[] release() {
+            if (buffer == null) {
+                return null;
+            }
+            final byte[] buffered = buffer.toByteArray();
+            buffer = null;
+            return buffered;
+        }
+    }
+}
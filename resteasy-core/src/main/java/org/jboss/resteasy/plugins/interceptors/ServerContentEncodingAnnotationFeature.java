@@ -2,7 +2,7 @@ package org.jboss.resteasy.plugins.interceptors;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import jakarta.ws.rs.ConstrainedTo;
@@ -34,9 +34,9 @@ public class ServerContentEncodingAnnotationFeature implements DynamicFeature {
             if (encodings.size() <= 0)
                 return;
         }
-        // check if GZIP encoder has been registered
+        // check if GZIP encoder, which encodes all the known codings, has been registered
         if (!isGZipRegistered(configurable.getConfiguration())) {
-            encodings.remove("gzip");
+            encodings.removeAll(ContentCodecs.getEncodings());
         }
         configurable.register(createFilter(encodings));
     }
@@ -50,7 +50,7 @@ public class ServerContentEncodingAnnotationFeature implements DynamicFeature {
     }
 
     protected Set<String> getEncodings(Annotation[] annotations) {
-        Set<String> encodings = new HashSet<String>();
+        Set<String> encodings = new LinkedHashSet<String>();
         for (Annotation annotation : annotations) {
             if (annotation.annotationType().isAnnotationPresent(ContentEncoding.class)) {
                 encodings.add(annotation.annotationType().getAnnotation(ContentEncoding.class).value().toLowerCase());
@@ -13,12 +13,12 @@ import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.InterceptorContext;
 import jakarta.ws.rs.ext.WriterInterceptorContext;
 
 import org.jboss.resteasy.spi.AsyncWriterInterceptor;
 import org.jboss.resteasy.spi.AsyncWriterInterceptorContext;
 import org.jboss.resteasy.spi.HttpRequest;
-import org.jboss.resteasy.util.AcceptParser;
 
 /**
  * @author <a href="mailto:bill@burkecentral.com">Bill Burke</a>
@@ -37,32 +37,22 @@ public class ServerContentEncodingAnnotationFilter implements AsyncWriterInterce
 
     @Override
     public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
-        setHeader(context.getHeaders());
+        setHeader(context, context.getHeaders());
         context.proceed();
     }
 
-    private void setHeader(MultivaluedMap<String, Object> headers) {
+    private void setHeader(InterceptorContext context, MultivaluedMap<String, Object> headers) {
         List<String> acceptEncoding = request.getHttpHeaders().getRequestHeaders().get(HttpHeaders.ACCEPT_ENCODING);
-        if (acceptEncoding != null) {
-            StringBuffer buf = new StringBuffer();
-            for (String accept : acceptEncoding) {
-                if (buf.length() > 0)
-                    buf.append(",");
-                buf.append(accept);
-            }
-            List<String> accepts = AcceptParser.parseAcceptHeader(buf.toString());
-            for (String encoding : accepts) {
-                if (encodings.contains(encoding.toLowerCase())) {
-                    headers.putSingle(HttpHeaders.CONTENT_ENCODING, encoding);
-                    break;
-                }
-            }
+        String encoding = ContentCodecs.negotiate(acceptEncoding, encodings);
+        if (encoding != null) {
+            headers.putSingle(HttpHeaders.CONTENT_ENCODING, encoding);
+            context.setProperty(ContentCodecs.ENCODING_PROPERTY, encoding);
         }
     }
 
     @Override
     public CompletionStage<Void> asyncAroundWriteTo(AsyncWriterInterceptorContext context) {
-        setHeader(context.getHeaders());
+        setHeader(context, context.getHeaders());
         return context.asyncProceed();
     }
 }
@@ -100,6 +100,13 @@ public class InboundSseEventImpl implements InboundSseEvent {
             return this;
         }
 
+        public Builder write(byte[] data, int offset, int length) {
+            if (length > 0) {
+                this.dataStream.write(data, offset, length);
+            }
+            return this;
+        }
+
         public Builder providers(Providers providers) {
             this.providers = providers;
             return this;
@@ -1,14 +1,13 @@
 package org.jboss.resteasy.plugins.providers.sse;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
@@ -36,6 +35,16 @@ public class SseEventInputImpl implements EventInput, Closeable {
 
     private static final String DELIMITER = new String(SseConstants.EVENT_DELIMITER, StandardCharsets.UTF_8);
 
+    private byte[] buffer = new byte[8192];
+
+    private int position;
+
+    private int limit;
+
+    private int lineEnd;
+
+    private boolean skipLineFeed;
+
     public SseEventInputImpl(final Annotation[] annotations, final MediaType streamType, final MediaType elementType,
             final MultivaluedMap<String, String> httpHeaders, final InputStream inputStream) {
         this.annotations = annotations;
@@ -61,13 +70,26 @@ public class SseEventInputImpl implements EventInput, Closeable {
     }
 
     public InboundSseEvent read(Providers providers) throws IOException {
+        InboundSseEventImpl.Builder eventBuilder = null;
         boolean lastFieldWasData = false;
-        byte[] chunk = null;
         try {
-            chunk = readEvent(inputStream);
-            if (chunk == null) {
-                close();
-                return null;
+            for (;;) {
+                final int start = nextLine();
+                if (start < 0) {
+                    close();
+                    return null;
+                }
+                if (start == lineEnd) {
+                    // an empty line dispatches the event, if any
+                    if (eventBuilder != null) {
+                        return eventBuilder.providers(providers).build();
+                    }
+                    continue;
+                }
+                if (eventBuilder == null) {
+                    eventBuilder = new InboundSseEventImpl.Builder(annotations, mediaType, httpHeaders);
+                }
+                lastFieldWasData = processLine(lastFieldWasData, eventBuilder, start, lineEnd);
             }
         } catch (IOException e1) {
             try {
@@ -77,114 +99,145 @@ public class SseEventInputImpl implements EventInput, Closeable {
                 //TODO: add a log message
             }
             throw e1;
-
         }
+    }
 
-        final ByteArrayInputStream entityStream = new ByteArrayInputStream(chunk);
-        final ByteArrayOutputStream temSave = new ByteArrayOutputStream();
-        Charset charset = StandardCharsets.UTF_8;
-        if (mediaType != null && mediaType.getParameters().get(MediaType.CHARSET_PARAMETER) != null) {
-            charset = Charset.forName(mediaType.getParameters().get(MediaType.CHARSET_PARAMETER));
-        }
-
-        final InboundSseEventImpl.Builder eventBuilder = new InboundSseEventImpl.Builder(annotations, mediaType,
-                httpHeaders);
-        //TODO: Look at if this can be improved
-        int b = -1;
-        SseConstants.EVENT currentState = SseConstants.EVENT.START;
-        while ((b = entityStream.read()) != -1) {
-            try {
-                if (currentState == SseConstants.EVENT.START) {
-                    if (b == '\r' || b == '\n') {
-                        continue;
-                    }
-
-                    if (b == ':') {
-                        currentState = SseConstants.EVENT.COMMENT;
-                        continue;
-                    } else {
-                        temSave.write(b);
-                        currentState = SseConstants.EVENT.FIELD;
-                        continue;
-                    }
+    /**
+     * Scans the buffer for the next line, reading from the stream as needed. The line is left in the buffer, from the
+     * returned index to {@link #lineEnd}, so that fields are parsed without copying the event.
+     *
+     * @return the index of the first byte of the line, or -1 if the stream ended
+     */
+    private int nextLine() throws IOException {
+        int start = position;
+        int scan = start;
+        for (;;) {
+            if (scan >= limit) {
+                final int offset = scan - start;
+                if (!fill(start)) {
+                    return -1;
                 }
-                if (currentState == SseConstants.EVENT.COMMENT) {
-
-                    b = readLine(entityStream, '\n', temSave);
-                    String commentLine = temSave.toString(charset.name());
-                    eventBuilder.commentLine(commentLine);
-                    temSave.reset();
-                    currentState = SseConstants.EVENT.START;
+                start = 0;
+                scan = offset;
+                continue;
+            }
+            final byte b = buffer[scan];
+            if (skipLineFeed) {
+                // the second half of a \r\n line terminator
+                skipLineFeed = false;
+                if (b == '\n') {
+                    start = ++scan;
                     continue;
                 }
-                if (currentState == SseConstants.EVENT.FIELD) {
-                    temSave.write(b);
-                    b = readLine(entityStream, ':', temSave);
-                    String fieldName = temSave.toString(StandardCharsets.UTF_8.name());
-                    temSave.reset();
-                    if (b == ':') {
-                        //spec says there is space after colon
-                        do {
-                            b = entityStream.read();
-                        } while (b == ' ');
-
-                        if (b != '\n' && b != '\r' && b != -1) {
-                            temSave.write(b);
-                            b = readLine(entityStream, '\n', temSave);
-                        }
-                    }
+            }
+            if (b == '\\' && !textLike) {
+                scan += 2;
+                continue;
+            }
+            if (b == '\n' || b == '\r') {
+                lineEnd = scan;
+                position = scan + 1;
+                skipLineFeed = b == '\r';
+                return start;
+            }
+            scan++;
+        }
+    }
 
-                    lastFieldWasData = processField(lastFieldWasData, eventBuilder, fieldName, mediaType,
-                            temSave.toByteArray());
-                    temSave.reset();
-                    currentState = SseConstants.EVENT.START;
-                    continue;
+    /**
+     * Moves the unscanned bytes from {@code start} to the beginning of the buffer, growing it for long lines, and
+     * reads more bytes from the stream.
+     */
+    private boolean fill(final int start) throws IOException {
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, limit - start);
+            limit -= start;
+        } else if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        position = 0;
+        final int read = inputStream.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    private boolean processLine(final boolean lastFieldWasData, final InboundSseEventImpl.Builder eventBuilder,
+            final int start, final int end) {
+        byte[] line = buffer;
+        int from = start;
+        int to = end;
+        if (escape && !textLike) {
+            for (int i = from; i < to; i++) {
+                if (line[i] == '\\') {
+                    line = unescape(line, from, to);
+                    from = 0;
+                    to = line.length;
+                    break;
                 }
-            } catch (IOException e) {
-                throw new IOException(Messages.MESSAGES.readEventException(), e);
             }
         }
-
-        InboundSseEventImpl event = (InboundSseEventImpl) eventBuilder.providers(providers).build();
-        return event;
+        final Charset charset = charset();
+        if (line[from] == ':') {
+            from++;
+            if (from < to && line[from] == ' ') {
+                from++;
+            }
+            eventBuilder.commentLine(new String(line, from, to - from, charset));
+            return lastFieldWasData;
+        }
+        int colon = from;
+        while (colon < to && line[colon] != ':') {
+            colon++;
+        }
+        final String fieldName = new String(line, from, colon - from, StandardCharsets.UTF_8);
+        int value = colon + 1;
+        while (value < to && line[value] == ' ') {
+            value++;
+        }
+        if (value > to) {
+            value = to;
+        }
+        return processField(lastFieldWasData, eventBuilder, fieldName, charset, line, value, to - value);
     }
 
-    private int readLine(final InputStream in, final int delimiter, final OutputStream out) throws IOException {
-        int b;
-        while ((b = in.read()) != -1) {
-            if (!textLike && escape && b == '\\') {
-                b = in.read();
+    private static byte[] unescape(final byte[] line, final int from, final int to) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(to - from);
+        for (int i = from; i < to; i++) {
+            int b = line[i];
+            if (b == '\\') {
+                b = ++i < to ? line[i] : -1;
                 if (b != '\\' && b != '\n' && b != '\r') {
                     throw new RuntimeException(Messages.MESSAGES.expectedExcapedCharacter(b));
                 }
-                out.write(b);
-                continue;
-            }
-            if (b == delimiter || b == '\n' || b == '\r') {
-                break;
-            } else if (out != null) {
-                out.write(b);
             }
+            out.write(b);
         }
-        return b;
+        return out.toByteArray();
     }
 
-    private static boolean processField(boolean lastFieldWasData, final InboundSseEventImpl.Builder inboundEventBuilder,
-            final String name,
-            final MediaType mediaType, final byte[] value) {
-        Charset charset = StandardCharsets.UTF_8;
+    private Charset charset() {
         if (mediaType != null && mediaType.getParameters().get(MediaType.CHARSET_PARAMETER) != null) {
-            charset = Charset.forName(mediaType.getParameters().get(MediaType.CHARSET_PARAMETER));
+            return Charset.forName(mediaType.getParameters().get(MediaType.CHARSET_PARAMETER));
         }
-        String valueString = new String(value, charset);
+        return StandardCharsets.UTF_8;
+    }
+
+    private static boolean processField(boolean lastFieldWasData, final InboundSseEventImpl.Builder inboundEventBuilder,
+            final String name, final Charset charset, final byte[] value, final int offset, final int length) {
         boolean newLastFieldWasData = false;
-        if ("event".equals(name)) {
-            inboundEventBuilder.name(valueString);
-        } else if ("data".equals(name)) {
+        if ("data".equals(name)) {
             if (lastFieldWasData)
                 inboundEventBuilder.write(SseConstants.EOL);
-            inboundEventBuilder.write(value);
+            inboundEventBuilder.write(value, offset, length);
             newLastFieldWasData = true;
+            return newLastFieldWasData;
+        }
+        String valueString = new String(value, offset, length, charset);
+        if ("event".equals(name)) {
+            inboundEventBuilder.name(valueString);
         } else if ("id".equals(name)) {
             inboundEventBuilder.id(valueString);
         } else if ("retry".equals(name)) {
@@ -1,9 +1,6 @@
 package org.jboss.resteasy.specimpl;
 
-import java.io.UnsupportedEncodingException;
 import java.net.URI;
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -35,6 +32,7 @@ public class ResteasyUriInfo implements UriInfo {
     private String matchingPath;
     private MultivaluedMap<String, String> queryParameters;
     private MultivaluedMap<String, String> encodedQueryParameters;
+    private QueryIndex queryIndex;
     private MultivaluedMap<String, String> pathParameters;
     private MultivaluedMap<String, String> encodedPathParameters;
     private MultivaluedMap<String, PathSegment[]> pathParameterPathSegments;
@@ -413,41 +411,39 @@ public class ResteasyUriInfo implements UriInfo {
             return getEncodedQueryParameters();
     }
 
+    /**
+     * Returns the values of a single query parameter. Unlike {@link #getQueryParameters(boolean)} only the values of
+     * the parameter are decoded, the maps of all the parameters are not created.
+     *
+     * @param name   the decoded name of the parameter
+     * @param decode whether the values are decoded
+     * @return the values of the parameter or {@code null} if the query does not contain the parameter
+     */
+    public List<String> getQueryParameter(String name, boolean decode) {
+        final MultivaluedMap<String, String> parameters = decode ? queryParameters : encodedQueryParameters;
+        if (parameters != null) {
+            final List<String> values = parameters.get(name);
+            return values == null ? null : Collections.unmodifiableList(values);
+        }
+        if (queryIndex == null) {
+            queryIndex = new QueryIndex(getRequestUri().getRawQuery());
+        }
+        return queryIndex.get(name, decode);
+    }
+
     private void clearQueryParameters(boolean decode) {
         queryParameters = null;
         encodedQueryParameters = null;
+        queryIndex = null;
     }
 
     protected void extractParameters() {
         queryParameters = new MultivaluedMapImpl<>();
         encodedQueryParameters = new MultivaluedMapImpl<>();
-        String queryString = getRequestUri().getRawQuery();
-        if (queryString == null || queryString.equals(""))
-            return;
-
-        String[] params = queryString.split("&");
-
-        for (String param : params) {
-            if (param.indexOf('=') >= 0) {
-                String[] nv = param.split("=", 2);
-                try {
-                    String name = URLDecoder.decode(nv[0], StandardCharsets.UTF_8.name());
-                    String val = nv.length > 1 ? nv[1] : "";
-                    encodedQueryParameters.add(name, val);
-                    queryParameters.add(name, URLDecoder.decode(val, StandardCharsets.UTF_8.name()));
-                } catch (UnsupportedEncodingException e) {
-                    throw new RuntimeException(e);
-                }
-            } else {
-                try {
-                    String name = URLDecoder.decode(param, StandardCharsets.UTF_8.name());
-                    encodedQueryParameters.add(name, "");
-                    queryParameters.add(name, "");
-                } catch (UnsupportedEncodingException e) {
-                    throw new RuntimeException(e);
-                }
-            }
+        if (queryIndex == null) {
+            queryIndex = new QueryIndex(getRequestUri().getRawQuery());
         }
+        queryIndex.copyTo(queryParameters, encodedQueryParameters);
     }
 
     public List<String> getMatchedURIs(boolean decode) {
@@ -635,4 +631,74 @@ public class ResteasyUriInfo implements UriInfo {
         }
     }
 
+    /**
+     * The parameters of a raw query string, split in a single pass. The names are decoded when the index is created,
+     * the values only when a parameter is looked up.
+     */
+    private static final class QueryIndex {
+        private final String query;
+        private final String[] names;
+        // The start and end of the value of each parameter in the query
+        private final int[] values;
+
+        private QueryIndex(final String query) {
+            this.query = query == null ? "" : query;
+            final List<String> names = new ArrayList<>();
+            final List<int[]> values = new ArrayList<>();
+            final int length = this.query.length();
+            int start = 0;
+            // Trailing empty parameters are ignored
+            int last = 0;
+            while (start < length) {
+                int end = this.query.indexOf('&', start);
+                if (end < 0) {
+                    end = length;
+                }
+                final int eq = this.query.indexOf('=', start);
+                if (eq >= 0 && eq < end) {
+                    names.add(Encode.decodeQueryParam(this.query.substring(start, eq)));
+                    values.add(new int[] { eq + 1, end });
+                } else {
+                    names.add(Encode.decodeQueryParam(this.query.substring(start, end)));
+                    values.add(new int[] { end, end });
+                }
+                if (end > start) {
+                    last = names.size();
+                }
+                start = end + 1;
+            }
+            this.names = names.subList(0, last).toArray(new String[0]);
+            this.values = new int[this.names.length * 2];
+            for (int i = 0; i < this.names.length; i++) {
+                this.values[i * 2] = values.get(i)[0];
+                this.values[i * 2 + 1] = values.get(i)[1];
+            }
+        }
+
+        private String value(final int index, final boolean decode) {
+            final String value = query.substring(values[index * 2], values[index * 2 + 1]);
+            return decode ? Encode.decodeQueryParam(value) : value;
+        }
+
+        private List<String> get(final String name, final boolean decode) {
+            List<String> result = null;
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    if (result == null) {
+                        result = new ArrayList<>(1);
+                    }
+                    result.add(value(i, decode));
+                }
+            }
+            return result == null ? null : Collections.unmodifiableList(result);
+        }
+
+        private void copyTo(final MultivaluedMap<String, String> decoded, final MultivaluedMap<String, String> encoded) {
+            for (int i = 0; i < names.length; i++) {
+                final String value = value(i, false);
+                encoded.add(names[i], value);
+                decoded.add(names[i], Encode.decodeQueryParam(value));
+            }
+        }
+    }
 }
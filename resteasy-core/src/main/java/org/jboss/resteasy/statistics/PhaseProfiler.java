@@ -0,0 +1,347 @@
+package org.jboss.resteasy.statistics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.jboss.resteasy.spi.HttpRequest;
+import org.jboss.resteasy.spi.config.Options;
+
+/**
+ * Records where time is spent when a deployment starts and, for a sample of the requests, in each phase of the
+ * request processing. The startup phases are always recorded. The request phases of one in
+ * {@linkplain #getSampleRate() sample rate} requests are aggregated, which keeps the overhead low enough for the
+ * profiler to be always on.
+ * <p>
+ * A sampled request carries a {@link Sample} as a request attribute. Each call to {@link Sample#phase(RequestPhase)}
+ * adds the time elapsed since the previous call to the phase. The durations are aggregated once the response has been
+ * written.
+ * </p>
+ *
+ * @since 7.0
+ */
+public class PhaseProfiler {
+
+    /**
+     * The phases of a deployment start.
+     */
+    public enum StartupPhase {
+        /**
+         * Scanning the class path for applications, resources and providers.
+         */
+        SCAN,
+        /**
+         * Registering the providers.
+         */
+        PROVIDERS,
+        /**
+         * Registering the resources, which includes the dynamic features and validation.
+         */
+        RESOURCES,
+        /**
+         * Applying the dynamic features to the resource methods. With parallel registration this is the sum of the
+         * time spent on each thread.
+         */
+        DYNAMIC_FEATURES,
+        /**
+         * Checking whether the resources and resource methods need to be validated. With parallel registration this is
+         * the sum of the time spent on each thread.
+         */
+        VALIDATION,
+        /**
+         * The whole start of the deployment.
+         */
+        TOTAL
+    }
+
+    /**
+     * The phases of the processing of a request.
+     */
+    public enum RequestPhase {
+        /**
+         * The pre-processors and the pre-matching request filters.
+         */
+        PRE_MATCH_FILTERS,
+        /**
+         * Matching the request to a resource method.
+         */
+        MATCH,
+        /**
+         * The post-matching request filters.
+         */
+        REQUEST_FILTERS,
+        /**
+         * Creating the resource and injecting the parameters of the resource method.
+         */
+        PARAMETER_INJECTION,
+        /**
+         * Invoking the resource method, including the completion of an asynchronous result.
+         */
+        INVOKE,
+        /**
+         * The response filters.
+         */
+        RESPONSE_FILTERS,
+        /**
+         * Writing the response entity, including the writer interceptors.
+         */
+        WRITE
+    }
+
+    private static final String SAMPLE_ATTRIBUTE = Sample.class.getName();
+    private static final RequestPhase[] REQUEST_PHASES = RequestPhase.values();
+
+    private final LongAdder[] startup;
+    private final PhaseStatistics[] request;
+    private volatile int sampleRate;
+
+    /**
+     * Creates a new profiler with the sample rate of the {@link Options#PROFILER_SAMPLE_RATE} option.
+     */
+    public PhaseProfiler() {
+        this(Options.PROFILER_SAMPLE_RATE.getValue());
+    }
+
+    /**
+     * Creates a new profiler.
+     *
+     * @param sampleRate one in how many requests are sampled, {@code 0} or less disables sampling
+     */
+    public PhaseProfiler(final int sampleRate) {
+        this.sampleRate = sampleRate;
+        startup = new LongAdder[StartupPhase.values().length];
+        for (int i = 0; i < startup.length; i++) {
+            startup[i] = new LongAdder();
+        }
+        request = new PhaseStatistics[REQUEST_PHASES.length];
+        for (int i = 0; i < request.length; i++) {
+            request[i] = new PhaseStatistics();
+        }
+    }
+
+    /**
+     * Returns one in how many requests are sampled.
+     *
+     * @return the sample rate, {@code 0} or less if sampling is disabled
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Sets one in how many requests are sampled.
+     *
+     * @param sampleRate the sample rate, {@code 0} or less disables sampling
+     */
+    public void setSampleRate(final int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Adds time to a startup phase.
+     *
+     * @param phase the phase
+     * @param nanos the time spent in nanoseconds
+     */
+    public void recordStartup(final StartupPhase phase, final long nanos) {
+        startup[phase.ordinal()].add(nanos);
+    }
+
+    /**
+     * Clears the time of startup phases, for example before the registration is run again so the phases are not
+     * counted twice.
+     *
+     * @param phases the phases to clear
+     */
+    public void resetStartup(final StartupPhase... phases) {
+        for (StartupPhase phase : phases) {
+            startup[phase.ordinal()].reset();
+        }
+    }
+
+    /**
+     * Returns the time spent in each startup phase.
+     *
+     * @return the time in nanoseconds of the phases, in the order of the phases
+     */
+    public Map<StartupPhase, Long> getStartupTimes() {
+        final Map<StartupPhase, Long> result = new EnumMap<>(StartupPhase.class);
+        for (StartupPhase phase : StartupPhase.values()) {
+            result.put(phase, startup[phase.ordinal()].sum());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the aggregated statistics of the sampled requests.
+     *
+     * @return the statistics of each request phase, in the order of the phases
+     */
+    public Map<RequestPhase, PhaseStatistics> getRequestStatistics() {
+        final Map<RequestPhase, PhaseStatistics> result = new EnumMap<>(RequestPhase.class);
+        for (RequestPhase phase : REQUEST_PHASES) {
+            result.put(phase, request[phase.ordinal()]);
+        }
+        return result;
+    }
+
+    /**
+     * Clears the statistics of the request phases.
+     */
+    public void reset() {
+        for (PhaseStatistics statistics : request) {
+            statistics.reset();
+        }
+    }
+
+    /**
+     * Decides whether the request is sampled. If so a new sample, starting now, is attached to the request.
+     *
+     * @param httpRequest the request
+     *
+     * @return the sample or {@code null} if the request is not sampled
+     */
+    public Sample sample(final HttpRequest httpRequest) {
+        final int rate = sampleRate;
+        if (rate <= 0 || (rate > 1 && ThreadLocalRandom.current().nextInt(rate) != 0)) {
+            return null;
+        }
+        final Sample sample = new Sample(this);
+        httpRequest.setAttribute(SAMPLE_ATTRIBUTE, sample);
+        return sample;
+    }
+
+    private void record(final long[] durations, final int phases) {
+        for (int i = 0; i < durations.length; i++) {
+            if ((phases & (1 << i)) != 0) {
+                request[i].record(durations[i]);
+            }
+        }
+    }
+
+    /**
+     * The phase durations of a sampled request.
+     */
+    public static final class Sample {
+        private final PhaseProfiler profiler;
+        private final long[] durations = new long[REQUEST_PHASES.length];
+        private int phases;
+        private long mark;
+        private boolean completed;
+
+        private Sample(final PhaseProfiler profiler) {
+            this.profiler = profiler;
+            mark = System.nanoTime();
+        }
+
+        /**
+         * Returns the sample of the request.
+         *
+         * @param request the request
+         *
+         * @return the sample or {@code null} if the request is not sampled
+         */
+        public static Sample of(final HttpRequest request) {
+            return request == null ? null : (Sample) request.getAttribute(SAMPLE_ATTRIBUTE);
+        }
+
+        /**
+         * Adds the time elapsed since the previous phase ended to the phase.
+         *
+         * @param phase the phase which ends now
+         */
+        public void phase(final RequestPhase phase) {
+            final long now = System.nanoTime();
+            durations[phase.ordinal()] += now - mark;
+            phases |= 1 << phase.ordinal();
+            mark = now;
+        }
+
+        /**
+         * Ends the {@linkplain RequestPhase#WRITE write} phase and adds the durations of the sample to the statistics.
+         * Subsequent invocations are ignored.
+         */
+        public void complete() {
+            if (!completed) {
+                completed = true;
+                phase(RequestPhase.WRITE);
+                profiler.record(durations, phases);
+            }
+        }
+
+        /**
+         * Returns a callback which {@linkplain #complete() completes} the sample before invoking the delegate.
+         *
+         * @param delegate the callback to invoke once the response has been written
+         *
+         * @return the new callback
+         */
+        public Consumer<Throwable> completing(final Consumer<Throwable> delegate) {
+            return t -> {
+                complete();
+                delegate.accept(t);
+            };
+        }
+    }
+
+    /**
+     * The aggregated durations of a request phase.
+     */
+    public static final class PhaseStatistics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+        private void record(final long nanos) {
+            count.increment();
+            total.add(nanos);
+            max.accumulate(nanos);
+        }
+
+        private void reset() {
+            count.reset();
+            total.reset();
+            max.reset();
+        }
+
+        /**
+         * The number of sampled requests which went through the phase.
+         *
+         * @return the number of samples
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * The total time spent in the phase by the sampled requests.
+         *
+         * @return the time in nanoseconds
+         */
+        public long getTotalTime() {
+            return total.sum();
+        }
+
+        /**
+         * The longest time a sampled request spent in the phase.
+         *
+         * @return the time in nanoseconds
+         */
+        public long getMaxTime() {
+            return max.get();
+        }
+
+        /**
+         * The average time a sampled request spent in the phase.
+         *
+         * @return the time in nanoseconds, {@code 0} if there are no samples
+         */
+        public long getAverageTime() {
+            final long samples = getCount();
+            return samples == 0 ? 0 : getTotalTime() / samples;
+        }
+    }
+}
@@ -210,41 +210,79 @@ public class Encode {
 
     //private static final Pattern nonCodes = Pattern.compile("%([^a-fA-F0-9]|$)");
     private static final Pattern nonCodes = Pattern.compile("%([^a-fA-F0-9]|[a-fA-F0-9]$|$|[a-fA-F0-9][^a-fA-F0-9])");
-    private static final Pattern encodedChars = Pattern.compile("%([a-fA-F0-9][a-fA-F0-9])");
-    private static final Pattern encodedCharsMulti = Pattern.compile("((%[a-fA-F0-9][a-fA-F0-9])+)");
 
+    /**
+     * Decodes the UTF-8 percent-encoded octets of a path. A '%' which is not followed by two hexadecimal digits is
+     * kept as is, as is a '+'.
+     *
+     * @param path the encoded path
+     * @return the decoded path
+     */
     public static String decodePath(String path) {
-        if (path.indexOf('%') == -1) {
+        int start = path.indexOf('%');
+        if (start == -1) {
             return path;
         }
-        Matcher matcher = encodedCharsMulti.matcher(path);
-        int start = 0;
-        StringBuilder builder = new StringBuilder();
-        CharsetDecoder decoder = Charset.forName(UTF_8).newDecoder();
-        while (matcher.find()) {
-            builder.append(path, start, matcher.start());
-            decoder.reset();
-            String decoded = decodeBytes(matcher.group(1), decoder);
-            builder.append(decoded);
-            start = matcher.end();
+        final int length = path.length();
+        final StringBuilder builder = new StringBuilder(length);
+        builder.append(path, 0, start);
+        CharsetDecoder decoder = null;
+        int i = start;
+        while (i < length) {
+            if (!isEncodedOctet(path, i)) {
+                builder.append(path.charAt(i++));
+                continue;
+            }
+            // Decode the whole run of encoded octets at once, a character may be encoded in several octets
+            int end = i + 3;
+            while (isEncodedOctet(path, end)) {
+                end += 3;
+            }
+            final ByteBuffer bytes = ByteBuffer.allocate((end - i) / 3);
+            for (; i < end; i += 3) {
+                bytes.put((byte) ((Character.digit(path.charAt(i + 1), 16) << 4) | Character.digit(path.charAt(i + 2), 16)));
+            }
+            bytes.flip();
+            decoder = decoder == null ? StandardCharsets.UTF_8.newDecoder() : decoder.reset();
+            try {
+                builder.append(decoder.decode(bytes));
+            } catch (CharacterCodingException e) {
+                throw new RuntimeException(e);
+            }
         }
-        builder.append(path, start, path.length());
         return builder.toString();
     }
 
-    private static String decodeBytes(String enc, CharsetDecoder decoder) {
-        Matcher matcher = encodedChars.matcher(enc);
-        ByteBuffer bytes = ByteBuffer.allocate(enc.length() / 3);
-        while (matcher.find()) {
-            int b = Integer.parseInt(matcher.group(1), 16);
-            bytes.put((byte) b);
-        }
-        bytes.flip();
-        try {
-            return decoder.decode(bytes).toString();
-        } catch (CharacterCodingException e) {
-            throw new RuntimeException(e);
+    private static boolean isEncodedOctet(String string, int index) {
+        return index + 2 < string.length() && string.charAt(index) == '%' && isHexDigit(string.charAt(index + 1))
+                && isHexDigit(string.charAt(index + 2));
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    /**
+     * Decodes a query or form parameter name or value encoded as {@code application/x-www-form-urlencoded} in UTF-8.
+     * Unlike {@link URLDecoder#decode(String, String)} the value itself is returned, without being copied, if there is
+     * nothing to decode.
+     *
+     * @param value the encoded name or value
+     * @return the decoded name or value
+     * @throws IllegalArgumentException if the value contains an illegal escape sequence
+     */
+    public static String decodeQueryParam(String value) {
+        return decodeQueryParam(value, StandardCharsets.UTF_8);
+    }
+
+    private static String decodeQueryParam(String value, Charset charset) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '%' || c == '+') {
+                return URLDecoder.decode(value, charset);
+            }
         }
+        return value;
     }
 
     /**
@@ -476,18 +514,7 @@ public class Encode {
      * @return decoded map
      */
     public static MultivaluedMap<String, String> decode(MultivaluedMap<String, String> map) {
-        MultivaluedMapImpl<String, String> decoded = new MultivaluedMapImpl<String, String>();
-        for (Map.Entry<String, List<String>> entry : map.entrySet()) {
-            List<String> values = entry.getValue();
-            for (String value : values) {
-                try {
-                    decoded.add(URLDecoder.decode(entry.getKey(), UTF_8), URLDecoder.decode(value, UTF_8));
-                } catch (UnsupportedEncodingException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-        }
-        return decoded;
+        return decode(map, StandardCharsets.UTF_8);
     }
 
     /**
@@ -498,18 +525,28 @@ public class Encode {
      * @return decoded map
      */
     public static MultivaluedMap<String, String> decode(MultivaluedMap<String, String> map, String charset) {
+        if (map.isEmpty()) {
+            return new MultivaluedMapImpl<String, String>();
+        }
         if (charset == null) {
             charset = UTF_8;
         }
+        final Charset cs;
+        try {
+            cs = Charset.forName(charset);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException(new UnsupportedEncodingException(charset));
+        }
+        return decode(map, cs);
+    }
+
+    private static MultivaluedMap<String, String> decode(MultivaluedMap<String, String> map, Charset charset) {
         MultivaluedMapImpl<String, String> decoded = new MultivaluedMapImpl<String, String>();
         for (Map.Entry<String, List<String>> entry : map.entrySet()) {
+            final String key = decodeQueryParam(entry.getKey(), charset);
             List<String> values = entry.getValue();
             for (String value : values) {
-                try {
-                    decoded.add(URLDecoder.decode(entry.getKey(), charset), URLDecoder.decode(value, charset));
-                } catch (UnsupportedEncodingException e) {
-                    throw new RuntimeException(e);
-                }
+                decoded.add(key, decodeQueryParam(value, charset));
             }
         }
         return decoded;
@@ -531,11 +568,7 @@ public class Encode {
     }
 
     public static String decode(String string) {
-        try {
-            return URLDecoder.decode(string, UTF_8);
-        } catch (UnsupportedEncodingException e) {
-            throw new RuntimeException(e);
-        }
+        return decodeQueryParam(string);
     }
 
 }
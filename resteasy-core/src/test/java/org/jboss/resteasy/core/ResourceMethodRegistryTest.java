@@ -0,0 +1,126 @@
+package org.jboss.resteasy.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.container.DynamicFeature;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.FeatureContext;
+
+import org.jboss.resteasy.core.providerfactory.ResteasyProviderFactoryImpl;
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.plugins.providers.RegisterBuiltin;
+import org.jboss.resteasy.spi.ResourceFactory;
+import org.jboss.resteasy.spi.ResourceInvoker;
+import org.jboss.resteasy.spi.ResteasyProviderFactory;
+import org.jboss.resteasy.spi.metadata.ResourceLocator;
+import org.junit.jupiter.api.Test;
+
+public class ResourceMethodRegistryTest {
+
+    @Path("a")
+    public static class ResourceA {
+        @GET
+        public String get() {
+            return "a";
+        }
+
+        @GET
+        @Path("{id}")
+        public String get(@PathParam("id") final String id) {
+            return id;
+        }
+    }
+
+    @Path("b")
+    public static class ResourceB {
+        @POST
+        public String post(final String body) {
+            return body;
+        }
+
+        @Path("sub")
+        public ResourceA sub() {
+            return new ResourceA();
+        }
+    }
+
+    // Same path as ResourceA, the first registered must win in both cases
+    @Path("a")
+    public static class ResourceC {
+        @GET
+        public String get() {
+            return "c";
+        }
+    }
+
+    public static class Feature implements DynamicFeature {
+        @Override
+        public void configure(final ResourceInfo resourceInfo, final FeatureContext context) {
+        }
+    }
+
+    @Test
+    public void testParallelRegistration() throws Exception {
+        final ResteasyProviderFactory factory = new ResteasyProviderFactoryImpl();
+        RegisterBuiltin.register(factory);
+        factory.register(Feature.class);
+        final List<Class<?>> classes = List.of(ResourceA.class, ResourceB.class, ResourceC.class);
+
+        final ResourceMethodRegistry sequential = new ResourceMethodRegistry(factory);
+        for (Class<?> clazz : classes) {
+            sequential.addPerRequestResource(clazz);
+        }
+        final ResourceMethodRegistry parallel = new ResourceMethodRegistry(factory);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallel.addPerRequestResources(new ArrayList<>(classes), pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(sequential.getSize(), parallel.getSize());
+        assertEquals(describe(sequential), describe(parallel));
+        final ResourceInvoker invoker = parallel.getResourceInvoker(MockHttpRequest.get("/a"));
+        assertSame(ResourceA.class, invoker.getMethod().getDeclaringClass());
+    }
+
+    @Test
+    public void testSequentialRegistrationHooks() {
+        final ResteasyProviderFactory factory = new ResteasyProviderFactoryImpl();
+        RegisterBuiltin.register(factory);
+        final List<String> processed = new ArrayList<>();
+        final ResourceMethodRegistry registry = new ResourceMethodRegistry(factory) {
+            @Override
+            protected void processMethod(final ResourceFactory rf, final String base, final ResourceLocator method) {
+                processed.add(method.getMethod().getName());
+                super.processMethod(rf, base, method);
+            }
+        };
+        registry.addPerRequestResource(ResourceB.class);
+        assertEquals(List.of("post", "sub"), processed);
+        assertEquals(2, registry.getSize());
+    }
+
+    private static Map<String, List<String>> describe(final ResourceMethodRegistry registry) {
+        final Map<String, List<String>> result = new TreeMap<>();
+        for (Map.Entry<String, List<ResourceInvoker>> entry : registry.getBounded().entrySet()) {
+            final List<String> methods = new ArrayList<>();
+            for (ResourceInvoker invoker : entry.getValue()) {
+                methods.add(invoker.getMethod().toString());
+            }
+            result.put(entry.getKey(), methods);
+        }
+        return result;
+    }
+}
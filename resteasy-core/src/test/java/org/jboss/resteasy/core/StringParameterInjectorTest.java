@@ -0,0 +1,118 @@
+package org.jboss.resteasy.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.UUID;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.QueryParam;
+
+import org.jboss.resteasy.core.providerfactory.ResteasyProviderFactoryImpl;
+import org.jboss.resteasy.spi.ResteasyProviderFactory;
+import org.junit.jupiter.api.Test;
+
+public class StringParameterInjectorTest {
+
+    public enum Color {
+        RED,
+        GREEN {
+            @Override
+            public String toString() {
+                return "green";
+            }
+        }
+    }
+
+    public enum Size {
+        SMALL,
+        LARGE;
+
+        public static Size fromString(final String value) {
+            return valueOf(value.toUpperCase());
+        }
+    }
+
+    public static class Name {
+        private final String value;
+
+        public Name(final String value) {
+            if (value.startsWith("!")) {
+                throw new IllegalArgumentException(value);
+            }
+            this.value = value;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public void params(final int primitive, final Integer wrapper, final long primitiveLong, final boolean flag,
+            final UUID uuid, final Color color, final Size size, final Name name, final List<Color> list,
+            final Set<Long> set, final SortedSet<Integer> sortedSet, final int[] ints, final String[] strings) {
+    }
+
+    @Test
+    public void testConverters() throws Exception {
+        assertEquals(42, extract(0, "42"));
+        assertEquals(0, extract(0, null));
+        assertThrows(BadRequestException.class, () -> extract(0, "x"));
+        assertEquals(42, extract(1, "42"));
+        // A blank value for a type with a String constructor is null
+        assertNull(extract(1, " "));
+        assertThrows(BadRequestException.class, () -> extract(1, "x"));
+        assertEquals(Long.MAX_VALUE, extract(2, String.valueOf(Long.MAX_VALUE)));
+        assertEquals(true, extract(3, "true"));
+        assertEquals(false, extract(3, "yes"));
+        final UUID uuid = UUID.randomUUID();
+        assertEquals(uuid, extract(4, uuid.toString()));
+        assertThrows(BadRequestException.class, () -> extract(4, "x"));
+        assertSame(Color.GREEN, extract(5, "GREEN"));
+        assertThrows(BadRequestException.class, () -> extract(5, "green"));
+        assertSame(Size.LARGE, extract(6, "large"));
+        assertEquals("n", ((Name) extract(7, "n")).value);
+        assertThrows(BadRequestException.class, () -> extract(7, "!n"));
+    }
+
+    @Test
+    public void testCollectionsAndArrays() throws Exception {
+        final List<?> list = (List<?>) extractValues(8, List.of("RED", "GREEN", "RED"));
+        assertEquals(List.of(Color.RED, Color.GREEN, Color.RED), list);
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        final Set<?> set = (Set<?>) extractValues(9, List.of("1", "2", "1"));
+        assertEquals(Set.of(1L, 2L), set);
+        assertThrows(UnsupportedOperationException.class, set::clear);
+        final SortedSet<?> sortedSet = (SortedSet<?>) extractValues(10, List.of("3", "1", "2"));
+        assertEquals(List.of(1, 2, 3), List.copyOf(sortedSet));
+        assertArrayEquals(new int[] { 1, 2 }, (int[]) extractValues(11, List.of("1", "2")));
+        assertArrayEquals(new String[] { "a", "b" }, (String[]) extractValues(12, List.of("a", "b")));
+    }
+
+    private static Object extract(final int index, final String value) throws Exception {
+        return injector(index).extractValue(value);
+    }
+
+    private static Object extractValues(final int index, final List<String> values) throws Exception {
+        return injector(index).extractValues(values);
+    }
+
+    private static StringParameterInjector injector(final int index) throws Exception {
+        final ResteasyProviderFactory factory = new ResteasyProviderFactoryImpl();
+        Method method = null;
+        for (Method m : StringParameterInjectorTest.class.getMethods()) {
+            if (m.getName().equals("params")) {
+                method = m;
+            }
+        }
+        final Class<?> type = method.getParameterTypes()[index];
+        final Type genericType = method.getGenericParameterTypes()[index];
+        return new StringParameterInjector(type, genericType, "p" + index, QueryParam.class, null, method,
+                method.getParameterAnnotations()[index], factory);
+    }
+}
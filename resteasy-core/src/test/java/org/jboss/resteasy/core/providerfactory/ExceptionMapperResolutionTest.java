@@ -0,0 +1,85 @@
+package org.jboss.resteasy.core.providerfactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Set;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotAllowedException;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+
+import org.jboss.resteasy.core.ExceptionHandler;
+import org.jboss.resteasy.core.ResourceMethodRegistry;
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.junit.jupiter.api.Test;
+
+public class ExceptionMapperResolutionTest {
+
+    public static class RuntimeMapper implements ExceptionMapper<RuntimeException> {
+        @Override
+        public Response toResponse(final RuntimeException exception) {
+            return Response.status(500).build();
+        }
+    }
+
+    public static class IllegalArgumentMapper implements ExceptionMapper<IllegalArgumentException> {
+        @Override
+        public Response toResponse(final IllegalArgumentException exception) {
+            return Response.status(400).build();
+        }
+    }
+
+    @Path("resource")
+    public static class Resource {
+        @GET
+        public String get() {
+            return "get";
+        }
+    }
+
+    @Test
+    public void testResolutionIsInvalidatedOnRegistration() {
+        final ResteasyProviderFactoryImpl factory = new ResteasyProviderFactoryImpl();
+        assertNull(factory.resolveExceptionMapper(NumberFormatException.class));
+
+        factory.registerProvider(RuntimeMapper.class);
+        assertInstanceOf(RuntimeMapper.class, factory.resolveExceptionMapper(NumberFormatException.class));
+        assertInstanceOf(RuntimeMapper.class, factory.getExceptionMapper(NumberFormatException.class));
+        assertNull(factory.resolveExceptionMapper(Exception.class));
+
+        // NumberFormatException extends IllegalArgumentException, the cached resolution must not be used anymore
+        factory.registerProvider(IllegalArgumentMapper.class);
+        assertInstanceOf(IllegalArgumentMapper.class, factory.resolveExceptionMapper(NumberFormatException.class));
+        assertSame(factory.resolveExceptionMapper(IllegalArgumentException.class),
+                factory.resolveExceptionMapper(NumberFormatException.class));
+        assertInstanceOf(RuntimeMapper.class, factory.resolveExceptionMapper(IllegalStateException.class));
+    }
+
+    @Test
+    public void testMatchingFailuresAreStackless() throws Exception {
+        final ResteasyProviderFactoryImpl factory = new ResteasyProviderFactoryImpl();
+        final ResourceMethodRegistry registry = new ResourceMethodRegistry(factory);
+        registry.addPerRequestResource(Resource.class);
+
+        final NotFoundException notFound = assertThrows(NotFoundException.class,
+                () -> registry.getResourceInvoker(MockHttpRequest.get("/missing")));
+        assertEquals(0, notFound.getStackTrace().length);
+        assertEquals(404, notFound.getResponse().getStatus());
+
+        final NotAllowedException notAllowed = assertThrows(NotAllowedException.class,
+                () -> registry.getResourceInvoker(MockHttpRequest.delete("/resource")));
+        assertEquals(0, notAllowed.getStackTrace().length);
+        assertEquals(405, notAllowed.getResponse().getStatus());
+
+        final Response response = new ExceptionHandler(factory, Set.of()).handleException(
+                MockHttpRequest.delete("/resource"), notAllowed);
+        assertEquals(405, response.getStatus());
+    }
+}
@@ -0,0 +1,115 @@
+package org.jboss.resteasy.core.registry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+
+import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.mock.MockDispatcherFactory;
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.mock.MockHttpResponse;
+import org.jboss.resteasy.spi.ResourceInvoker;
+import org.jboss.resteasy.util.HttpHeaderNames;
+import org.junit.jupiter.api.Test;
+
+public class RoutingFailureTest {
+
+    @Path("resource")
+    public static class Resource {
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String get() {
+            return "get";
+        }
+
+        @POST
+        @Consumes(MediaType.TEXT_PLAIN)
+        public String post(final String body) {
+            return body;
+        }
+
+        @Path("locator")
+        public Resource locator() {
+            return new Resource();
+        }
+    }
+
+    public static class NotFoundMapper implements ExceptionMapper<NotFoundException> {
+        @Override
+        public Response toResponse(final NotFoundException exception) {
+            return Response.status(404).entity("mapped").type(MediaType.TEXT_PLAIN).build();
+        }
+    }
+
+    @Test
+    public void testCannedResponses() throws Exception {
+        final SynchronousDispatcher dispatcher = (SynchronousDispatcher) MockDispatcherFactory.createDispatcher();
+        dispatcher.getRegistry().addPerRequestResource(Resource.class);
+
+        final MockHttpRequest request = MockHttpRequest.get("/missing");
+        final MockHttpResponse notFound = dispatch(dispatcher, request);
+        assertEquals(404, notFound.getStatus());
+        assertNull(request.getAttribute(RoutingFailure.class.getName()));
+
+        final MockHttpResponse notAllowed = dispatch(dispatcher, MockHttpRequest.delete("/resource"));
+        assertEquals(405, notAllowed.getStatus());
+        final String allow = notAllowed.getOutputHeaders().getFirst(HttpHeaderNames.ALLOW).toString();
+        assertTrue(allow.contains("GET") && allow.contains("POST") && allow.contains("OPTIONS"), allow);
+
+        assertEquals(406, dispatch(dispatcher, MockHttpRequest.get("/resource").accept(MediaType.APPLICATION_XML))
+                .getStatus());
+        assertEquals(415, dispatch(dispatcher, MockHttpRequest.post("/resource").contentType(MediaType.APPLICATION_XML)
+                .content(new byte[0])).getStatus());
+
+        // Sub-resource locators still fail with an exception
+        assertEquals(404, dispatch(dispatcher, MockHttpRequest.get("/resource/locator/missing")).getStatus());
+        assertEquals("get", dispatch(dispatcher, MockHttpRequest.get("/resource/locator")).getContentAsString());
+    }
+
+    @Test
+    public void testMatchReturnsInvoker() throws Exception {
+        final SynchronousDispatcher dispatcher = (SynchronousDispatcher) MockDispatcherFactory.createDispatcher();
+        dispatcher.getRegistry().addPerRequestResource(Resource.class);
+
+        final MockHttpRequest request = MockHttpRequest.get("/missing");
+        assertThrows(NotFoundException.class, () -> dispatcher.getRegistry().getResourceInvoker(request));
+
+        assertTrue(RoutingFailure.enable(request, dispatcher.getProviderFactory()));
+        final ResourceInvoker invoker = dispatcher.getRegistry().getResourceInvoker(request);
+        assertNull(invoker.getMethod());
+        assertEquals(404, invoker.invoke(request, new MockHttpResponse()).getStatus());
+        RoutingFailure.disable(request);
+        assertThrows(NotFoundException.class, () -> dispatcher.getRegistry().getResourceInvoker(request));
+    }
+
+    @Test
+    public void testExceptionMapperIsUsed() throws Exception {
+        final SynchronousDispatcher dispatcher = (SynchronousDispatcher) MockDispatcherFactory.createDispatcher();
+        dispatcher.getRegistry().addPerRequestResource(Resource.class);
+        dispatcher.getProviderFactory().registerProvider(NotFoundMapper.class);
+
+        final MockHttpRequest request = MockHttpRequest.get("/missing");
+        assertFalse(RoutingFailure.enable(request, dispatcher.getProviderFactory()));
+        final MockHttpResponse response = dispatch(dispatcher, request);
+        assertEquals(404, response.getStatus());
+        assertEquals("mapped", response.getContentAsString());
+    }
+
+    private static MockHttpResponse dispatch(final SynchronousDispatcher dispatcher, final MockHttpRequest request) {
+        final MockHttpResponse response = new MockHttpResponse();
+        dispatcher.invoke(request, response);
+        return response;
+    }
+}
@@ -0,0 +1,151 @@
+package org.jboss.resteasy.core.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.core.Application;
+
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.jboss.resteasy.spi.metadata.ResourceIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the {@link ResourceScanner} merges the build-time {@link ResourceIndex} with the class path.
+ */
+public class ResourceScannerTest {
+
+    @TempDir
+    Path dir;
+
+    private String classPath;
+    private Path indexed;
+    private Path unindexed;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        classPath = System.getProperty("java.class.path");
+        indexed = dir.resolve("indexed");
+        unindexed = dir.resolve("unindexed");
+        copy(indexed, IndexedApplication.class, IndexedResource.class, IgnoredResource.class);
+        copy(unindexed, UnindexedResource.class, UnindexedProvider.class);
+        System.setProperty("java.class.path", indexed + File.pathSeparator + unindexed);
+    }
+
+    @AfterEach
+    public void restore() {
+        System.setProperty("java.class.path", classPath);
+    }
+
+    @Test
+    public void testIndexMergedWithClassPath() throws Exception {
+        writeIndex("application " + IndexedApplication.class.getName(), "resource " + IndexedResource.class.getName());
+        try (URLClassLoader cl = loader()) {
+            final ResourceScanner scanner = ResourceScanner.fromClassPath(cl);
+            // The indexed root is not scanned, so the type missing from its index is not found
+            assertEquals(Set.of(IndexedResource.class.getName(), UnindexedResource.class.getName()),
+                    scanner.getResources());
+            assertEquals(Set.of(UnindexedProvider.class.getName()), scanner.getProviders());
+            assertEquals(Set.of(IndexedApplication.class.getName()), scanner.getApplications());
+        }
+    }
+
+    @Test
+    public void testStaleIndex() throws Exception {
+        writeIndex("resource " + IndexedResource.class.getName(), "resource org.example.Removed");
+        try (URLClassLoader cl = loader()) {
+            final ResourceScanner scanner = ResourceScanner.fromClassPath(cl);
+            assertEquals(Set.of(IndexedResource.class.getName(), IgnoredResource.class.getName(),
+                    UnindexedResource.class.getName()), scanner.getResources());
+            assertEquals(Set.of(IndexedApplication.class.getName()), scanner.getApplications());
+        }
+    }
+
+    @Test
+    public void testJandexMergedWithIndex() throws Exception {
+        writeIndex("resource " + IndexedResource.class.getName());
+        final Indexer indexer = new Indexer();
+        for (Class<?> type : List.of(UnindexedResource.class, UnindexedProvider.class)) {
+            try (InputStream in = type.getClassLoader().getResourceAsStream(resourceName(type))) {
+                indexer.index(in);
+            }
+        }
+        final Path jandex = unindexed.resolve("META-INF/jandex.idx");
+        Files.createDirectories(jandex.getParent());
+        try (OutputStream out = Files.newOutputStream(jandex)) {
+            new IndexWriter(out).write(indexer.complete());
+        }
+        // Remove the classes so they can only be found through the jandex.idx
+        Files.delete(unindexed.resolve(resourceName(UnindexedResource.class)));
+        Files.delete(unindexed.resolve(resourceName(UnindexedProvider.class)));
+        try (URLClassLoader cl = loader()) {
+            final ResourceScanner scanner = ResourceScanner.fromClassPath(cl);
+            assertEquals(Set.of(IndexedResource.class.getName(), UnindexedResource.class.getName()),
+                    scanner.getResources());
+            assertEquals(Set.of(UnindexedProvider.class.getName()), scanner.getProviders());
+        }
+    }
+
+    private void writeIndex(final String... lines) throws IOException {
+        final Path file = indexed.resolve(ResourceIndex.LOCATION);
+        Files.createDirectories(file.getParent());
+        final List<String> content = new ArrayList<>();
+        content.add("# resteasy-resource-index 2");
+        content.addAll(List.of(lines));
+        Files.write(file, content);
+    }
+
+    private URLClassLoader loader() throws IOException {
+        // Do not delegate to the test class path which may contain other indexes
+        return new URLClassLoader(new URL[] { indexed.toUri().toURL(), unindexed.toUri().toURL() }, null);
+    }
+
+    private static void copy(final Path root, final Class<?>... types) throws IOException {
+        for (Class<?> type : types) {
+            final Path file = root.resolve(resourceName(type));
+            Files.createDirectories(file.getParent());
+            try (InputStream in = type.getClassLoader().getResourceAsStream(resourceName(type))) {
+                Files.copy(in, file);
+            }
+        }
+    }
+
+    private static String resourceName(final Class<?> type) {
+        return type.getName().replace('.', '/') + ".class";
+    }
+
+    @ApplicationPath("/")
+    public static class IndexedApplication extends Application {
+    }
+
+    @jakarta.ws.rs.Path("indexed")
+    public static class IndexedResource {
+    }
+
+    @jakarta.ws.rs.Path("ignored")
+    public static class IgnoredResource {
+    }
+
+    @jakarta.ws.rs.Path("unindexed")
+    public static class UnindexedResource {
+    }
+
+    @jakarta.ws.rs.ext.Provider
+    public static class UnindexedProvider {
+    }
+}
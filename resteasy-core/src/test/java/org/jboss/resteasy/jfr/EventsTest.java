@@ -0,0 +1,98 @@
+package org.jboss.resteasy.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+
+import org.jboss.resteasy.mock.MockDispatcherFactory;
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.mock.MockHttpResponse;
+import org.jboss.resteasy.spi.Dispatcher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class EventsTest {
+
+    @Path("events")
+    public static class Resource {
+        @POST
+        public String post(final String body) {
+            return body.toUpperCase();
+        }
+
+        @GET
+        public String get() {
+            return "get";
+        }
+    }
+
+    @TempDir
+    java.nio.file.Path dir;
+
+    @Test
+    public void testServerEvents() throws Exception {
+        final Dispatcher dispatcher = MockDispatcherFactory.createDispatcher();
+        dispatcher.getRegistry().addPerRequestResource(Resource.class);
+
+        final java.nio.file.Path file = dir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("org.jboss.resteasy.Dispatch", "org.jboss.resteasy.Match",
+                    "org.jboss.resteasy.MessageBodyReader", "org.jboss.resteasy.MessageBodyWriter")) {
+                recording.enable(name).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            MockHttpResponse response = new MockHttpResponse();
+            dispatcher.invoke(MockHttpRequest.post("/events").content("hello".getBytes()).contentType("text/plain"),
+                    response);
+            assertEquals("HELLO", response.getContentAsString());
+            response = new MockHttpResponse();
+            dispatcher.invoke(MockHttpRequest.get("/events"), response);
+            response = new MockHttpResponse();
+            dispatcher.invoke(MockHttpRequest.get("/events"), response);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final Map<String, List<RecordedEvent>> events = RecordingFile.readAllEvents(file).stream()
+                .collect(Collectors.groupingBy(event -> event.getEventType().getName()));
+
+        final List<RecordedEvent> dispatches = events.get("org.jboss.resteasy.Dispatch");
+        assertNotNull(dispatches, events::toString);
+        assertEquals(3, dispatches.size());
+        final RecordedEvent post = dispatches.get(0);
+        assertEquals("POST", post.getString("method"));
+        assertEquals("/events", post.getString("path"));
+        assertEquals("events", post.getString("pathTemplate"));
+        assertEquals(Resource.class.getName() + "#post", post.getString("resourceMethod"));
+        assertEquals(200, post.getInt("status"));
+
+        final List<String> cache = events.get("org.jboss.resteasy.Match").stream()
+                .map(event -> event.getString("cache"))
+                .collect(Collectors.toList());
+        assertEquals(List.of(MatchEvent.MISS, MatchEvent.MISS, MatchEvent.HIT), cache);
+
+        final RecordedEvent read = single(events, "org.jboss.resteasy.MessageBodyReader");
+        assertEquals(String.class.getName(), read.getClass("type").getName());
+        assertEquals("text/plain", read.getString("mediaType"));
+        assertEquals(3, events.get("org.jboss.resteasy.MessageBodyWriter").size());
+    }
+
+    private static RecordedEvent single(final Map<String, List<RecordedEvent>> events, final String name) {
+        final List<RecordedEvent> found = events.get(name);
+        assertNotNull(found, name);
+        assertEquals(1, found.size(), found::toString);
+        return found.get(0);
+    }
+}
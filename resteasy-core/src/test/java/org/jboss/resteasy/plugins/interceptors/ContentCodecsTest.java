@@ -0,0 +1,156 @@
+package org.jboss.resteasy.plugins.interceptors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+
+import org.jboss.resteasy.spi.BlockingAsyncOutputStream;
+import org.jboss.resteasy.spi.ContentCodec;
+import org.jboss.resteasy.util.CommitHeaderOutputStream;
+import org.junit.jupiter.api.Test;
+
+public class ContentCodecsTest {
+    private static final byte[] CONTENT = "The quick brown fox jumps over the lazy dog. ".repeat(100)
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testNegotiate() {
+        final List<String> available = List.of("gzip", "deflate");
+        assertEquals("gzip", ContentCodecs.negotiate(List.of("gzip, deflate"), available));
+        assertEquals("deflate", ContentCodecs.negotiate(List.of("deflate, gzip"), available));
+        assertEquals("deflate", ContentCodecs.negotiate(List.of("gzip;q=0.5, deflate;q=0.8"), available));
+        assertEquals("deflate", ContentCodecs.negotiate(List.of("gzip;q=0.5", "DEFLATE"), available));
+        assertEquals("deflate", ContentCodecs.negotiate(List.of("br, gzip;q=0, *;q=0.1"), available));
+        assertEquals("gzip", ContentCodecs.negotiate(List.of("*"), available));
+        assertEquals("gzip", ContentCodecs.negotiate(List.of("deflate;q=0.5, *"), available));
+        assertNull(ContentCodecs.negotiate(List.of("gzip;q=0, deflate;q=0"), available));
+        assertNull(ContentCodecs.negotiate(List.of("identity"), available));
+        assertNull(ContentCodecs.negotiate(List.of("gzip;q=x"), available));
+        assertNull(ContentCodecs.negotiate(null, available));
+    }
+
+    @Test
+    public void testBuiltInCodings() throws Exception {
+        assertSame(ContentCodecs.GZIP, ContentCodecs.get("GZip"));
+        assertSame(ContentCodecs.DEFLATE, ContentCodecs.get("deflate"));
+        assertNull(ContentCodecs.get("compress"));
+        for (int level : new int[] { -1, 1, 9, 1 }) {
+            final byte[] gzip = encode(ContentCodecs.GZIP, level);
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+                assertArrayEquals(CONTENT, in.readAllBytes());
+            }
+            final byte[] deflate = encode(ContentCodecs.DEFLATE, level);
+            try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(deflate))) {
+                assertArrayEquals(CONTENT, in.readAllBytes());
+            }
+            try (InputStream in = ContentCodecs.DEFLATE.decode(new ByteArrayInputStream(deflate))) {
+                assertArrayEquals(CONTENT, in.readAllBytes());
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> ContentCodecs.GZIP.encode(new ByteArrayOutputStream(), 10));
+        assertThrows(IllegalArgumentException.class, () -> new GZIPEncodingInterceptor(-2, 0));
+    }
+
+    @Test
+    public void testCommitCallback() {
+        final CommitHeaderOutputStream.CommitCallback callback = () -> {
+        };
+        final CallbackStream stream = new CallbackStream(callback);
+        assertSame(callback, stream.getCallback());
+    }
+
+    @Test
+    public void testMinimumSize() throws Exception {
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        headers.putSingle(HttpHeaders.CONTENT_ENCODING, "gzip");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GZIPEncodingInterceptor.CommittedGZIPOutputStream stream = new GZIPEncodingInterceptor.CommittedGZIPOutputStream(
+                new BlockingAsyncOutputStream(out), ContentCodecs.GZIP, -1, 1024, headers);
+        stream.write(CONTENT, 0, 100);
+        stream.flush();
+        assertEquals(0, out.size());
+        stream.finish();
+        assertArrayEquals(Arrays.copyOf(CONTENT, 100), out.toByteArray());
+        assertNull(headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(100, headers.getFirst(HttpHeaders.CONTENT_LENGTH));
+
+        headers.clear();
+        headers.putSingle(HttpHeaders.CONTENT_ENCODING, "gzip");
+        out = new ByteArrayOutputStream();
+        stream = new GZIPEncodingInterceptor.CommittedGZIPOutputStream(
+                new BlockingAsyncOutputStream(out), ContentCodecs.GZIP, -1, 1024, headers);
+        stream.write(CONTENT, 0, 1000);
+        stream.write(CONTENT, 1000, CONTENT.length - 1000);
+        stream.finish();
+        assertEquals("gzip", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertArrayEquals(CONTENT, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testDecodeDeflate() throws Exception {
+        final byte[] deflate = encode(ContentCodecs.DEFLATE, -1);
+        assertArrayEquals(CONTENT, (byte[]) decode(new GZIPDecodingInterceptor(), deflate));
+        assertThrows(ProcessingException.class, () -> decode(new GZIPDecodingInterceptor(100), deflate));
+    }
+
+    private static Object decode(final GZIPDecodingInterceptor interceptor, final byte[] entity) throws Exception {
+        final MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        headers.putSingle(HttpHeaders.CONTENT_ENCODING, "deflate");
+        final AtomicReference<InputStream> current = new AtomicReference<>(new ByteArrayInputStream(entity));
+        final ReaderInterceptorContext context = mock(ReaderInterceptorContext.class);
+        when(context.getHeaders()).thenReturn(headers);
+        when(context.getType()).thenAnswer(invocation -> byte[].class);
+        when(context.getInputStream()).thenAnswer(invocation -> current.get());
+        doAnswer(invocation -> {
+            current.set(invocation.getArgument(0));
+            return null;
+        }).when(context).setInputStream(any(InputStream.class));
+        when(context.proceed()).thenAnswer(invocation -> current.get().readAllBytes());
+        return interceptor.aroundReadFrom(context);
+    }
+
+    private static byte[] encode(final ContentCodec codec, final int level) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream encoder = codec.encode(out, level)) {
+            encoder.write(CONTENT, 0, 10);
+            encoder.write(CONTENT[10]);
+            encoder.write(CONTENT, 11, CONTENT.length - 11);
+        }
+        return out.toByteArray();
+    }
+
+    private static class CallbackStream extends GZIPEncodingInterceptor.CommittedGZIPOutputStream {
+        CallbackStream(final CommitHeaderOutputStream.CommitCallback callback) {
+            super(new BlockingAsyncOutputStream(new ByteArrayOutputStream()), callback);
+        }
+
+        CommitHeaderOutputStream.CommitCallback getCallback() {
+            return headers;
+        }
+    }
+}
@@ -85,6 +85,23 @@ public class GZIPEncodingInterceptorTest {
         assertEquals(originalStream, outputStreamCaptor.getAllValues().get(1));
     }
 
+    @Test
+    public void testAroundWriteToWhenNegotiatedEncoding() throws IOException {
+        when(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).thenReturn("deflate");
+        when(context.getProperty(ContentCodecs.ENCODING_PROPERTY)).thenReturn("deflate");
+        OutputStream originalStream = mock(OutputStream.class);
+        when(context.getOutputStream()).thenReturn(originalStream);
+        ArgumentCaptor<OutputStream> outputStreamCaptor = ArgumentCaptor.forClass(OutputStream.class);
+
+        interceptor.aroundWriteTo(context);
+
+        verify(context).proceed();
+        verify(headers).remove(HttpHeaders.CONTENT_LENGTH);
+        verify(context, times(2)).setOutputStream(outputStreamCaptor.capture());
+        assertTrue(outputStreamCaptor.getAllValues().get(0) instanceof GZIPEncodingInterceptor.CommittedGZIPOutputStream);
+        assertEquals(originalStream, outputStreamCaptor.getAllValues().get(1));
+    }
+
     @Test
     public void testCommittedGzipAsyncOutputStreamWrite() throws Exception {
         ByteArrayOutputStream originalStream = new ByteArrayOutputStream();
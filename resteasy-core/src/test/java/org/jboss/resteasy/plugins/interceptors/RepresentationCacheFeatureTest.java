@@ -0,0 +1,249 @@
+package org.jboss.resteasy.plugins.interceptors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.annotations.GZIP;
+import org.jboss.resteasy.annotations.cache.Cache;
+import org.jboss.resteasy.annotations.cache.ServerCached;
+import org.jboss.resteasy.mock.MockDispatcherFactory;
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.mock.MockHttpResponse;
+import org.jboss.resteasy.spi.Dispatcher;
+import org.jboss.resteasy.util.HttpHeaderNames;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RepresentationCacheFeatureTest {
+    private static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+    @Path("catalog")
+    public static class Catalog {
+        @GET
+        @Path("{id}")
+        @Produces({ MediaType.TEXT_PLAIN, MediaType.APPLICATION_JSON })
+        @ServerCached
+        @Cache(maxAge = 60)
+        public String get(@PathParam("id") final String id, @QueryParam("q") final String q) {
+            INVOCATIONS.incrementAndGet();
+            return id + ":" + q;
+        }
+
+        @GET
+        @Path("compressed")
+        @Produces(MediaType.TEXT_PLAIN)
+        @ServerCached(maxAge = 60)
+        @GZIP
+        public String compressed() {
+            INVOCATIONS.incrementAndGet();
+            return "compressed ".repeat(100);
+        }
+
+        @GET
+        @Path("private")
+        @Produces(MediaType.TEXT_PLAIN)
+        @ServerCached
+        @Cache(maxAge = 60, isPrivate = true)
+        public String privateEntity() {
+            INVOCATIONS.incrementAndGet();
+            return "private";
+        }
+
+        @GET
+        @Path("user")
+        @Produces(MediaType.TEXT_PLAIN)
+        @ServerCached
+        @Cache(maxAge = 60)
+        public String user(@HeaderParam(HttpHeaders.AUTHORIZATION) final String authorization) {
+            INVOCATIONS.incrementAndGet();
+            return "user " + authorization;
+        }
+
+        @GET
+        @Path("shared")
+        @Produces(MediaType.TEXT_PLAIN)
+        @ServerCached
+        @Cache(maxAge = 60, sMaxAge = 60)
+        public String shared() {
+            INVOCATIONS.incrementAndGet();
+            return "shared";
+        }
+    }
+
+    private RepresentationCacheFeature feature;
+    private Dispatcher dispatcher;
+
+    @BeforeEach
+    public void setUp() {
+        setUp(new RepresentationCache(10));
+    }
+
+    private void setUp(final RepresentationCache cache) {
+        INVOCATIONS.set(0);
+        feature = new RepresentationCacheFeature(cache);
+        dispatcher = MockDispatcherFactory.createDispatcher();
+        dispatcher.getProviderFactory().register(feature);
+        dispatcher.getProviderFactory().register(GZIPEncodingInterceptor.class);
+        dispatcher.getRegistry().addPerRequestResource(Catalog.class);
+    }
+
+    @Test
+    public void testCachedResponse() throws Exception {
+        final MockHttpResponse first = get(MockHttpRequest.get("/catalog/1?q=a").accept(MediaType.TEXT_PLAIN));
+        assertEquals(200, first.getStatus());
+        assertEquals("1:a", first.getContentAsString());
+        final Object etag = first.getOutputHeaders().getFirst(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        final MockHttpResponse second = get(MockHttpRequest.get("/catalog/1?q=a").accept(MediaType.TEXT_PLAIN));
+        assertEquals(200, second.getStatus());
+        assertEquals("1:a", second.getContentAsString());
+        assertEquals(etag.toString(), second.getOutputHeaders().getFirst(HttpHeaders.ETAG).toString());
+        assertTrue(second.getOutputHeaders().getFirst(HttpHeaders.CONTENT_TYPE).toString().startsWith("text/plain"));
+        assertTrue(second.getOutputHeaders().getFirst(HttpHeaders.CACHE_CONTROL).toString().contains("max-age=60"));
+        assertNull(first.getOutputHeaders().getFirst(HttpHeaderNames.AGE));
+        assertEquals("0", second.getOutputHeaders().getFirst(HttpHeaderNames.AGE).toString());
+        assertEquals(1, INVOCATIONS.get());
+
+        // Other query parameters and media types are cached separately
+        assertEquals("1:b", get(MockHttpRequest.get("/catalog/1?q=b").accept(MediaType.TEXT_PLAIN)).getContentAsString());
+        get(MockHttpRequest.get("/catalog/1?q=a").accept(MediaType.APPLICATION_JSON));
+        assertEquals(3, INVOCATIONS.get());
+        assertEquals(3, feature.getCache().size());
+
+        final MockHttpResponse notModified = get(MockHttpRequest.get("/catalog/1?q=a").accept(MediaType.TEXT_PLAIN)
+                .header(HttpHeaders.IF_NONE_MATCH, etag.toString()));
+        assertEquals(304, notModified.getStatus());
+        assertEquals(0, notModified.getOutput().length);
+        assertNotNull(notModified.getOutputHeaders().getFirst(HttpHeaderNames.AGE));
+        assertEquals(3, INVOCATIONS.get());
+
+        feature.getCache().clear();
+        get(MockHttpRequest.get("/catalog/1?q=a").accept(MediaType.TEXT_PLAIN));
+        assertEquals(4, INVOCATIONS.get());
+    }
+
+    @Test
+    public void testCompressedResponse() throws Exception {
+        final MockHttpResponse first = get(MockHttpRequest.get("/catalog/compressed")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+        final MockHttpResponse second = get(MockHttpRequest.get("/catalog/compressed")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+        assertEquals(1, INVOCATIONS.get());
+        assertEquals("gzip", second.getOutputHeaders().getFirst(HttpHeaders.CONTENT_ENCODING).toString());
+        assertArrayEquals(first.getOutput(), second.getOutput());
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(second.getOutput()))) {
+            assertEquals("compressed ".repeat(100), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        // Without the Accept-Encoding header the identity response is cached separately
+        final MockHttpResponse identity = get(MockHttpRequest.get("/catalog/compressed"));
+        assertEquals("compressed ".repeat(100), identity.getContentAsString());
+        assertEquals(2, INVOCATIONS.get());
+    }
+
+    @Test
+    public void testPrivateResponseNotCached() throws Exception {
+        get(MockHttpRequest.get("/catalog/private"));
+        get(MockHttpRequest.get("/catalog/private"));
+        assertEquals(2, INVOCATIONS.get());
+        assertEquals(0, feature.getCache().size());
+    }
+
+    @Test
+    public void testUsersGetTheirOwnEntity() throws Exception {
+        final MockHttpResponse anonymous = get(MockHttpRequest.get("/catalog/user"));
+        assertEquals("user null", anonymous.getContentAsString());
+        assertEquals(1, feature.getCache().size());
+
+        final MockHttpResponse alice = get(MockHttpRequest.get("/catalog/user")
+                .header(HttpHeaders.AUTHORIZATION, "Basic alice"));
+        final MockHttpResponse bob = get(MockHttpRequest.get("/catalog/user")
+                .header(HttpHeaders.AUTHORIZATION, "Basic bob"));
+        final MockHttpResponse cookie = get(MockHttpRequest.get("/catalog/user").cookie("session", "carol"));
+        assertEquals("user Basic alice", alice.getContentAsString());
+        assertEquals("user Basic bob", bob.getContentAsString());
+        assertEquals("user null", cookie.getContentAsString());
+        assertEquals(4, INVOCATIONS.get());
+        // Only the anonymous response is cached
+        assertEquals(1, feature.getCache().size());
+        assertEquals("user null", get(MockHttpRequest.get("/catalog/user")).getContentAsString());
+        assertEquals(4, INVOCATIONS.get());
+    }
+
+    @Test
+    public void testSharedResponseWithCredentials() throws Exception {
+        get(MockHttpRequest.get("/catalog/shared").header(HttpHeaders.AUTHORIZATION, "Basic alice"));
+        final MockHttpResponse bob = get(MockHttpRequest.get("/catalog/shared")
+                .header(HttpHeaders.AUTHORIZATION, "Basic bob"));
+        assertEquals("shared", bob.getContentAsString());
+        assertEquals(1, INVOCATIONS.get());
+    }
+
+    @Test
+    public void testRequestCacheControl() throws Exception {
+        get(MockHttpRequest.get("/catalog/1?q=a"));
+        final MockHttpResponse noCache = get(MockHttpRequest.get("/catalog/1?q=a")
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache"));
+        assertEquals("1:a", noCache.getContentAsString());
+        assertEquals(2, INVOCATIONS.get());
+        get(MockHttpRequest.get("/catalog/1?q=a"));
+        assertEquals(2, INVOCATIONS.get());
+
+        get(MockHttpRequest.get("/catalog/1?q=b").header(HttpHeaders.CACHE_CONTROL, "no-store"));
+        assertEquals(3, INVOCATIONS.get());
+        assertEquals(1, feature.getCache().size());
+    }
+
+    @Test
+    public void testLargeEntityStreamed() throws Exception {
+        setUp(new RepresentationCache(10, 100));
+        final MockHttpResponse first = get(MockHttpRequest.get("/catalog/compressed"));
+        assertEquals("compressed ".repeat(100), first.getContentAsString());
+        assertEquals(0, feature.getCache().size());
+        // Small entities are still cached
+        get(MockHttpRequest.get("/catalog/1?q=a"));
+        assertEquals(1, feature.getCache().size());
+    }
+
+    @Test
+    public void testOldestResponseEvicted() throws Exception {
+        setUp(new RepresentationCache(2));
+        get(MockHttpRequest.get("/catalog/1"));
+        get(MockHttpRequest.get("/catalog/2"));
+        get(MockHttpRequest.get("/catalog/3"));
+        assertEquals(3, INVOCATIONS.get());
+        assertEquals(2, feature.getCache().size());
+        // The newest responses are kept
+        get(MockHttpRequest.get("/catalog/3"));
+        get(MockHttpRequest.get("/catalog/2"));
+        assertEquals(3, INVOCATIONS.get());
+        get(MockHttpRequest.get("/catalog/1"));
+        assertEquals(4, INVOCATIONS.get());
+        assertEquals(2, feature.getCache().size());
+    }
+
+    private MockHttpResponse get(final MockHttpRequest request) {
+        final MockHttpResponse response = new MockHttpResponse();
+        dispatcher.invoke(request, response);
+        return response;
+    }
+}
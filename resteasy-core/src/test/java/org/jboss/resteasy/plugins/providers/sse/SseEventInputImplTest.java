@@ -0,0 +1,89 @@
+package org.jboss.resteasy.plugins.providers.sse;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.InboundSseEvent;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SseEventInputImplTest {
+
+    @Test
+    public void testEvents() throws Exception {
+        final SseEventInputImpl input = input(MediaType.SERVER_SENT_EVENTS_TYPE,
+                ": hello\n\nevent: greeting\nid: 1\ndata: first\ndata:second\n\n\n\nretry: 250\ndata\ndata: x:y\n\n",
+                false);
+
+        InboundSseEvent event = input.read();
+        Assertions.assertEquals("hello", event.getComment());
+        Assertions.assertTrue(event.isEmpty());
+
+        event = input.read();
+        Assertions.assertEquals("greeting", event.getName());
+        Assertions.assertEquals("1", event.getId());
+        Assertions.assertEquals("first\nsecond", event.readData());
+
+        event = input.read();
+        Assertions.assertEquals(250, event.getReconnectDelay());
+        Assertions.assertEquals("\nx:y", event.readData());
+
+        Assertions.assertNull(input.read());
+        Assertions.assertTrue(input.isClosed());
+    }
+
+    @Test
+    public void testLineTerminators() throws Exception {
+        for (boolean trickle : new boolean[] { false, true }) {
+            final SseEventInputImpl input = input(MediaType.SERVER_SENT_EVENTS_TYPE,
+                    "data: a\r\ndata: b\r\n\r\ndata: c\rdata: d\r\rdata: e\n\n", trickle);
+            Assertions.assertEquals("a\nb", input.read().readData());
+            Assertions.assertEquals("c\nd", input.read().readData());
+            Assertions.assertEquals("e", input.read().readData());
+            Assertions.assertNull(input.read());
+        }
+    }
+
+    @Test
+    public void testLongEvent() throws Exception {
+        final String data = "x".repeat(100_000);
+        final SseEventInputImpl input = input(MediaType.SERVER_SENT_EVENTS_TYPE,
+                "data: " + data + "\n\ndata: next\n\n", false);
+        Assertions.assertEquals(data, input.read().readData());
+        Assertions.assertEquals("next", input.read().readData());
+    }
+
+    @Test
+    public void testIncompleteEvent() throws Exception {
+        final SseEventInputImpl input = input(MediaType.SERVER_SENT_EVENTS_TYPE, "data: a\n\ndata: b\n", true);
+        Assertions.assertEquals("a", input.read().readData());
+        Assertions.assertNull(input.read());
+    }
+
+    @Test
+    public void testEscapedStream() throws Exception {
+        final SseEventInputImpl input = input(MediaType.valueOf("application/x-stream-general"),
+                "data: a\\\nb\\\\c\n\n", true);
+        Assertions.assertArrayEquals("a\nb\\c".getBytes(StandardCharsets.UTF_8),
+                input.read().readData(byte[].class));
+    }
+
+    private static SseEventInputImpl input(final MediaType streamType, final String content, final boolean trickle) {
+        InputStream in = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        if (trickle) {
+            // a read returns a single byte, like a slow network
+            in = new FilterInputStream(in) {
+                @Override
+                public int read(final byte[] b, final int off, final int len) throws IOException {
+                    return super.read(b, off, Math.min(len, 1));
+                }
+            };
+        }
+        return new SseEventInputImpl(null, streamType, MediaType.TEXT_PLAIN_TYPE, null, in);
+    }
+}
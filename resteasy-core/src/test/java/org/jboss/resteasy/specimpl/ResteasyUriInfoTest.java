@@ -1,9 +1,16 @@
 package org.jboss.resteasy.specimpl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.util.Encode;
 import org.junit.jupiter.api.Test;
 
 public class ResteasyUriInfoTest {
@@ -33,4 +40,36 @@ public class ResteasyUriInfoTest {
         assertNotEquals(key1, key2);
     }
 
+    @Test
+    public void testQueryParameter() {
+        final String uri = "http://localhost/test?a=1&&b=x%20y&a=2&c&d=&%65=e+f&&";
+        final ResteasyUriInfo info = new ResteasyUriInfo(uri, "");
+        assertEquals(List.of("1", "2"), info.getQueryParameter("a", true));
+        assertEquals(List.of("x y"), info.getQueryParameter("b", true));
+        assertEquals(List.of("x%20y"), info.getQueryParameter("b", false));
+        assertEquals(List.of(""), info.getQueryParameter("c", true));
+        assertEquals(List.of(""), info.getQueryParameter("d", true));
+        assertEquals(List.of("e f"), info.getQueryParameter("e", true));
+        assertEquals(List.of("e+f"), info.getQueryParameter("e", false));
+        assertNull(info.getQueryParameter("missing", true));
+
+        final ResteasyUriInfo maps = new ResteasyUriInfo(uri, "");
+        final MultivaluedMap<String, String> decoded = maps.getQueryParameters();
+        assertEquals(List.of("1", "2"), decoded.get("a"));
+        assertEquals(List.of("e f"), decoded.get("e"));
+        assertEquals(List.of("x%20y"), maps.getQueryParameters(false).get("b"));
+        assertEquals(List.of("", ""), List.of(decoded.getFirst("c"), decoded.getFirst("d")));
+        // Empty parameters are kept, except at the end of the query
+        assertEquals(6, decoded.size());
+        assertEquals(decoded.get("a"), maps.getQueryParameter("a", true));
+    }
+
+    @Test
+    public void testDecode() {
+        assertEquals("/a b/\u00e9/%zz/%2/+", Encode.decodePath("/a%20b/%C3%A9/%zz/%2/+"));
+        final String plain = "/a/b";
+        assertTrue(plain == Encode.decodePath(plain));
+        assertEquals("a b\u00e9", Encode.decodeQueryParam("a+b%C3%A9"));
+        assertTrue(plain == Encode.decodeQueryParam(plain));
+    }
 }
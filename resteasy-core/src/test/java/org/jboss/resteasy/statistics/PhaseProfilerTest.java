@@ -0,0 +1,80 @@
+package org.jboss.resteasy.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+
+import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.mock.MockDispatcherFactory;
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.mock.MockHttpResponse;
+import org.junit.jupiter.api.Test;
+
+public class PhaseProfilerTest {
+
+    @Path("profiled")
+    public static class Resource {
+        @GET
+        public String get(@QueryParam("name") final String name) {
+            return "hello " + name;
+        }
+    }
+
+    @Test
+    public void testRequestPhases() throws Exception {
+        final SynchronousDispatcher dispatcher = (SynchronousDispatcher) MockDispatcherFactory.createDispatcher();
+        dispatcher.getRegistry().addPerRequestResource(Resource.class);
+        final PhaseProfiler profiler = dispatcher.getPhaseProfiler();
+
+        profiler.setSampleRate(0);
+        dispatch(dispatcher);
+        for (PhaseProfiler.PhaseStatistics statistics : profiler.getRequestStatistics().values()) {
+            assertEquals(0, statistics.getCount());
+        }
+
+        profiler.setSampleRate(1);
+        for (int i = 0; i < 3; i++) {
+            dispatch(dispatcher);
+        }
+        final Map<PhaseProfiler.RequestPhase, PhaseProfiler.PhaseStatistics> statistics = profiler
+                .getRequestStatistics();
+        for (PhaseProfiler.RequestPhase phase : PhaseProfiler.RequestPhase.values()) {
+            assertEquals(3, statistics.get(phase).getCount(), phase.name());
+            assertTrue(statistics.get(phase).getMaxTime() <= statistics.get(phase).getTotalTime(), phase.name());
+        }
+
+        profiler.reset();
+        assertEquals(0, profiler.getRequestStatistics().get(PhaseProfiler.RequestPhase.INVOKE).getCount());
+    }
+
+    @Test
+    public void testStartupPhases() {
+        final PhaseProfiler profiler = new PhaseProfiler(1);
+        profiler.recordStartup(PhaseProfiler.StartupPhase.SCAN, 10L);
+        profiler.recordStartup(PhaseProfiler.StartupPhase.VALIDATION, 5L);
+        profiler.recordStartup(PhaseProfiler.StartupPhase.VALIDATION, 7L);
+        final Map<PhaseProfiler.StartupPhase, Long> times = profiler.getStartupTimes();
+        assertEquals(PhaseProfiler.StartupPhase.values().length, times.size());
+        assertEquals(10L, times.get(PhaseProfiler.StartupPhase.SCAN));
+        assertEquals(12L, times.get(PhaseProfiler.StartupPhase.VALIDATION));
+        assertEquals(0L, times.get(PhaseProfiler.StartupPhase.TOTAL));
+
+        // A repeated registration replaces the times of the previous one
+        profiler.resetStartup(PhaseProfiler.StartupPhase.VALIDATION);
+        profiler.recordStartup(PhaseProfiler.StartupPhase.VALIDATION, 3L);
+        assertEquals(3L, profiler.getStartupTimes().get(PhaseProfiler.StartupPhase.VALIDATION));
+        assertEquals(10L, profiler.getStartupTimes().get(PhaseProfiler.StartupPhase.SCAN));
+    }
+
+    private static void dispatch(final SynchronousDispatcher dispatcher) throws Exception {
+        final MockHttpResponse response = new MockHttpResponse();
+        dispatcher.invoke(MockHttpRequest.get("/profiled?name=world"), response);
+        assertEquals(200, response.getStatus());
+        assertEquals("hello world", response.getContentAsString());
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.resteasy.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * An annotation processor which writes the {@code META-INF/resteasy/resource-index} file for the classes being
+ * compiled. The index lists the applications, resources and providers as well as the public methods of each type
+ * which are candidates for resource methods or sub-resource locators. At runtime the index replaces class path
+ * scanning and the reflective lookup of all the public methods of a resource.
+ * <p>
+ * The file is a list of lines, each starting with the kind of the entry followed by the binary name of the type:
+ *
+ * <pre>
+ * # resteasy-resource-index 2
+ * application org.example.RestApplication
+ * resource org.example.GreetingResource
+ * provider org.example.GreetingExceptionMapper
+ * methods org.example.GreetingResource 4 greet(java.lang.String) list() locator(int,[Ljava.lang.String;)
+ * </pre>
+ * </p>
+ * <p>
+ * The number following the type of a {@code methods} entry is the number of distinct public method signatures of the
+ * type, not counting the methods of {@link Object}. It allows the runtime to detect a type changed without the index
+ * being regenerated.
+ * </p>
+ * <p>
+ * The processor does not claim any annotations, so it can run along with any other processor. Entries already
+ * present in the output directory are kept for the types which are not part of the compilation, which allows
+ * incremental builds.
+ * </p>
+ *
+ * @since 7.0
+ */
+public class ResourceIndexProcessor extends AbstractProcessor {
+    /**
+     * The location of the index.
+     */
+    static final String LOCATION = "META-INF/resteasy/resource-index";
+    /**
+     * The first line of the index, which includes the version of the format.
+     */
+    static final String HEADER = "# resteasy-resource-index 2";
+
+    private static final String APPLICATION_PATH = "jakarta.ws.rs.ApplicationPath";
+    private static final String APPLICATION = "jakarta.ws.rs.core.Application";
+    private static final String HTTP_METHOD = "jakarta.ws.rs.HttpMethod";
+    private static final String PATH = "jakarta.ws.rs.Path";
+    private static final String PROVIDER = "jakarta.ws.rs.ext.Provider";
+
+    // The entries of the index keyed by the binary name of the type, sorted to produce a stable file
+    private final Map<String, List<String>> entries = new TreeMap<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            write();
+        } else {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+                processType(type);
+            }
+        }
+        return false;
+    }
+
+    private void processType(final TypeElement type) {
+        final Elements elements = processingEnv.getElementUtils();
+        final List<String> lines = new ArrayList<>();
+        final String name = elements.getBinaryName(type).toString();
+        if (type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.INTERFACE) {
+            final boolean resource = isAnnotated(type, PATH);
+            if (type.getKind() == ElementKind.CLASS && !type.getModifiers().contains(Modifier.ABSTRACT)
+                    && (isAnnotated(type, APPLICATION_PATH) || isApplication(type))) {
+                lines.add("application " + name);
+            }
+            if (resource) {
+                lines.add("resource " + name);
+            }
+            if (isAnnotated(type, PROVIDER)) {
+                lines.add("provider " + name);
+            }
+            final List<String> methods = resourceMethods(type);
+            if (resource || !methods.isEmpty()) {
+                final StringBuilder line = new StringBuilder("methods ").append(name).append(' ')
+                        .append(publicMethodCount(type));
+                for (String method : methods) {
+                    line.append(' ').append(method);
+                }
+                lines.add(line.toString());
+            }
+        }
+        // Always replace a previous entry, the type may no longer be a resource
+        entries.put(name, lines);
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            processType(nested);
+        }
+    }
+
+    /**
+     * Returns the signatures of the public methods, declared or inherited, which are annotated or override a method
+     * annotated with {@code @Path} or an HTTP method designator.
+     */
+    private List<String> resourceMethods(final TypeElement type) {
+        final Elements elements = processingEnv.getElementUtils();
+        final List<ExecutableElement> annotated = new ArrayList<>();
+        final Set<TypeElement> hierarchy = new LinkedHashSet<>();
+        collectHierarchy(type, hierarchy);
+        for (TypeElement t : hierarchy) {
+            for (ExecutableElement method : ElementFilter.methodsIn(t.getEnclosedElements())) {
+                if (isResourceMethod(method)) {
+                    annotated.add(method);
+                }
+            }
+        }
+        final List<String> result = new ArrayList<>();
+        if (annotated.isEmpty()) {
+            return result;
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (!method.getModifiers().contains(Modifier.PUBLIC)
+                    || ((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals("java.lang.Object")) {
+                continue;
+            }
+            for (ExecutableElement candidate : annotated) {
+                if (candidate.equals(method) || (candidate.getSimpleName().equals(method.getSimpleName())
+                        && elements.overrides(method, candidate, type))) {
+                    result.add(signature(method));
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of distinct public method signatures, declared or inherited, of the type without the methods
+     * of {@link Object}. This matches what the runtime computes from {@link Class#getMethods()}.
+     */
+    private int publicMethodCount(final TypeElement type) {
+        final Set<String> signatures = new HashSet<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            final TypeElement enclosing = (TypeElement) method.getEnclosingElement();
+            if (method.getModifiers().contains(Modifier.PUBLIC)
+                    && !enclosing.getQualifiedName().contentEquals("java.lang.Object")
+                    // Static methods of super interfaces are not inherited
+                    && !(method.getModifiers().contains(Modifier.STATIC) && !enclosing.equals(type)
+                            && enclosing.getKind() == ElementKind.INTERFACE)) {
+                signatures.add(signature(method));
+            }
+        }
+        return signatures.size();
+    }
+
+    private void collectHierarchy(final TypeElement type, final Set<TypeElement> hierarchy) {
+        if (!hierarchy.add(type)) {
+            return;
+        }
+        final List<TypeMirror> supertypes = new ArrayList<>(type.getInterfaces());
+        supertypes.add(type.getSuperclass());
+        for (TypeMirror supertype : supertypes) {
+            if (supertype.getKind() == TypeKind.DECLARED) {
+                collectHierarchy((TypeElement) ((DeclaredType) supertype).asElement(), hierarchy);
+            }
+        }
+    }
+
+    private String signature(final ExecutableElement method) {
+        final StringBuilder signature = new StringBuilder(method.getSimpleName()).append('(');
+        boolean first = true;
+        for (VariableElement parameter : method.getParameters()) {
+            if (!first) {
+                signature.append(',');
+            }
+            first = false;
+            signature.append(typeName(processingEnv.getTypeUtils().erasure(parameter.asType()), false));
+        }
+        return signature.append(')').toString();
+    }
+
+    /**
+     * Returns the name of the type as accepted by {@link Class#forName(String)}, or the primitive name for a primitive
+     * type which is not an array component.
+     */
+    private String typeName(final TypeMirror type, final boolean component) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return component ? "Z" : "boolean";
+            case BYTE:
+                return component ? "B" : "byte";
+            case CHAR:
+                return component ? "C" : "char";
+            case SHORT:
+                return component ? "S" : "short";
+            case INT:
+                return component ? "I" : "int";
+            case LONG:
+                return component ? "J" : "long";
+            case FLOAT:
+                return component ? "F" : "float";
+            case DOUBLE:
+                return component ? "D" : "double";
+            case ARRAY:
+                return "[" + typeName(((ArrayType) type).getComponentType(), true);
+            default:
+                final String name = processingEnv.getElementUtils()
+                        .getBinaryName((TypeElement) processingEnv.getTypeUtils().asElement(type)).toString();
+                return component ? "L" + name + ";" : name;
+        }
+    }
+
+    private boolean isResourceMethod(final ExecutableElement method) {
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(PATH) || isAnnotated(annotationType, HTTP_METHOD)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isApplication(final TypeElement type) {
+        final Types types = processingEnv.getTypeUtils();
+        final TypeElement application = processingEnv.getElementUtils().getTypeElement(APPLICATION);
+        return application != null && !type.equals(application)
+                && types.isSubtype(types.erasure(type.asType()), types.erasure(application.asType()));
+    }
+
+    private static boolean isAnnotated(final Element element, final String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void write() {
+        final Map<String, List<String>> index = new TreeMap<>();
+        readPrevious(index);
+        index.putAll(entries);
+        try {
+            final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", LOCATION);
+            try (Writer writer = file.openWriter()) {
+                writer.write(HEADER);
+                writer.write('\n');
+                for (List<String> lines : index.values()) {
+                    for (String line : lines) {
+                        writer.write(line);
+                        writer.write('\n');
+                    }
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Failed to write the RESTEasy resource index " + LOCATION + ": " + e.getLocalizedMessage());
+        }
+    }
+
+    private void readPrevious(final Map<String, List<String>> index) {
+        try {
+            final FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", LOCATION);
+            try (
+                    BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+                String line = reader.readLine();
+                if (!HEADER.equals(line)) {
+                    // Unknown format, the index is written from the current compilation only
+                    return;
+                }
+                while ((line = reader.readLine()) != null) {
+                    final String[] parts = line.split(" ", 3);
+                    if (parts.length >= 2) {
+                        index.computeIfAbsent(parts[1], (name) -> new ArrayList<>()).add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException ignore) {
+            // No previous index
+        }
+    }
+}
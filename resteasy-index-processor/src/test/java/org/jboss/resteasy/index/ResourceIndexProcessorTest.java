@@ -0,0 +1,177 @@
+package org.jboss.resteasy.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.jboss.resteasy.spi.metadata.ResourceBuilder;
+import org.jboss.resteasy.spi.metadata.ResourceIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ResourceIndexProcessorTest {
+
+    private static final Map<String, String> SOURCES = Map.of(
+            "test/GreetingResource.java", "package test;\n"
+                    + "import jakarta.ws.rs.*;\n"
+                    + "@Path(\"greet\")\n"
+                    + "public class GreetingResource extends Base<String> implements Api {\n"
+                    + "    @GET public String get() { return null; }\n"
+                    + "    @Override public String post(String s) { return s; }\n"
+                    + "    public String hello(int[] a, String[][] b) { return null; }\n"
+                    + "    public void helper() { }\n"
+                    + "    @Path(\"sub\") public Sub sub() { return new Sub(); }\n"
+                    + "    public static class Sub { @GET public String get() { return null; } }\n"
+                    + "}\n",
+            "test/Base.java", "package test;\n"
+                    + "import jakarta.ws.rs.*;\n"
+                    + "abstract class Base<T> {\n"
+                    + "    @POST public String post(T t) { return null; }\n"
+                    + "    @PUT public void put(java.util.List<T> list) { }\n"
+                    + "}\n",
+            "test/Api.java", "package test;\n"
+                    + "import jakarta.ws.rs.*;\n"
+                    + "public interface Api {\n"
+                    + "    @GET @Path(\"hello\") String hello(int[] a, String[][] b);\n"
+                    + "    default String greeting() { return null; }\n"
+                    + "    static Api create() { return null; }\n"
+                    + "}\n",
+            "test/RestApplication.java", "package test;\n"
+                    + "@jakarta.ws.rs.ApplicationPath(\"/\")\n"
+                    + "public class RestApplication extends jakarta.ws.rs.core.Application { }\n",
+            "test/BaseApplication.java", "package test;\n"
+                    + "public abstract class BaseApplication extends jakarta.ws.rs.core.Application { }\n",
+            "test/OtherApplication.java", "package test;\n"
+                    + "public class OtherApplication extends BaseApplication { }\n",
+            "test/Mapper.java", "package test;\n"
+                    + "@jakarta.ws.rs.ext.Provider\n"
+                    + "public class Mapper implements jakarta.ws.rs.ext.ExceptionMapper<RuntimeException> {\n"
+                    + "    public jakarta.ws.rs.core.Response toResponse(RuntimeException e) { return null; }\n"
+                    + "}\n");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testIndex() throws Exception {
+        final Path output = compile(SOURCES.keySet());
+        final List<String> lines = Files.readAllLines(output.resolve(ResourceIndexProcessor.LOCATION));
+        assertEquals(ResourceIndexProcessor.HEADER, lines.get(0));
+        assertTrue(lines.contains("application test.RestApplication"), lines::toString);
+        assertTrue(lines.contains("application test.OtherApplication"), lines::toString);
+        assertTrue(lines.contains("resource test.GreetingResource"), lines::toString);
+        assertTrue(lines.contains("provider test.Mapper"), lines::toString);
+        assertTrue(lines.contains("methods test.GreetingResource$Sub 1 get()"), lines::toString);
+        assertTrue(lines.contains("methods test.Base 2 post(java.lang.Object) put(java.util.List)"), lines::toString);
+        assertEquals(9, lines.size(), lines::toString);
+
+        try (URLClassLoader cl = new URLClassLoader(new URL[] { output.toUri().toURL() }, getClass().getClassLoader())) {
+            final ResourceIndex index = ResourceIndex.of(cl);
+            assertEquals(Set.of("test.RestApplication", "test.OtherApplication"), index.getApplications());
+            assertEquals(Set.of("test.GreetingResource"), index.getResources());
+            assertEquals(Set.of("test.Mapper"), index.getProviders());
+
+            // The index must find the same resource methods as reflection does, synthetic methods are ignored by the
+            // ResourceBuilder in both cases
+            for (String name : List.of("test.GreetingResource", "test.GreetingResource$Sub", "test.Api")) {
+                final Class<?> type = cl.loadClass(name);
+                final Method[] indexed = index.getResourceMethods(type);
+                assertNotNull(indexed, name);
+                assertEquals(resourceMethods(type, type.getMethods()), resourceMethods(type, indexed), name);
+            }
+            assertNull(index.getResourceMethods(cl.loadClass("test.Mapper")));
+        }
+    }
+
+    @Test
+    public void testIncrementalCompilation() throws Exception {
+        compile(SOURCES.keySet());
+        // Recompile the application only, the entries for the other types must be kept
+        final Path output = compile(List.of("test/RestApplication.java"));
+        final List<String> lines = Files.readAllLines(output.resolve(ResourceIndexProcessor.LOCATION));
+        assertTrue(lines.contains("application test.RestApplication"), lines::toString);
+        assertTrue(lines.contains("resource test.GreetingResource"), lines::toString);
+        assertEquals(9, lines.size(), lines::toString);
+    }
+
+    @Test
+    public void testTypeChangedWithoutIndex() throws Exception {
+        final Path output = compile(SOURCES.keySet());
+        // Add a resource method and recompile without the processor, the index is not updated
+        final String changed = SOURCES.get("test/GreetingResource.java")
+                .replace("public void helper() { }",
+                        "public void helper() { }\n    @GET @Path(\"added\") public String added() { return null; }");
+        compile(Map.of("test/GreetingResource.java", changed), false);
+        try (URLClassLoader cl = new URLClassLoader(new URL[] { output.toUri().toURL() }, getClass().getClassLoader())) {
+            final ResourceIndex index = ResourceIndex.of(cl);
+            assertNull(index.getResourceMethods(cl.loadClass("test.GreetingResource")));
+            assertNotNull(index.getResourceMethods(cl.loadClass("test.GreetingResource$Sub")));
+        }
+    }
+
+    private static Set<Method> resourceMethods(final Class<?> type, final Method[] methods) {
+        final ResourceBuilder builder = new ResourceBuilder();
+        return Arrays.stream(methods)
+                .filter(method -> !method.isSynthetic() && !method.getDeclaringClass().equals(Object.class))
+                .filter(method -> builder.getAnnotatedMethod(type, method) != null)
+                .collect(Collectors.toSet());
+    }
+
+    private Path compile(final Iterable<String> sources) throws Exception {
+        final Map<String, String> selected = new HashMap<>();
+        for (String source : sources) {
+            selected.put(source, SOURCES.get(source));
+        }
+        return compile(selected, true);
+    }
+
+    private Path compile(final Map<String, String> sources, final boolean index) throws Exception {
+        final Path src = dir.resolve("src");
+        final Path output = dir.resolve("classes");
+        Files.createDirectories(output);
+        final List<File> files = new ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            final Path file = src.resolve(source.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.getValue());
+            files.add(file.toFile());
+        }
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            final String classPath = Path.of(jakarta.ws.rs.Path.class.getProtectionDomain().getCodeSource().getLocation()
+                    .toURI()) + File.pathSeparator + output;
+            final Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(files);
+            final List<String> options = new ArrayList<>(List.of("-d", output.toString(), "-classpath", classPath));
+            if (!index) {
+                options.add("-proc:none");
+            }
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+            if (index) {
+                task.setProcessors(List.of(new ResourceIndexProcessor()));
+            }
+            assertTrue(task.call());
+        }
+        return output;
+    }
+}
@@ -1,6 +1,10 @@
 package org.jboss.resteasy.reactor;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.ws.rs.GET;
@@ -11,6 +15,8 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 
 import org.jboss.resteasy.annotations.Stream;
+import org.jboss.resteasy.spi.AsyncOutputStream;
+import org.jboss.resteasy.spi.HttpResponse;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -18,6 +24,8 @@ import reactor.core.publisher.Mono;
 @Path("/")
 public class ReactorResource {
     static final AtomicInteger monoEndpointCounter = new AtomicInteger(0);
+    static final List<Long> prefetchRequests = new CopyOnWriteArrayList<>();
+    static final AtomicInteger prefetchFlushes = new AtomicInteger(0);
 
     @Path("mono")
     @GET
@@ -34,6 +42,56 @@ public class ReactorResource {
         return Flux.just("one", "two");
     }
 
+    @Produces(MediaType.TEXT_PLAIN)
+    @Path("flux/prefetch")
+    @GET
+    @Stream(value = Stream.MODE.RAW, prefetch = 16, flushSize = 64)
+    public Flux<String> fluxPrefetch(@Context HttpResponse response) throws IOException {
+        prefetchRequests.clear();
+        prefetchFlushes.set(0);
+        response.setOutputStream(new FlushCountingOutputStream(response.getAsyncOutputStream()));
+        return Flux.range(0, 100).map(i -> i + ",").doOnRequest(prefetchRequests::add);
+    }
+
+    private static class FlushCountingOutputStream extends AsyncOutputStream {
+        private final AsyncOutputStream delegate;
+
+        FlushCountingOutputStream(final AsyncOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public CompletionStage<Void> asyncFlush() {
+            prefetchFlushes.incrementAndGet();
+            return delegate.asyncFlush();
+        }
+
+        @Override
+        public CompletionStage<Void> asyncWrite(byte[] bytes, int offset, int length) {
+            return delegate.asyncWrite(bytes, offset, length);
+        }
+    }
+
     @Path("injection")
     @GET
     public Mono<Integer> injection(@Context Integer value) {
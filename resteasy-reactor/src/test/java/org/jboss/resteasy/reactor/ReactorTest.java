@@ -130,6 +130,21 @@ public class ReactorTest {
         Assertions.assertArrayEquals(new String[] { "one", "two" }, data.toArray());
     }
 
+    @Test
+    public void testFluxPrefetch() throws Exception {
+        String data = client.target(generateURL("/flux/prefetch")).request().get(String.class);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            expected.append(i).append(',');
+        }
+        Assertions.assertEquals(expected.toString(), data);
+        // 16 elements up front, then 12 more each time three quarters of the window has been written
+        Assertions.assertEquals(List.of(16L, 12L, 12L, 12L, 12L, 12L, 12L, 12L), ReactorResource.prefetchRequests);
+        // the queued elements are written in batches of at most 64 bytes, rather than flushed one by one
+        final int flushes = ReactorResource.prefetchFlushes.get();
+        Assertions.assertTrue(flushes >= expected.length() / (64 + 3) && flushes < 100, "Flushes: " + flushes);
+    }
+
     @Test
     public void testSubscriberContext() {
         final String ctxKey = "secret";
@@ -0,0 +1,61 @@
+package org.jboss.resteasy.plugins.stats;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAttribute;
+
+/**
+ * The time spent in a phase, in nanoseconds.
+ *
+ * @since 7.0
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+public class PhaseEntry {
+    @XmlAttribute
+    private String name;
+
+    @XmlAttribute
+    private long count;
+
+    @XmlAttribute
+    private long totalTime;
+
+    @XmlAttribute
+    private long maxTime;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    public void setTotalTime(long totalTime) {
+        this.totalTime = totalTime;
+    }
+
+    public long getMaxTime() {
+        return maxTime;
+    }
+
+    public void setMaxTime(long maxTime) {
+        this.maxTime = maxTime;
+    }
+
+    public long getAverageTime() {
+        return count == 0 ? 0 : totalTime / count;
+    }
+}
@@ -0,0 +1,47 @@
+package org.jboss.resteasy.plugins.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlElementWrapper;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+/**
+ * The time spent in each phase of the deployment start and of the sampled requests, in nanoseconds.
+ *
+ * @since 7.0
+ */
+@XmlRootElement(name = "profile")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class ProfileData {
+    @XmlAttribute
+    private int sampleRate;
+
+    @XmlElementWrapper(name = "startup")
+    @XmlElement(name = "phase")
+    private List<PhaseEntry> startup = new ArrayList<PhaseEntry>();
+
+    @XmlElementWrapper(name = "request")
+    @XmlElement(name = "phase")
+    private List<PhaseEntry> request = new ArrayList<PhaseEntry>();
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public List<PhaseEntry> getStartup() {
+        return startup;
+    }
+
+    public List<PhaseEntry> getRequest() {
+        return request;
+    }
+}
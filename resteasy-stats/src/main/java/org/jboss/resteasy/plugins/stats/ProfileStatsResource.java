@@ -0,0 +1,57 @@
+package org.jboss.resteasy.plugins.stats;
+
+import java.util.Map;
+
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+
+import org.jboss.resteasy.core.ResteasyContext;
+import org.jboss.resteasy.statistics.PhaseProfiler;
+
+/**
+ * Reports the time spent in each phase of the deployment start and of the sampled requests.
+ *
+ * @since 7.0
+ */
+@Path("/resteasy/profile")
+public class ProfileStatsResource {
+    @GET
+    @Produces({ "application/xml", "application/json" })
+    public ProfileData get() {
+        final PhaseProfiler profiler = ResteasyContext.getContextData(PhaseProfiler.class);
+        final ProfileData data = new ProfileData();
+        if (profiler == null) {
+            return data;
+        }
+        data.setSampleRate(profiler.getSampleRate());
+        for (Map.Entry<PhaseProfiler.StartupPhase, Long> entry : profiler.getStartupTimes().entrySet()) {
+            final PhaseEntry phase = new PhaseEntry();
+            phase.setName(entry.getKey().name());
+            phase.setCount(1);
+            phase.setTotalTime(entry.getValue());
+            phase.setMaxTime(entry.getValue());
+            data.getStartup().add(phase);
+        }
+        for (Map.Entry<PhaseProfiler.RequestPhase, PhaseProfiler.PhaseStatistics> entry : profiler.getRequestStatistics()
+                .entrySet()) {
+            final PhaseProfiler.PhaseStatistics statistics = entry.getValue();
+            final PhaseEntry phase = new PhaseEntry();
+            phase.setName(entry.getKey().name());
+            phase.setCount(statistics.getCount());
+            phase.setTotalTime(statistics.getTotalTime());
+            phase.setMaxTime(statistics.getMaxTime());
+            data.getRequest().add(phase);
+        }
+        return data;
+    }
+
+    @DELETE
+    public void reset() {
+        final PhaseProfiler profiler = ResteasyContext.getContextData(PhaseProfiler.class);
+        if (profiler != null) {
+            profiler.reset();
+        }
+    }
+}
@@ -8,7 +8,6 @@ import org.jboss.resteasy.plugins.server.netty.i18n.Messages;
 import org.jboss.resteasy.spi.AsyncOutputStream;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.DefaultHttpContent;
@@ -30,31 +29,50 @@ import io.netty.handler.codec.http.DefaultHttpContent;
  * }
  * </pre>
  *
+ * Chunks are written into direct buffers obtained from the channel's allocator and handed to Netty as-is,
+ * so no intermediate heap copy is made on flush. The initial capacity of each chunk adapts to the size of
+ * the previously flushed chunks, bounded by the configured chunk size.
+ *
  * @author tbussier
  *
  */
 public class ChunkOutputStream extends AsyncOutputStream {
+    private static final int MIN_CHUNK_CAPACITY = 64;
     private final Object writeLock = new Object();
-    private final ByteBuf buffer;
+    private final int chunksize;
     private final ChannelHandlerContext ctx;
     private final NettyHttpResponse response;
+    private ByteBuf buffer;
+    private int nextCapacity;
 
     ChunkOutputStream(final NettyHttpResponse response, final ChannelHandlerContext ctx, final int chunksize) {
         this.response = response;
         if (chunksize < 1) {
             throw new IllegalArgumentException(Messages.MESSAGES.chunkSizeMustBeAtLeastOne());
         }
-        this.buffer = Unpooled.buffer(0, chunksize);
+        this.chunksize = chunksize;
+        this.nextCapacity = Math.min(MIN_CHUNK_CAPACITY, chunksize);
         this.ctx = ctx;
     }
 
+    /**
+     * Returns the buffer backing the current chunk, allocating a new pooled direct buffer if the previous one was
+     * handed over to the channel. Must be called while holding {@link #writeLock}.
+     */
+    private ByteBuf buffer() {
+        if (buffer == null) {
+            buffer = ctx.alloc().directBuffer(nextCapacity, chunksize);
+        }
+        return buffer;
+    }
+
     @Override
     public void write(int b) throws IOException {
         synchronized (writeLock) {
-            if (buffer.maxWritableBytes() < 1) {
+            if (buffer().maxWritableBytes() < 1) {
                 flush();
             }
-            buffer.writeByte(b);
+            buffer().writeByte(b);
         }
     }
 
@@ -62,16 +80,28 @@ public class ChunkOutputStream extends AsyncOutputStream {
         if (response.isCommitted())
             throw new IllegalStateException(Messages.MESSAGES.responseIsCommitted());
         synchronized (writeLock) {
-            buffer.clear();
+            if (buffer != null) {
+                buffer.clear();
+            }
         }
     }
 
     @Override
     public void close() throws IOException {
         flush();
+        synchronized (writeLock) {
+            release();
+        }
         super.close();
     }
 
+    private void release() {
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+    }
+
     @Override
     public void write(byte[] b, int off, int len) throws IOException {
         write(b, off, len, ctx.newPromise());
@@ -83,14 +113,14 @@ public class ChunkOutputStream extends AsyncOutputStream {
         int spaceLeftInCurrentChunk;
         MultiPromise mp = new MultiPromise(ctx, promise);
         synchronized (writeLock) {
-            while ((spaceLeftInCurrentChunk = buffer.maxWritableBytes()) < dataLengthLeftToWrite) {
+            while ((spaceLeftInCurrentChunk = buffer().maxWritableBytes()) < dataLengthLeftToWrite) {
                 buffer.writeBytes(b, dataToWriteOffset, spaceLeftInCurrentChunk);
                 dataToWriteOffset = dataToWriteOffset + spaceLeftInCurrentChunk;
                 dataLengthLeftToWrite = dataLengthLeftToWrite - spaceLeftInCurrentChunk;
                 flush(mp.newPromise());
             }
             if (dataLengthLeftToWrite > 0) {
-                buffer.writeBytes(b, dataToWriteOffset, dataLengthLeftToWrite);
+                buffer().writeBytes(b, dataToWriteOffset, dataLengthLeftToWrite);
                 flush(mp.newPromise());
             }
         }
@@ -104,15 +134,20 @@ public class ChunkOutputStream extends AsyncOutputStream {
 
     private void flush(ChannelPromise promise) throws IOException {
         synchronized (writeLock) {
-            int readable = buffer.readableBytes();
+            int readable = buffer == null ? 0 : buffer.readableBytes();
             if (readable == 0) {
+                // don't hold on to pooled memory between writes
+                release();
                 promise.setSuccess();
                 return;
             }
             if (!response.isCommitted())
                 response.prepareChunkStream();
-            ctx.writeAndFlush(new DefaultHttpContent(buffer.copy()), promise);
-            buffer.clear();
+            // ownership of the buffer passes to the channel, which releases it once written
+            final ByteBuf chunk = buffer;
+            buffer = null;
+            nextCapacity = Math.max(Math.min(MIN_CHUNK_CAPACITY, chunksize), readable);
+            ctx.writeAndFlush(new DefaultHttpContent(chunk), promise);
         }
         super.flush();
     }
@@ -107,9 +107,11 @@ public class NettyHttpResponse implements HttpResponse {
             setStatus(status);
         }
         io.netty.handler.codec.http.HttpResponse response = null;
+        byte[] messageBytes = null;
         if (message != null) {
-            ByteBuf byteBuf = ctx.alloc().buffer();
-            byteBuf.writeBytes(message.getBytes());
+            messageBytes = message.getBytes();
+            ByteBuf byteBuf = ctx.alloc().directBuffer(messageBytes.length);
+            byteBuf.writeBytes(messageBytes);
 
             response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, responseStatus, byteBuf);
         } else {
@@ -122,7 +124,7 @@ public class NettyHttpResponse implements HttpResponse {
             if (message == null)
                 response.headers().add(HttpHeaderNames.CONTENT_LENGTH, 0);
             else
-                response.headers().add(HttpHeaderNames.CONTENT_LENGTH, message.getBytes().length);
+                response.headers().add(HttpHeaderNames.CONTENT_LENGTH, messageBytes.length);
         }
         ctx.writeAndFlush(response);
         committed = true;
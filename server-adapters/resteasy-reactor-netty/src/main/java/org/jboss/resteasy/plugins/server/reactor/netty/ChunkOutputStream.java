@@ -1,7 +1,6 @@
 package org.jboss.resteasy.plugins.server.reactor.netty;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -103,13 +102,16 @@ class ChunkOutputStream extends AsyncOutputStream {
                 parentResponse.committed();
                 started = true;
             }
-            byte[] bytes = bs;
-            if (offset != 0 || length != bs.length) {
-                bytes = Arrays.copyOfRange(bs, offset, offset + length);
-            }
+            // A whole array is wrapped without copying it. A slice is copied straight into a pooled direct buffer
+            // once the outbound subscribes, rather than into a heap array the transport would have to copy again.
+            // The caller won't touch the array until the returned future completes, and nothing is allocated if
+            // the send is never subscribed to.
+            final Mono<ByteBuf> content = offset == 0 && length == bs.length
+                    ? Mono.just(Unpooled.wrappedBuffer(bs))
+                    : Mono.fromSupplier(() -> nettyOutbound.alloc().directBuffer(length).writeBytes(bs, offset, length));
 
             return nettyOutbound
-                    .send(Mono.just(Unpooled.wrappedBuffer(bytes)), FLUSH_ON_EACH_WRITE)
+                    .send(content, FLUSH_ON_EACH_WRITE)
                     .then()
                     .doOnError(err -> completionSink.emitError(err, Sinks.EmitFailureHandler.FAIL_FAST))
                     .doOnCancel(() -> completionSink.emitError(
@@ -169,7 +169,7 @@ public class ChunkOutputStreamTest {
 
         @Override
         public ByteBufAllocator alloc() {
-            return null;
+            return ByteBufAllocator.DEFAULT;
         }
 
         public abstract NettyOutbound send(Publisher<? extends ByteBuf> publisher, Predicate<ByteBuf> predicate);
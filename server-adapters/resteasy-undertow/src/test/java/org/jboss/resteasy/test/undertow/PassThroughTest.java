@@ -0,0 +1,163 @@
+package org.jboss.resteasy.test.undertow;
+
+import static org.jboss.resteasy.test.TestPortProvider.generateURL;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.plugins.server.undertow.UndertowJaxrsServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test that a client response returned by a resource method is forwarded as received when pass-through is enabled.
+ */
+public class PassThroughTest {
+
+    private static final byte[] PAYLOAD = new byte[100_000];
+
+    static {
+        Arrays.fill(PAYLOAD, (byte) 'x');
+    }
+
+    @Provider
+    public static class MarkingInterceptor implements WriterInterceptor {
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
+            context.getHeaders().add("X-Written", "true");
+            context.proceed();
+        }
+    }
+
+    @Path("upstream")
+    public static class Upstream {
+
+        @GET
+        @Path("fixed")
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public Response fixed() {
+            return Response.ok(PAYLOAD)
+                    .header("X-Upstream", "fixed")
+                    .header("Content-Length", PAYLOAD.length)
+                    .header("Proxy-Authenticate", "Basic")
+                    .build();
+        }
+
+        @GET
+        @Path("chunked")
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public Response chunked() {
+            final StreamingOutput output = os -> {
+                for (int i = 0; i < PAYLOAD.length; i += 1000) {
+                    os.write(PAYLOAD, i, 1000);
+                    os.flush();
+                }
+            };
+            return Response.ok(output).header("X-Upstream", "chunked").build();
+        }
+    }
+
+    @Path("proxy")
+    public static class Proxy {
+
+        @GET
+        @Path("{name}")
+        public Response proxy(@PathParam("name") String name, @QueryParam("passThrough") boolean passThrough) {
+            final Client upstream = passThrough ? passThroughClient : client;
+            return upstream.target(generateURL("/upstream/" + name)).request().get();
+        }
+    }
+
+    @ApplicationPath("/")
+    public static class MyApp extends Application {
+        @Override
+        public Set<Class<?>> getClasses() {
+            HashSet<Class<?>> classes = new HashSet<Class<?>>();
+            classes.add(MarkingInterceptor.class);
+            classes.add(Upstream.class);
+            classes.add(Proxy.class);
+            return classes;
+        }
+    }
+
+    static Client client;
+    static Client passThroughClient;
+    static UndertowJaxrsServer server;
+
+    @BeforeAll
+    public static void init() throws Exception {
+        server = new UndertowJaxrsServer().start();
+        server.deploy(MyApp.class);
+        client = ClientBuilder.newClient();
+        passThroughClient = ClientBuilder.newBuilder()
+                .property(ResteasyClientBuilder.PROPERTY_PASS_THROUGH, true)
+                .build();
+    }
+
+    @AfterAll
+    public static void stop() throws Exception {
+        try {
+            client.close();
+            passThroughClient.close();
+        } catch (Exception e) {
+
+        }
+        server.stop();
+    }
+
+    @Test
+    public void testFixedLength() {
+        try (Response response = client.target(generateURL("/proxy/fixed?passThrough=true")).request().get()) {
+            Assertions.assertEquals(200, response.getStatus());
+            Assertions.assertEquals("fixed", response.getHeaderString("X-Upstream"));
+            Assertions.assertEquals(String.valueOf(PAYLOAD.length), response.getHeaderString("Content-Length"));
+            Assertions.assertNull(response.getHeaderString("Proxy-Authenticate"));
+            // only the upstream resource used a writer
+            Assertions.assertEquals("true", response.getHeaderString("X-Written"));
+            Assertions.assertArrayEquals(PAYLOAD, response.readEntity(byte[].class));
+        }
+    }
+
+    @Test
+    public void testChunked() {
+        try (Response response = client.target(generateURL("/proxy/chunked?passThrough=true")).request().get()) {
+            Assertions.assertEquals(200, response.getStatus());
+            Assertions.assertEquals("chunked", response.getHeaderString("X-Upstream"));
+            Assertions.assertArrayEquals(PAYLOAD, response.readEntity(byte[].class));
+        }
+    }
+
+    @Test
+    public void testWithoutPassThrough() {
+        try (Response response = client.target(generateURL("/proxy/fixed")).request().get()) {
+            Assertions.assertEquals(200, response.getStatus());
+            Assertions.assertEquals("fixed", response.getHeaderString("X-Upstream"));
+            // both resources used a writer
+            Assertions.assertEquals("true,true", response.getHeaderString("X-Written"));
+            Assertions.assertArrayEquals(PAYLOAD, response.readEntity(byte[].class));
+        }
+    }
+}
@@ -121,7 +121,8 @@ public class ChunkOutputStream extends AsyncOutputStream {
             response.prepareChunkStream();
         response.checkException();
         response.response.write(buffer, handler);
-        buffer = Buffer.buffer();
+        // size the next chunk after the one just written so a full chunk doesn't need to grow its buffer
+        buffer = Buffer.buffer(readable);
         super.flush();
     }
 
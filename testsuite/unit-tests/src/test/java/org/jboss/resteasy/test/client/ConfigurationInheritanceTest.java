@@ -275,6 +275,37 @@ public class ConfigurationInheritanceTest extends ResteasyProviderFactoryImpl {
         }
     }
 
+    @Test
+    public void testPropertyInheritance() {
+        Client client = ClientBuilder.newClient();
+        try {
+            fakeHttpServer.start();
+
+            WebTarget parentWebTarget = client.target("http://" + fakeHttpServer.getHostAndPort())
+                    .property("parent-property", "parent");
+            WebTarget childWebTarget = parentWebTarget.path("path");
+            childWebTarget.register((ClientRequestFilter) (requestContext) -> {
+                Assertions.assertEquals("parent", requestContext.getProperty("parent-property"));
+                requestContext.setProperty("request-property", "request");
+                requestContext.removeProperty("parent-property");
+            });
+
+            // Properties set on a request MUST not affect the targets
+            childWebTarget.request().get().close();
+            Assertions.assertNull(childWebTarget.getConfiguration().getProperty("request-property"));
+            Assertions.assertEquals("parent", childWebTarget.getConfiguration().getProperty("parent-property"));
+            Assertions.assertEquals("parent", parentWebTarget.getConfiguration().getProperty("parent-property"));
+
+            // Properties set on the parent after the child was created MUST not affect the child
+            parentWebTarget.property("late-property", "late");
+            Assertions.assertNull(childWebTarget.getConfiguration().getProperty("late-property"));
+            childWebTarget.property("child-property", "child");
+            Assertions.assertNull(parentWebTarget.getConfiguration().getProperty("child-property"));
+        } finally {
+            client.close();
+        }
+    }
+
     @Test
     public void testWriterInterceptorInheritance() {
         Client client = ClientBuilder.newClient();